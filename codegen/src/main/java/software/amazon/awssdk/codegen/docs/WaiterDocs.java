@@ -22,6 +22,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.model.service.WaiterDefinition;
 import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 
 public final class WaiterDocs {
 
@@ -153,6 +154,22 @@ public final class WaiterDocs {
                         .build();
     }
 
+    public static CodeBlock waiterBuilderWaiterSchedulerJavadoc() {
+        String javadocs = new DocumentationBuilder()
+            .description("Sets a {@link $T} that will be used to schedule async polling attempts instead of the "
+                         + "executorService. A waiterScheduler can be shared by many waiters, and bounds the number of polling "
+                         + "attempts that are in flight across all of them \n "
+                         + "<p> This waiterScheduler must be closed by the caller when it is ready to be disposed. The"
+                         + " SDK will not close the waiterScheduler when the waiter is closed")
+            .param("waiterScheduler", "the waiterScheduler to set")
+            .returns("a reference to this object so that method calls can be chained together.")
+            .build();
+
+        return CodeBlock.builder()
+                        .add(javadocs, ClassName.get(WaiterScheduler.class))
+                        .build();
+    }
+
     public static CodeBlock waiterBuilderClientJavadoc(ClassName className) {
         String javadocs = new DocumentationBuilder()
             .description("Defines the {@link $T} to use when polling a resource")
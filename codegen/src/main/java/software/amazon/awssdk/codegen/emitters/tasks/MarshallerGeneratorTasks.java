@@ -26,6 +26,7 @@ import software.amazon.awssdk.codegen.model.intermediate.Metadata;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
 import software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils;
+import software.amazon.awssdk.codegen.poet.transform.JsonShapeMarshallersSpec;
 import software.amazon.awssdk.codegen.poet.transform.MarshallerSpec;
 
 public class MarshallerGeneratorTasks extends BaseGeneratorTasks {
@@ -38,11 +39,15 @@ public class MarshallerGeneratorTasks extends BaseGeneratorTasks {
     }
 
     @Override
-    protected List<GeneratorTask> createTasks() {
-        return model.getShapes().entrySet().stream()
-                    .filter(e -> shouldGenerate(e.getValue()))
-                    .flatMap(safeFunction(e -> createTask(e.getKey(), e.getValue())))
-                    .collect(Collectors.toList());
+    protected List<GeneratorTask> createTasks() throws Exception {
+        List<GeneratorTask> tasks = model.getShapes().entrySet().stream()
+                                         .filter(e -> shouldGenerate(e.getValue()))
+                                         .flatMap(safeFunction(e -> createTask(e.getKey(), e.getValue())))
+                                         .collect(Collectors.toList());
+        if (JsonShapeMarshallersSpec.hasSupportedShapes(model)) {
+            tasks.add(createPoetGeneratorTask(new JsonShapeMarshallersSpec(model)));
+        }
+        return tasks;
     }
 
     private boolean shouldGenerate(ShapeModel shapeModel) {
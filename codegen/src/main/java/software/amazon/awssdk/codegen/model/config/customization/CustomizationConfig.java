@@ -201,6 +201,14 @@ public class CustomizationConfig {
      */
     private boolean delegateAsyncClientClass;
 
+    /**
+     * Whether to generate shape-specific marshalling code that writes request members directly to the JSON generator, instead
+     * of marshalling them by walking the SdkFields of the request. Only supported by AWS JSON and CBOR services; requests
+     * that cannot be marshalled this way keep using the SdkField based marshaller. Only requests are generated: responses
+     * are still unmarshalled by walking their SdkFields, and REST-JSON, XML and Query services ignore this setting.
+     */
+    private boolean generateShapeMarshallers;
+
     private CustomizationConfig() {
     }
 
@@ -513,4 +521,12 @@ public class CustomizationConfig {
     public void setDelegateAsyncClientClass(boolean delegateAsyncClientClass) {
         this.delegateAsyncClientClass = delegateAsyncClientClass;
     }
+
+    public boolean isGenerateShapeMarshallers() {
+        return generateShapeMarshallers;
+    }
+
+    public void setGenerateShapeMarshallers(boolean generateShapeMarshallers) {
+        this.generateShapeMarshallers = generateShapeMarshallers;
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import static software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils.isEventStreamParentModel;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.Protocol;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Generates a class of static methods that write the members of AWS JSON (and CBOR) request shapes, and of the shapes
+ * reachable from them, directly to a {@link StructuredJsonGenerator}. The generated request marshallers pass these methods
+ * to the protocol factory so that requests are marshalled with straight-line code instead of by walking their SdkFields.
+ *
+ * <p>The generated code writes the same document as the SdkField based marshaller. Requests whose members cannot be
+ * written this way (non-payload members, documents, JSON values, custom default values, streaming and event streams) are
+ * not supported, and their marshallers keep using the SdkField based marshaller.
+ *
+ * <p>Only request marshalling is generated. Responses are still unmarshalled by walking their SdkFields, and services
+ * that use the REST-JSON, XML or Query protocols do not generate shape marshallers.
+ */
+public class JsonShapeMarshallersSpec implements ClassSpec {
+    private static final Set<String> SUPPORTED_MARSHALLING_TYPES = new HashSet<>(Arrays.asList(
+        "STRING", "INTEGER", "LONG", "SHORT", "FLOAT", "DOUBLE", "BIG_DECIMAL", "BOOLEAN", "INSTANT", "SDK_BYTES",
+        "SDK_POJO", "LIST", "MAP"));
+
+    private final IntermediateModel model;
+    private final TypeProvider typeProvider;
+    private final PoetExtension poetExtensions;
+    private final ClassName className;
+
+    public JsonShapeMarshallersSpec(IntermediateModel model) {
+        this.model = model;
+        this.typeProvider = new TypeProvider(model);
+        this.poetExtensions = new PoetExtension(model);
+        this.className = poetExtensions.getRequestTransformClass("JsonShapeMarshallers");
+    }
+
+    /**
+     * @return True if the service generates shape marshallers and the given request can be marshalled by them.
+     */
+    public static boolean isSupported(IntermediateModel model, ShapeModel request) {
+        if (!isEnabled(model)
+            || request.getShapeType() != ShapeType.Request
+            || request.getCustomization().isSkipGeneratingMarshaller()
+            || request.isHasStreamingMember()
+            || request.isHasPayloadMember()
+            || isEventStreamParentModel(request)) {
+            return false;
+        }
+        return isSupported(model, request, new HashSet<>());
+    }
+
+    /**
+     * @return True if the service generates shape marshallers and has at least one request they support.
+     */
+    public static boolean hasSupportedShapes(IntermediateModel model) {
+        return model.getShapes().values().stream().anyMatch(shape -> isSupported(model, shape));
+    }
+
+    private static boolean isEnabled(IntermediateModel model) {
+        Protocol protocol = model.getMetadata().getProtocol();
+        return model.getCustomizationConfig().isGenerateShapeMarshallers()
+               && (protocol == Protocol.AWS_JSON || protocol == Protocol.CBOR);
+    }
+
+    private static boolean isSupported(IntermediateModel model, ShapeModel shape, Set<String> visited) {
+        if (!visited.add(shape.getShapeName())) {
+            return true;
+        }
+
+        CustomizationConfig customizationConfig = model.getCustomizationConfig();
+        if (customizationConfig.getAttachPayloadTraitToMember().containsKey(shape.getC2jName())) {
+            return false;
+        }
+
+        for (MemberModel member : members(shape)) {
+            if (member.getHttp().getMarshallLocation() != MarshallLocation.PAYLOAD
+                || member.getHttp().getIsPayload()
+                || member.isJsonValue()
+                || member.isEventHeader()
+                || member.isEventPayload()
+                || customizationConfig.getModelMarshallerDefaultValueSupplier().containsKey(member.getC2jName())
+                || !isSupportedValue(model, member, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupportedValue(IntermediateModel model, MemberModel member, Set<String> visited) {
+        String marshallingType = member.getMarshallingType();
+        if (!SUPPORTED_MARSHALLING_TYPES.contains(marshallingType)) {
+            return false;
+        }
+
+        switch (marshallingType) {
+            case "LIST":
+                return isSupportedValue(model, member.getListModel().getListMemberModel(), visited);
+            case "MAP":
+                return "STRING".equals(member.getMapModel().getKeyModel().getMarshallingType())
+                       && isSupportedValue(model, member.getMapModel().getValueModel(), visited);
+            case "SDK_POJO":
+                ShapeModel shape = Utils.findMemberShapeModelByC2jNameIfExists(model, member.getC2jShape());
+                return shape != null && isSupported(model, shape, visited);
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        Map<String, ShapeModel> requests = new TreeMap<>();
+        Map<String, ShapeModel> nestedShapes = new TreeMap<>();
+        model.getShapes().values().stream()
+             .filter(shape -> isSupported(model, shape))
+             .forEach(request -> {
+                 requests.put(request.getShapeName(), request);
+                 collectNestedShapes(request, nestedShapes);
+             });
+
+        TypeSpec.Builder builder = TypeSpec.classBuilder(className)
+                                           .addJavadoc("Writes the members of request shapes directly to a {@link $T}.",
+                                                       StructuredJsonGenerator.class)
+                                           .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                                           .addAnnotation(PoetUtils.generatedAnnotation())
+                                           .addAnnotation(SdkInternalApi.class)
+                                           .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+        requests.values().forEach(shape -> builder.addMethod(marshallMethod(shape, Modifier.PUBLIC)));
+        nestedShapes.values().forEach(shape -> builder.addMethod(marshallMethod(shape, Modifier.PRIVATE)));
+        return builder.build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    /**
+     * @return The name of the generated method that writes the members of the given shape.
+     */
+    public static String marshallMethodName(ShapeModel shape) {
+        return "marshall" + shape.getShapeName();
+    }
+
+    private void collectNestedShapes(ShapeModel shape, Map<String, ShapeModel> nestedShapes) {
+        for (MemberModel member : members(shape)) {
+            collectNestedShapes(member, nestedShapes);
+        }
+    }
+
+    private void collectNestedShapes(MemberModel member, Map<String, ShapeModel> nestedShapes) {
+        if (member.isList()) {
+            collectNestedShapes(member.getListModel().getListMemberModel(), nestedShapes);
+        } else if (member.isMap()) {
+            collectNestedShapes(member.getMapModel().getValueModel(), nestedShapes);
+        } else if (!member.isSimple()) {
+            ShapeModel shape = structureShape(member);
+            if (nestedShapes.put(shape.getShapeName(), shape) == null) {
+                collectNestedShapes(shape, nestedShapes);
+            }
+        }
+    }
+
+    private MethodSpec marshallMethod(ShapeModel shape, Modifier modifier) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        for (MemberModel member : members(shape)) {
+            String variable = member.getVariable().getVariableName() + "Value";
+            code.addStatement("$T $L = pojo.$L()", typeProvider.fieldType(member), variable,
+                              member.getFluentGetterMethodName());
+            if (member.isIdempotencyToken()) {
+                code.beginControlFlow("if ($L == null)", variable)
+                    .addStatement("$L = $T.getGenerator().get()", variable, IdempotentUtils.class)
+                    .endControlFlow();
+            }
+            code.beginControlFlow("if ($L)", shouldEmit(member, variable))
+                .addStatement("jsonGenerator.writeFieldName($S)", member.getHttp().getMarshallLocationName())
+                .add(writeValue(member, variable, 0, true))
+                .endControlFlow();
+        }
+
+        return MethodSpec.methodBuilder(marshallMethodName(shape))
+                         .addModifiers(modifier, Modifier.STATIC)
+                         .addParameter(poetExtensions.getModelClassFromShape(shape), "pojo")
+                         .addParameter(StructuredJsonGenerator.class, "jsonGenerator")
+                         .addCode(code.build())
+                         .build();
+    }
+
+    /**
+     * Mirrors the SdkField based marshaller, which skips null values, and empty lists and maps that were never set on the
+     * request.
+     */
+    private static CodeBlock shouldEmit(MemberModel member, String variable) {
+        if (member.isList()) {
+            return CodeBlock.of("$1L != null && (!$1L.isEmpty() || !($1L instanceof $2T))", variable,
+                                SdkAutoConstructList.class);
+        }
+        if (member.isMap()) {
+            return CodeBlock.of("$1L != null && (!$1L.isEmpty() || !($1L instanceof $2T))", variable,
+                                SdkAutoConstructMap.class);
+        }
+        return CodeBlock.of("$L != null", variable);
+    }
+
+    /**
+     * Write a non-null value. Timestamp formats only apply to members of structures; timestamps in lists and maps use the
+     * default format of the generator.
+     */
+    private CodeBlock writeValue(MemberModel member, String variable, int depth, boolean isStructureMember) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (member.isList()) {
+            MemberModel element = member.getListModel().getListMemberModel();
+            String elementVariable = "element" + depth;
+            code.addStatement("jsonGenerator.writeStartArray()")
+                .beginControlFlow("for ($T $L : $L)", typeProvider.fieldType(element), elementVariable, variable)
+                .beginControlFlow("if ($L == null)", elementVariable)
+                .addStatement("jsonGenerator.writeNull()");
+            if (element.isList() || element.isMap()) {
+                code.nextControlFlow("else if ($L)", shouldEmit(element, elementVariable));
+            } else {
+                code.nextControlFlow("else");
+            }
+            return code.add(writeValue(element, elementVariable, depth + 1, false))
+                       .endControlFlow()
+                       .endControlFlow()
+                       .addStatement("jsonGenerator.writeEndArray()")
+                       .build();
+        }
+
+        if (member.isMap()) {
+            MemberModel value = member.getMapModel().getValueModel();
+            TypeName valueType = typeProvider.fieldType(value);
+            String entryVariable = "entry" + depth;
+            String valueVariable = "value" + depth;
+            return code.addStatement("jsonGenerator.writeStartObject()")
+                       .beginControlFlow("for ($T $L : $L.entrySet())",
+                                         ParameterizedTypeName.get(ClassName.get(Map.Entry.class), ClassName.get(String.class),
+                                                                   valueType),
+                                         entryVariable, variable)
+                       .addStatement("$T $L = $L.getValue()", valueType, valueVariable, entryVariable)
+                       .beginControlFlow("if ($L)", shouldEmit(value, valueVariable))
+                       .addStatement("jsonGenerator.writeFieldName($L.getKey())", entryVariable)
+                       .add(writeValue(value, valueVariable, depth + 1, false))
+                       .endControlFlow()
+                       .endControlFlow()
+                       .addStatement("jsonGenerator.writeEndObject()")
+                       .build();
+        }
+
+        switch (member.getMarshallingType()) {
+            case "SDK_POJO":
+                return code.addStatement("jsonGenerator.writeStartObject()")
+                           .addStatement("$L($L, jsonGenerator)", marshallMethodName(structureShape(member)), variable)
+                           .addStatement("jsonGenerator.writeEndObject()")
+                           .build();
+            case "SDK_BYTES":
+                return code.addStatement("jsonGenerator.writeValue($L.asByteBuffer())", variable).build();
+            case "INSTANT":
+                if (isStructureMember && member.getTimestampFormat() != null) {
+                    return writeTimestamp(member, variable);
+                }
+                return code.addStatement("jsonGenerator.writeValue($L)", variable).build();
+            default:
+                return code.addStatement("jsonGenerator.writeValue($L)", variable).build();
+        }
+    }
+
+    private static CodeBlock writeTimestamp(MemberModel member, String variable) {
+        TimestampFormatTrait.Format format = TimestampFormatTrait.Format.fromString(member.getTimestampFormat());
+        switch (format) {
+            case UNIX_TIMESTAMP:
+                return CodeBlock.builder()
+                                .addStatement("jsonGenerator.writeNumber($T.formatUnixTimestampInstant($L))",
+                                              DateUtils.class, variable)
+                                .build();
+            case RFC_822:
+                return CodeBlock.builder()
+                                .addStatement("jsonGenerator.writeValue($T.formatRfc1123Date($L))", DateUtils.class, variable)
+                                .build();
+            case ISO_8601:
+                return CodeBlock.builder()
+                                .addStatement("jsonGenerator.writeValue($T.formatIso8601Date($L))", DateUtils.class, variable)
+                                .build();
+            default:
+                throw new IllegalStateException("Unrecognized timestamp format - " + format);
+        }
+    }
+
+    private ShapeModel structureShape(MemberModel member) {
+        return Utils.findMemberShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    private static List<MemberModel> members(ShapeModel shape) {
+        return shape.getNonStreamingMembers().stream()
+                    // Exceptions can be members of event stream shapes, need to filter those out of the models
+                    .filter(m -> m.getShape() == null || m.getShape().getShapeType() != ShapeType.Exception)
+                    .collect(Collectors.toList());
+    }
+}
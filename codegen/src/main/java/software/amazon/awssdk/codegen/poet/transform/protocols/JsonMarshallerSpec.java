@@ -26,7 +26,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.transform.JsonShapeMarshallersSpec;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.protocols.core.OperationInfo;
@@ -40,9 +42,18 @@ import software.amazon.awssdk.utils.StringUtils;
 public class JsonMarshallerSpec implements MarshallerProtocolSpec {
 
     protected final ShapeModel shapeModel;
+    private final ClassName shapeMarshallersClass;
 
     public JsonMarshallerSpec(ShapeModel shapeModel) {
         this.shapeModel = shapeModel;
+        this.shapeMarshallersClass = null;
+    }
+
+    public JsonMarshallerSpec(IntermediateModel model, ShapeModel shapeModel) {
+        this.shapeModel = shapeModel;
+        this.shapeMarshallersClass = JsonShapeMarshallersSpec.isSupported(model, shapeModel)
+                                     ? new JsonShapeMarshallersSpec(model).className()
+                                     : null;
     }
 
     @Override
@@ -62,6 +73,15 @@ public class JsonMarshallerSpec implements MarshallerProtocolSpec {
     @Override
     public CodeBlock marshalCodeBlock(ClassName requestClassName) {
         String variableName = shapeModel.getVariable().getVariableName();
+        if (shapeMarshallersClass != null) {
+            return CodeBlock.builder()
+                            .addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                                          + "(SDK_OPERATION_BINDING, $T::$L)",
+                                          ProtocolMarshaller.class, SdkHttpFullRequest.class, shapeMarshallersClass,
+                                          JsonShapeMarshallersSpec.marshallMethodName(shapeModel))
+                            .addStatement("return protocolMarshaller.marshall($L)", variableName)
+                            .build();
+        }
         return CodeBlock.builder()
                         .addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
                                       + "(SDK_OPERATION_BINDING)",
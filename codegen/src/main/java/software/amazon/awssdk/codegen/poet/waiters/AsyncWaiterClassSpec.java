@@ -35,6 +35,7 @@ import software.amazon.awssdk.codegen.poet.PoetExtension;
 import software.amazon.awssdk.core.internal.waiters.WaiterAttribute;
 import software.amazon.awssdk.core.waiters.AsyncWaiter;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 public class AsyncWaiterClassSpec extends BaseWaiterClassSpec {
@@ -78,12 +79,15 @@ public class AsyncWaiterClassSpec extends BaseWaiterClassSpec {
 
     @Override
     protected Optional<String> additionalWaiterConfig() {
-        return Optional.of(".scheduledExecutorService(executorService)");
+        return Optional.of(".scheduledExecutorService(executorService).waiterScheduler(waiterScheduler)");
     }
 
     @Override
     protected void additionalConstructorInitialization(MethodSpec.Builder method) {
-        method.beginControlFlow("if (builder.executorService == null)")
+        method.addStatement("this.waiterScheduler = builder.waiterScheduler");
+
+        // A waiter scheduler replaces the executor service, so a default one is only needed without either.
+        method.beginControlFlow("if (builder.executorService == null && builder.waiterScheduler == null)")
               .addStatement("this.executorService = $T.newScheduledThreadPool(1, new $T().threadNamePrefix"
                             + "($S).build())",
                             Executors.class,
@@ -106,6 +110,9 @@ public class AsyncWaiterClassSpec extends BaseWaiterClassSpec {
         type.addField(FieldSpec.builder(ScheduledExecutorService.class, "executorService")
                                .addModifiers(PRIVATE, FINAL)
                                .build());
+        type.addField(FieldSpec.builder(WaiterScheduler.class, "waiterScheduler")
+                               .addModifiers(PRIVATE, FINAL)
+                               .build());
     }
 
     @Override
@@ -119,5 +126,14 @@ public class AsyncWaiterClassSpec extends BaseWaiterClassSpec {
                                  .addStatement("return this")
                                  .returns(interfaceClassName().nestedClass("Builder"))
                                  .build());
+        type.addField(ClassName.get(WaiterScheduler.class), "waiterScheduler", PRIVATE);
+        type.addMethod(MethodSpec.methodBuilder("waiterScheduler")
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addAnnotation(Override.class)
+                                 .addParameter(ClassName.get(WaiterScheduler.class), "waiterScheduler")
+                                 .addStatement("this.waiterScheduler = waiterScheduler")
+                                 .addStatement("return this")
+                                 .returns(interfaceClassName().nestedClass("Builder"))
+                                 .build());
     }
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.poet.PoetExtension;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 
 public final class AsyncWaiterInterfaceSpec extends BaseWaiterInterfaceSpec {
 
@@ -75,5 +76,11 @@ public final class AsyncWaiterInterfaceSpec extends BaseWaiterInterfaceSpec {
                                  .addJavadoc(WaiterDocs.waiterBuilderScheduledExecutorServiceJavadoc())
                                  .returns(className().nestedClass("Builder"))
                                  .build());
+        type.addMethod(MethodSpec.methodBuilder("waiterScheduler")
+                                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                 .addParameter(ClassName.get(WaiterScheduler.class), "waiterScheduler")
+                                 .addJavadoc(WaiterDocs.waiterBuilderWaiterSchedulerJavadoc())
+                                 .returns(className().nestedClass("Builder"))
+                                 .build());
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
+
+import com.squareup.javapoet.TypeSpec;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import javax.lang.model.element.Modifier;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import software.amazon.awssdk.codegen.C2jModels;
+import software.amazon.awssdk.codegen.IntermediateModelBuilder;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.model.service.ServiceModel;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+import software.amazon.awssdk.codegen.utils.ModelLoaderUtils;
+
+public class JsonShapeMarshallersSpecTest {
+
+    @Test
+    public void customizationDisabled_requestsNotSupported() {
+        IntermediateModel model = ClientTestModels.awsJsonServiceModels();
+
+        assertThat(JsonShapeMarshallersSpec.hasSupportedShapes(model)).isFalse();
+        assertThat(JsonShapeMarshallersSpec.isSupported(model, shape(model, "APostOperationRequest"))).isFalse();
+    }
+
+    @Test
+    public void restJsonService_requestsNotSupported() {
+        IntermediateModel model = ClientTestModels.restJsonServiceModels();
+        model.getCustomizationConfig().setGenerateShapeMarshallers(true);
+
+        assertThat(JsonShapeMarshallersSpec.hasSupportedShapes(model)).isFalse();
+    }
+
+    @Test
+    public void customizationEnabled_generatesMethodsForRequestsAndNestedShapes() {
+        IntermediateModel model = ClientTestModels.awsJsonServiceModels();
+        model.getCustomizationConfig().setGenerateShapeMarshallers(true);
+
+        assertThat(JsonShapeMarshallersSpec.isSupported(model, shape(model, "APostOperationRequest"))).isTrue();
+        assertThat(JsonShapeMarshallersSpec.isSupported(model, shape(model, "EventStreamOperationRequest"))).isFalse();
+
+        TypeSpec spec = new JsonShapeMarshallersSpec(model).poetSpec();
+        List<String> publicMethods = methodNames(spec, Modifier.PUBLIC);
+        List<String> privateMethods = methodNames(spec, Modifier.PRIVATE);
+
+        assertThat(publicMethods).contains("marshallAPostOperationRequest")
+                                 .doesNotContain("marshallEventStreamOperationRequest");
+        assertThat(privateMethods).contains("marshallNestedMember");
+        assertThat(spec.methodSpecs.stream()
+                                   .filter(m -> "marshallNestedMember".equals(m.name))
+                                   .findFirst().get().code.toString())
+            .contains("jsonGenerator.writeFieldName(\"SubMember\")")
+            .contains("jsonGenerator.writeFieldName(\"CreateDate\")");
+    }
+
+    @Test
+    public void shapeMarshallers_generatesReferenceClass() throws IOException {
+        IntermediateModel model = shapeMarshallersModel();
+
+        MatcherAssert.assertThat(new JsonShapeMarshallersSpec(model),
+                                 generatesTo("shapemarshallers/jsonshapemarshallers.java"));
+    }
+
+    @Test
+    public void requestMarshaller_supportedRequest_usesShapeMarshaller() throws IOException {
+        IntermediateModel model = shapeMarshallersModel();
+
+        MatcherAssert.assertThat(new MarshallerSpec(model, shape(model, "PutThingRequest")),
+                                 generatesTo("shapemarshallers/putthingrequestmarshaller.java"));
+        assertThat(JsonShapeMarshallersSpec.isSupported(model, shape(model, "StreamingInputOperationRequest"))).isFalse();
+    }
+
+    private static List<String> methodNames(TypeSpec spec, Modifier modifier) {
+        return spec.methodSpecs.stream()
+                               .filter(m -> !m.isConstructor() && m.modifiers.contains(modifier))
+                               .map(m -> m.name)
+                               .collect(toList());
+    }
+
+    private static ShapeModel shape(IntermediateModel model, String shapeName) {
+        return model.getShapes().get(shapeName);
+    }
+
+    private static IntermediateModel shapeMarshallersModel() throws IOException {
+        File serviceModelFile = new File(JsonShapeMarshallersSpecTest.class.getResource("shapemarshallers/service-2.json")
+                                                                            .getFile());
+        File customizationConfigFile = new File(JsonShapeMarshallersSpecTest.class
+                                                    .getResource("shapemarshallers/customization.config")
+                                                    .getFile());
+
+        return new IntermediateModelBuilder(
+            C2jModels.builder()
+                     .serviceModel(ModelLoaderUtils.loadModel(ServiceModel.class, serviceModelFile))
+                     .customizationConfig(ModelLoaderUtils.loadModel(CustomizationConfig.class, customizationConfigFile))
+                     .build())
+            .build();
+    }
+}
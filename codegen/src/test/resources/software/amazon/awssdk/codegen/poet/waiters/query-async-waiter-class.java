@@ -22,6 +22,7 @@ import software.amazon.awssdk.core.waiters.AsyncWaiter;
 import software.amazon.awssdk.core.waiters.WaiterAcceptor;
 import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 import software.amazon.awssdk.core.waiters.WaiterState;
 import software.amazon.awssdk.services.query.QueryAsyncClient;
 import software.amazon.awssdk.services.query.model.APostOperationRequest;
@@ -49,6 +50,8 @@ final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
 
     private final ScheduledExecutorService executorService;
 
+    private final WaiterScheduler waiterScheduler;
+
     private DefaultQueryAsyncWaiter(DefaultBuilder builder) {
         AttributeMap.Builder attributeMapBuilder = AttributeMap.builder();
         if (builder.client == null) {
@@ -57,7 +60,8 @@ final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
         } else {
             this.client = builder.client;
         }
-        if (builder.executorService == null) {
+        this.waiterScheduler = builder.waiterScheduler;
+        if (builder.executorService == null && builder.waiterScheduler == null) {
             this.executorService = Executors.newScheduledThreadPool(1,
                                                                     new ThreadFactoryBuilder().threadNamePrefix("waiters-ScheduledExecutor").build());
             attributeMapBuilder.put(SCHEDULED_EXECUTOR_SERVICE_ATTRIBUTE, this.executorService);
@@ -68,7 +72,7 @@ final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
         this.postOperationSuccessWaiter = AsyncWaiter.builder(APostOperationResponse.class)
                                                      .acceptors(postOperationSuccessWaiterAcceptors())
                                                      .overrideConfiguration(postOperationSuccessWaiterConfig(builder.overrideConfiguration))
-                                                     .scheduledExecutorService(executorService).build();
+                                                     .scheduledExecutorService(executorService).waiterScheduler(waiterScheduler).build();
     }
 
     private static String errorCode(Throwable error) {
@@ -139,6 +143,8 @@ final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
 
         private ScheduledExecutorService executorService;
 
+        private WaiterScheduler waiterScheduler;
+
         private DefaultBuilder() {
         }
 
@@ -148,6 +154,12 @@ final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
             return this;
         }
 
+        @Override
+        public QueryAsyncWaiter.Builder waiterScheduler(WaiterScheduler waiterScheduler) {
+            this.waiterScheduler = waiterScheduler;
+            return this;
+        }
+
         @Override
         public QueryAsyncWaiter.Builder overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
             this.overrideConfiguration = overrideConfiguration;
@@ -7,6 +7,7 @@ import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 import software.amazon.awssdk.services.query.QueryAsyncClient;
 import software.amazon.awssdk.services.query.model.APostOperationRequest;
 import software.amazon.awssdk.services.query.model.APostOperationResponse;
@@ -123,6 +124,20 @@ public interface QueryAsyncWaiter extends SdkAutoCloseable {
          */
         Builder scheduledExecutorService(ScheduledExecutorService executorService);
 
+        /**
+         * Sets a {@link WaiterScheduler} that will be used to schedule async polling attempts instead of the executorService. A
+         * waiterScheduler can be shared by many waiters, and bounds the number of polling attempts that are in flight across
+         * all of them
+         * <p>
+         * This waiterScheduler must be closed by the caller when it is ready to be disposed. The SDK will not close the
+         * waiterScheduler when the waiter is closed
+         *
+         * @param waiterScheduler
+         *        the waiterScheduler to set
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder waiterScheduler(WaiterScheduler waiterScheduler);
+
         /**
          * Defines overrides to the default SDK waiter configuration that should be used for waiters created from this
          * builder
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.auth.signer.params.SignerChecksumParams;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -59,12 +61,46 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     public static final String EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(hash(""));
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final int DEFAULT_SIGNER_CACHE_MAX_SIZE = 300;
+    private static final int MAX_SIGNER_CACHE_MAX_SIZE = 1 << 30;
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(
+        signingKeyCacheSize(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.getStringValue().orElse(null)));
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
+    /**
+     * Returns the signing key cache shared by all SigV4 signers, e.g. to observe its hit and miss counts.
+     */
+    public static SigningKeyCache signingKeyCache() {
+        return SIGNER_CACHE;
+    }
+
+    /**
+     * Parses the configured size of the signing key cache. A value that is not a positive integer is ignored with a warning,
+     * so that a bad setting cannot prevent the signers from being loaded.
+     */
+    @SdkTestInternalApi
+    static int signingKeyCacheSize(String configuredSize) {
+        if (configuredSize == null) {
+            return DEFAULT_SIGNER_CACHE_MAX_SIZE;
+        }
+
+        try {
+            int size = Integer.parseInt(configuredSize.trim());
+            if (size > 0 && size <= MAX_SIGNER_CACHE_MAX_SIZE) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default below
+        }
+        LOG.warn(() -> String.format("Ignoring invalid %s value '%s', it must be an integer between 1 and %d. Using the "
+                                     + "default of %d.",
+                                     SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), configuredSize,
+                                     MAX_SIGNER_CACHE_MAX_SIZE, DEFAULT_SIGNER_CACHE_MAX_SIZE));
+        return DEFAULT_SIGNER_CACHE_MAX_SIZE;
+    }
+
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
                                                 T signingParams) {
@@ -101,12 +137,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                                    contentChecksum.contentHash(),
                                                                    signingParams.doubleUrlEncode());
 
-        String canonicalRequestString = canonicalRequest.string();
-        String stringToSign = createStringToSign(canonicalRequestString, requestParams);
+        SigningWorkspace workspace = SigningWorkspace.get();
+        byte[] canonicalRequestHash = canonicalRequest.hash(workspace);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(workspace, createStringToSign(workspace, canonicalRequestHash, requestParams),
+                                            signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
                                  buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, canonicalRequest));
@@ -144,12 +181,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         addPreSignInformationToRequest(mutableRequest, canonicalRequest, sanitizedCredentials,
                                        requestParams, expirationInSeconds);
 
-        String string = canonicalRequest.string();
-        String stringToSign = createStringToSign(string, requestParams);
+        SigningWorkspace workspace = SigningWorkspace.get();
+        byte[] canonicalRequestHash = canonicalRequest.hash(workspace);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(workspace, createStringToSign(workspace, canonicalRequestHash, requestParams),
+                                            signingKey);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -213,12 +251,16 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 signerRequestParams.getServiceSigningName());
     }
 
+    /**
+     * Returns the signing key for the given parameters, deriving and caching it if no key for the signing day is cached. The
+     * returned array may be shared with other callers and must not be modified.
+     */
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        long signingEpochMilli = signingInstant.toEpochMilli();
+        byte[] cachedSigningKey = SIGNER_CACHE.get(credentials.secretAccessKey(), region, service, signingEpochMilli);
 
-        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
-            return signerKey.getSigningKey();
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -227,7 +269,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 Aws4SignerUtils.formatDateStamp(signingInstant),
                 region,
                 service);
-        SIGNER_CACHE.add(cacheKey, new SignerKey(signingInstant, signingKey));
+        SIGNER_CACHE.put(credentials.secretAccessKey(), region, service, signingEpochMilli, signingKey);
         return signingKey;
     }
 
@@ -248,27 +290,27 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        String requestHash = BinaryUtils.toHex(hash(canonicalRequest));
-
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestParams.getFormattedRequestSigningDateTime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestParams.getScope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              requestHash;
+    private StringBuilder createStringToSign(SigningWorkspace workspace,
+                                             byte[] canonicalRequestHash,
+                                             Aws4SignerRequestParams requestParams) {
+
+        StringBuilder stringToSign = workspace.stringToSignBuilder();
+        stringToSign.append(requestParams.getSigningAlgorithm())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getFormattedRequestSigningDateTime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getScope())
+                    .append(SignerConstant.LINE_SEPARATOR);
+        appendHex(stringToSign, canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+    private static void appendHex(StringBuilder result, byte[] data) {
+        for (byte b : data) {
+            result.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
     }
 
     /**
@@ -277,9 +319,8 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws.amazon
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey,
-                    SigningAlgorithm.HmacSHA256);
+    private byte[] computeSignature(SigningWorkspace workspace, CharSequence stringToSign, byte[] signingKey) {
+        return workspace.hmacSha256(stringToSign, signingKey);
     }
 
     /**
@@ -458,7 +499,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         private final String contentSha256;
         private final boolean doubleUrlEncode;
 
-        private String canonicalRequestString;
         private StringBuilder signedHeaderStringBuilder;
         private List<Pair<String, List<String>>> canonicalHeaders;
         private String signedHeaderString;
@@ -469,23 +509,24 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             this.doubleUrlEncode = doubleUrlEncode;
         }
 
-        public String string() {
-            if (canonicalRequestString == null) {
-                StringBuilder canonicalRequest = new StringBuilder(512);
-                canonicalRequest.append(request.method().toString())
-                                .append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedResourcePath(canonicalRequest, request.encodedPath(), doubleUrlEncode);
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedQueryString(canonicalRequest, request);
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
-                addCanonicalizedHeaderString(canonicalRequest, canonicalHeaders());
-                canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
-                                .append(signedHeaderStringBuilder())
-                                .append(SignerConstant.LINE_SEPARATOR)
-                                .append(contentSha256);
-                this.canonicalRequestString = canonicalRequest.toString();
-            }
-            return canonicalRequestString;
+        /**
+         * Builds the canonical request in the given workspace and returns its SHA-256 hash, without materializing it as a
+         * {@code String}.
+         */
+        public byte[] hash(SigningWorkspace workspace) {
+            StringBuilder canonicalRequest = workspace.canonicalRequestBuilder();
+            canonicalRequest.append(request.method().toString())
+                            .append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedResourcePath(canonicalRequest, request.encodedPath(), doubleUrlEncode);
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedQueryString(canonicalRequest, request);
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR);
+            addCanonicalizedHeaderString(canonicalRequest, canonicalHeaders());
+            canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                            .append(signedHeaderStringBuilder())
+                            .append(SignerConstant.LINE_SEPARATOR)
+                            .append(contentSha256);
+            return workspace.sha256(canonicalRequest);
         }
 
         public StringBuilder signedHeaderStringBuilder() {
@@ -533,11 +574,23 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 }
             });
 
-            result.sort(Comparator.comparing(Pair::left));
+            // Request headers are usually kept in case-insensitive order already, in which case there is nothing to sort.
+            if (!isSorted(result)) {
+                result.sort(Comparator.comparing(Pair::left));
+            }
 
             return result;
         }
 
+        private boolean isSorted(List<Pair<String, List<String>>> headers) {
+            for (int i = 1; i < headers.size(); i++) {
+                if (headers.get(i - 1).left().compareTo(headers.get(i).left()) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         /**
          * "The addAndTrim function removes excess white space before and after values,
          * and converts sequential spaces to a single space."
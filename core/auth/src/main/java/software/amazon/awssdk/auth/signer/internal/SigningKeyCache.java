@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free cache of derived SigV4 signing keys.
+ * <p>
+ * Entries are keyed on the secret access key, region, service and the signing day. The cache is a fixed-size, direct-mapped
+ * table: a lookup hashes the (already cached) hash codes of the key components into a slot and compares the entry found there,
+ * so a hit neither takes a lock nor allocates. A miss, a collision or a day rollover simply replaces the entry in the slot.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries of the cache. Rounded up to the next power of two.
+     */
+    public SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        int capacity = maxSize == 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " is too large");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached signing key for the given parameters, or null if no key valid for the day of the signing instant is
+     * cached. The returned array is shared and must not be modified.
+     */
+    public byte[] get(String secretKey, String region, String service, long signingEpochMilli) {
+        long day = daysSinceEpoch(signingEpochMilli);
+        Entry entry = entries.get(slot(secretKey, region, service));
+        if (entry != null && entry.matches(secretKey, region, service, day)) {
+            hits.increment();
+            return entry.signingKey;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the signing key for the given parameters, replacing any entry that occupied the same slot.
+     */
+    public void put(String secretKey, String region, String service, long signingEpochMilli, byte[] signingKey) {
+        Entry entry = new Entry(secretKey, region, service, daysSinceEpoch(signingEpochMilli), signingKey);
+        Entry previous = entries.getAndSet(slot(secretKey, region, service), entry);
+        if (previous != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a valid signing key.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a valid signing key.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries that were replaced, either because of a slot collision or a day rollover.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of slots in the cache.
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    private int slot(String secretKey, String region, String service) {
+        int h = secretKey.hashCode();
+        h = 31 * h + region.hashCode();
+        h = 31 * h + service.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static long daysSinceEpoch(long epochMilli) {
+        return TimeUnit.MILLISECONDS.toDays(epochMilli);
+    }
+
+    private static final class Entry {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final long daysSinceEpoch;
+        private final byte[] signingKey;
+
+        private Entry(String secretKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.signingKey = signingKey.clone();
+        }
+
+        private boolean matches(String secretKey, String region, String service, long daysSinceEpoch) {
+            return this.daysSinceEpoch == daysSinceEpoch
+                   && this.secretKey.equals(secretKey)
+                   && this.region.equals(region)
+                   && this.service.equals(service);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Per-thread scratch state used by the SigV4 signer to build the canonical request and string to sign.
+ * <p>
+ * The character buffers and the byte buffer they are encoded into are retained between signs, and text is UTF-8 encoded
+ * straight into the byte buffer and fed to the digest or MAC, so that neither intermediate {@code String}s nor their
+ * {@code byte[]} encodings are created on the signing hot path.
+ * <p>
+ * A workspace is only ever used by the thread that owns it, and only for the duration of a single signing step: callers must
+ * not hold on to the builders or results across calls that may themselves use the workspace.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class SigningWorkspace {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Builders that grew beyond this size for an unusually large request are not retained.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<SigningWorkspace> WORKSPACE = ThreadLocal.withInitial(SigningWorkspace::new);
+
+    private final MessageDigest sha256;
+    private StringBuilder canonicalRequest = new StringBuilder(INITIAL_CAPACITY);
+    private StringBuilder stringToSign = new StringBuilder(256);
+    private byte[] encodeBuffer = new byte[INITIAL_CAPACITY];
+
+    private SigningWorkspace() {
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to get SHA256 Function" + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * Returns the workspace of the calling thread.
+     */
+    static SigningWorkspace get() {
+        return WORKSPACE.get();
+    }
+
+    /**
+     * Returns an empty builder for the canonical request.
+     */
+    StringBuilder canonicalRequestBuilder() {
+        canonicalRequest = reset(canonicalRequest, INITIAL_CAPACITY);
+        return canonicalRequest;
+    }
+
+    /**
+     * Returns an empty builder for the string to sign.
+     */
+    StringBuilder stringToSignBuilder() {
+        stringToSign = reset(stringToSign, 256);
+        return stringToSign;
+    }
+
+    /**
+     * Computes the SHA-256 hash of the UTF-8 encoding of the given characters.
+     */
+    byte[] sha256(CharSequence text) {
+        int length = encode(text);
+        sha256.reset();
+        sha256.update(encodeBuffer, 0, length);
+        return sha256.digest();
+    }
+
+    /**
+     * Computes the HmacSHA256 of the UTF-8 encoding of the given characters with the given key.
+     */
+    byte[] hmacSha256(CharSequence text, byte[] key) {
+        try {
+            int length = encode(text);
+            Mac mac = SigningAlgorithm.HmacSHA256.getMac();
+            mac.init(new SecretKeySpec(key, SigningAlgorithm.HmacSHA256.toString()));
+            mac.update(encodeBuffer, 0, length);
+            return mac.doFinal();
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * UTF-8 encodes the given characters into the start of the encode buffer, growing it if needed, and returns the number of
+     * bytes written. Unpaired surrogates are replaced with '?', matching {@link String#getBytes}.
+     */
+    private int encode(CharSequence text) {
+        int textLength = text.length();
+        ensureEncodeCapacity(textLength * 3);
+        byte[] buffer = encodeBuffer;
+        int position = 0;
+        for (int i = 0; i < textLength; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < textLength && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer[position++] = '?';
+                }
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    private void ensureEncodeCapacity(int capacity) {
+        if (encodeBuffer.length < capacity) {
+            encodeBuffer = new byte[Math.max(capacity, encodeBuffer.length * 2)];
+        } else if (encodeBuffer.length > MAX_RETAINED_CAPACITY && capacity <= INITIAL_CAPACITY) {
+            encodeBuffer = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    private static StringBuilder reset(StringBuilder builder, int initialCapacity) {
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            return new StringBuilder(initialCapacity);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+}
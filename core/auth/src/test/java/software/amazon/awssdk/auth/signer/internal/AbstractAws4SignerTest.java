@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AbstractAws4SignerTest {
+
+    @Test
+    void signingKeyCacheSize_notConfigured_usesDefault() {
+        assertThat(AbstractAws4Signer.signingKeyCacheSize(null)).isEqualTo(300);
+    }
+
+    @Test
+    void signingKeyCacheSize_validValue_usesValue() {
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("50")).isEqualTo(50);
+        assertThat(AbstractAws4Signer.signingKeyCacheSize(" 1 ")).isEqualTo(1);
+    }
+
+    @Test
+    void signingKeyCacheSize_malformedValue_usesDefault() {
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("")).isEqualTo(300);
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("abc")).isEqualTo(300);
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("99999999999")).isEqualTo(300);
+    }
+
+    @Test
+    void signingKeyCacheSize_nonPositiveOrTooLargeValue_usesDefault() {
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("0")).isEqualTo(300);
+        assertThat(AbstractAws4Signer.signingKeyCacheSize("-5")).isEqualTo(300);
+        assertThat(AbstractAws4Signer.signingKeyCacheSize(String.valueOf((1 << 30) + 1))).isEqualTo(300);
+    }
+}
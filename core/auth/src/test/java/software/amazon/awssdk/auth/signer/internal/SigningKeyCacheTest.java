@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class SigningKeyCacheTest {
+    private static final long NOW = Instant.parse("2022-01-01T10:00:00Z").toEpochMilli();
+    private static final byte[] KEY = {1, 2, 3};
+
+    @Test
+    void get_emptyCache_returnsNullAndCountsMiss() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void get_sameDay_returnsCachedKeyAndCountsHit() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        long laterSameDay = NOW + Duration.ofHours(5).toMillis();
+        assertThat(cache.get("secret", "us-east-1", "s3", laterSameDay)).containsExactly(KEY);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_nextDay_returnsNull() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW + Duration.ofDays(1).toMillis())).isNull();
+    }
+
+    @Test
+    void get_differentComponent_returnsNull() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        assertThat(cache.get("other", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-west-2", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", NOW)).isNull();
+    }
+
+    @Test
+    void put_sameSlot_evictsPreviousEntry() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+        cache.put("secret", "us-east-1", "sqs", NOW, KEY);
+
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", NOW)).containsExactly(KEY);
+    }
+
+    @Test
+    void put_copiesSigningKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        byte[] key = KEY.clone();
+        cache.put("secret", "us-east-1", "s3", NOW, key);
+        key[0] = 42;
+
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).containsExactly(KEY);
+    }
+
+    @Test
+    void capacity_roundedUpToPowerOfTwo() {
+        assertThat(new SigningKeyCache(1).capacity()).isEqualTo(1);
+        assertThat(new SigningKeyCache(300).capacity()).isEqualTo(512);
+        assertThat(new SigningKeyCache(512).capacity()).isEqualTo(512);
+    }
+
+    @Test
+    void constructor_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SigningKeyCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SigningWorkspaceTest {
+    private static final byte[] KEY = "key".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "GET\n/\n\nhost:example.com\n", "café", "€100", "😀 emoji",
+                            "unpaired \ud83d high", "unpaired \ude00 low", "trailing \ud83d"})
+    void sha256_matchesStringEncoding(String text) throws Exception {
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        assertThat(SigningWorkspace.get().sha256(text)).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "AWS4-HMAC-SHA256\n20220101T000000Z", "café 😀"})
+    void hmacSha256_matchesStringEncoding(String text) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        byte[] expected = mac.doFinal(text.getBytes(StandardCharsets.UTF_8));
+        assertThat(SigningWorkspace.get().hmacSha256(text, KEY)).containsExactly(expected);
+    }
+
+    @Test
+    void builders_areResetBetweenUses() {
+        SigningWorkspace workspace = SigningWorkspace.get();
+        workspace.canonicalRequestBuilder().append("first");
+        workspace.stringToSignBuilder().append("first");
+
+        assertThat(workspace.canonicalRequestBuilder()).isEmpty();
+        assertThat(workspace.stringToSignBuilder()).isEmpty();
+    }
+
+    @Test
+    void sha256_largeInput_matchesStringEncoding() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(text.toString().getBytes(StandardCharsets.UTF_8));
+        assertThat(SigningWorkspace.get().sha256(text)).containsExactly(expected);
+        assertThat(SigningWorkspace.get().sha256("small")).containsExactly(
+            MessageDigest.getInstance("SHA-256").digest("small".getBytes(StandardCharsets.UTF_8)));
+    }
+}
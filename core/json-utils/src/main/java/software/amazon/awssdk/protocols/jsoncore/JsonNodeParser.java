@@ -36,6 +36,7 @@ import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.thirdparty.jackson.core.json.JsonReadFeature;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeFunction;
 
 /**
  * Parses an JSON document into a simple DOM-like structure, {@link JsonNode}.
@@ -111,6 +112,36 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Read the provided {@link InputStream} with a {@link JsonParser} created by this parser's {@link JsonFactory}, instead of
+     * parsing it into a {@link JsonNode}. The reader is given a parser positioned before the first token, and may use
+     * {@link #parseCurrentValue(JsonParser)} to read any value of the document as a {@link JsonNode}.
+     */
+    public <T> T parse(InputStream content, UnsafeFunction<JsonParser, T> reader) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                return reader.apply(parser);
+            } catch (Exception e) {
+                removeErrorLocationsIfRequired(e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Parse the value starting at the current token of the provided {@link JsonParser} into a {@link JsonNode}. The parser is
+     * left on the last token of the value.
+     */
+    public JsonNode parseCurrentValue(JsonParser parser) throws IOException {
+        try {
+            return parseToken(parser, parser.currentToken());
+        } catch (Exception e) {
+            removeErrorLocationsIfRequired(e);
+            throw e;
+        }
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -18,6 +18,7 @@ package software.amazon.awssdk.metrics;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
+import software.amazon.awssdk.metrics.internal.LockFreeMetricCollector;
 
 /**
  * Used to collect metrics reported by the SDK.
@@ -54,4 +55,16 @@ public interface MetricCollector {
     static MetricCollector create(String name) {
         return DefaultMetricCollector.create(name);
     }
+
+    /**
+     * Create a collector that stores metrics in pre-sized, per-metric slots and reports them without locking. The collector
+     * and all of its children may be used from multiple threads, and {@link #collect()} shares the reported records with the
+     * returned collection instead of copying them.
+     *
+     * @param name The name of the collector.
+     * @return The collector.
+     */
+    static MetricCollector createLockFree(String name) {
+        return LockFreeMetricCollector.create(name);
+    }
 }
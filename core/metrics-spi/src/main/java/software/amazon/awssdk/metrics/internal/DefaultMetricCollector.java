@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -36,6 +38,9 @@ public final class DefaultMetricCollector implements MetricCollector {
     private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
     private final List<MetricCollector> children = new ArrayList<>();
 
+    // A lock is used instead of a monitor so that virtual threads reporting metrics do not pin their carrier thread.
+    private final Lock lock = new ReentrantLock();
+
     public DefaultMetricCollector(String name) {
         this.name = name;
     }
@@ -46,28 +51,43 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        lock.lock();
+        try {
+            metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
+                   .add(new DefaultMetricRecord<>(metric, data));
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized MetricCollector createChild(String name) {
+    public MetricCollector createChild(String name) {
         MetricCollector child = new DefaultMetricCollector(name);
-        children.add(child);
+        lock.lock();
+        try {
+            children.add(child);
+        } finally {
+            lock.unlock();
+        }
         return child;
     }
 
     @Override
-    public synchronized MetricCollection collect() {
-        List<MetricCollection> collectedChildren = children.stream()
-                .map(MetricCollector::collect)
-                .collect(Collectors.toList());
+    public MetricCollection collect() {
+        lock.lock();
+        try {
+            List<MetricCollection> collectedChildren = children.stream()
+                    .map(MetricCollector::collect)
+                    .collect(Collectors.toList());
 
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+            DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
 
-        log.debug(() -> "Collected metrics records: " + metricRecords);
-        return metricRecords;
+            log.debug(() -> "Collected metrics records: " + metricRecords);
+            return metricRecords;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public static MetricCollector create(String name) {
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -34,10 +35,17 @@ import software.amazon.awssdk.utils.Validate;
 public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements SdkMetric<T> {
     private static final ConcurrentHashMap<SdkMetric<?>, Boolean> SDK_METRICS = new ConcurrentHashMap<>();
 
+    /**
+     * The most {@link MetricCategory#CORE} metrics that are given a slot index.
+     */
+    private static final int MAX_SLOT_INDEXES = 64;
+    private static final AtomicInteger NEXT_SLOT_INDEX = new AtomicInteger(0);
+
     private final String name;
     private final Class<T> clzz;
     private final Set<MetricCategory> categories;
     private final MetricLevel level;
+    private final int slotIndex;
 
     private DefaultSdkMetric(String name, Class<T> clzz, MetricLevel level, Set<MetricCategory> categories) {
         super(clzz);
@@ -46,6 +54,7 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         this.level = Validate.notNull(level, "level must not be null");
         Validate.notEmpty(categories, "categories must not be empty");
         this.categories = EnumSet.copyOf(categories);
+        this.slotIndex = categories.contains(MetricCategory.CORE) ? nextSlotIndex() : -1;
     }
 
     /**
@@ -77,6 +86,26 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         return clzz;
     }
 
+    /**
+     * @return The dense index of this metric among the {@link MetricCategory#CORE} metrics, which collectors use to store its
+     * records in a pre-sized slot, or -1 if it does not have one.
+     */
+    int slotIndex() {
+        return slotIndex;
+    }
+
+    /**
+     * @return An upper bound of the slot indexes given so far.
+     */
+    static int slotIndexBound() {
+        return NEXT_SLOT_INDEX.get();
+    }
+
+    private static int nextSlotIndex() {
+        int index = NEXT_SLOT_INDEX.getAndUpdate(i -> i < MAX_SLOT_INDEXES ? i + 1 : i);
+        return index < MAX_SLOT_INDEXES ? index : -1;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
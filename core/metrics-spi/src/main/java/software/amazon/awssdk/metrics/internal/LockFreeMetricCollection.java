@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The {@link MetricCollection} created by {@link LockFreeMetricCollector}. It is a read-only view over the collector's
+ * immutable snapshot of records, as it was when the collection was created. Records are iterated grouped by metric, in the
+ * order the metrics were first reported.
+ */
+@SdkInternalApi
+public final class LockFreeMetricCollection implements MetricCollection {
+    private final String name;
+    private final LockFreeMetricCollector.Records records;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    LockFreeMetricCollection(String name,
+                             LockFreeMetricCollector.Records records,
+                             List<MetricCollection> children) {
+        this.name = name;
+        this.records = records;
+        this.children = children;
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        MetricRecord<?>[] metricRecords = records.recordsFor(metric);
+        if (metricRecords == null) {
+            return Collections.emptyList();
+        }
+
+        Object[] values = new Object[metricRecords.length];
+        for (int i = 0; i < metricRecords.length; i++) {
+            values[i] = metricRecords[i].value();
+        }
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return Collections.unmodifiableList(children);
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return new RecordIterator();
+    }
+
+    @Override
+    public String toString() {
+        List<MetricRecord<?>> allRecords = new ArrayList<>();
+        forEach(allRecords::add);
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", allRecords)
+                       .add("children", children)
+                       .build();
+    }
+
+    /**
+     * Iterates over the records of each metric in turn.
+     */
+    private final class RecordIterator implements Iterator<MetricRecord<?>> {
+        private int metric;
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            while (metric < records.size()) {
+                if (position < records.recordsAt(metric).length) {
+                    return true;
+                }
+                metric++;
+                position = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public MetricRecord<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return records.recordsAt(metric)[position++];
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that appends each record to its metric's slot with compare-and-set, so reporting never takes a
+ * lock and never copies the records reported before it.
+ * <p>
+ * The {@link MetricCategory#CORE} metrics, which are the ones reported on every call, each have a slot index, and their slots
+ * are found in an array pre-sized for them. The slots of other metrics are kept in a copy-on-write array, which is only copied
+ * the first time such a metric is reported. A slot is created when its metric is first reported and linked to the slot
+ * reported before it, so the collector remembers the order in which metrics were first reported.
+ * <p>
+ * {@link #collect()} copies the slots into a {@link Records} snapshot, which it returns as a {@link LockFreeMetricCollection}.
+ * Like {@link DefaultMetricCollector}, the collection iterates over the records grouped by metric, in the order the metrics
+ * were first reported.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class LockFreeMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(LockFreeMetricCollector.class);
+    private static final MetricCollector[] NO_CHILDREN = new MetricCollector[0];
+    private static final Slot[] NO_SLOTS = new Slot[0];
+
+    private final String name;
+    private final AtomicReferenceArray<Slot> coreSlots;
+    private final AtomicReference<Slot[]> otherSlots = new AtomicReference<>(NO_SLOTS);
+    private final AtomicReference<Slot> lastReportedSlot = new AtomicReference<>();
+    private final AtomicReference<MetricCollector[]> children = new AtomicReference<>(NO_CHILDREN);
+
+    public LockFreeMetricCollector(String name) {
+        this.name = name;
+        this.coreSlots = new AtomicReferenceArray<>(DefaultSdkMetric.slotIndexBound());
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        slotFor(metric).add(new DefaultMetricRecord<>(metric, data));
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = new LockFreeMetricCollector(name);
+        MetricCollector[] current;
+        MetricCollector[] updated;
+        do {
+            current = children.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = child;
+        } while (!children.compareAndSet(current, updated));
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        MetricCollector[] currentChildren = children.get();
+        List<MetricCollection> collectedChildren = new ArrayList<>(currentChildren.length);
+        for (MetricCollector child : currentChildren) {
+            collectedChildren.add(child.collect());
+        }
+
+        Records records = Records.snapshot(lastReportedSlot.get());
+        LockFreeMetricCollection metricRecords = new LockFreeMetricCollection(name, records, collectedChildren);
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new LockFreeMetricCollector(name);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LockFreeMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    private Slot slotFor(SdkMetric<?> metric) {
+        int index = metric instanceof DefaultSdkMetric ? ((DefaultSdkMetric<?>) metric).slotIndex() : -1;
+        if (index < 0 || index >= coreSlots.length()) {
+            return otherSlotFor(metric);
+        }
+
+        Slot slot = coreSlots.get(index);
+        if (slot != null) {
+            return slot;
+        }
+        Slot created = new Slot(metric);
+        if (coreSlots.compareAndSet(index, null, created)) {
+            markReported(created);
+            return created;
+        }
+        return coreSlots.get(index);
+    }
+
+    private Slot otherSlotFor(SdkMetric<?> metric) {
+        Slot created = null;
+        while (true) {
+            Slot[] current = otherSlots.get();
+            Slot existing = find(current, metric);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (created == null) {
+                created = new Slot(metric);
+            }
+            Slot[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = created;
+            if (otherSlots.compareAndSet(current, updated)) {
+                markReported(created);
+                return created;
+            }
+        }
+    }
+
+    private static Slot find(Slot[] slots, SdkMetric<?> metric) {
+        for (Slot slot : slots) {
+            if (slot.metric == metric) {
+                return slot;
+            }
+        }
+        for (Slot slot : slots) {
+            if (slot.metric.equals(metric)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private void markReported(Slot slot) {
+        Slot previous;
+        do {
+            previous = lastReportedSlot.get();
+            slot.previouslyReported = previous;
+        } while (!lastReportedSlot.compareAndSet(previous, slot));
+    }
+
+    /**
+     * The records of one metric, as a list linked from the last record to the first.
+     */
+    private static final class Slot {
+        private final SdkMetric<?> metric;
+        private final AtomicReference<Node> last = new AtomicReference<>();
+
+        /**
+         * The slot whose metric was first reported before this one. Written before this slot is published with
+         * compare-and-set, and never changed afterwards.
+         */
+        private Slot previouslyReported;
+
+        private Slot(SdkMetric<?> metric) {
+            this.metric = metric;
+        }
+
+        private void add(MetricRecord<?> record) {
+            Node previous;
+            Node node;
+            do {
+                previous = last.get();
+                node = new Node(record, previous);
+            } while (!last.compareAndSet(previous, node));
+        }
+    }
+
+    private static final class Node {
+        private final MetricRecord<?> record;
+        private final Node previous;
+        private final int count;
+
+        private Node(MetricRecord<?> record, Node previous) {
+            this.record = record;
+            this.previous = previous;
+            this.count = previous == null ? 1 : previous.count + 1;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the records of a collector. {@code metrics[i]} was the i-th metric to be reported, and
+     * {@code records[i]} holds its records in the order they were reported.
+     */
+    static final class Records {
+        private final SdkMetric<?>[] metrics;
+        private final MetricRecord<?>[][] records;
+
+        private Records(SdkMetric<?>[] metrics, MetricRecord<?>[][] records) {
+            this.metrics = metrics;
+            this.records = records;
+        }
+
+        private static Records snapshot(Slot lastReported) {
+            List<Slot> slots = new ArrayList<>();
+            for (Slot slot = lastReported; slot != null; slot = slot.previouslyReported) {
+                if (slot.last.get() != null) {
+                    slots.add(slot);
+                }
+            }
+
+            SdkMetric<?>[] metrics = new SdkMetric<?>[slots.size()];
+            MetricRecord<?>[][] records = new MetricRecord<?>[slots.size()][];
+            for (int i = 0; i < metrics.length; i++) {
+                Slot slot = slots.get(metrics.length - 1 - i);
+                Node last = slot.last.get();
+                MetricRecord<?>[] metricRecords = new MetricRecord<?>[last.count];
+                for (Node node = last; node != null; node = node.previous) {
+                    metricRecords[node.count - 1] = node.record;
+                }
+                metrics[i] = slot.metric;
+                records[i] = metricRecords;
+            }
+            return new Records(metrics, records);
+        }
+
+        int size() {
+            return metrics.length;
+        }
+
+        MetricRecord<?>[] recordsAt(int position) {
+            return records[position];
+        }
+
+        /**
+         * @return The records of the given metric, or null if it was not reported.
+         */
+        MetricRecord<?>[] recordsFor(SdkMetric<?> metric) {
+            for (int i = 0; i < metrics.length; i++) {
+                if (metrics[i] == metric) {
+                    return records[i];
+                }
+            }
+            for (int i = 0; i < metrics.length; i++) {
+                if (metrics[i].equals(metric)) {
+                    return records[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class LockFreeMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("lockFreeM1", Integer.class, MetricLevel.INFO,
+                                                                  MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("lockFreeM2", String.class, MetricLevel.INFO,
+                                                                 MetricCategory.CORE);
+    private static final SdkMetric<Integer> CUSTOM = SdkMetric.create("lockFreeCustom", Integer.class, MetricLevel.INFO,
+                                                                      MetricCategory.CUSTOM);
+
+    @AfterAll
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCreateChild_returnsLockFreeChildWithCorrectName() {
+        MetricCollector parent = MetricCollector.createLockFree("parent");
+        MetricCollector child = parent.createChild("child");
+
+        assertThat(child.name()).isEqualTo("child");
+        assertThat(child).isInstanceOf(LockFreeMetricCollector.class);
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollection() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "value");
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(M1)).containsExactly(values);
+        assertThat(collect.metricValues(M2)).containsExactly("value");
+        assertThat(collect.stream().map(MetricRecord::value)).containsExactly(1, 2, 3, "value");
+    }
+
+    @Test
+    public void testCollect_unreportedMetric_isEmpty() {
+        MetricCollection collect = MetricCollector.createLockFree("collector").collect();
+        assertThat(collect.metricValues(M1)).isEmpty();
+        assertThat(collect.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    public void testCollect_metricDeclaredAfterCollectorCreated_isCollected() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        SdkMetric<Integer> late = SdkMetric.create("lockFreeLate", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+        collector.reportMetric(late, 42);
+        collector.reportMetric(M1, 1);
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(late)).containsExactly(42);
+        assertThat(collect.stream().map(MetricRecord::value)).containsExactly(42, 1);
+    }
+
+    @Test
+    public void testCollect_iteratesGroupedByMetricInFirstReportOrder() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        collector.reportMetric(M2, "first");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "second");
+        collector.reportMetric(M1, 2);
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.stream().map(MetricRecord::value)).containsExactly("first", "second", 1, 2);
+    }
+
+    @Test
+    public void testCollect_nonCoreMetric_collectedInFirstReportOrder() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(CUSTOM, 10);
+        collector.reportMetric(M2, "value");
+        collector.reportMetric(CUSTOM, 20);
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(CUSTOM)).containsExactly(10, 20);
+        assertThat(collect.stream().map(MetricRecord::value)).containsExactly(1, 10, 20, "value");
+    }
+
+    @Test
+    public void testCollect_laterReports_notVisibleInEarlierCollection() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        collector.reportMetric(M1, 1);
+        MetricCollection first = collector.collect();
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(M2, "value");
+
+        assertThat(first.metricValues(M1)).containsExactly(1);
+        assertThat(first.metricValues(M2)).isEmpty();
+        assertThat(collector.collect().metricValues(M1)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildren() {
+        MetricCollector parent = MetricCollector.createLockFree("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testReportMetric_concurrentReporters_noRecordsLost() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    IntStream.range(0, 1000).forEach(i -> {
+                        collector.reportMetric(M1, i);
+                        collector.reportMetric(CUSTOM, i);
+                    });
+                    collector.createChild("child");
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(M1)).hasSize(8000);
+        assertThat(collect.metricValues(CUSTOM)).hasSize(8000);
+        assertThat(collect.children()).hasSize(8);
+    }
+}
@@ -189,6 +189,27 @@ public abstract class BaseAwsJsonProtocolFactory {
                                             .build();
     }
 
+    /**
+     * Create a protocol marshaller that writes the members of the request with the provided {@link JsonPayloadMarshaller}
+     * instead of walking its {@link SdkPojo#sdkFields()}. The request must only have payload members, and must not have an
+     * explicit or streaming payload.
+     *
+     * @param operationInfo Metadata about the operation.
+     * @param payloadMarshaller Marshaller that writes the members of the request.
+     */
+    public final <T extends SdkPojo> ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(
+        OperationInfo operationInfo, JsonPayloadMarshaller<T> payloadMarshaller) {
+        return JsonProtocolMarshallerBuilder.create()
+                                            .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
+                                            .jsonGenerator(createGenerator(operationInfo))
+                                            .contentType(getContentType())
+                                            .operationInfo(operationInfo)
+                                            .sendExplicitNullForPayload(false)
+                                            .protocolMetadata(protocolMetadata)
+                                            .payloadMarshaller(payloadMarshaller)
+                                            .build();
+    }
+
     /**
      * Builder for {@link AwsJsonProtocolFactory}.
      */
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.json;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Writes the members of a request shape directly to a {@link StructuredJsonGenerator}. Implementations are generated per
+ * shape when a service opts in to generated marshallers, and are used by the protocol marshaller in place of walking the
+ * {@link SdkPojo#sdkFields()} of the request.
+ *
+ * <p>Only the members of the request are written. The enclosing JSON object, the HTTP request and its headers are still
+ * handled by the protocol marshaller.
+ *
+ * @param <T> Type of the request shape.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface JsonPayloadMarshaller<T extends SdkPojo> {
+
+    /**
+     * Write the members of the given request.
+     *
+     * @param pojo Request to marshall.
+     * @param jsonGenerator Generator to write the members to.
+     */
+    void marshall(T pojo, StructuredJsonGenerator jsonGenerator);
+}
@@ -43,6 +43,7 @@ import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToString;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadMarshaller;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -68,12 +69,15 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     private final JsonMarshallerContext marshallerContext;
     private final boolean hasEventStreamingInput;
     private final boolean hasEvent;
+    private final JsonPayloadMarshaller<SdkPojo> payloadMarshaller;
 
+    @SuppressWarnings("unchecked")
     JsonProtocolMarshaller(URI endpoint,
                            StructuredJsonGenerator jsonGenerator,
                            String contentType,
                            OperationInfo operationInfo,
-                           AwsJsonProtocolMetadata protocolMetadata) {
+                           AwsJsonProtocolMetadata protocolMetadata,
+                           JsonPayloadMarshaller<?> payloadMarshaller) {
         this.endpoint = endpoint;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
@@ -83,6 +87,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         this.hasStreamingInput = operationInfo.hasStreamingInput();
         this.hasEventStreamingInput = operationInfo.hasEventStreamingInput();
         this.hasEvent = operationInfo.hasEvent();
+        this.payloadMarshaller = (JsonPayloadMarshaller<SdkPojo>) payloadMarshaller;
         this.request = fillBasicRequestParams(operationInfo);
         this.marshallerContext = JsonMarshallerContext.builder()
                                                       .jsonGenerator(jsonGenerator)
@@ -215,7 +220,11 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     @Override
     public SdkHttpFullRequest marshall(SdkPojo pojo) {
         startMarshalling();
-        doMarshall(pojo);
+        if (payloadMarshaller != null) {
+            payloadMarshaller.marshall(pojo, jsonGenerator);
+        } else {
+            doMarshall(pojo);
+        }
         return finishMarshalling();
     }
 
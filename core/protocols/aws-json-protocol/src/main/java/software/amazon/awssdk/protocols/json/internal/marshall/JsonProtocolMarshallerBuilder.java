@@ -21,6 +21,7 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadMarshaller;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -35,6 +36,7 @@ public final class JsonProtocolMarshallerBuilder {
     private OperationInfo operationInfo;
     private boolean sendExplicitNullForPayload;
     private AwsJsonProtocolMetadata protocolMetadata;
+    private JsonPayloadMarshaller<?> payloadMarshaller;
 
     private JsonProtocolMarshallerBuilder() {
     }
@@ -102,6 +104,16 @@ public final class JsonProtocolMarshallerBuilder {
         return this;
     }
 
+    /**
+     * @param payloadMarshaller Generated marshaller that writes the members of the request. If not set, the members are
+     * marshalled by walking the {@link software.amazon.awssdk.core.SdkField}s of the request.
+     * @return This builder for method chaining.
+     */
+    public JsonProtocolMarshallerBuilder payloadMarshaller(JsonPayloadMarshaller<?> payloadMarshaller) {
+        this.payloadMarshaller = payloadMarshaller;
+        return this;
+    }
+
     /**
      * @return New instance of {@link ProtocolMarshaller}. If {@link #sendExplicitNullForPayload} is true then the marshaller
      * will be wrapped with {@link NullAsEmptyBodyProtocolRequestMarshaller}.
@@ -111,7 +123,8 @@ public final class JsonProtocolMarshallerBuilder {
                                                                                                jsonGenerator,
                                                                                                contentType,
                                                                                                operationInfo,
-                                                                                               protocolMetadata);
+                                                                                               protocolMetadata,
+                                                                                               payloadMarshaller);
         return sendExplicitNullForPayload ? protocolMarshaller
                                           : new NullAsEmptyBodyProtocolRequestMarshaller(protocolMarshaller);
     }
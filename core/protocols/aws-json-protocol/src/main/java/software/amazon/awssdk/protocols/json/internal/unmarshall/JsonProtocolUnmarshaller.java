@@ -61,12 +61,17 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final StreamingJsonUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.streamingUnmarshalling ?
+                                     new StreamingJsonUnmarshaller(parser, instantStringToValue) :
+                                     null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -188,6 +193,9 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembersOnUnmarshall(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo) && response.content().isPresent()) {
+            if (streamingUnmarshaller != null && !hasExplicitJsonPayloadMember(sdkPojo)) {
+                return streamingUnmarshaller.unmarshall(sdkPojo, createContext(response), response.content().get());
+            }
             JsonNode jsonNode = parser.parse(response.content().get());
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
@@ -201,6 +209,12 @@ public final class JsonProtocolUnmarshaller {
                       .anyMatch(f -> isExplicitPayloadMember(f) && f.marshallingType() == MarshallingType.SDK_BYTES);
     }
 
+    private boolean hasExplicitJsonPayloadMember(SdkPojo sdkPojo) {
+        return sdkPojo.sdkFields()
+                      .stream()
+                      .anyMatch(JsonProtocolUnmarshaller::isFieldExplicitlyTransferredAsJson);
+    }
+
     private static boolean isExplicitPayloadMember(SdkField<?> f) {
         return f.containsTrait(PayloadTrait.class);
     }
@@ -215,11 +229,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -268,6 +285,7 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private boolean streamingUnmarshalling = true;
 
         private Builder() {
         }
@@ -290,6 +308,16 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param streamingUnmarshalling Whether response payloads are unmarshalled directly from the JSON parser's tokens,
+         * instead of first being parsed into a {@link JsonNode} tree. Defaults to true.
+         * @return This builder for method chaining.
+         */
+        public Builder streamingUnmarshalling(boolean streamingUnmarshalling) {
+            this.streamingUnmarshalling = streamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
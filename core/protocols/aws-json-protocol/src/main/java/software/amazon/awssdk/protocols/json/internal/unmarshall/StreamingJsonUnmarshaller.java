@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a JSON response payload by reading the tokens of a {@link JsonParser} directly into the {@link SdkPojo}
+ * builders, without first parsing the whole payload into a {@link JsonNode} tree. Members are looked up by name in a table that
+ * is built once per shape.
+ *
+ * <p>Values that cannot be read from a single token, like documents, blobs embedded by binary protocols and values of an
+ * unexpected JSON type, are parsed into a {@link JsonNode} and unmarshalled with the same {@link JsonUnmarshaller}s as the
+ * tree-based path in {@link JsonProtocolUnmarshaller}, so both paths produce the same results.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingJsonUnmarshaller {
+    private final JsonNodeParser nodeParser;
+    private final Map<MarshallingType<?>, StringToValue<?>> scalarConverters;
+    private final Map<Class<?>, Map<String, SdkField<?>>> payloadFieldsByShape = new ConcurrentHashMap<>();
+
+    StreamingJsonUnmarshaller(JsonNodeParser nodeParser, StringToValue<Instant> instantStringToValue) {
+        this.nodeParser = nodeParser;
+
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        this.scalarConverters = Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Unmarshall the provided response content into the provided top-level {@link SdkPojo} builder.
+     */
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, JsonUnmarshallerContext context, InputStream content) {
+        return nodeParser.parse(content, parser -> {
+            parser.nextToken();
+            return unmarshallStructure(sdkPojo, parser, context);
+        });
+    }
+
+    /**
+     * Unmarshall the structure starting at the current token of the parser, leaving the parser on its last token.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructure(SdkPojo sdkPojo,
+                                                              JsonParser parser,
+                                                              JsonUnmarshallerContext context) throws IOException {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            Map<String, SdkField<?>> payloadFields = payloadFields(sdkPojo);
+            while (nextToken(parser) == JsonToken.FIELD_NAME) {
+                SdkField<?> field = payloadFields.get(parser.currentName());
+                JsonToken valueToken = nextToken(parser);
+                if (field == null) {
+                    parser.skipChildren();
+                } else {
+                    field.set(sdkPojo, unmarshallValue(field, valueToken, parser, context));
+                }
+            }
+        }
+
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<?> field,
+                                   JsonToken token,
+                                   JsonParser parser,
+                                   JsonUnmarshallerContext context) throws IOException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (token == JsonToken.VALUE_NULL && marshallingType != MarshallingType.DOCUMENT) {
+            return null;
+        }
+
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            if (token == JsonToken.START_OBJECT) {
+                return unmarshallStructure((SdkPojo) field.constructor().get(), parser, context);
+            }
+        } else if (marshallingType == MarshallingType.LIST) {
+            if (token == JsonToken.START_ARRAY) {
+                return unmarshallList(field.getTrait(ListTrait.class).memberFieldInfo(), parser, context);
+            }
+        } else if (marshallingType == MarshallingType.MAP) {
+            if (token == JsonToken.START_OBJECT) {
+                return unmarshallMap(field.getTrait(MapTrait.class).valueFieldInfo(), parser, context);
+            }
+        } else if (isTextualScalar(token)) {
+            StringToValue<Object> converter = (StringToValue<Object>) scalarConverters.get(marshallingType);
+            if (converter != null) {
+                return converter.convert(parser.getText(), (SdkField<Object>) field);
+            }
+        }
+
+        JsonNode jsonContent = nodeParser.parseCurrentValue(parser);
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), marshallingType);
+        return unmarshaller.unmarshall(context, jsonContent, (SdkField<Object>) field);
+    }
+
+    private List<Object> unmarshallList(SdkField<?> memberInfo,
+                                        JsonParser parser,
+                                        JsonUnmarshallerContext context) throws IOException {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = nextToken(parser)) != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(memberInfo, token, parser, context));
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(SdkField<?> valueInfo,
+                                              JsonParser parser,
+                                              JsonUnmarshallerContext context) throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextToken(parser) == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            map.put(key, unmarshallValue(valueInfo, nextToken(parser), parser, context));
+        }
+        return map;
+    }
+
+    private Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        return payloadFieldsByShape.computeIfAbsent(sdkPojo.getClass(), c -> {
+            Map<String, SdkField<?>> fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() == MarshallLocation.PAYLOAD) {
+                    fields.put(field.locationName(), field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static boolean isTextualScalar(JsonToken token) {
+        return token == JsonToken.VALUE_STRING
+               || token == JsonToken.VALUE_NUMBER_INT
+               || token == JsonToken.VALUE_NUMBER_FLOAT
+               || token == JsonToken.VALUE_TRUE
+               || token == JsonToken.VALUE_FALSE;
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of JSON content");
+        }
+        return token;
+    }
+}
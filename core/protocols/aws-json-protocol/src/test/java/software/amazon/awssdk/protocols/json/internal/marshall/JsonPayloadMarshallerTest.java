@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadMarshaller;
+import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
+import software.amazon.awssdk.utils.IoUtils;
+
+class JsonPayloadMarshallerTest {
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+
+    private static final OperationInfo OPERATION = OperationInfo.builder()
+                                                                .requestUri("/")
+                                                                .httpMethod(SdkHttpMethod.POST)
+                                                                .hasImplicitPayloadMembers(true)
+                                                                .hasPayloadMembers(true)
+                                                                .operationIdentifier("Service.Operation")
+                                                                .build();
+
+    @Test
+    void payloadMarshaller_producesSameRequestAsSdkFieldMarshaller() throws Exception {
+        TestPojo pojo = new TestPojo("value", 42);
+        JsonPayloadMarshaller<TestPojo> payloadMarshaller = (p, jsonGenerator) -> {
+            jsonGenerator.writeFieldName("String");
+            jsonGenerator.writeValue(p.string);
+            jsonGenerator.writeFieldName("Integer");
+            jsonGenerator.writeValue(p.integer);
+        };
+
+        SdkHttpFullRequest fromSdkFields = marshaller(null).marshall(pojo);
+        SdkHttpFullRequest fromPayloadMarshaller = marshaller(payloadMarshaller).marshall(pojo);
+
+        assertThat(body(fromPayloadMarshaller)).isEqualTo("{\"String\":\"value\",\"Integer\":42}")
+                                               .isEqualTo(body(fromSdkFields));
+        assertThat(fromPayloadMarshaller.headers()).isEqualTo(fromSdkFields.headers());
+        assertThat(fromPayloadMarshaller.getUri()).isEqualTo(fromSdkFields.getUri());
+    }
+
+    @Test
+    void payloadMarshallerWritesNothing_sendsEmptyObject() throws Exception {
+        SdkHttpFullRequest request = marshaller((p, jsonGenerator) -> { }).marshall(new TestPojo("value", 42));
+
+        assertThat(body(request)).isEqualTo("{}");
+    }
+
+    private static JsonProtocolMarshallerBuilder builder() {
+        return JsonProtocolMarshallerBuilder.create()
+                                            .endpoint(URI.create("https://localhost"))
+                                            .jsonGenerator(AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY
+                                                               .createWriter(CONTENT_TYPE))
+                                            .contentType(CONTENT_TYPE)
+                                            .operationInfo(OPERATION)
+                                            .protocolMetadata(AwsJsonProtocolMetadata.builder()
+                                                                                     .protocol(AwsJsonProtocol.AWS_JSON)
+                                                                                     .protocolVersion("1.1")
+                                                                                     .build());
+    }
+
+    private static JsonProtocolMarshaller marshaller(JsonPayloadMarshaller<TestPojo> payloadMarshaller) {
+        return (JsonProtocolMarshaller) builder().payloadMarshaller(payloadMarshaller)
+                                                 .sendExplicitNullForPayload(true)
+                                                 .build();
+    }
+
+    private static String body(SdkHttpFullRequest request) throws Exception {
+        return IoUtils.toUtf8String(request.contentStreamProvider().get().newStream());
+    }
+
+    private static final class TestPojo implements SdkPojo {
+        private static final List<SdkField<?>> FIELDS = Arrays.asList(
+            field(MarshallingType.STRING, "String"),
+            field(MarshallingType.INTEGER, "Integer"));
+
+        private final String string;
+        private final Integer integer;
+
+        private TestPojo(String string, Integer integer) {
+            this.string = string;
+            this.integer = integer;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        private static <T> SdkField<T> field(MarshallingType<T> type, String name) {
+            return SdkField.<T>builder(type)
+                           .memberName(name)
+                           .getter(pojo -> get((TestPojo) pojo, name))
+                           .setter((pojo, value) -> { })
+                           .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                           .build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T get(TestPojo pojo, String name) {
+            return (T) ("String".equals(name) ? pojo.string : pojo.integer);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+class StreamingJsonUnmarshallerTest {
+    private static final JsonProtocolUnmarshaller STREAMING = unmarshaller(true);
+    private static final JsonProtocolUnmarshaller TREE = unmarshaller(false);
+
+    @Test
+    void allMemberTypes_matchTreeUnmarshaller() throws Exception {
+        String json = "{"
+                      + "\"String\":\"value\","
+                      + "\"Integer\":42,"
+                      + "\"Long\":9007199254740993,"
+                      + "\"Double\":1.5,"
+                      + "\"BigDecimal\":\"12.340\","
+                      + "\"Boolean\":true,"
+                      + "\"Timestamp\":1.6E9,"
+                      + "\"Blob\":\"AQID\","
+                      + "\"Unknown\":{\"Nested\":[1,{\"a\":null}]},"
+                      + "\"Document\":{\"a\":[1,\"b\",null]},"
+                      + "\"List\":[\"a\",null,\"c\"],"
+                      + "\"Map\":{\"k1\":\"v1\",\"k2\":null},"
+                      + "\"Structure\":{\"String\":\"nested\",\"Structures\":[{\"Integer\":1},{\"Integer\":2}]}"
+                      + "}";
+
+        TestPojo streamed = STREAMING.unmarshall(new TestPojo(), response(json));
+        TestPojo tree = TREE.unmarshall(new TestPojo(), response(json));
+
+        assertThat(streamed).isEqualTo(tree);
+        assertThat(streamed.get("Header")).isEqualTo("header-value");
+        assertThat(streamed.get("String")).isEqualTo("value");
+        assertThat(streamed.get("Integer")).isEqualTo(42);
+        assertThat(streamed.get("Long")).isEqualTo(9007199254740993L);
+        assertThat(streamed.get("BigDecimal")).isEqualTo(new BigDecimal("12.340"));
+        assertThat(streamed.get("Timestamp")).isEqualTo(Instant.ofEpochSecond(1_600_000_000L));
+        assertThat(streamed.get("Blob")).isEqualTo(SdkBytes.fromByteArray(new byte[] {1, 2, 3}));
+        assertThat(streamed.get("List")).isEqualTo(Arrays.asList("a", null, "c"));
+        assertThat(((Document) streamed.get("Document")).asMap()).containsKey("a");
+        assertThat(((TestPojo) streamed.get("Structure")).get("Structures")).asList().hasSize(2);
+    }
+
+    @Test
+    void nullAndMissingMembers_matchTreeUnmarshaller() throws Exception {
+        String json = "{\"String\":null,\"Structure\":null,\"List\":null,\"Document\":null}";
+
+        TestPojo streamed = STREAMING.unmarshall(new TestPojo(), response(json));
+        TestPojo tree = TREE.unmarshall(new TestPojo(), response(json));
+
+        assertThat(streamed).isEqualTo(tree);
+        assertThat(streamed.get("String")).isNull();
+        assertThat(streamed.get("Document")).isEqualTo(Document.fromNull());
+    }
+
+    @Test
+    void emptyContent_matchesTreeUnmarshaller() throws Exception {
+        TestPojo streamed = STREAMING.unmarshall(new TestPojo(), response(""));
+        TestPojo tree = TREE.unmarshall(new TestPojo(), response(""));
+
+        assertThat(streamed).isEqualTo(tree);
+        assertThat(streamed.get("Header")).isEqualTo("header-value");
+    }
+
+    @Test
+    void truncatedContent_throwsException() {
+        assertThatThrownBy(() -> STREAMING.unmarshall(new TestPojo(), response("{\"List\":[\"a\"")))
+            .hasMessageContaining("end");
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(boolean streaming) {
+        return JsonProtocolUnmarshaller.builder()
+                                       .parser(JsonNodeParser.create())
+                                       .defaultTimestampFormats(Collections.singletonMap(MarshallLocation.PAYLOAD,
+                                                                                 TimestampFormatTrait.Format.UNIX_TIMESTAMP))
+                                       .streamingUnmarshalling(streaming)
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                  .build();
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private static final List<SdkField<?>> FIELDS = Arrays.asList(
+            field(MarshallingType.STRING, MarshallLocation.HEADER, "x-amz-header", "Header"),
+            field(MarshallingType.STRING, "String"),
+            field(MarshallingType.INTEGER, "Integer"),
+            field(MarshallingType.LONG, "Long"),
+            field(MarshallingType.DOUBLE, "Double"),
+            field(MarshallingType.BIG_DECIMAL, "BigDecimal"),
+            field(MarshallingType.BOOLEAN, "Boolean"),
+            field(MarshallingType.INSTANT, "Timestamp"),
+            field(MarshallingType.SDK_BYTES, "Blob"),
+            field(MarshallingType.DOCUMENT, "Document"),
+            SdkField.builder(MarshallingType.LIST)
+                    .memberName("List")
+                    .getter(getter("List"))
+                    .setter(setter("List"))
+                    .traits(location("List"),
+                            ListTrait.builder()
+                                     .memberLocationName("member")
+                                     .memberFieldInfo(field(MarshallingType.STRING, "member"))
+                                     .build())
+                    .build(),
+            SdkField.builder(MarshallingType.MAP)
+                    .memberName("Map")
+                    .getter(getter("Map"))
+                    .setter(setter("Map"))
+                    .traits(location("Map"),
+                            MapTrait.builder()
+                                    .keyLocationName("key")
+                                    .valueLocationName("value")
+                                    .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                                    .build())
+                    .build(),
+            SdkField.builder(MarshallingType.SDK_POJO)
+                    .memberName("Structure")
+                    .getter(getter("Structure"))
+                    .setter(setter("Structure"))
+                    .constructor(TestPojo::new)
+                    .traits(location("Structure"))
+                    .build(),
+            SdkField.builder(MarshallingType.LIST)
+                    .memberName("Structures")
+                    .getter(getter("Structures"))
+                    .setter(setter("Structures"))
+                    .traits(location("Structures"),
+                            ListTrait.builder()
+                                     .memberLocationName("member")
+                                     .memberFieldInfo(SdkField.builder(MarshallingType.SDK_POJO)
+                                                              .constructor(TestPojo::new)
+                                                              .traits(location("member"))
+                                                              .build())
+                                     .build())
+                    .build());
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        Object get(String memberName) {
+            return values.get(memberName);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TestPojo" + values;
+        }
+
+        private static <T> SdkField<T> field(MarshallingType<T> type, String name) {
+            return field(type, MarshallLocation.PAYLOAD, name, name);
+        }
+
+        private static <T> SdkField<T> field(MarshallingType<T> type, MarshallLocation location, String locationName,
+                                             String memberName) {
+            return SdkField.<T>builder(type)
+                           .memberName(memberName)
+                           .getter(getter(memberName))
+                           .setter(setter(memberName))
+                           .traits(LocationTrait.builder().location(location).locationName(locationName).build())
+                           .build();
+        }
+
+        private static LocationTrait location(String name) {
+            return LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Function<Object, T> getter(String memberName) {
+            return pojo -> (T) ((TestPojo) pojo).values.get(memberName);
+        }
+
+        private static <T> BiConsumer<Object, T> setter(String memberName) {
+            return (pojo, value) -> {
+                if (value == null) {
+                    ((TestPojo) pojo).values.remove(memberName);
+                } else {
+                    ((TestPojo) pojo).values.put(memberName, value);
+                }
+            };
+        }
+    }
+}
@@ -50,6 +50,7 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final QueryProtocolUnmarshaller responseUnmarshaller;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
@@ -63,6 +64,10 @@ public class AwsQueryProtocolFactory {
             .errorUnmarshaller(QueryProtocolUnmarshaller.builder().build())
             .errorRootExtractor(this::getErrorRoot)
             .build());
+        // Shared by all response handlers, so the member tables of the streaming unmarshaller are built once per shape.
+        this.responseUnmarshaller = QueryProtocolUnmarshaller.builder()
+                                                             .hasResultWrapper(!isEc2())
+                                                             .build();
     }
 
     /**
@@ -88,9 +93,7 @@ public class AwsQueryProtocolFactory {
      * @return New {@link HttpResponseHandler} for success responses.
      */
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
-        return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
-                                                                                        .hasResultWrapper(!isEc2())
-                                                                                        .build(), r -> pojoSupplier.get()));
+        return timeUnmarshalling(new AwsQueryResponseHandler<>(responseUnmarshaller, r -> pojoSupplier.get()));
     }
 
     /**
@@ -19,6 +19,8 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,7 @@ import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
@@ -45,6 +48,8 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @SdkInternalApi
 public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
+    private static final StringToValue<Instant> INSTANT_STRING_TO_VALUE = StringToInstant.create(defaultTimestampFormats());
+
     private static final QueryUnmarshallerRegistry UNMARSHALLER_REGISTRY = QueryUnmarshallerRegistry
         .builder()
         .unmarshaller(MarshallingType.STRING, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_STRING))
@@ -55,8 +60,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
         .unmarshaller(MarshallingType.BOOLEAN, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
-        .unmarshaller(MarshallingType.INSTANT,
-                      new SimpleTypeQueryUnmarshaller<>(StringToInstant.create(defaultTimestampFormats())))
+        .unmarshaller(MarshallingType.INSTANT, new SimpleTypeQueryUnmarshaller<>(INSTANT_STRING_TO_VALUE))
         .unmarshaller(MarshallingType.SDK_BYTES, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_SDK_BYTES))
         .unmarshaller(MarshallingType.LIST, new ListQueryUnmarshaller())
         .unmarshaller(MarshallingType.MAP, new MapQueryUnmarshaller())
@@ -65,10 +69,31 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final Map<MarshallingType<?>, StringToValue<?>> SCALAR_CONVERTERS = createScalarConverters();
+
     private final boolean hasResultWrapper;
 
+    private final StreamingQueryUnmarshaller streamingUnmarshaller;
+
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshaller = builder.streamingUnmarshalling ?
+                                     new StreamingQueryUnmarshaller(hasResultWrapper, SCALAR_CONVERTERS) :
+                                     null;
+    }
+
+    private static Map<MarshallingType<?>, StringToValue<?>> createScalarConverters() {
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(converters);
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -82,6 +107,10 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (streamingUnmarshaller != null && response.content().isPresent()) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get());
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -158,6 +187,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean streamingUnmarshalling = true;
 
         private Builder() {
         }
@@ -207,6 +237,17 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param streamingUnmarshalling Whether successful responses are unmarshalled directly from an
+         * {@link javax.xml.stream.XMLStreamReader}, instead of first being parsed into an {@link XmlElement} tree. Defaults to
+         * true.
+         * @return This builder for method chaining.
+         */
+        public Builder streamingUnmarshalling(boolean streamingUnmarshalling) {
+            this.streamingUnmarshalling = streamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
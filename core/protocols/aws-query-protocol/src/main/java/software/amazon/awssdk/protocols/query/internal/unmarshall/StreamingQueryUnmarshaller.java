@@ -0,0 +1,302 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.XmlReaderFactory.nextChildElement;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.XmlReaderFactory.readText;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.XmlReaderFactory.skipElement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls AWS/Query and EC2 responses by reading them with an {@link XMLStreamReader} directly into the {@link SdkPojo}
+ * builders, without first parsing the document into an {@link software.amazon.awssdk.protocols.query.unmarshall.XmlElement}
+ * tree. Members are looked up by element name in a table that is built once per shape.
+ *
+ * <p>The results are the same as those of the tree-based path in {@link QueryProtocolUnmarshaller}: when an element that maps
+ * to a non-flattened member is repeated, the first one is used; flattened lists and maps collect every element with the
+ * member's name; and the members of a non-flattened list are all child elements of the list, whatever their name.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingQueryUnmarshaller {
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String EC2_REQUEST_ID = "requestId";
+
+    private final boolean hasResultWrapper;
+    private final Map<MarshallingType<?>, StringToValue<?>> scalarConverters;
+    private final Map<Class<?>, StructureInfo> structureInfoByShape = new ConcurrentHashMap<>();
+
+    StreamingQueryUnmarshaller(boolean hasResultWrapper, Map<MarshallingType<?>, StringToValue<?>> scalarConverters) {
+        this.hasResultWrapper = hasResultWrapper;
+        this.scalarConverters = scalarConverters;
+    }
+
+    <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo, InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        Map<String, String> metadata = new HashMap<>();
+        try {
+            if (stream.peek() == -1) {
+                return Pair.of(build(sdkPojo), metadata);
+            }
+
+            XMLStreamReader reader = XmlReaderFactory.createReader(stream);
+            try {
+                if (!XmlReaderFactory.nextRootElement(reader)) {
+                    return Pair.of(build(sdkPojo), metadata);
+                }
+                return Pair.of(unmarshallDocument(sdkPojo, reader, metadata), metadata);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    private <TypeT extends SdkPojo> TypeT unmarshallDocument(SdkPojo sdkPojo,
+                                                            XMLStreamReader reader,
+                                                            Map<String, String> metadata) throws XMLStreamException {
+        if (!hasResultWrapper) {
+            return unmarshallStructure(sdkPojo, reader, metadata);
+        }
+
+        // The first child of the document is the result, and the response metadata follows it.
+        TypeT result = null;
+        boolean firstChild = true;
+        while (nextChildElement(reader)) {
+            boolean isResult = firstChild && !RESPONSE_METADATA.equals(reader.getLocalName());
+            firstChild = false;
+            if (isResult) {
+                result = unmarshallStructure(sdkPojo, reader, null);
+            } else {
+                readMetadata(reader, metadata);
+            }
+        }
+        return result != null ? result : build(sdkPojo);
+    }
+
+    /**
+     * Read the response metadata of the document if the reader is on a metadata element, or skip the element otherwise.
+     */
+    private static void readMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (EC2_REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, readText(reader));
+        } else if (RESPONSE_METADATA.equals(elementName)) {
+            while (nextChildElement(reader)) {
+                String name = reader.getLocalName();
+                metadata.put("RequestId".equals(name) ? AWS_REQUEST_ID : name, readText(reader));
+            }
+        } else {
+            skipElement(reader);
+        }
+    }
+
+    /**
+     * Unmarshall the structure whose start element the reader is on, leaving the reader on its end element. If metadata is
+     * provided, child elements that are not members of the structure are read as response metadata.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructure(SdkPojo sdkPojo,
+                                                             XMLStreamReader reader,
+                                                             Map<String, String> metadata) throws XMLStreamException {
+        StructureInfo structure = structureInfo(sdkPojo);
+        boolean[] populated = new boolean[structure.fields.length];
+        Map<SdkField<?>, Object> flattened = null;
+
+        while (nextChildElement(reader)) {
+            Integer index = structure.indexByElementName.get(reader.getLocalName());
+            if (index == null) {
+                if (metadata != null) {
+                    readMetadata(reader, metadata);
+                } else {
+                    skipElement(reader);
+                }
+                continue;
+            }
+
+            SdkField<?> field = structure.fields[index];
+            if (isFlattened(field)) {
+                if (flattened == null) {
+                    flattened = new IdentityHashMap<>();
+                }
+                addFlattenedMember(field, reader, flattened);
+            } else if (populated[index]) {
+                skipElement(reader);
+            } else {
+                populated[index] = true;
+                field.set(sdkPojo, unmarshallValue(field, reader));
+            }
+        }
+
+        if (flattened != null) {
+            flattened.forEach((field, value) -> field.set(sdkPojo, value));
+        }
+        return build(sdkPojo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addFlattenedMember(SdkField<?> field,
+                                    XMLStreamReader reader,
+                                    Map<SdkField<?>, Object> flattened) throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = (List<Object>) flattened.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(unmarshallValue(field.getTrait(ListTrait.class).memberFieldInfo(), reader));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattened.computeIfAbsent(field, f -> new HashMap<>());
+            readMapEntry(field.getTrait(MapTrait.class), reader, map);
+        }
+    }
+
+    /**
+     * Unmarshall the value of the element whose start element the reader is on, leaving the reader on its end element.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(field.constructor().get(), reader, null);
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            return unmarshallList(field.getTrait(ListTrait.class), reader);
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            return unmarshallMap(field.getTrait(MapTrait.class), reader);
+        }
+        if (marshallingType == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValue<Object> converter = (StringToValue<Object>) scalarConverters.get(marshallingType);
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No marshaller/unmarshaller of type %s registered for location %s.",
+                                                          marshallingType, field.location().name()));
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<Object> unmarshallList(ListTrait listTrait, XMLStreamReader reader) throws XMLStreamException {
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(unmarshallValue(listTrait.memberFieldInfo(), reader));
+            return list;
+        }
+
+        // There have been cases in EC2 where the member name is not modeled correctly so we just read all
+        // direct children instead and don't care about member name.
+        while (nextChildElement(reader)) {
+            list.add(unmarshallValue(listTrait.memberFieldInfo(), reader));
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(MapTrait mapTrait, XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            readMapEntry(mapTrait, reader, map);
+            return map;
+        }
+
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                readMapEntry(mapTrait, reader, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(MapTrait mapTrait, XMLStreamReader reader, Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChildElement(reader)) {
+            String elementName = reader.getLocalName();
+            if (elementName.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(mapTrait.valueFieldInfo(), reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    private StructureInfo structureInfo(SdkPojo sdkPojo) {
+        return structureInfoByShape.computeIfAbsent(sdkPojo.getClass(), c -> new StructureInfo(sdkPojo.sdkFields()));
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT build(SdkPojo sdkPojo) {
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * The payload members of a shape, indexed by the name of the element they are unmarshalled from.
+     */
+    private static final class StructureInfo {
+        private final SdkField<?>[] fields;
+        private final Map<String, Integer> indexByElementName = new HashMap<>();
+
+        private StructureInfo(List<SdkField<?>> sdkFields) {
+            List<SdkField<?>> payloadFields = new ArrayList<>();
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() == MarshallLocation.PAYLOAD
+                    && !indexByElementName.containsKey(field.unmarshallLocationName())) {
+                    indexByElementName.put(field.unmarshallLocationName(), payloadFields.size());
+                    payloadFields.add(field);
+                }
+            }
+            this.fields = payloadFields.toArray(new SdkField<?>[0]);
+        }
+    }
+}
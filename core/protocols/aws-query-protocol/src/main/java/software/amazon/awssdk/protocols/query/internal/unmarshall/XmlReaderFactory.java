@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import java.io.InputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Creates cursor-based {@link XMLStreamReader}s for response payloads, and provides the navigation helpers shared by the
+ * XML parsers and unmarshallers of this module.
+ *
+ * <p>Creating an {@link XMLInputFactory} involves a service lookup, so one configured factory is kept per thread and reused
+ * for every response. The StAX specification does not require factories to be thread safe, so they are not shared between
+ * threads.
+ */
+@SdkInternalApi
+public final class XmlReaderFactory {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XmlReaderFactory::createXmlInputFactory);
+
+    private XmlReaderFactory() {
+    }
+
+    /**
+     * Create a reader for the provided stream. Closing the reader does not close the stream.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) throws XMLStreamException {
+        return FACTORY.get().createXMLStreamReader(inputStream);
+    }
+
+    /**
+     * Advance the reader to the first start element of the document.
+     *
+     * @return True if the reader is on the start element of the root element, false if the document has no elements.
+     */
+    public static boolean nextRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advance the reader from the start element of an element, or from the end element of one of its children, to the start
+     * of its next child element.
+     *
+     * @return True if the reader is on the start element of the next child, false if it is on the end element of the element.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Read the text content of the element whose start element the reader is on, leaving the reader on its end element. As
+     * with {@link software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser}, the text content is the last run of
+     * character data in the element, and is empty if the element has no character data.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder builder = null;
+        boolean inRun = false;
+        while (true) {
+            int event = reader.next();
+            if (isText(event)) {
+                if (!inRun) {
+                    text = reader.getText();
+                    builder = null;
+                    inRun = true;
+                } else {
+                    if (builder == null) {
+                        builder = new StringBuilder(text);
+                    }
+                    builder.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+                continue;
+            }
+
+            if (builder != null) {
+                text = builder.toString();
+                builder = null;
+            }
+            inRun = false;
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return text;
+            }
+        }
+    }
+
+    /**
+     * Skip the element whose start element the reader is on, including all of its children, leaving the reader on its end
+     * element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
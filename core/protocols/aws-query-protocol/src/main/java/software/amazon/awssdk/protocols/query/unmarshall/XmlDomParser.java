@@ -18,16 +18,13 @@ package software.amazon.awssdk.protocols.query.unmarshall;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.XmlReaderFactory;
 import software.amazon.awssdk.utils.LookaheadInputStream;
 
 /**
@@ -36,8 +33,6 @@ import software.amazon.awssdk.utils.LookaheadInputStream;
 @SdkProtectedApi
 public final class XmlDomParser {
 
-    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
-
     private XmlDomParser() {
     }
 
@@ -48,90 +43,74 @@ public final class XmlDomParser {
                 return XmlElement.empty();
             }
 
-            XMLEventReader reader = FACTORY.get().createXMLEventReader(stream);
-            XMLEvent nextEvent;
-            // Skip ahead to the first start element
-            do {
-                nextEvent = reader.nextEvent();
-            } while (reader.hasNext() && !nextEvent.isStartElement());
-            return parseElement(nextEvent.asStartElement(), reader);
+            XMLStreamReader reader = XmlReaderFactory.createReader(stream);
+            try {
+                // Skip ahead to the first start element
+                if (!XmlReaderFactory.nextRootElement(reader)) {
+                    return XmlElement.empty();
+                }
+                return parseElement(reader);
+            } finally {
+                reader.close();
+            }
         } catch (IOException | XMLStreamException e) {
             throw SdkClientException.create("Could not parse XML response.", e);
         }
     }
 
     /**
-     * Parse an XML elemnt and any nested elements by recursively calling this method.
+     * Parse an XML element and any nested elements by recursively calling this method.
      *
-     * @param startElement Start element object containing element name.
-     * @param reader XML reader to get more events.
+     * @param reader XML reader positioned on the start element of the element to parse. The reader is left on the
+     * matching end element.
      * @return Parsed {@link XmlElement}.
      */
-    private static XmlElement parseElement(StartElement startElement, XMLEventReader reader) throws XMLStreamException {
+    private static XmlElement parseElement(XMLStreamReader reader) throws XMLStreamException {
         XmlElement.Builder elementBuilder = XmlElement.builder()
-                                                      .elementName(startElement.getName().getLocalPart());
+                                                      .elementName(reader.getLocalName());
 
-        if (startElement.getAttributes().hasNext()) {
-            parseAttributes(startElement, elementBuilder);
+        if (reader.getAttributeCount() > 0) {
+            parseAttributes(reader, elementBuilder);
         }
 
-        XMLEvent nextEvent;
-        do {
-            nextEvent = reader.nextEvent();
-            if (nextEvent.isStartElement()) {
-                elementBuilder.addChildElement(parseElement(nextEvent.asStartElement(), reader));
-            } else if (nextEvent.isCharacters()) {
-                elementBuilder.textContent(readText(reader, nextEvent.asCharacters().getData()));
+        StringBuilder text = null;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE) {
+                // Consecutive character data is one run of text, which replaces any previous run.
+                if (text == null) {
+                    text = new StringBuilder();
+                }
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                continue;
             }
-        } while (!nextEvent.isEndElement());
-        return elementBuilder.build();
-    }
-
-    /**
-     * Parse the attributes of the element.
-     */
-    @SuppressWarnings("unchecked")
-    private static void parseAttributes(StartElement startElement, XmlElement.Builder elementBuilder) {
-        Iterator<Attribute> iterator = startElement.getAttributes();
-        Map<String, String> attributes = new HashMap<>();
-        iterator.forEachRemaining(a -> {
-            String key = a.getName().getPrefix() + ":" + a.getName().getLocalPart();
-            attributes.put(key, a.getValue());
-        });
 
-        elementBuilder.attributes(attributes);
-    }
+            if (text != null) {
+                elementBuilder.textContent(text.toString());
+                text = null;
+            }
 
-    /**
-     * Reads all characters until the next end element event.
-     *
-     * @param eventReader Reader to read from.
-     * @param firstChunk Initial character data that's already been read.
-     * @return String with all character data concatenated.
-     */
-    private static String readText(XMLEventReader eventReader, String firstChunk) throws XMLStreamException {
-        StringBuilder sb = new StringBuilder(firstChunk);
-        while (true) {
-            XMLEvent event = eventReader.peek();
-            if (event.isCharacters()) {
-                eventReader.nextEvent();
-                sb.append(event.asCharacters().getData());
-            } else {
-                return sb.toString();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementBuilder.addChildElement(parseElement(reader));
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return elementBuilder.build();
             }
         }
     }
 
     /**
-     * Disables certain dangerous features that attempt to automatically fetch DTDs
-     *
-     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     * Parse the attributes of the element.
      */
-    private static XMLInputFactory createXmlInputFactory() {
-        XMLInputFactory factory = XMLInputFactory.newInstance();
-        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        return factory;
-    }
+    private static void parseAttributes(XMLStreamReader reader, XmlElement.Builder elementBuilder) {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            attributes.put(key, reader.getAttributeValue(i));
+        }
 
+        elementBuilder.attributes(attributes);
+    }
 }
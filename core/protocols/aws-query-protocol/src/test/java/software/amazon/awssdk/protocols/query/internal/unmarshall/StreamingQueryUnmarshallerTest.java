@@ -0,0 +1,281 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+class StreamingQueryUnmarshallerTest {
+    private static final String RESULT =
+        "  <String>value</String>"
+        + "<String>ignored duplicate</String>"
+        + "<Integer>42</Integer>"
+        + "<Timestamp>2020-01-01T00:00:00Z</Timestamp>"
+        + "<Blob>AQID</Blob>"
+        + "<Unknown><Nested><String>skipped</String></Nested></Unknown>"
+        + "<List><member>a</member><!-- comment --><item>b</item></List>"
+        + "<Flattened>1</Flattened><String>ignored</String><Flattened>2</Flattened>"
+        + "<Map><entry><key>k1</key><value>v1</value></entry><entry><key>k2</key><value>v2</value></entry></Map>"
+        + "<FlattenedMap><key>k</key><value>v</value></FlattenedMap>"
+        + "<Structure><String>nested<![CDATA[ & cdata]]></String>"
+        + "<Structures><member><Integer>1</Integer></member><member><Integer>2</Integer></member></Structures>"
+        + "</Structure>"
+        + "<Empty/>";
+
+    @Test
+    void queryResponse_matchesTreeUnmarshaller() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<OperationResponse xmlns=\"https://example.amazonaws.com/doc/2010-05-08/\">"
+                     + "<OperationResult>" + RESULT + "</OperationResult>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId><Other>other</Other></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(true, true, xml);
+        Pair<TestPojo, Map<String, String>> tree = unmarshall(true, false, xml);
+
+        assertThat(streamed.left()).isEqualTo(tree.left());
+        assertThat(streamed.right()).isEqualTo(tree.right());
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id").containsEntry("Other", "other");
+        assertResult(streamed.left());
+    }
+
+    @Test
+    void ec2Response_matchesTreeUnmarshaller() {
+        String xml = "<OperationResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + "<requestId>request-id</requestId>" + RESULT
+                     + "</OperationResponse>";
+
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(false, true, xml);
+        Pair<TestPojo, Map<String, String>> tree = unmarshall(false, false, xml);
+
+        assertThat(streamed.left()).isEqualTo(tree.left());
+        assertThat(streamed.right()).isEqualTo(tree.right());
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+        assertResult(streamed.left());
+    }
+
+    @Test
+    void emptyResponses_matchTreeUnmarshaller() {
+        for (String xml : Arrays.asList("", "<OperationResponse/>",
+                                        "<OperationResponse><ResponseMetadata/></OperationResponse>")) {
+            for (boolean hasResultWrapper : new boolean[] {true, false}) {
+                Pair<TestPojo, Map<String, String>> streamed = unmarshall(hasResultWrapper, true, xml);
+                Pair<TestPojo, Map<String, String>> tree = unmarshall(hasResultWrapper, false, xml);
+
+                assertThat(streamed.left()).isEqualTo(tree.left());
+                assertThat(streamed.right()).isEqualTo(tree.right());
+            }
+        }
+    }
+
+    @Test
+    void invalidXml_throwsSdkClientException() {
+        assertThatThrownBy(() -> unmarshall(false, true, "<OperationResponse><String>value</OperationResponse>"))
+            .isInstanceOf(SdkClientException.class)
+            .hasCauseInstanceOf(XMLStreamException.class);
+    }
+
+    private static void assertResult(TestPojo result) {
+        assertThat(result.get("String")).isEqualTo("value");
+        assertThat(result.get("Integer")).isEqualTo(42);
+        assertThat(result.get("Timestamp")).isEqualTo(Instant.parse("2020-01-01T00:00:00Z"));
+        assertThat(result.get("Blob")).isEqualTo(SdkBytes.fromByteArray(new byte[] {1, 2, 3}));
+        assertThat(result.get("List")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(result.get("Flattened")).isEqualTo(Arrays.asList(1, 2));
+        assertThat(result.get("FlattenedMap")).isEqualTo(singletonMap("k", "v"));
+        assertThat(result.get("Empty")).isEqualTo("");
+
+        TestPojo nested = (TestPojo) result.get("Structure");
+        assertThat(nested.get("String")).isEqualTo("nested & cdata");
+        assertThat((List<?>) nested.get("Structures")).hasSize(2);
+    }
+
+    private static Map<String, String> singletonMap(String key, String value) {
+        Map<String, String> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    private static Pair<TestPojo, Map<String, String>> unmarshall(boolean hasResultWrapper, boolean streaming, String xml) {
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(hasResultWrapper)
+                                                                          .streamingUnmarshalling(streaming)
+                                                                          .build();
+        byte[] content = xml.getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .statusCode(200)
+                               .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                               .build();
+        return unmarshaller.unmarshall(new TestPojo(), response);
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private static final List<SdkField<?>> FIELDS = Arrays.asList(
+            field(MarshallingType.STRING, "String"),
+            field(MarshallingType.INTEGER, "Integer"),
+            field(MarshallingType.INSTANT, "Timestamp"),
+            field(MarshallingType.SDK_BYTES, "Blob"),
+            field(MarshallingType.STRING, "Empty"),
+            SdkField.builder(MarshallingType.LIST)
+                    .memberName("List")
+                    .getter(getter("List"))
+                    .setter(setter("List"))
+                    .traits(location("List"),
+                            ListTrait.builder()
+                                     .memberLocationName("member")
+                                     .memberFieldInfo(field(MarshallingType.STRING, "member"))
+                                     .build())
+                    .build(),
+            SdkField.builder(MarshallingType.LIST)
+                    .memberName("Flattened")
+                    .getter(getter("Flattened"))
+                    .setter(setter("Flattened"))
+                    .traits(location("Flattened"),
+                            ListTrait.builder()
+                                     .memberLocationName("Flattened")
+                                     .memberFieldInfo(field(MarshallingType.INTEGER, "Flattened"))
+                                     .isFlattened(true)
+                                     .build())
+                    .build(),
+            SdkField.builder(MarshallingType.MAP)
+                    .memberName("Map")
+                    .getter(getter("Map"))
+                    .setter(setter("Map"))
+                    .traits(location("Map"), mapTrait(false))
+                    .build(),
+            SdkField.builder(MarshallingType.MAP)
+                    .memberName("FlattenedMap")
+                    .getter(getter("FlattenedMap"))
+                    .setter(setter("FlattenedMap"))
+                    .traits(location("FlattenedMap"), mapTrait(true))
+                    .build(),
+            SdkField.builder(MarshallingType.SDK_POJO)
+                    .memberName("Structure")
+                    .getter(getter("Structure"))
+                    .setter(setter("Structure"))
+                    .constructor(TestPojo::new)
+                    .traits(location("Structure"))
+                    .build(),
+            SdkField.builder(MarshallingType.LIST)
+                    .memberName("Structures")
+                    .getter(getter("Structures"))
+                    .setter(setter("Structures"))
+                    .traits(location("Structures"),
+                            ListTrait.builder()
+                                     .memberLocationName("member")
+                                     .memberFieldInfo(SdkField.builder(MarshallingType.SDK_POJO)
+                                                              .constructor(TestPojo::new)
+                                                              .traits(location("member"))
+                                                              .build())
+                                     .build())
+                    .build());
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        Object get(String memberName) {
+            return values.get(memberName);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TestPojo" + values;
+        }
+
+        private static <T> SdkField<T> field(MarshallingType<T> type, String name) {
+            return SdkField.<T>builder(type)
+                           .memberName(name)
+                           .getter(getter(name))
+                           .setter(setter(name))
+                           .traits(location(name))
+                           .build();
+        }
+
+        private static MapTrait mapTrait(boolean flattened) {
+            return MapTrait.builder()
+                           .keyLocationName("key")
+                           .valueLocationName("value")
+                           .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                           .isFlattened(flattened)
+                           .build();
+        }
+
+        private static LocationTrait location(String name) {
+            return LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Function<Object, T> getter(String memberName) {
+            return pojo -> (T) ((TestPojo) pojo).values.get(memberName);
+        }
+
+        private static <T> BiConsumer<Object, T> setter(String memberName) {
+            return (pojo, value) -> {
+                if (value == null) {
+                    ((TestPojo) pojo).values.remove(memberName);
+                } else {
+                    ((TestPojo) pojo).values.put(memberName, value);
+                }
+            };
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -28,19 +29,40 @@ import software.amazon.awssdk.core.protocol.MarshallingType;
 
 /**
  * Base class for marshaller/unmarshaller registry implementations.
+ *
+ * <p>The registered (un)marshallers are kept in a table indexed by {@link MarshallLocation#ordinal()} and
+ * {@link MarshallingType#index()}, so that the (un)marshaller of each member is found with array lookups. Types without an
+ * index fall back to a map lookup.
  */
 @SdkProtectedApi
 public abstract class AbstractMarshallingRegistry {
+    private static final MarshallLocation[] LOCATIONS = MarshallLocation.values();
 
     private final Map<MarshallLocation, Map<MarshallingType, Object>> registry;
+    private final Object[][] dispatchTable;
     private final Set<MarshallingType<?>> marshallingTypes;
     private final Map<Class<?>, MarshallingType<?>> marshallingTypeCache;
 
     protected AbstractMarshallingRegistry(Builder builder) {
         this.registry = builder.registry;
+        this.dispatchTable = createDispatchTable(builder.registry);
         this.marshallingTypes = builder.marshallingTypes;
-        this.marshallingTypeCache = new HashMap<>(marshallingTypes.size());
+        this.marshallingTypeCache = new ConcurrentHashMap<>(marshallingTypes.size());
+    }
 
+    private static Object[][] createDispatchTable(Map<MarshallLocation, Map<MarshallingType, Object>> registry) {
+        Object[][] table = new Object[LOCATIONS.length][];
+        registry.forEach((location, byType) -> {
+            int size = byType.keySet().stream().mapToInt(MarshallingType::index).max().orElse(-1) + 1;
+            Object[] byIndex = new Object[size];
+            byType.forEach((type, registered) -> {
+                if (type.index() >= 0) {
+                    byIndex[type.index()] = registered;
+                }
+            });
+            table[location.ordinal()] = byIndex;
+        });
+        return table;
     }
 
     /**
@@ -52,6 +74,15 @@ public abstract class AbstractMarshallingRegistry {
      * @throws SdkClientException if no marshaller/unmarshaller is registered for the given location and type.
      */
     protected Object get(MarshallLocation marshallLocation, MarshallingType<?> marshallingType) {
+        int index = marshallingType.index();
+        Object[] byIndex = dispatchTable[marshallLocation.ordinal()];
+        if (byIndex != null && index >= 0 && index < byIndex.length && byIndex[index] != null) {
+            return byIndex[index];
+        }
+        return lookup(marshallLocation, marshallingType);
+    }
+
+    private Object lookup(MarshallLocation marshallLocation, MarshallingType<?> marshallingType) {
         Map<MarshallingType, Object> byLocation = registry.get(marshallLocation);
         if (byLocation == null) {
             throw SdkClientException.create("No marshaller/unmarshaller registered for location " + marshallLocation.name());
@@ -72,28 +103,23 @@ public abstract class AbstractMarshallingRegistry {
         } else if (val instanceof SdkPojo) {
             // We don't want to cache every single POJO type so we make a special case of it here.
             return (MarshallingType<T>) MarshallingType.SDK_POJO;
-        } else if (!marshallingTypeCache.containsKey(val.getClass())) {
-            return (MarshallingType<T>) populateMarshallingTypeCache(val.getClass());
         }
-        return (MarshallingType<T>) marshallingTypeCache.get(val.getClass());
+        MarshallingType<?> cached = marshallingTypeCache.get(val.getClass());
+        if (cached != null) {
+            return (MarshallingType<T>) cached;
+        }
+        return (MarshallingType<T>) marshallingTypeCache.computeIfAbsent(val.getClass(), this::findMarshallingType);
     }
 
-    private MarshallingType<?> populateMarshallingTypeCache(Class<?> clzz) {
-        synchronized (marshallingTypeCache) {
-            if (!marshallingTypeCache.containsKey(clzz)) {
-                for (MarshallingType<?> marshallingType : marshallingTypes) {
-                    if (marshallingType.getTargetClass().isAssignableFrom(clzz)) {
-                        marshallingTypeCache.put(clzz, marshallingType);
-                        return marshallingType;
-                    }
-                }
-                throw SdkClientException.builder().message("MarshallingType not found for class " + clzz).build();
+    private MarshallingType<?> findMarshallingType(Class<?> clzz) {
+        for (MarshallingType<?> marshallingType : marshallingTypes) {
+            if (marshallingType.getTargetClass().isAssignableFrom(clzz)) {
+                return marshallingType;
             }
         }
-        return marshallingTypeCache.get(clzz);
+        throw SdkClientException.builder().message("MarshallingType not found for class " + clzz).build();
     }
 
-
     /**
      * Builder for a {@link AbstractMarshallingRegistry}.
      */
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+
+class AbstractMarshallingRegistryTest {
+    private static final MarshallingType<Thread> CUSTOM_TYPE = () -> Thread.class;
+
+    private final TestRegistry registry = new TestRegistry.Builder()
+        .add(MarshallLocation.PAYLOAD, MarshallingType.STRING, "string")
+        .add(MarshallLocation.PAYLOAD, MarshallingType.LIST, "list")
+        .add(MarshallLocation.PAYLOAD, MarshallingType.NULL, "null")
+        .add(MarshallLocation.HEADER, MarshallingType.STRING, "header")
+        .add(MarshallLocation.HEADER, CUSTOM_TYPE, "custom")
+        .build();
+
+    @Test
+    void get_registeredType_returnsRegisteredForLocation() {
+        assertThat(registry.get(MarshallLocation.PAYLOAD, MarshallingType.STRING)).isEqualTo("string");
+        assertThat(registry.get(MarshallLocation.HEADER, MarshallingType.STRING)).isEqualTo("header");
+    }
+
+    @Test
+    void get_typeWithoutIndex_returnsRegistered() {
+        assertThat(CUSTOM_TYPE.index()).isEqualTo(-1);
+        assertThat(registry.get(MarshallLocation.HEADER, CUSTOM_TYPE)).isEqualTo("custom");
+    }
+
+    @Test
+    void get_unregisteredType_throwsException() {
+        assertThatThrownBy(() -> registry.get(MarshallLocation.PAYLOAD, MarshallingType.INTEGER))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Integer");
+        assertThatThrownBy(() -> registry.get(MarshallLocation.PATH, MarshallingType.STRING))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("PATH");
+    }
+
+    @Test
+    void toMarshallingType_resolvesTypeOfValue() {
+        assertThat(registry.toMarshallingType("value")).isSameAs(MarshallingType.STRING);
+        assertThat(registry.toMarshallingType(new ArrayList<>())).isSameAs(MarshallingType.LIST);
+        assertThat(registry.toMarshallingType(null)).isSameAs(MarshallingType.NULL);
+        assertThatThrownBy(() -> registry.toMarshallingType(1))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    private static final class TestRegistry extends AbstractMarshallingRegistry {
+        private TestRegistry(Builder builder) {
+            super(builder);
+        }
+
+        private static final class Builder extends AbstractMarshallingRegistry.Builder {
+            private Builder add(MarshallLocation location, MarshallingType<?> type, Object marshaller) {
+                super.register(location, type, marshaller);
+                return this;
+            }
+
+            private TestRegistry build() {
+                return new TestRegistry(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration options for {@link AsyncRequestBody#fromFile(FileRequestBodyConfiguration)} to configure how the SDK
+ * should read the file.
+ *
+ * @see #builder()
+ * @see ReadStrategy
+ */
+@SdkPublicApi
+public final class FileRequestBodyConfiguration implements ToCopyableBuilder<FileRequestBodyConfiguration.Builder,
+    FileRequestBodyConfiguration> {
+    private final Path path;
+    private final Integer chunkSizeInBytes;
+    private final ReadStrategy readStrategy;
+    private final Integer readAheadChunks;
+
+    private FileRequestBodyConfiguration(DefaultBuilder builder) {
+        this.path = Validate.paramNotNull(builder.path, "path");
+        this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
+        this.readStrategy = builder.readStrategy;
+        this.readAheadChunks = Validate.isPositiveOrNull(builder.readAheadChunks, "readAheadChunks");
+    }
+
+    /**
+     * The configured file to read.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * The configured size of the chunks read from the file, or null if the default should be used.
+     */
+    public Integer chunkSizeInBytes() {
+        return chunkSizeInBytes;
+    }
+
+    /**
+     * The configured {@link ReadStrategy}, or null if the default should be used.
+     */
+    public ReadStrategy readStrategy() {
+        return readStrategy;
+    }
+
+    /**
+     * The configured maximum number of chunks mapped into memory at once, or null if the default should be used.
+     */
+    public Integer readAheadChunks() {
+        return readAheadChunks;
+    }
+
+    /**
+     * Create a {@link Builder}, used to create a {@link FileRequestBodyConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FileRequestBodyConfiguration that = (FileRequestBodyConfiguration) o;
+
+        if (!Objects.equals(path, that.path)) {
+            return false;
+        }
+        if (!Objects.equals(chunkSizeInBytes, that.chunkSizeInBytes)) {
+            return false;
+        }
+        if (readStrategy != that.readStrategy) {
+            return false;
+        }
+        return Objects.equals(readAheadChunks, that.readAheadChunks);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = path != null ? path.hashCode() : 0;
+        result = 31 * result + (chunkSizeInBytes != null ? chunkSizeInBytes.hashCode() : 0);
+        result = 31 * result + (readStrategy != null ? readStrategy.hashCode() : 0);
+        result = 31 * result + (readAheadChunks != null ? readAheadChunks.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * Defines how the SDK should read the file
+     */
+    public enum ReadStrategy {
+        /**
+         * Read each chunk into a newly allocated heap buffer with an {@link AsynchronousFileChannel}. Each chunk delivered to
+         * the subscriber is owned by the subscriber. This is the default.
+         */
+        ASYNC_CHANNEL,
+
+        /**
+         * Map regions of the file into memory with {@link FileChannel#map} and deliver read-only slices of the mapped regions,
+         * without copying the file contents into the Java heap. Chunks are delivered on the thread that requests them.
+         *
+         * <p>A mapped region is released once every chunk sliced from it has been garbage collected. The number of regions
+         * mapped at once across the JVM is capped, and chunks are read into heap buffers while the cap is reached.
+         *
+         * <p>The file must not be truncated while it is being read: accessing a mapped region of a file that has since been
+         * truncated fails with an {@link InternalError} on most platforms, instead of the {@link java.io.IOException} reported
+         * by {@link #ASYNC_CHANNEL}. Other changes to the file are detected once it has been read, as with
+         * {@link #ASYNC_CHANNEL}.
+         */
+        MEMORY_MAPPED
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, FileRequestBodyConfiguration> {
+
+        /**
+         * Configures the file to read. This is required.
+         *
+         * @param path the path to the file
+         * @return This object for method chaining.
+         */
+        Builder path(Path path);
+
+        /**
+         * Configures the size of the chunks read from the file. Increasing this will cause more data to be buffered into
+         * memory but may yield better latencies. Decreasing this will reduce memory usage but may cause reduced latency.
+         *
+         * <p>The default chunk size is 16 KiB.</p>
+         *
+         * @param chunkSizeInBytes the chunk size in bytes
+         * @return This object for method chaining.
+         */
+        Builder chunkSizeInBytes(Integer chunkSizeInBytes);
+
+        /**
+         * Configures how the file is read. The default is {@link ReadStrategy#ASYNC_CHANNEL}.
+         *
+         * @param readStrategy the read strategy
+         * @return This object for method chaining.
+         */
+        Builder readStrategy(ReadStrategy readStrategy);
+
+        /**
+         * Configures the maximum number of chunks that are mapped into memory at once when the file is read with
+         * {@link ReadStrategy#MEMORY_MAPPED}. Each region that is mapped covers the chunks that have been requested, up to this
+         * many. This setting has no effect on other read strategies.
+         *
+         * <p>The default is 64 chunks.</p>
+         *
+         * @param readAheadChunks the maximum number of chunks to map at once
+         * @return This object for method chaining.
+         */
+        Builder readAheadChunks(Integer readAheadChunks);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Path path;
+        private Integer chunkSizeInBytes;
+        private ReadStrategy readStrategy;
+        private Integer readAheadChunks;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(FileRequestBodyConfiguration configuration) {
+            this.path = configuration.path;
+            this.chunkSizeInBytes = configuration.chunkSizeInBytes;
+            this.readStrategy = configuration.readStrategy;
+            this.readAheadChunks = configuration.readAheadChunks;
+        }
+
+        @Override
+        public Builder path(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        @Override
+        public Builder chunkSizeInBytes(Integer chunkSizeInBytes) {
+            this.chunkSizeInBytes = chunkSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder readStrategy(ReadStrategy readStrategy) {
+            this.readStrategy = readStrategy;
+            return this;
+        }
+
+        @Override
+        public Builder readAheadChunks(Integer readAheadChunks) {
+            this.readAheadChunks = readAheadChunks;
+            return this;
+        }
+
+        @Override
+        public FileRequestBodyConfiguration build() {
+            return new FileRequestBodyConfiguration(this);
+        }
+    }
+}
@@ -184,6 +184,11 @@ public enum SdkSystemSetting implements SystemSetting {
      */
     AWS_USE_FIPS_ENDPOINT("aws.useFipsEndpoint", null),
 
+    /**
+     * The maximum number of derived SigV4 signing keys that are cached across all signers in the JVM.
+     */
+    AWS_SIGNING_KEY_CACHE_SIZE("aws.signingKeyCacheSize", null),
+
     ;
 
     private final String systemProperty;
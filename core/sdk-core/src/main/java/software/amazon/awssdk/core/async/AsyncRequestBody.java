@@ -24,10 +24,12 @@ import java.util.Optional;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
 import software.amazon.awssdk.core.internal.async.ByteArrayAsyncRequestBody;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Interface to allow non-blocking streaming of request content. This follows the reactive streams pattern where
@@ -114,6 +116,24 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
         return FileAsyncRequestBody.builder().path(file.toPath()).build();
     }
 
+    /**
+     * Creates an {@link AsyncRequestBody} that produces data from the contents of a file, read as described by the provided
+     * {@link FileRequestBodyConfiguration}.
+     *
+     * @param configuration The file to read from and how to read it.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the specified file.
+     * @see FileRequestBodyConfiguration
+     */
+    static AsyncRequestBody fromFile(FileRequestBodyConfiguration configuration) {
+        Validate.paramNotNull(configuration, "configuration");
+        return FileAsyncRequestBody.builder()
+                                   .path(configuration.path())
+                                   .chunkSizeInBytes(configuration.chunkSizeInBytes())
+                                   .readStrategy(configuration.readStrategy())
+                                   .readAheadChunks(configuration.readAheadChunks())
+                                   .build();
+    }
+
     /**
      * Creates an {@link AsyncRequestBody} that uses a single string as data.
      *
@@ -15,10 +15,12 @@
 
 package software.amazon.awssdk.core.async.listener;
 
+import java.nio.ByteBuffer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -31,7 +33,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public interface SubscriberListener<T> {
     /**
-     * Invoked before {@link Subscriber#onNext(Object)}
+     * Invoked before {@link Subscriber#onNext(Object)} or {@link ReleasableByteBufferSubscriber#onNext(ByteBuffer, Runnable)}.
+     * In the latter case the buffer is owned by the HTTP client, and must not be retained after this method returns.
      */
     default void subscriberOnNext(T t) {
     }
@@ -57,7 +60,13 @@ public interface SubscriberListener<T> {
     /**
      * Wrap a {@link Subscriber} with a new one that will notify a {@link SubscriberListener} of important events occurring.
      */
+    @SuppressWarnings("unchecked")
     static <T> Subscriber<T> wrap(Subscriber<? super T> delegate, SubscriberListener<? super T> listener) {
+        if (delegate instanceof ReleasableByteBufferSubscriber) {
+            // The delegate only accepts byte buffers, so T is ByteBuffer.
+            return (Subscriber<T>) new ReleasableNotifyingSubscriber((ReleasableByteBufferSubscriber) delegate,
+                                                                     (SubscriberListener<? super ByteBuffer>) listener);
+        }
         return new NotifyingSubscriber<>(delegate, listener);
     }
 
@@ -125,4 +134,47 @@ public interface SubscriberListener<T> {
             }
         }
     }
+
+    /**
+     * A {@link NotifyingSubscriber} that keeps the delegate's ability to receive buffers owned by the HTTP client.
+     */
+    @SdkInternalApi
+    final class ReleasableNotifyingSubscriber implements ReleasableByteBufferSubscriber {
+        private final NotifyingSubscriber<ByteBuffer> notifyingSubscriber;
+        private final ReleasableByteBufferSubscriber delegate;
+        private final SubscriberListener<? super ByteBuffer> listener;
+
+        ReleasableNotifyingSubscriber(ReleasableByteBufferSubscriber delegate,
+                                      SubscriberListener<? super ByteBuffer> listener) {
+            this.notifyingSubscriber = new NotifyingSubscriber<>(delegate, listener);
+            this.delegate = delegate;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            notifyingSubscriber.onSubscribe(s);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            notifyingSubscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            NotifyingSubscriber.invoke(() -> listener.subscriberOnNext(byteBuffer), "subscriberOnNext");
+            delegate.onNext(byteBuffer, release);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            notifyingSubscriber.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            notifyingSubscriber.onComplete();
+        }
+    }
 }
@@ -19,7 +19,10 @@ import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SYNC_CALL_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.TOKEN_SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -231,6 +234,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         builder.option(METRIC_PUBLISHERS, clientOverrideConfiguration.metricPublishers());
         builder.option(EXECUTION_ATTRIBUTES, clientOverrideConfiguration.executionAttributes());
         builder.option(TOKEN_SIGNER, clientOverrideConfiguration.advancedOption(TOKEN_SIGNER).orElse(null));
+        builder.option(LOCK_FREE_METRIC_COLLECTOR,
+                       clientOverrideConfiguration.advancedOption(LOCK_FREE_METRIC_COLLECTOR).orElse(null));
+        builder.option(INTERRUPT_FREE_TIMEOUTS,
+                       clientOverrideConfiguration.advancedOption(INTERRUPT_FREE_TIMEOUTS).orElse(null));
+        builder.option(SYNC_CALL_EXECUTOR, clientOverrideConfiguration.advancedOption(SYNC_CALL_EXECUTOR).orElse(null));
 
         clientOverrideConfiguration.advancedOption(ENDPOINT_OVERRIDDEN_OVERRIDE).ifPresent(value -> {
             builder.option(ENDPOINT_OVERRIDDEN, value);
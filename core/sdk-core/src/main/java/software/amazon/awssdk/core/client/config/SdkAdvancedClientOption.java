@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.client.config;
 
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.signer.Signer;
 
@@ -60,6 +61,41 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * When metric publishers are configured, the SDK collects the metrics of each API call with a
+     * {@link software.amazon.awssdk.metrics.MetricCollector}.
+     *
+     * Customers can set this value to True to use the collector created by
+     * {@link software.amazon.awssdk.metrics.MetricCollector#createLockFree(String)}, which reports metrics without locking and
+     * with fewer allocations than the default collector.
+     */
+    public static final SdkAdvancedClientOption<Boolean> LOCK_FREE_METRIC_COLLECTOR =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * By default, when the API call timeout or API call attempt timeout of a synchronous client expires, the SDK interrupts
+     * the thread that is executing the call.
+     *
+     * Customers can set this value to True to abort the in-flight HTTP request instead, without interrupting the thread. This
+     * is recommended when synchronous calls are made from virtual threads, because the interrupt status of the calling thread
+     * is then left untouched, and the timeout tracking does not pin the carrier thread.
+     */
+    public static final SdkAdvancedClientOption<Boolean> INTERRUPT_FREE_TIMEOUTS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Configure the executor that runs the calls of a synchronous client. By default, calls run on the thread that makes them.
+     *
+     * When this is set, each call runs on a thread of this executor, and the calling thread waits for it to complete.
+     * Interrupting the calling thread interrupts the call. On Java 21 and later, this can be set to
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} to run the HTTP request, its retries and its timeouts on virtual
+     * threads. Combine it with {@link #INTERRUPT_FREE_TIMEOUTS} so that timeouts do not interrupt those threads.
+     *
+     * The SDK does not close this executor when the client is closed. It has no effect on asynchronous clients.
+     */
+    public static final SdkAdvancedClientOption<Executor> SYNC_CALL_EXECUTOR =
+        new SdkAdvancedClientOption<>(Executor.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
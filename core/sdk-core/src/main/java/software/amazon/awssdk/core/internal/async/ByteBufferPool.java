@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded pool of equally sized {@link ByteBuffer}s, either heap or direct.
+ * <p>
+ * Idle buffers are kept in a fixed number of slots that are claimed and filled with atomic operations, so acquiring and
+ * releasing never blocks. When no idle buffer is available a new one is allocated, and when every slot is full a released
+ * buffer is left to the garbage collector, so the pool never holds more than {@code maxPooledBuffers} idle buffers.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class ByteBufferPool {
+    private final int bufferSize;
+    private final boolean direct;
+    private final AtomicReferenceArray<ByteBuffer> idleBuffers;
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder allocationCount = new LongAdder();
+    private final LongAdder releaseCount = new LongAdder();
+    private final LongAdder discardCount = new LongAdder();
+
+    private ByteBufferPool(int bufferSize, int maxPooledBuffers, boolean direct) {
+        this.bufferSize = Validate.isPositive(bufferSize, "bufferSize");
+        this.direct = direct;
+        this.idleBuffers = new AtomicReferenceArray<>(Validate.isNotNegative(maxPooledBuffers, "maxPooledBuffers"));
+    }
+
+    /**
+     * Create a pool of heap buffers of {@code bufferSize} bytes, retaining at most {@code maxPooledBuffers} idle buffers.
+     */
+    public static ByteBufferPool heap(int bufferSize, int maxPooledBuffers) {
+        return new ByteBufferPool(bufferSize, maxPooledBuffers, false);
+    }
+
+    /**
+     * Create a pool of direct buffers of {@code bufferSize} bytes, retaining at most {@code maxPooledBuffers} idle buffers.
+     */
+    public static ByteBufferPool direct(int bufferSize, int maxPooledBuffers) {
+        return new ByteBufferPool(bufferSize, maxPooledBuffers, true);
+    }
+
+    /**
+     * Take an idle buffer from the pool, or allocate a new one if the pool is empty. The returned buffer is cleared.
+     */
+    public ByteBuffer acquire() {
+        acquireCount.increment();
+        for (int i = 0; i < idleBuffers.length(); i++) {
+            if (idleBuffers.get(i) != null) {
+                ByteBuffer buffer = idleBuffers.getAndSet(i, null);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        }
+        allocationCount.increment();
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Return a buffer acquired from this pool. The caller must not use the buffer after releasing it. Buffers of a different
+     * size or kind, and buffers released while the pool is full, are discarded.
+     */
+    public void release(ByteBuffer buffer) {
+        releaseCount.increment();
+        if (buffer.capacity() != bufferSize || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            discardCount.increment();
+            return;
+        }
+
+        buffer.clear();
+        for (int i = 0; i < idleBuffers.length(); i++) {
+            if (idleBuffers.get(i) == null && idleBuffers.compareAndSet(i, null, buffer)) {
+                return;
+            }
+        }
+        discardCount.increment();
+    }
+
+    /**
+     * The size, in bytes, of the buffers in this pool.
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * The number of calls to {@link #acquire()}.
+     */
+    public long acquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * The number of calls to {@link #acquire()} that could not be served from the pool and allocated a new buffer.
+     */
+    public long allocationCount() {
+        return allocationCount.sum();
+    }
+
+    /**
+     * The number of calls to {@link #release(ByteBuffer)}.
+     */
+    public long releaseCount() {
+        return releaseCount.sum();
+    }
+
+    /**
+     * The number of released buffers that were not retained by the pool.
+     */
+    public long discardCount() {
+        return discardCount.sum();
+    }
+
+    /**
+     * The number of idle buffers currently held by the pool.
+     */
+    public int idleBufferCount() {
+        int count = 0;
+        for (int i = 0; i < idleBuffers.length(); i++) {
+            if (idleBuffers.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ByteBufferPool")
+                       .add("bufferSize", bufferSize)
+                       .add("direct", direct)
+                       .add("maxPooledBuffers", idleBuffers.length())
+                       .add("idleBuffers", idleBufferCount())
+                       .add("acquireCount", acquireCount())
+                       .add("allocationCount", allocationCount())
+                       .add("releaseCount", releaseCount())
+                       .add("discardCount", discardCount())
+                       .build();
+    }
+}
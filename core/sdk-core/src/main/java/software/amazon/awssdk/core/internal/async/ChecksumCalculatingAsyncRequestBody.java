@@ -43,6 +43,14 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
     private static final byte[] FINAL_BYTE = new byte[0];
+
+    /**
+     * The maximum number of idle chunk staging buffers retained across all request bodies.
+     */
+    private static final int MAX_POOLED_CHUNK_BUFFERS = 64;
+    private static final ByteBufferPool CHUNK_BUFFER_POOL = ByteBufferPool.heap(DEFAULT_ASYNC_CHUNK_SIZE,
+                                                                                MAX_POOLED_CHUNK_BUFFERS);
+
     private final AsyncRequestBody wrapped;
     private final SdkChecksum sdkChecksum;
     private final Algorithm algorithm;
@@ -69,6 +77,13 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         return new DefaultBuilder();
     }
 
+    /**
+     * The pool of staging buffers used to re-chunk the wrapped request bodies, exposed for monitoring its usage.
+     */
+    public static ByteBufferPool chunkBufferPool() {
+        return CHUNK_BUFFER_POOL;
+    }
+
     public interface Builder extends SdkBuilder<ChecksumCalculatingAsyncRequestBody.Builder,
             ChecksumCalculatingAsyncRequestBody> {
 
@@ -152,7 +167,8 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes);
         wrapped.flatMapIterable(synchronousChunkBuffer::buffer)
-               .subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes));
+               .subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes,
+                                                            synchronousChunkBuffer));
     }
 
     private static final class ChecksumCalculatingSubscriber implements Subscriber<ByteBuffer> {
@@ -162,15 +178,18 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private final String trailerHeader;
         private byte[] checksumBytes;
         private final AtomicLong remainingBytes;
+        private final SynchronousChunkBuffer chunkBuffer;
         private Subscription subscription;
 
         ChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
                                       SdkChecksum checksum,
-                                      String trailerHeader, long totalBytes) {
+                                      String trailerHeader, long totalBytes,
+                                      SynchronousChunkBuffer chunkBuffer) {
             this.wrapped = wrapped;
             this.checksum = checksum;
             this.trailerHeader = trailerHeader;
             this.remainingBytes = new AtomicLong(totalBytes);
+            this.chunkBuffer = chunkBuffer;
         }
 
         @Override
@@ -188,14 +207,16 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
                     checksum.update(byteBuffer);
                     byteBuffer.reset();
                 }
+                ByteBuffer allocatedBuffer;
                 if (lastByte && checksumBytes == null && checksum != null) {
                     checksumBytes = checksum.getChecksumBytes();
-                    ByteBuffer allocatedBuffer = getFinalChecksumAppendedChunk(byteBuffer);
-                    wrapped.onNext(allocatedBuffer);
+                    allocatedBuffer = getFinalChecksumAppendedChunk(byteBuffer);
                 } else {
-                    ByteBuffer allocatedBuffer = createChunk(byteBuffer, false);
-                    wrapped.onNext(allocatedBuffer);
+                    allocatedBuffer = createChunk(byteBuffer, false);
                 }
+                // The chunk contents have been copied into the chunk-encoded buffer, so the chunk can be reused.
+                chunkBuffer.release(byteBuffer);
+                wrapped.onNext(allocatedBuffer);
             } catch (SdkException sdkException) {
                 this.subscription.cancel();
                 onError(sdkException);
@@ -222,11 +243,13 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         @Override
         public void onError(Throwable t) {
+            chunkBuffer.close();
             wrapped.onError(t);
         }
 
         @Override
         public void onComplete() {
+            chunkBuffer.close();
             wrapped.onComplete();
         }
     }
@@ -235,12 +258,24 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private final ChunkBuffer chunkBuffer;
 
         SynchronousChunkBuffer(long totalBytes) {
-            this.chunkBuffer = ChunkBuffer.builder().bufferSize(DEFAULT_ASYNC_CHUNK_SIZE).totalBytes(totalBytes).build();
+            this.chunkBuffer = ChunkBuffer.builder()
+                                          .bufferSize(DEFAULT_ASYNC_CHUNK_SIZE)
+                                          .totalBytes(totalBytes)
+                                          .bufferPool(CHUNK_BUFFER_POOL)
+                                          .build();
         }
 
         private Iterable<ByteBuffer> buffer(ByteBuffer bytes) {
             return chunkBuffer.bufferAndCreateChunks(bytes);
         }
+
+        private void release(ByteBuffer chunk) {
+            chunkBuffer.release(chunk);
+        }
+
+        private void close() {
+            chunkBuffer.close();
+        }
     }
 
 }
\ No newline at end of file
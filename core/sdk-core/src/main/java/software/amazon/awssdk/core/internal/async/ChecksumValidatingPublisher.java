@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -46,7 +47,10 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
-        publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum));
+        publisher.subscribe(s instanceof ReleasableByteBufferSubscriber
+                            ? new ReleasableChecksumValidatingSubscriber((ReleasableByteBufferSubscriber) s, sdkChecksum,
+                                                                         expectedChecksum)
+                            : new ChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum));
     }
 
     private static class ChecksumValidatingSubscriber implements Subscriber<ByteBuffer> {
@@ -71,13 +75,17 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            updateChecksum(byteBuffer);
+            wrapped.onNext(byteBuffer);
+        }
+
+        void updateChecksum(ByteBuffer byteBuffer) {
             byteBuffer.mark();
             try {
                 sdkChecksum.update(byteBuffer);
             } finally {
                 byteBuffer.reset();
             }
-            wrapped.onNext(byteBuffer);
         }
 
         @Override
@@ -100,5 +108,26 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
             wrapped.onComplete();
         }
     }
+    private static final class ReleasableChecksumValidatingSubscriber extends ChecksumValidatingSubscriber
+        implements ReleasableByteBufferSubscriber {
+        private final ReleasableByteBufferSubscriber releasableWrapped;
+
+        ReleasableChecksumValidatingSubscriber(ReleasableByteBufferSubscriber wrapped,
+                                               SdkChecksum sdkChecksum,
+                                               String expectedChecksum) {
+            super(wrapped, sdkChecksum, expectedChecksum);
+            this.releasableWrapped = wrapped;
+        }
 
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            try {
+                updateChecksum(byteBuffer);
+            } catch (RuntimeException e) {
+                release.run();
+                throw e;
+            }
+            releasableWrapped.onNext(byteBuffer, release);
+        }
+    }
 }
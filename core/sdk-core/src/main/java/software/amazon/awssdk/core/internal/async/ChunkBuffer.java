@@ -19,7 +19,10 @@ import static software.amazon.awssdk.core.HttpChecksumConstant.DEFAULT_ASYNC_CHU
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Validate;
@@ -27,19 +30,35 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
  * Class that will buffer incoming BufferBytes of totalBytes length to chunks of bufferSize*
+ * <p>
+ * Whole chunks are sliced out of the incoming buffers without copying. Only the bytes of a chunk that spans two incoming
+ * buffers are copied, once, into a staging buffer that is then emitted as the chunk itself. Incoming buffers may be heap or
+ * direct, and their position and limit are respected but not modified.
+ * <p>
+ * If a {@link ByteBufferPool} is configured, staging buffers are drawn from it, and the consumer of the chunks should
+ * {@link #release(ByteBuffer)} each chunk once it no longer needs its contents, and {@link #close()} this buffer when the
+ * stream terminates, so that the staging buffers are returned to the pool.
  */
 @SdkInternalApi
 public final class ChunkBuffer {
     private final AtomicLong remainingBytes;
-    private final ByteBuffer currentBuffer;
     private final int bufferSize;
+    private final ByteBufferPool bufferPool;
+    private final Set<ByteBuffer> pooledChunks;
+    private ByteBuffer currentBuffer;
 
-    private ChunkBuffer(Long totalBytes, Integer bufferSize) {
+    private ChunkBuffer(Long totalBytes, Integer bufferSize, ByteBufferPool bufferPool) {
         Validate.notNull(totalBytes, "The totalBytes must not be null");
 
         int chunkSize = bufferSize != null ? bufferSize : DEFAULT_ASYNC_CHUNK_SIZE;
+        if (bufferPool != null) {
+            Validate.isTrue(bufferPool.bufferSize() == chunkSize,
+                            "The buffer pool's buffer size (%s) must match the chunk size (%s)",
+                            bufferPool.bufferSize(), chunkSize);
+        }
         this.bufferSize = chunkSize;
-        this.currentBuffer = ByteBuffer.allocate(chunkSize);
+        this.bufferPool = bufferPool;
+        this.pooledChunks = bufferPool != null ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
         this.remainingBytes = new AtomicLong(totalBytes);
     }
 
@@ -48,51 +67,107 @@ public final class ChunkBuffer {
     }
 
 
-    // currentBuffer and bufferedList can get over written if concurrent Threads calls this method at the same time.
+    // currentBuffer and pooledChunks can get over written if concurrent Threads calls this method at the same time.
     public synchronized Iterable<ByteBuffer> bufferAndCreateChunks(ByteBuffer buffer) {
-        int startPosition = 0;
-        List<ByteBuffer> bufferedList = new ArrayList<>();
-        int currentBytesRead = buffer.remaining();
-        do {
-            int bufferedBytes = currentBuffer.position();
-            int availableToRead = bufferSize - bufferedBytes;
-            int bytesToMove = Math.min(availableToRead, currentBytesRead - startPosition);
-
-            if (bufferedBytes == 0) {
-                currentBuffer.put(buffer.array(), startPosition, bytesToMove);
-            } else {
-                currentBuffer.put(buffer.array(), 0, bytesToMove);
+        ByteBuffer input = buffer.duplicate();
+        List<ByteBuffer> chunks = Collections.emptyList();
+
+        // Complete a chunk that was started by a previous buffer
+        if (currentBuffer != null && currentBuffer.position() > 0) {
+            copy(input, Math.min(currentBuffer.remaining(), input.remaining()));
+            if (!currentBuffer.hasRemaining()) {
+                chunks = add(chunks, emitCurrentBuffer());
             }
+        }
 
-            startPosition = startPosition + bytesToMove;
-
-            // Send the data once the buffer is full
-            if (currentBuffer.position() == bufferSize) {
-                currentBuffer.position(0);
-                ByteBuffer bufferToSend = ByteBuffer.allocate(bufferSize);
-                bufferToSend.put(currentBuffer.array(), 0, bufferSize);
-                bufferToSend.clear();
-                currentBuffer.clear();
-                bufferedList.add(bufferToSend);
-                remainingBytes.addAndGet(-bufferSize);
-            }
-        } while (startPosition < currentBytesRead);
+        // Send whole chunks straight from the incoming buffer
+        while (input.remaining() >= bufferSize) {
+            chunks = add(chunks, slice(input, bufferSize));
+        }
 
-        int remainingBytesInBuffer = currentBuffer.position();
+        int bufferedBytes = currentBuffer == null ? 0 : currentBuffer.position();
+        int remainingBytesInBuffer = bufferedBytes + input.remaining();
 
         // Send the remaining buffer when
         // 1. remainingBytes in buffer are same as the last few bytes to be read.
         // 2. If it is a zero byte and the last byte to be read.
         if (remainingBytes.get() == remainingBytesInBuffer &&
             (buffer.remaining() == 0 || remainingBytesInBuffer > 0)) {
-            currentBuffer.clear();
-            ByteBuffer trimmedBuffer = ByteBuffer.allocate(remainingBytesInBuffer);
-            trimmedBuffer.put(currentBuffer.array(), 0, remainingBytesInBuffer);
-            trimmedBuffer.clear();
-            bufferedList.add(trimmedBuffer);
-            remainingBytes.addAndGet(-remainingBytesInBuffer);
+            if (bufferedBytes == 0) {
+                return add(chunks, slice(input, input.remaining()));
+            }
+            copy(input, input.remaining());
+            return add(chunks, emitCurrentBuffer());
+        }
+
+        if (input.hasRemaining()) {
+            copy(input, input.remaining());
+        }
+        return chunks;
+    }
+
+    /**
+     * Return a chunk created by this buffer to the {@link ByteBufferPool}, if it was drawn from the pool. The chunk must not be
+     * used after it is released. Chunks that were sliced from the incoming buffers are ignored.
+     */
+    public synchronized void release(ByteBuffer chunk) {
+        if (bufferPool != null && pooledChunks.remove(chunk)) {
+            bufferPool.release(chunk);
+        }
+    }
+
+    /**
+     * Return the partially filled staging buffer, if any, to the {@link ByteBufferPool}. Chunks that have been created but not
+     * released are left to the garbage collector.
+     */
+    public synchronized void close() {
+        if (bufferPool != null) {
+            if (currentBuffer != null) {
+                bufferPool.release(currentBuffer);
+            }
+            pooledChunks.clear();
         }
-        return bufferedList;
+        currentBuffer = null;
+    }
+
+    private void copy(ByteBuffer input, int length) {
+        if (currentBuffer == null) {
+            currentBuffer = bufferPool != null ? bufferPool.acquire() : ByteBuffer.allocate(bufferSize);
+        }
+        int limit = input.limit();
+        input.limit(input.position() + length);
+        currentBuffer.put(input);
+        input.limit(limit);
+    }
+
+    private ByteBuffer slice(ByteBuffer input, int length) {
+        int limit = input.limit();
+        input.limit(input.position() + length);
+        ByteBuffer chunk = input.slice();
+        input.position(input.limit());
+        input.limit(limit);
+        remainingBytes.addAndGet(-length);
+        return chunk;
+    }
+
+    private ByteBuffer emitCurrentBuffer() {
+        ByteBuffer chunk = currentBuffer;
+        currentBuffer = null;
+        chunk.flip();
+        remainingBytes.addAndGet(-chunk.remaining());
+        if (bufferPool != null) {
+            pooledChunks.add(chunk);
+        }
+        return chunk;
+    }
+
+    private static List<ByteBuffer> add(List<ByteBuffer> chunks, ByteBuffer chunk) {
+        if (chunks.isEmpty()) {
+            return Collections.singletonList(chunk);
+        }
+        List<ByteBuffer> result = chunks.size() == 1 ? new ArrayList<>(chunks) : chunks;
+        result.add(chunk);
+        return result;
     }
 
     public interface Builder extends SdkBuilder<Builder, ChunkBuffer> {
@@ -101,17 +176,22 @@ public final class ChunkBuffer {
 
         Builder totalBytes(long totalBytes);
 
-
+        /**
+         * The pool from which staging buffers are drawn. Its buffer size must match the {@link #bufferSize(int)}. If not
+         * specified, a new heap buffer is allocated for every chunk that has to be staged.
+         */
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Integer bufferSize;
         private Long totalBytes;
+        private ByteBufferPool bufferPool;
 
         @Override
         public ChunkBuffer build() {
-            return new ChunkBuffer(totalBytes, bufferSize);
+            return new ChunkBuffer(totalBytes, bufferSize, bufferPool);
         }
 
         @Override
@@ -125,5 +205,11 @@ public final class ChunkBuffer {
             this.totalBytes = totalBytes;
             return this;
         }
+
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
     }
 }
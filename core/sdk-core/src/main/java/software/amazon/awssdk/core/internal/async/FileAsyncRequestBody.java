@@ -19,19 +19,27 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration.ReadStrategy;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
@@ -54,6 +62,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
 
+    /**
+     * Default maximum number of chunks mapped into memory at once when reading with {@link ReadStrategy#MEMORY_MAPPED}.
+     */
+    private static final int DEFAULT_READ_AHEAD_CHUNKS = 64;
+
     /**
      * File to read.
      */
@@ -66,9 +79,23 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private final int chunkSizeInBytes;
 
+    /**
+     * How the file is read.
+     */
+    private final ReadStrategy readStrategy;
+
+    /**
+     * Maximum number of chunks mapped into memory at once when reading with {@link ReadStrategy#MEMORY_MAPPED}.
+     */
+    private final int readAheadChunks;
+
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
+        this.readStrategy = builder.readStrategy == null ? ReadStrategy.ASYNC_CHANNEL : builder.readStrategy;
+        this.readAheadChunks = Validate.isPositive(builder.readAheadChunks == null ? DEFAULT_READ_AHEAD_CHUNKS
+                                                                                   : builder.readAheadChunks,
+                                                   "readAheadChunks");
         this.fileLength = invokeSafely(() -> Files.size(path));
     }
 
@@ -84,6 +111,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (readStrategy == ReadStrategy.MEMORY_MAPPED) {
+            subscribeMapped(s);
+            return;
+        }
+
         AsynchronousFileChannel channel = null;
         try {
             channel = openInputChannel(this.path);
@@ -107,6 +139,21 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    private void subscribeMapped(Subscriber<? super ByteBuffer> s) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            int maxWindowChunks = Math.min(readAheadChunks, Integer.MAX_VALUE / chunkSizeInBytes);
+            s.onSubscribe(new MappedFileSubscription(path, channel, s, chunkSizeInBytes, maxWindowChunks));
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                runAndLogError(log.logger(), "Unable to close file channel", channel::close);
+            }
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+        }
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -139,12 +186,34 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          */
         Builder chunkSizeInBytes(Integer chunkSize);
 
+        /**
+         * Sets how the file is read. The default is {@link ReadStrategy#ASYNC_CHANNEL}.
+         *
+         * @param readStrategy The strategy used to read the file.
+         * @return This builder for method chaining.
+         * @see ReadStrategy
+         */
+        Builder readStrategy(ReadStrategy readStrategy);
+
+        /**
+         * Sets the maximum number of chunks that are mapped into memory at once when the file is read with
+         * {@link ReadStrategy#MEMORY_MAPPED}. Each region that is mapped covers the chunks the subscriber has requested, up to
+         * this many. This setting has no effect on other read strategies.
+         *
+         * <p>The default is {@value #DEFAULT_READ_AHEAD_CHUNKS} chunks.</p>
+         *
+         * @param readAheadChunks Maximum number of chunks to map at once.
+         * @return This builder for method chaining.
+         */
+        Builder readAheadChunks(Integer readAheadChunks);
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Path path;
         private Integer chunkSizeInBytes;
+        private ReadStrategy readStrategy;
+        private Integer readAheadChunks;
 
         @Override
         public Builder path(Path path) {
@@ -166,6 +235,26 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder readStrategy(ReadStrategy readStrategy) {
+            this.readStrategy = readStrategy;
+            return this;
+        }
+
+        public void setReadStrategy(ReadStrategy readStrategy) {
+            readStrategy(readStrategy);
+        }
+
+        @Override
+        public Builder readAheadChunks(Integer readAheadChunks) {
+            this.readAheadChunks = readAheadChunks;
+            return this;
+        }
+
+        public void setReadAheadChunks(Integer readAheadChunks) {
+            readAheadChunks(readAheadChunks);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -318,33 +407,175 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
 
         private void signalOnComplete() {
-            try {
-                long sizeAtEnd = Files.size(path);
-                if (sizeAtStart != sizeAtEnd) {
-                    signalOnError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
-                                                  + "Current size: " + sizeAtEnd));
-                    return;
+            IOException fileChanged = checkFileUnchanged(path, sizeAtStart, modifiedTimeAtStart, remainingBytes.get());
+            if (fileChanged != null) {
+                signalOnError(fileChanged);
+                return;
+            }
+
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
                 }
+            }
+        }
 
-                if (remainingBytes.get() > 0) {
-                    signalOnError(new IOException("Fewer bytes were read than were expected, was the file modified after "
-                                                  + "reading started?"));
-                    return;
+        private void signalOnError(Throwable t) {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(t);
                 }
+            }
+        }
+    }
 
-                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
-                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
-                    signalOnError(new IOException("File last-modified time changed after reading started. Initial modification "
-                                                  + "time: " + modifiedTimeAtStart + ". Current modification time: " +
-                                                  modifiedTimeAtEnd));
-                    return;
+    /**
+     * Reads the file for one subscriber by mapping it into memory, a window of chunks at a time.
+     */
+    private static final class MappedFileSubscription implements Subscription {
+        private final Path path;
+        private final FileChannel inputChannel;
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final int chunkSize;
+        private final int maxWindowChunks;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+
+        private final AtomicLong outstandingDemand = new AtomicLong(0);
+        private final AtomicInteger drainRequests = new AtomicInteger(0);
+        private ByteBuffer window;
+        private long position = 0;
+        private volatile boolean done = false;
+
+        private MappedFileSubscription(Path path,
+                                       FileChannel inputChannel,
+                                       Subscriber<? super ByteBuffer> subscriber,
+                                       int chunkSize,
+                                       int maxWindowChunks) throws IOException {
+            this.path = path;
+            this.inputChannel = inputChannel;
+            this.subscriber = subscriber;
+            this.chunkSize = chunkSize;
+            this.maxWindowChunks = maxWindowChunks;
+            this.sizeAtStart = Validate.isNotNegative(inputChannel.size(), "size");
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n < 1) {
+                signalOnError(new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting "
+                                                           + "a non-positive number of elements."));
+                return;
+            }
+
+            // As governed by rule 3.17, when demand overflows `Long.MAX_VALUE` we treat the signalled demand as
+            // "effectively unbounded"
+            outstandingDemand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    closeFile();
                 }
-            } catch (NoSuchFileException e) {
-                signalOnError(new IOException("Unable to check file status after read. Was the file deleted or were its "
-                                              + "permissions changed?", e));
+            }
+        }
+
+        /**
+         * Deliver chunks while there is demand. Only one thread drains at a time, and a request made from within onNext is
+         * served by the loop that is already running instead of recursing, as required by rule 3.3.
+         */
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
                 return;
+            }
+
+            int missed = 1;
+            do {
+                try {
+                    while (!done) {
+                        if (position == sizeAtStart) {
+                            closeFile();
+                            signalOnComplete();
+                            return;
+                        }
+                        if (outstandingDemand.get() == 0) {
+                            break;
+                        }
+
+                        ByteBuffer chunk = nextChunk();
+                        position += chunk.remaining();
+                        outstandingDemand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                        signalOnNext(chunk);
+                    }
+                } catch (Throwable throwable) {
+                    closeFile();
+                    signalOnError(throwable);
+                    return;
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private ByteBuffer nextChunk() throws IOException {
+            if (window == null || !window.hasRemaining()) {
+                // Map only as far ahead as the subscriber has asked for, so a slow subscriber does not pin a large region.
+                long demandedChunks = Math.min(outstandingDemand.get(), maxWindowChunks);
+                long mappedSize = Math.min(demandedChunks * chunkSize, sizeAtStart - position);
+                window = MappedWindows.tryMap(inputChannel, position, mappedSize);
+                if (window == null) {
+                    return readChunk();
+                }
+            }
+
+            ByteBuffer chunk = window.slice();
+            chunk.limit(Math.min(chunkSize, chunk.remaining()));
+            window.position(window.position() + chunk.remaining());
+            return chunk;
+        }
+
+        private ByteBuffer readChunk() throws IOException {
+            ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(chunkSize, sizeAtStart - position));
+            while (chunk.hasRemaining()) {
+                if (inputChannel.read(chunk, position + chunk.position()) < 0) {
+                    throw new IOException("Fewer bytes were read than were expected, was the file modified after "
+                                          + "reading started?");
+                }
+            }
+            chunk.flip();
+            return chunk;
+        }
+
+        private void closeFile() {
+            try {
+                inputChannel.close();
             } catch (IOException e) {
-                signalOnError(new IOException("Unable to check file status after read.", e));
+                log.warn(() -> "Failed to close the file", e);
+            }
+        }
+
+        private void signalOnNext(ByteBuffer chunk) {
+            synchronized (this) {
+                if (!done) {
+                    subscriber.onNext(chunk);
+                }
+            }
+        }
+
+        private void signalOnComplete() {
+            IOException fileChanged = checkFileUnchanged(path, sizeAtStart, modifiedTimeAtStart, sizeAtStart - position);
+            if (fileChanged != null) {
+                signalOnError(fileChanged);
                 return;
             }
 
@@ -366,6 +597,87 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    /**
+     * Tracks the file regions mapped by every {@link MappedFileSubscription}. A region stays mapped until all chunks sliced
+     * from it are garbage collected, and the subscriber may hold on to a chunk after onNext, so regions cannot be unmapped
+     * explicitly. The number of live regions is capped instead, so that long reads cannot exhaust the process's memory map
+     * limit.
+     */
+    private static final class MappedWindows {
+        private static final int MAX_LIVE_WINDOWS = 1024;
+        private static final ReferenceQueue<ByteBuffer> RELEASED_WINDOWS = new ReferenceQueue<>();
+        private static final Set<Reference<ByteBuffer>> LIVE_WINDOWS = ConcurrentHashMap.newKeySet();
+        private static final AtomicInteger LIVE_WINDOW_COUNT = new AtomicInteger(0);
+
+        private MappedWindows() {
+        }
+
+        /**
+         * @return The mapped region, or null if too many regions are mapped or the region could not be mapped.
+         */
+        private static ByteBuffer tryMap(FileChannel channel, long position, long size) {
+            expungeReleasedWindows();
+            if (LIVE_WINDOW_COUNT.incrementAndGet() > MAX_LIVE_WINDOWS) {
+                LIVE_WINDOW_COUNT.decrementAndGet();
+                return null;
+            }
+
+            try {
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                LIVE_WINDOWS.add(new WeakReference<>(window, RELEASED_WINDOWS));
+                return window;
+            } catch (IOException e) {
+                // Running out of mappings or address space is reported as an IOException.
+                LIVE_WINDOW_COUNT.decrementAndGet();
+                log.debug(() -> "Unable to map the file, reading it instead", e);
+                return null;
+            }
+        }
+
+        private static void expungeReleasedWindows() {
+            Reference<? extends ByteBuffer> released;
+            while ((released = RELEASED_WINDOWS.poll()) != null) {
+                if (LIVE_WINDOWS.remove(released)) {
+                    LIVE_WINDOW_COUNT.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Check that the file has not changed since it started being read.
+     *
+     * @return The exception to signal to the subscriber, or null if the file is unchanged.
+     */
+    private static IOException checkFileUnchanged(Path path, long sizeAtStart, FileTime modifiedTimeAtStart,
+                                                  long remainingBytes) {
+        try {
+            long sizeAtEnd = Files.size(path);
+            if (sizeAtStart != sizeAtEnd) {
+                return new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                       + "Current size: " + sizeAtEnd);
+            }
+
+            if (remainingBytes > 0) {
+                return new IOException("Fewer bytes were read than were expected, was the file modified after "
+                                       + "reading started?");
+            }
+
+            FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                return new IOException("File last-modified time changed after reading started. Initial modification "
+                                       + "time: " + modifiedTimeAtStart + ". Current modification time: " +
+                                       modifiedTimeAtEnd);
+            }
+        } catch (NoSuchFileException e) {
+            return new IOException("Unable to check file status after read. Was the file deleted or were its "
+                                   + "permissions changed?", e);
+        } catch (IOException e) {
+            return new IOException("Unable to check file status after read.", e);
+        }
+        return null;
+    }
+
     private static AsynchronousFileChannel openInputChannel(Path path) throws IOException {
         return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
     }
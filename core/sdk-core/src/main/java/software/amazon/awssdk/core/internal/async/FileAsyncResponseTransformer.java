@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -130,9 +131,13 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     }
 
     /**
-     * {@link Subscriber} implementation that writes chunks to a file.
+     * {@link Subscriber} implementation that writes chunks to a file. Chunks that are published as buffers owned by the HTTP
+     * client are written straight from those buffers, and released once they have been written.
      */
-    static class FileSubscriber implements Subscriber<ByteBuffer> {
+    static class FileSubscriber implements ReleasableByteBufferSubscriber {
+        private static final Runnable NO_RELEASE = () -> {
+        };
+
         private final AtomicLong position;
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
@@ -165,14 +170,19 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            onNext(byteBuffer, NO_RELEASE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
             if (byteBuffer == null) {
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            performWrite(byteBuffer, release);
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable release) {
             writeInProgress = true;
 
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
@@ -181,8 +191,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, release);
                     } else {
+                        release.run();
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -196,6 +207,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    release.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
@@ -325,7 +325,7 @@ public abstract class BaseClientHandler {
     private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfiguration);
         }
         return metricCollector;
     }
@@ -15,11 +15,18 @@
 
 package software.amazon.awssdk.core.internal.http;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -55,11 +62,13 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 // TODO come up with better name
 public final class AmazonSyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
+    private final Executor syncCallExecutor;
 
     public AmazonSyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .build();
+        this.syncCallExecutor = clientConfiguration.option(SdkAdvancedClientOption.SYNC_CALL_EXECUTOR);
     }
 
     /**
@@ -162,7 +171,21 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             }
 
             try {
-                return RequestPipelineBuilder
+                RequestExecutionContext context = createRequestExecutionDependencies();
+                if (syncCallExecutor == null) {
+                    return executePipeline(responseHandler, context);
+                }
+                return executeOnSyncCallExecutor(() -> executePipeline(responseHandler, context));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw SdkClientException.builder().cause(e).build();
+            }
+        }
+
+        private <OutputT> OutputT executePipeline(HttpResponseHandler<Response<OutputT>> responseHandler,
+                                                  RequestExecutionContext context) throws Exception {
+            return RequestPipelineBuilder
                     // Start of mutating request
                     .first(RequestPipelineBuilder
                                .first(MakeRequestMutableStage::new)
@@ -190,11 +213,36 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
                     .then(() -> new AfterExecutionInterceptorsStage<>())
                     .wrappedWith(ExecutionFailureExceptionReportingStage::new)
                     .build(httpClientDependencies)
-                    .execute(request, createRequestExecutionDependencies());
-            } catch (RuntimeException e) {
+                    .execute(request, context);
+        }
+
+        /**
+         * Run the call on the {@link SdkAdvancedClientOption#SYNC_CALL_EXECUTOR}, and wait for it on the calling thread.
+         * Interrupting the calling thread interrupts the thread that runs the call.
+         */
+        private <OutputT> OutputT executeOnSyncCallExecutor(Callable<OutputT> call) throws Exception {
+            FutureTask<OutputT> task = new FutureTask<>(call);
+            try {
+                syncCallExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                throw SdkClientException.create("The sync call executor rejected the request.", e);
+            }
+
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                Thread.currentThread().interrupt();
+                throw AbortedException.create("Thread was interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
                 throw e;
-            } catch (Exception e) {
-                throw SdkClientException.builder().cause(e).build();
             }
         }
 
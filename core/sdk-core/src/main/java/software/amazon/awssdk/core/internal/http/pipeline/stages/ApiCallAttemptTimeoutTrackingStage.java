@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
@@ -45,6 +46,7 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final Duration apiCallAttemptTimeout;
     private final ScheduledExecutorService timeoutExecutor;
+    private final boolean interruptOnTimeout;
 
     public ApiCallAttemptTimeoutTrackingStage(HttpClientDependencies dependencies,
                                               RequestPipeline<SdkHttpFullRequest,
@@ -52,6 +54,8 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         this.wrapped = wrapped;
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
+        this.interruptOnTimeout =
+            !Boolean.TRUE.equals(dependencies.clientConfiguration().option(SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS));
     }
 
     /**
@@ -65,7 +69,8 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         try {
             long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
 
-            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread(),
+                                                                   interruptOnTimeout);
 
             Response<OutputT> response;
             try {
@@ -82,7 +87,7 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
                 // The timeout tracker executed before the call to cancel(), which means it set this thread's interrupt
                 // flag. However, the execute() call returned before we raised an InterruptedException, so just clear
                 // the interrupt flag and return the result we got back.
-                Thread.interrupted();
+                clearTimeoutInterrupt();
             }
             return response;
 
@@ -91,8 +96,6 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         }
     }
 
-
-
     /**
      * Take the given exception thrown from the wrapped pipeline and return a more appropriate
      * timeout related exception based on its type and the the execution status.
@@ -113,7 +116,7 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         if (context.apiCallAttemptTimeoutTracker().hasExecuted()) {
             // Clear the interrupt flag. Since we already have an exception from the call, which may contain information
             // that's useful to the caller, just return that instead of an ApiCallTimeoutException.
-            Thread.interrupted();
+            clearTimeoutInterrupt();
         }
 
         return e;
@@ -134,7 +137,7 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         }
         if (context.apiCallAttemptTimeoutTracker().hasExecuted()) {
             // Clear the interrupt status
-            Thread.interrupted();
+            clearTimeoutInterrupt();
             return generateApiCallAttemptTimeoutException(context);
         }
 
@@ -142,6 +145,16 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         return AbortedException.create("Thread was interrupted", e);
     }
 
+    /**
+     * Clear the interrupt flag set by the timeout task. When the timeout task only aborts the request, the flag was not set
+     * by the task and is left untouched.
+     */
+    private void clearTimeoutInterrupt() {
+        if (interruptOnTimeout) {
+            Thread.interrupted();
+        }
+    }
+
     private ApiCallAttemptTimeoutException generateApiCallAttemptTimeoutException(RequestExecutionContext context) {
         return ApiCallAttemptTimeoutException.create(
                 resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout));
@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
@@ -45,6 +46,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
     private final SdkClientConfiguration clientConfig;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallTimeout;
+    private final boolean interruptOnTimeout;
 
     public ApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                        RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped) {
@@ -52,6 +54,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
         this.clientConfig = dependencies.clientConfiguration();
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.apiCallTimeout = clientConfig.option(SdkClientOption.API_CALL_TIMEOUT);
+        this.interruptOnTimeout = !Boolean.TRUE.equals(clientConfig.option(SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS));
     }
 
     @Override
@@ -72,7 +75,8 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
     private Response<OutputT> executeWithTimer(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallTimeout, apiCallTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread(),
+                                                               interruptOnTimeout);
 
         Response<OutputT> response;
         try {
@@ -89,7 +93,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
             // The timeout tracker executed before the call to cancel(), which means it set this thread's interrupt
             // flag. However, the execute() call returned before we raised an InterruptedException, so just clear the
             // interrupt flag and return the result we got back.
-            Thread.interrupted();
+            clearTimeoutInterrupt();
         }
         return response;
     }
@@ -114,7 +118,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
         if (apiCallTimerExecuted(context)) {
             // Clear the interrupt flag. Since we already have an exception from the call, which may contain information
             // that's useful to the caller, just return that instead of an ApiCallTimeoutException.
-            Thread.interrupted();
+            clearTimeoutInterrupt();
         }
 
         return e;
@@ -135,7 +139,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
         }
         if (apiCallTimerExecuted(context)) {
             // Clear the interrupt status
-            Thread.interrupted();
+            clearTimeoutInterrupt();
             return generateApiCallTimeoutException(context);
         }
 
@@ -143,6 +147,16 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
         return AbortedException.create("Thread was interrupted", e);
     }
 
+    /**
+     * Clear the interrupt flag set by the timeout task. When the timeout task only aborts the request, the flag was not set
+     * by the task and is left untouched.
+     */
+    private void clearTimeoutInterrupt() {
+        if (interruptOnTimeout) {
+            Thread.interrupted();
+        }
+    }
+
     private static boolean apiCallTimerExecuted(RequestExecutionContext context) {
         return context.apiCallTimeoutTracker() != null && context.apiCallTimeoutTracker().hasExecuted();
     }
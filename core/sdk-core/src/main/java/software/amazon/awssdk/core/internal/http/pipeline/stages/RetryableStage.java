@@ -17,16 +17,19 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RetryableStageHelper;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
@@ -38,12 +41,14 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
     private final HttpClientDependencies dependencies;
     private final RateLimitingTokenBucket rateLimitingTokenBucket;
+    private final boolean interruptFreeTimeouts;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
         this.requestPipeline = requestPipeline;
         this.rateLimitingTokenBucket = null;
+        this.interruptFreeTimeouts = interruptFreeTimeouts(dependencies);
     }
 
     @SdkTestInternalApi
@@ -53,6 +58,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         this.dependencies = dependencies;
         this.requestPipeline = requestPipeline;
         this.rateLimitingTokenBucket = rateLimitingTokenBucket;
+        this.interruptFreeTimeouts = interruptFreeTimeouts(dependencies);
     }
 
     @Override
@@ -72,7 +78,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             Duration backoffDelay = retryableStageHelper.getBackoffDelay();
             if (!backoffDelay.isZero()) {
                 retryableStageHelper.logBackingOff(backoffDelay);
-                TimeUnit.MILLISECONDS.sleep(backoffDelay.toMillis());
+                waitForBackoff(backoffDelay, context);
             }
 
             Response<OutputT> response;
@@ -100,4 +106,26 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             return response;
         }
     }
+
+    private static boolean interruptFreeTimeouts(HttpClientDependencies dependencies) {
+        return Boolean.TRUE.equals(dependencies.clientConfiguration().option(SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS));
+    }
+
+    /**
+     * Wait for the backoff delay. When timeouts do not interrupt the thread, the wait is registered with the API call timeout
+     * so that it ends as soon as the timeout expires, and {@link ApiCallTimeoutTrackingStage} reports the timeout.
+     */
+    private void waitForBackoff(Duration backoffDelay, RequestExecutionContext context) throws InterruptedException {
+        TimeoutTracker apiCallTimeoutTracker = context.apiCallTimeoutTracker();
+        if (!interruptFreeTimeouts || apiCallTimeoutTracker == null || !apiCallTimeoutTracker.isEnabled()) {
+            TimeUnit.MILLISECONDS.sleep(backoffDelay.toMillis());
+            return;
+        }
+
+        CountDownLatch timedOut = new CountDownLatch(1);
+        apiCallTimeoutTracker.abortable(timedOut::countDown);
+        if (timedOut.await(backoffDelay.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new InterruptedException("The API call timeout expired during the backoff delay.");
+        }
+    }
 }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
@@ -42,11 +43,14 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
 
     private final HttpClientDependencies dependencies;
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
+    private final boolean interruptOnTimeout;
 
     public TimeoutExceptionHandlingStage(HttpClientDependencies dependencies, RequestPipeline<SdkHttpFullRequest,
         Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
         this.requestPipeline = requestPipeline;
+        this.interruptOnTimeout =
+            !Boolean.TRUE.equals(dependencies.clientConfiguration().option(SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS));
     }
 
     /**
@@ -92,7 +96,7 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
     private Exception translatePipelineException(RequestExecutionContext context, Exception e) {
         if (e instanceof InterruptedException || e instanceof IOException ||
                 e instanceof AbortedException || Thread.currentThread().isInterrupted()
-                || (e instanceof SdkClientException && isCausedByApiCallAttemptTimeout(context))) {
+                || (e instanceof SdkClientException && isCausedByTimeout(context))) {
             return handleTimeoutCausedException(context, e);
         }
         return e;
@@ -108,8 +112,10 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
         }
 
         if (isCausedByApiCallAttemptTimeout(context)) {
-            // Clear the interrupt status
-            Thread.interrupted();
+            // Clear the interrupt status, unless the timeout only aborted the request without interrupting the thread
+            if (interruptOnTimeout) {
+                Thread.interrupted();
+            }
             return generateApiCallAttemptTimeoutException(context);
         }
 
@@ -121,6 +127,18 @@ public final class TimeoutExceptionHandlingStage<OutputT> implements RequestToRe
         return e;
     }
 
+    /**
+     * Detects if the exception thrown was triggered by either the api call timeout or the api call attempt timeout. When
+     * timeouts abort the request without interrupting the thread, this is the only indication that a client exception was
+     * caused by a timeout.
+     *
+     * @param context {@link RequestExecutionContext} object.
+     * @return True if the exception was caused by a timeout, false if not.
+     */
+    private boolean isCausedByTimeout(RequestExecutionContext context) {
+        return isCausedByApiCallTimeout(context) || isCausedByApiCallAttemptTimeout(context);
+    }
+
     /**
      * Detects if the exception thrown was triggered by the api call attempt timeout.
      *
@@ -15,53 +15,79 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * {@link TimeoutTask} to be scheduled for synchronous operations.
+ *
+ * <p>When the task is created without interrupting the thread, it only aborts the {@link Abortable} of the request, and a
+ * request registered after the task has executed is aborted right away. This does not disturb the interrupt status of the
+ * thread that is executing the request, which may be a virtual thread.
  */
 @SdkInternalApi
 public final class SyncTimeoutTask implements TimeoutTask {
     private final Thread threadToInterrupt;
+    private final boolean interruptThread;
     private volatile boolean hasExecuted;
     private volatile boolean isCancelled;
 
-    // Synchronize calls to run(), cancel(), and hasExecuted().
-    private final Object lock = new Object();
+    // Synchronize calls to run(), cancel(), abortable() and hasExecuted(). A lock is used instead of a monitor so that
+    // virtual threads waiting for it do not pin their carrier thread.
+    private final Lock lock = new ReentrantLock();
 
     private Abortable abortable;
 
     SyncTimeoutTask(Thread threadToInterrupt) {
+        this(threadToInterrupt, true);
+    }
+
+    SyncTimeoutTask(Thread threadToInterrupt, boolean interruptThread) {
         this.threadToInterrupt = Validate.paramNotNull(threadToInterrupt, "threadToInterrupt");
+        this.interruptThread = interruptThread;
     }
 
     @Override
     public void abortable(Abortable abortable) {
-        this.abortable = abortable;
+        lock.lock();
+        try {
+            this.abortable = abortable;
+            if (hasExecuted && !interruptThread && abortable != null) {
+                abortable.abort();
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Runs this task. If cancel() was called prior to this invocation, has no side effects. Otherwise, behaves with the
      * following post-conditions: (1) threadToInterrupt's interrupt flag is set to true (unless a concurrent process
-     * clears it); (2) hasExecuted() will return true.
+     * clears it, or the task was created without interrupting the thread); (2) hasExecuted() will return true.
      *
      * Note that run(), cancel(), and hasExecuted() behave atomically - calls to these methods operate with strict
      * happens-before relationships to one another.
      */
     @Override
     public void run() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             if (isCancelled) {
                 return;
             }
             hasExecuted = true;
-            threadToInterrupt.interrupt();
+            if (interruptThread) {
+                threadToInterrupt.interrupt();
+            }
 
             if (abortable != null) {
                 abortable.abort();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -71,8 +97,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void cancel() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             isCancelled = true;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -83,8 +112,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public boolean hasExecuted() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             return hasExecuted;
+        } finally {
+            lock.unlock();
         }
     }
 }
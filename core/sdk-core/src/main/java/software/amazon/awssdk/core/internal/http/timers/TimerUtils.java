@@ -75,11 +75,27 @@ public final class TimerUtils {
     public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
+        return timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMills, threadToInterrupt, true);
+    }
+
+    /**
+     * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
+     *
+     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutInMills the timeout in milliseconds.
+     * @param threadToInterrupt the thread executing the task
+     * @param interruptThread whether the thread should be interrupted, or the task should only be aborted, on timeout
+     * @return a {@link TimeoutTracker}
+     */
+    public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
+                                                      long timeoutInMills,
+                                                      Thread threadToInterrupt,
+                                                      boolean interruptThread) {
         if (timeoutInMills <= 0) {
             return NoOpTimeoutTracker.INSTANCE;
         }
 
-        SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
+        SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt, interruptThread);
 
         ScheduledFuture<?> scheduledFuture =
             timeoutExecutor.schedule(timeoutTask,
@@ -16,11 +16,23 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter used by the adaptive retry mode.
+ * <p>
+ * The token bucket and the CUBIC rate calculation share a single {@link State}. Every update copies the current state,
+ * applies the change to the copy and publishes it with a compare-and-set, retrying if another thread published a state in
+ * the meantime. A published state is never modified, so readers always see a consistent snapshot and callers never block
+ * each other. Until the first throttling response enables the bucket, acquiring capacity is a single volatile read.
+ */
 @SdkInternalApi
+@ThreadSafe
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
     private static final double MIN_CAPACITY = 1.0;
@@ -29,20 +41,11 @@ public class RateLimitingTokenBucket {
     private static final double BETA = 0.7;
     private static final double SCALE_CONSTANT = 0.4;
 
-    private final Clock clock;
+    private static final OptionalDouble NO_WAIT = OptionalDouble.of(0.0);
 
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
+    private final Clock clock;
 
-    private double timeWindow;
+    private final AtomicReference<State> state = new AtomicReference<>();
 
     public interface Clock {
         double time();
@@ -151,32 +154,25 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
-
-        synchronized (this) {
-            // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
-                return OptionalDouble.of(0.0);
-            }
-
-            refill();
-
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+        // If rate limiting is not enabled, we technically have an uncapped limit
+        if (!state.get().enabled) {
+            return NO_WAIT;
+        }
 
-            if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
-                return OptionalDouble.empty();
-            }
+        refill();
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
-            }
+        State previous = acquireCapacity(amount, fastFail);
+        if (previous == null) {
+            return OptionalDouble.empty();
         }
 
-        return OptionalDouble.of(waitTime);
+        // If all the tokens couldn't be acquired immediately, wait enough
+        // time to fill the remainder.
+        double unfulfilled = unfulfilled(previous, amount);
+        if (unfulfilled > 0) {
+            return OptionalDouble.of(unfulfilled / previous.fillRate);
+        }
+        return NO_WAIT;
     }
 
     /**
@@ -185,27 +181,71 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
-        double result;
-        if (amount <= currentCapacity) {
-            result = 0;
-        } else {
-            result = amount - currentCapacity;
+        return unfulfilled(acquireCapacity(amount, false), amount);
+    }
+
+    /**
+     * Remove the amount from the current capacity, which may leave the capacity negative.
+     *
+     * @return The state the capacity was acquired from, or null if {@code fastFail} is set and the current capacity is
+     * smaller than the amount, in which case the capacity is left unchanged.
+     */
+    private State acquireCapacity(double amount, boolean fastFail) {
+        while (true) {
+            State current = state.get();
+            if (fastFail && unfulfilled(current, amount) > 0.0) {
+                return null;
+            }
+
+            State updated = current.copy();
+            updated.currentCapacity = current.currentCapacity - amount;
+            if (state.compareAndSet(current, updated)) {
+                return current;
+            }
         }
-        currentCapacity = currentCapacity - amount;
-        return result;
+    }
+
+    private static double unfulfilled(State state, double amount) {
+        if (amount <= state.currentCapacity) {
+            return 0;
+        }
+        return amount - state.currentCapacity;
     }
 
     private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+        State initial = new State();
+        initial.fillRate = Double.NaN;
+        initial.maxCapacity = Double.NaN;
+        initial.currentCapacity = 0.0;
+        initial.lastTimestamp = Double.NaN;
+        initial.enabled = false;
+        initial.measuredTxRate = 0.0;
+        initial.lastTxRateBucket = Math.floor(clock.time());
+        initial.requestCount = 0;
+        initial.lastMaxRate = 0.0;
+        initial.lastThrottleTime = clock.time();
+        state.set(initial);
+    }
+
+    /**
+     * Apply an update to a copy of the current state and publish it, retrying with the latest state until no other update
+     * was published in between. The update must only depend on the state it is given, and reads the clock itself so that
+     * the time it sees is never older than the state's last timestamp.
+     */
+    private void updateState(Consumer<State> update) {
+        while (true) {
+            State current = state.get();
+            State updated = current.copy();
+            update.accept(updated);
+            if (state.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    // Package private for testing
+    void refill() {
+        updateState(s -> refill(s, clock.time()));
     }
 
     /**
@@ -220,17 +260,15 @@ public class RateLimitingTokenBucket {
      *   last_timestamp = timestamp
      * </pre>
      */
-    // Package private for testing
-    synchronized void refill() {
-        double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
+    private static void refill(State state, double timestamp) {
+        if (Double.isNaN(state.lastTimestamp)) {
+            state.lastTimestamp = timestamp;
             return;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - state.lastTimestamp) * state.fillRate;
+        state.currentCapacity = Math.min(state.maxCapacity, state.currentCapacity + fillAmount);
+        state.lastTimestamp = timestamp;
     }
 
     /**
@@ -245,11 +283,11 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private static void updateRate(State state, double newRps, double timestamp) {
+        refill(state, timestamp);
+        state.fillRate = Math.max(newRps, MIN_FILL_RATE);
+        state.maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        state.currentCapacity = Math.min(state.currentCapacity, state.maxCapacity);
     }
 
     /**
@@ -264,20 +302,19 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
-        double t = clock.time();
+    private static void updateMeasuredRate(State state, double t) {
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        state.requestCount = state.requestCount + 1;
+        if (timeBucket > state.lastTxRateBucket) {
+            double currentRate = state.requestCount / (timeBucket - state.lastTxRateBucket);
+            state.measuredTxRate = (currentRate * SMOOTH) + (state.measuredTxRate * (1 - SMOOTH));
+            state.requestCount = 0;
+            state.lastTxRateBucket = timeBucket;
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        updateState(s -> s.enabled = true);
     }
 
     /**
@@ -304,31 +341,45 @@ public class RateLimitingTokenBucket {
      *   new_rate = min(calculated_rate, 2 * measured_tx_rate)
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
+     * The whole update is computed from a single state and a single reading of the clock, and is published atomically.
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        updateState(s -> updateClientSendingRate(s, throttlingResponse, clock.time()));
+    }
+
+    private void updateClientSendingRate(State state, boolean throttlingResponse, double timestamp) {
+        updateMeasuredRate(state, timestamp);
 
         double calculatedRate;
         if (throttlingResponse) {
             double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+            if (!state.enabled) {
+                rateToUse = state.measuredTxRate;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                rateToUse = Math.min(state.measuredTxRate, state.fillRate);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
+            state.lastMaxRate = rateToUse;
+            calculateTimeWindow(state);
+            state.lastThrottleTime = timestamp;
             calculatedRate = cubicThrottle(rateToUse);
-            enable();
         } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
+            calculateTimeWindow(state);
+            calculatedRate = cubicSuccess(state, timestamp);
+        }
+
+        double newRate = Math.min(calculatedRate, 2 * state.measuredTxRate);
+        updateRate(state, newRate, timestamp);
+
+        // Enabled last, so that the bucket always has a fill rate once acquire() sees it enabled.
+        if (throttlingResponse) {
+            state.enabled = true;
         }
+    }
 
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+    // Package private for testing
+    void calculateTimeWindow() {
+        updateState(RateLimitingTokenBucket::calculateTimeWindow);
     }
 
     /**
@@ -339,9 +390,8 @@ public class RateLimitingTokenBucket {
      *   _time_window = ((last_max_rate * (1 - BETA)) / SCALE_CONSTANT) ^ (1 / 3)
      * </pre>
      */
-    // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    private static void calculateTimeWindow(State state) {
+        state.timeWindow = Math.pow((state.lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -372,6 +422,11 @@ public class RateLimitingTokenBucket {
         return calculatedRate;
     }
 
+    // Package private for testing
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
     /**
      * <pre>
      * _CUBICSuccess(timestamp)
@@ -380,10 +435,9 @@ public class RateLimitingTokenBucket {
      *   return calculated_rate
      * </pre>
      */
-    // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    private static double cubicSuccess(State state, double timestamp) {
+        double dt = timestamp - state.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - state.timeWindow, 3) + state.lastMaxRate;
         return calculatedRate;
     }
 
@@ -395,38 +449,72 @@ public class RateLimitingTokenBucket {
         }
     }
 
+    /**
+     * A snapshot of the bucket and of the rate calculation. Only modified before it is published; see
+     * {@link #updateState(Consumer)}.
+     */
+    private static final class State {
+        private double fillRate;
+        private double maxCapacity;
+        private double currentCapacity;
+        private double lastTimestamp;
+        private boolean enabled;
+        private double measuredTxRate;
+        private double lastTxRateBucket;
+        private long requestCount;
+        private double lastMaxRate;
+        private double lastThrottleTime;
+        private double timeWindow;
+
+        private State copy() {
+            State copy = new State();
+            copy.fillRate = fillRate;
+            copy.maxCapacity = maxCapacity;
+            copy.currentCapacity = currentCapacity;
+            copy.lastTimestamp = lastTimestamp;
+            copy.enabled = enabled;
+            copy.measuredTxRate = measuredTxRate;
+            copy.lastTxRateBucket = lastTxRateBucket;
+            copy.requestCount = requestCount;
+            copy.lastMaxRate = lastMaxRate;
+            copy.lastThrottleTime = lastThrottleTime;
+            copy.timeWindow = timeWindow;
+            return copy;
+        }
+    }
+
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        updateState(s -> s.lastMaxRate = lastMaxRate);
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    void setLastThrottleTime(double lastThrottleTime) {
+        updateState(s -> s.lastThrottleTime = lastThrottleTime);
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getMeasuredTxRate() {
+        return state.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    void setCurrentCapacity(double currentCapacity) {
+        updateState(s -> s.currentCapacity = currentCapacity);
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setFillRate(double fillRate) {
+        updateState(s -> s.fillRate = fillRate);
     }
 }
@@ -22,6 +22,8 @@ import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
@@ -76,6 +78,17 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the root collector for an API call, of the type selected by
+     * {@link SdkAdvancedClientOption#LOCK_FREE_METRIC_COLLECTOR}.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR))) {
+            return MetricCollector.createLockFree("ApiCall");
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.waiters;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +28,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.waiters.WaiterAcceptor;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 import software.amazon.awssdk.core.waiters.WaiterState;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
@@ -40,6 +42,7 @@ import software.amazon.awssdk.utils.Validate;
 @ThreadSafe
 public final class AsyncWaiterExecutor<T> {
     private final ScheduledExecutorService executorService;
+    private final WaiterScheduler waiterScheduler;
     private final WaiterExecutorHelper<T> executorHelper;
 
     public AsyncWaiterExecutor(WaiterConfiguration configuration,
@@ -47,6 +50,16 @@ public final class AsyncWaiterExecutor<T> {
                                ScheduledExecutorService executorService) {
         Validate.paramNotNull(waiterAcceptors, "waiterAcceptors");
         this.executorService = Validate.paramNotNull(executorService, "executorService");
+        this.waiterScheduler = null;
+        this.executorHelper = new WaiterExecutorHelper<>(waiterAcceptors, configuration);
+    }
+
+    public AsyncWaiterExecutor(WaiterConfiguration configuration,
+                               List<WaiterAcceptor<? super T>> waiterAcceptors,
+                               WaiterScheduler waiterScheduler) {
+        Validate.paramNotNull(waiterAcceptors, "waiterAcceptors");
+        this.executorService = null;
+        this.waiterScheduler = Validate.paramNotNull(waiterScheduler, "waiterScheduler");
         this.executorHelper = new WaiterExecutorHelper<>(waiterAcceptors, configuration);
     }
 
@@ -55,22 +68,34 @@ public final class AsyncWaiterExecutor<T> {
      */
     CompletableFuture<WaiterResponse<T>> execute(Supplier<CompletableFuture<T>> asyncPollingFunction) {
         CompletableFuture<WaiterResponse<T>> future = new CompletableFuture<>();
-        doExecute(asyncPollingFunction, future, 0, System.currentTimeMillis());
+        if (waiterScheduler != null) {
+            waiterScheduler.waitStarted(future);
+        }
+        doExecute(asyncPollingFunction, future, 0, System.currentTimeMillis(), 0);
         return future;
     }
 
     private void doExecute(Supplier<CompletableFuture<T>> asyncPollingFunction,
                            CompletableFuture<WaiterResponse<T>> future,
                            int attemptNumber,
-                           long startTime) {
-        runAsyncPollingFunction(asyncPollingFunction, future, ++attemptNumber, startTime);
+                           long startTime,
+                           long delayInMillis) {
+        runAsyncPollingFunction(asyncPollingFunction, future, ++attemptNumber, startTime, delayInMillis);
     }
 
+    /**
+     * Run the polling function, after the delay if a waiter scheduler is used. Without a waiter scheduler, the delay has
+     * already elapsed on the executor service.
+     */
     private void runAsyncPollingFunction(Supplier<CompletableFuture<T>> asyncPollingFunction,
                                          CompletableFuture<WaiterResponse<T>> future,
                                          int attemptNumber,
-                                         long startTime) {
-        asyncPollingFunction.get().whenComplete((response, exception) -> {
+                                         long startTime,
+                                         long delayInMillis) {
+        CompletableFuture<T> attempt = waiterScheduler != null
+                                       ? waiterScheduler.schedule(asyncPollingFunction, Duration.ofMillis(delayInMillis), future)
+                                       : asyncPollingFunction.get();
+        attempt.whenComplete((response, exception) -> {
             try {
                 Either<T, Throwable> responseOrException;
 
@@ -120,9 +145,15 @@ public final class AsyncWaiterExecutor<T> {
             executorHelper.nextDelayOrUnretryableException(attemptNumber, startTime);
 
         nextDelayOrUnretryableException.apply(
-            nextDelay -> executorService.schedule(() -> doExecute(asyncPollingFunction, future, attemptNumber, startTime),
-                                                  nextDelay,
-                                                  TimeUnit.MILLISECONDS),
+            nextDelay -> {
+                if (waiterScheduler != null) {
+                    doExecute(asyncPollingFunction, future, attemptNumber, startTime, nextDelay);
+                } else {
+                    executorService.schedule(() -> doExecute(asyncPollingFunction, future, attemptNumber, startTime, 0),
+                                             nextDelay,
+                                             TimeUnit.MILLISECONDS);
+                }
+            },
             future::completeExceptionally);
 
     }
@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.waiters.AsyncWaiter;
 import software.amazon.awssdk.core.waiters.WaiterAcceptor;
 import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 
 /**
  * Default implementation of the generic {@link AsyncWaiter}.
@@ -36,14 +37,16 @@ import software.amazon.awssdk.core.waiters.WaiterResponse;
 @ThreadSafe
 public final class DefaultAsyncWaiter<T> implements AsyncWaiter<T> {
     private final ScheduledExecutorService executorService;
+    private final WaiterScheduler waiterScheduler;
     private final List<WaiterAcceptor<? super T>> waiterAcceptors;
     private final AsyncWaiterExecutor<T> handler;
 
     private DefaultAsyncWaiter(DefaultBuilder<T> builder) {
         this.executorService = builder.scheduledExecutorService;
+        this.waiterScheduler = builder.waiterScheduler;
         WaiterConfiguration configuration = new WaiterConfiguration(builder.overrideConfiguration);
         this.waiterAcceptors = Collections.unmodifiableList(builder.waiterAcceptors);
-        this.handler = new AsyncWaiterExecutor<>(configuration, waiterAcceptors, executorService);
+        this.handler = createExecutor(configuration);
     }
 
     @Override
@@ -54,8 +57,14 @@ public final class DefaultAsyncWaiter<T> implements AsyncWaiter<T> {
     @Override
     public CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction,
                                                          WaiterOverrideConfiguration overrideConfig) {
-        return new AsyncWaiterExecutor<>(new WaiterConfiguration(overrideConfig), waiterAcceptors, executorService)
-            .execute(asyncPollingFunction);
+        return createExecutor(new WaiterConfiguration(overrideConfig)).execute(asyncPollingFunction);
+    }
+
+    private AsyncWaiterExecutor<T> createExecutor(WaiterConfiguration configuration) {
+        if (waiterScheduler != null) {
+            return new AsyncWaiterExecutor<>(configuration, waiterAcceptors, waiterScheduler);
+        }
+        return new AsyncWaiterExecutor<>(configuration, waiterAcceptors, executorService);
     }
 
     public static <T> Builder<T> builder() {
@@ -65,6 +74,7 @@ public final class DefaultAsyncWaiter<T> implements AsyncWaiter<T> {
     public static final class DefaultBuilder<T> implements Builder<T> {
         private List<WaiterAcceptor<? super T>> waiterAcceptors = new ArrayList<>();
         private ScheduledExecutorService scheduledExecutorService;
+        private WaiterScheduler waiterScheduler;
         private WaiterOverrideConfiguration overrideConfiguration;
 
         private DefaultBuilder() {
@@ -76,6 +86,12 @@ public final class DefaultAsyncWaiter<T> implements AsyncWaiter<T> {
             return this;
         }
 
+        @Override
+        public Builder<T> waiterScheduler(WaiterScheduler waiterScheduler) {
+            this.waiterScheduler = waiterScheduler;
+            return this;
+        }
+
         @Override
         public Builder<T> acceptors(List<WaiterAcceptor<? super T>> waiterAcceptors) {
             this.waiterAcceptors = new ArrayList<>(waiterAcceptors);
@@ -0,0 +1,345 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Default implementation of {@link WaiterScheduler}, based on a hashed timing wheel.
+ * <p>
+ * Polling attempts that are scheduled with a delay are added to a queue, which the scheduler thread moves into the buckets
+ * of the wheel on every tick. Each tick, the scheduler thread visits the bucket of the current tick and hands the attempts
+ * that are due to the ready queue, from which they are started as long as fewer than {@code maxConcurrentPolls} attempts
+ * are in flight. The completion of an attempt starts the next ready attempt, if any.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultWaiterScheduler implements WaiterScheduler {
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+    private static final int DEFAULT_MAX_CONCURRENT_POLLS = 100;
+    private static final double DEFAULT_JITTER = 0.2;
+    private static final int WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final int maxConcurrentPolls;
+    private final double jitter;
+    private final long startNanos = System.nanoTime();
+
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * The buckets of the wheel, which are only accessed by the scheduler thread.
+     */
+    private final Queue<ScheduledPoll<?>>[] wheel;
+    private final Queue<ScheduledPoll<?>> newPolls = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledPoll<?>> readyPolls = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingWaits = new AtomicInteger();
+    private final AtomicInteger inFlightPolls = new AtomicInteger();
+    private final AtomicInteger queuedPolls = new AtomicInteger();
+    private final LongAdder completedPolls = new LongAdder();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * The last tick whose bucket has been visited, which is only accessed by the scheduler thread.
+     */
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    private DefaultWaiterScheduler(DefaultBuilder builder) {
+        Duration tickDuration = Validate.isPositive(builder.tickDuration != null ? builder.tickDuration
+                                                                                  : DEFAULT_TICK_DURATION,
+                                                    "tickDuration");
+        this.tickNanos = tickDuration.toNanos();
+        this.maxConcurrentPolls = Validate.isPositive(builder.maxConcurrentPolls != null ? builder.maxConcurrentPolls
+                                                                                         : DEFAULT_MAX_CONCURRENT_POLLS,
+                                                      "maxConcurrentPolls");
+        this.jitter = builder.jitter != null ? builder.jitter : DEFAULT_JITTER;
+        Validate.isTrue(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1, but was %s", jitter);
+
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+
+        ScheduledThreadPoolExecutor executor =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-waiter-scheduler")
+                                                                         .daemonThreads(true)
+                                                                         .build());
+        executor.setRemoveOnCancelPolicy(true);
+        this.ticker = executor;
+        this.ticker.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static WaiterScheduler.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public int pendingWaits() {
+        return pendingWaits.get();
+    }
+
+    @Override
+    public int inFlightPolls() {
+        return inFlightPolls.get();
+    }
+
+    @Override
+    public int queuedPolls() {
+        return queuedPolls.get();
+    }
+
+    @Override
+    public long completedPolls() {
+        return completedPolls.sum();
+    }
+
+    @Override
+    public void waitStarted(CompletableFuture<?> waiterFuture) {
+        pendingWaits.incrementAndGet();
+        waiterFuture.whenComplete((r, t) -> pendingWaits.decrementAndGet());
+    }
+
+    /**
+     * Run the polling function once the delay, shortened by the jitter, has elapsed and fewer than
+     * {@code maxConcurrentPolls} polling attempts are in flight.
+     */
+    @Override
+    public <T> CompletableFuture<T> schedule(Supplier<CompletableFuture<T>> pollingFunction,
+                                             Duration delay,
+                                             CompletableFuture<?> waiterFuture) {
+        ScheduledPoll<T> poll = new ScheduledPoll<>(pollingFunction, waiterFuture);
+        if (closed.get()) {
+            poll.fail(closedException());
+            return poll.result;
+        }
+
+        long delayInNanos = delay.toNanos();
+        if (delayInNanos > 0 && jitter > 0) {
+            delayInNanos -= (long) (delayInNanos * jitter * ThreadLocalRandom.current().nextDouble());
+        }
+
+        if (delayInNanos <= 0) {
+            ready(poll);
+        } else {
+            // Round up, so that the attempt never starts before its delay has elapsed.
+            poll.deadlineTick = (System.nanoTime() - startNanos + delayInNanos + tickNanos - 1) / tickNanos;
+            newPolls.add(poll);
+
+            // The scheduler may have been closed, and its polls drained, before this one was added.
+            if (closed.get() && newPolls.remove(poll)) {
+                poll.fail(closedException());
+            }
+        }
+        return poll.result;
+    }
+
+    private void tick() {
+        try {
+            // Ticks are counted from the clock rather than from the runs of this task, so that the buckets of any runs that
+            // were delayed are still visited.
+            long now = (System.nanoTime() - startNanos) / tickNanos;
+            transferNewPolls(now);
+
+            while (currentTick < now) {
+                currentTick++;
+                Iterator<ScheduledPoll<?>> bucket = wheel[(int) (currentTick % WHEEL_SIZE)].iterator();
+                while (bucket.hasNext()) {
+                    ScheduledPoll<?> poll = bucket.next();
+                    if (poll.deadlineTick <= currentTick) {
+                        bucket.remove();
+                        ready(poll);
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            // A failure must not cancel the periodic task, which would leave every scheduled attempt waiting forever.
+            failAll(SdkClientException.create("Encountered unexpected exception while scheduling a waiter attempt.", t));
+        }
+    }
+
+    private void transferNewPolls(long now) {
+        ScheduledPoll<?> poll;
+        while ((poll = newPolls.poll()) != null) {
+            if (poll.deadlineTick <= now) {
+                ready(poll);
+            } else {
+                wheel[(int) (poll.deadlineTick % WHEEL_SIZE)].add(poll);
+            }
+        }
+    }
+
+    private void ready(ScheduledPoll<?> poll) {
+        queuedPolls.incrementAndGet();
+        readyPolls.add(poll);
+        startReadyPolls();
+    }
+
+    private void startReadyPolls() {
+        while (!readyPolls.isEmpty() && tryAcquirePermit()) {
+            ScheduledPoll<?> poll = readyPolls.poll();
+            if (poll == null) {
+                // Another thread started the last ready attempt; give the permit back and check again.
+                inFlightPolls.decrementAndGet();
+                continue;
+            }
+            queuedPolls.decrementAndGet();
+            start(poll);
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        while (true) {
+            int inFlight = inFlightPolls.get();
+            if (inFlight >= maxConcurrentPolls) {
+                return false;
+            }
+            if (inFlightPolls.compareAndSet(inFlight, inFlight + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private <T> void start(ScheduledPoll<T> poll) {
+        CompletableFuture<T> pollFuture;
+        try {
+            pollFuture = poll.pollingFunction.get();
+        } catch (Throwable t) {
+            pollFuture = CompletableFutureUtils.failedFuture(t);
+        }
+
+        pollFuture.whenComplete((r, t) -> {
+            inFlightPolls.decrementAndGet();
+            completedPolls.increment();
+            if (t != null) {
+                poll.result.completeExceptionally(t);
+            } else {
+                poll.result.complete(r);
+            }
+            startReadyPolls();
+        });
+    }
+
+    private void failAll(Throwable cause) {
+        for (Queue<ScheduledPoll<?>> bucket : wheel) {
+            drain(bucket, cause);
+        }
+        drain(newPolls, cause);
+    }
+
+    private void drain(Queue<ScheduledPoll<?>> polls, Throwable cause) {
+        ScheduledPoll<?> poll;
+        while ((poll = polls.poll()) != null) {
+            poll.fail(cause);
+        }
+    }
+
+    private static SdkClientException closedException() {
+        return SdkClientException.create("The waiter scheduler has been closed.");
+    }
+
+    /**
+     * Stop the scheduler thread and fail the polling attempts that have not been started. Attempts that are in flight are
+     * allowed to complete.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        // The scheduler thread is the only one that accesses the wheel, so the wheel is drained on it, after the last tick.
+        ticker.execute(() -> {
+            failAll(closedException());
+            ScheduledPoll<?> poll;
+            while ((poll = readyPolls.poll()) != null) {
+                queuedPolls.decrementAndGet();
+                poll.fail(closedException());
+            }
+        });
+        ticker.shutdown();
+    }
+
+    private static final class ScheduledPoll<T> {
+        private final Supplier<CompletableFuture<T>> pollingFunction;
+        private final CompletableFuture<?> waiterFuture;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private long deadlineTick;
+
+        private ScheduledPoll(Supplier<CompletableFuture<T>> pollingFunction, CompletableFuture<?> waiterFuture) {
+            this.pollingFunction = pollingFunction;
+            this.waiterFuture = waiterFuture;
+        }
+
+        /**
+         * Fail the waiter directly, rather than the attempt, so that the failure is not matched against its acceptors.
+         */
+        private void fail(Throwable cause) {
+            waiterFuture.completeExceptionally(cause);
+        }
+    }
+
+    private static final class DefaultBuilder implements WaiterScheduler.Builder {
+        private Duration tickDuration;
+        private Integer maxConcurrentPolls;
+        private Double jitter;
+
+        @Override
+        public WaiterScheduler.Builder tickDuration(Duration tickDuration) {
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        @Override
+        public WaiterScheduler.Builder maxConcurrentPolls(Integer maxConcurrentPolls) {
+            this.maxConcurrentPolls = maxConcurrentPolls;
+            return this;
+        }
+
+        @Override
+        public WaiterScheduler.Builder jitter(Double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        @Override
+        public WaiterScheduler build() {
+            return new DefaultWaiterScheduler(this);
+        }
+    }
+}
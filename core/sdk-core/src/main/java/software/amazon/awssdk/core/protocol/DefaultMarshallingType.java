@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.protocol;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The {@link MarshallingType} created by {@link MarshallingType#newType(Class)}.
+ */
+@SdkInternalApi
+final class DefaultMarshallingType<T> implements MarshallingType<T> {
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final Class<? super T> targetClass;
+    private final int index;
+
+    DefaultMarshallingType(Class<? super T> targetClass) {
+        this.targetClass = targetClass;
+        this.index = NEXT_INDEX.getAndIncrement();
+    }
+
+    @Override
+    public Class<? super T> getTargetClass() {
+        return targetClass;
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return targetClass.getSimpleName();
+    }
+}
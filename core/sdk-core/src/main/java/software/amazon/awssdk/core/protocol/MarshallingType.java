@@ -67,20 +67,17 @@ public interface MarshallingType<T> {
 
     Class<? super T> getTargetClass();
 
-    static <T> MarshallingType<T> newType(Class<? super T> clzz) {
-        return new MarshallingType<T>() {
-
-            @Override
-            public Class<? super T> getTargetClass() {
-                return clzz;
-            }
-
-            @Override
-            public String toString() {
-                return clzz.getSimpleName();
-            }
-        };
+    /**
+     * A dense index identifying this type, used by marshaller registries to find the (un)marshaller of a type with an array
+     * lookup. Types created with {@link #newType(Class)} are numbered from zero in creation order; other implementations
+     * return -1 and are looked up by equality instead.
+     */
+    default int index() {
+        return -1;
+    }
 
+    static <T> MarshallingType<T> newType(Class<? super T> clzz) {
+        return new DefaultMarshallingType<>(clzz);
     }
 
 }
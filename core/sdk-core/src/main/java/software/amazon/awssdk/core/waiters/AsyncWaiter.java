@@ -93,6 +93,19 @@ public interface AsyncWaiter<T> {
          */
         Builder<T> scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
 
+        /**
+         * Defines the {@link WaiterScheduler} used to schedule async polling attempts, instead of scheduling them on a
+         * {@link ScheduledExecutorService}. A scheduler can be shared by many waiters, and bounds the number of polling
+         * attempts they have in flight. If it is set, {@link #scheduledExecutorService(ScheduledExecutorService)} is not
+         * used.
+         *
+         * @param waiterScheduler the waiter scheduler
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        default Builder<T> waiterScheduler(WaiterScheduler waiterScheduler) {
+            throw new UnsupportedOperationException();
+        }
+
         /**
          * An immutable object that is created from the properties that have been set on the builder.
          * @return a reference to this object so that method calls can be chained together.
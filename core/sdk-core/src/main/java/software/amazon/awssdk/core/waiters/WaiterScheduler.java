@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.waiters.DefaultWaiterScheduler;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Schedules the polling attempts of many {@link AsyncWaiter}s on a single timing wheel, instead of scheduling every attempt
+ * of every waiter as its own task on a {@link java.util.concurrent.ScheduledExecutorService}.
+ * <p>
+ * The scheduler bounds the number of polling attempts that are in flight at the same time; attempts that become due while
+ * the limit is reached are started in order as earlier attempts complete. The delay before each attempt can be jittered so
+ * that waiters started together do not poll together.
+ * <p>
+ * A scheduler is meant to be shared by all the waiters of an application, and owns one thread. It must be closed when it is
+ * no longer needed, which fails the waiters that are still waiting for their next attempt.
+ *
+ * <pre>{@code
+ * WaiterScheduler scheduler = WaiterScheduler.builder().maxConcurrentPolls(50).build();
+ * AsyncWaiter<DescribeTasksResponse> waiter = AsyncWaiter.builder(DescribeTasksResponse.class)
+ *                                                        .acceptors(acceptors)
+ *                                                        .waiterScheduler(scheduler)
+ *                                                        .build();
+ * }</pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface WaiterScheduler extends SdkAutoCloseable {
+
+    /**
+     * @return The number of waiters that use this scheduler and have not completed yet.
+     */
+    int pendingWaits();
+
+    /**
+     * @return The number of polling attempts that have been started and have not completed yet.
+     */
+    int inFlightPolls();
+
+    /**
+     * @return The number of polling attempts that are due, but are waiting for an in-flight attempt to complete because
+     * {@link Builder#maxConcurrentPolls(Integer)} has been reached.
+     */
+    int queuedPolls();
+
+    /**
+     * @return The number of polling attempts that have completed since the scheduler was created.
+     */
+    long completedPolls();
+
+    /**
+     * Track a waiter that uses this scheduler until the provided future completes. This is called by the waiters that use
+     * the scheduler, once per wait.
+     *
+     * @param waiterFuture the future of the waiter
+     */
+    @SdkProtectedApi
+    void waitStarted(CompletableFuture<?> waiterFuture);
+
+    /**
+     * Run a polling attempt of a waiter that uses this scheduler once the provided delay has elapsed and the number of
+     * in-flight attempts allows it. This is called by the waiters that use the scheduler, once per attempt.
+     *
+     * @param pollingFunction the polling function of the waiter
+     * @param delay the delay before the attempt
+     * @param waiterFuture the future of the waiter, which is failed if the scheduler is closed before the attempt is started
+     * @return A future that completes with the result of the polling function.
+     */
+    @SdkProtectedApi
+    <T> CompletableFuture<T> schedule(Supplier<CompletableFuture<T>> pollingFunction,
+                                      Duration delay,
+                                      CompletableFuture<?> waiterFuture);
+
+    /**
+     * Create a scheduler with the default configuration.
+     */
+    static WaiterScheduler create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder for a {@link WaiterScheduler}.
+     */
+    static Builder builder() {
+        return DefaultWaiterScheduler.builder();
+    }
+
+    interface Builder {
+
+        /**
+         * The resolution of the timing wheel. Polling attempts are started on the first tick after they become due.
+         * <p>
+         * By default, this is 100 milliseconds.
+         *
+         * @param tickDuration the duration of a tick
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder tickDuration(Duration tickDuration);
+
+        /**
+         * The maximum number of polling attempts, across all the waiters that use the scheduler, that can be in flight at
+         * the same time.
+         * <p>
+         * By default, this is 100.
+         *
+         * @param maxConcurrentPolls the maximum number of in-flight polling attempts
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder maxConcurrentPolls(Integer maxConcurrentPolls);
+
+        /**
+         * The fraction by which the delay before a polling attempt may be shortened at random, between 0 and 1. The delay is
+         * only ever shortened, so that the jitter never makes a waiter exceed its
+         * {@link WaiterOverrideConfiguration#waitTimeout()}.
+         * <p>
+         * By default, this is 0.2, which starts each attempt at a random time between 80% and 100% of its delay.
+         *
+         * @param jitter the jitter fraction
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder jitter(Double jitter);
+
+        /**
+         * An immutable object that is created from the properties that have been set on the builder.
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        WaiterScheduler build();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration.ReadStrategy;
+
+class FileRequestBodyConfigurationTest {
+
+    @Test
+    void equalsHashcode() {
+        EqualsVerifier.forClass(FileRequestBodyConfiguration.class)
+                      .withPrefabValues(Path.class, Paths.get("a"), Paths.get("b"))
+                      .withNonnullFields("path")
+                      .verify();
+    }
+
+    @Test
+    void toBuilder() {
+        FileRequestBodyConfiguration configuration =
+            FileRequestBodyConfiguration.builder()
+                                        .path(Paths.get("file"))
+                                        .chunkSizeInBytes(1024)
+                                        .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                        .readAheadChunks(8)
+                                        .build();
+
+        FileRequestBodyConfiguration another = configuration.toBuilder().build();
+        assertThat(configuration).isEqualTo(another);
+    }
+
+    @Test
+    void build_missingPath_throwsException() {
+        assertThatThrownBy(() -> FileRequestBodyConfiguration.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("path");
+    }
+
+    @Test
+    void build_nonPositiveReadAheadChunks_throwsException() {
+        assertThatThrownBy(() -> FileRequestBodyConfiguration.builder().path(Paths.get("file")).readAheadChunks(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("readAheadChunks");
+    }
+}
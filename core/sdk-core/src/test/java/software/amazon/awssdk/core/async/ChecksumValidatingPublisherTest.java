@@ -23,12 +23,15 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.internal.async.ChecksumValidatingPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -126,6 +129,25 @@ public class ChecksumValidatingPublisherTest {
         assertFalse(s.hasCompleted());
     }
 
+    @Test
+    public void releasableSubscriber_receivesBuffersWithReleaseCallbacks() {
+        final TestPublisher driver = new TestPublisher();
+        final ReleasableTestSubscriber s = new ReleasableTestSubscriber(Arrays.copyOfRange(testData, 0, testData.length));
+        final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, SdkChecksum.forAlgorithm(Algorithm.SHA256),
+                SHA256_OF_HELLO_WORLD);
+        p.subscribe(s);
+
+        AtomicInteger releases = new AtomicInteger();
+        driver.doOnNext(ByteBuffer.wrap(testData, 0, 5).asReadOnlyBuffer(), releases::incrementAndGet);
+        driver.doOnNext(ByteBuffer.wrap(testData, 5, testData.length - 5).asReadOnlyBuffer(), releases::incrementAndGet);
+        driver.doOnComplete();
+
+        assertEquals(2, s.releasableBuffers);
+        assertEquals(2, releases.get());
+        assertTrue(s.hasCompleted());
+        assertFalse(s.isOnErrorCalled());
+    }
+
     private class TestSubscriber implements Subscriber<ByteBuffer> {
         final byte[] expected;
         final List<ByteBuffer> received;
@@ -177,6 +199,21 @@ public class ChecksumValidatingPublisherTest {
         }
     }
 
+    private class ReleasableTestSubscriber extends TestSubscriber implements ReleasableByteBufferSubscriber {
+        int releasableBuffers;
+
+        ReleasableTestSubscriber(byte[] expected) {
+            super(expected);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer, Runnable release) {
+            releasableBuffers++;
+            onNext(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(buffer)));
+            release.run();
+        }
+    }
+
     private class TestPublisher implements Publisher<ByteBuffer> {
         Subscriber<? super ByteBuffer> s;
 
@@ -189,6 +226,10 @@ public class ChecksumValidatingPublisherTest {
             s.onNext(b);
         }
 
+        public void doOnNext(ByteBuffer b, Runnable release) {
+            ((ReleasableByteBufferSubscriber) s).onNext(b, release);
+        }
+
         public void doOnComplete() {
             s.onComplete();
         }
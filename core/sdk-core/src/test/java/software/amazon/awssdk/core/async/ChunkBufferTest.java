@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,7 +31,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.internal.async.ByteBufferPool;
 import software.amazon.awssdk.core.internal.async.ChunkBuffer;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.StringUtils;
 
 class ChunkBufferTest {
@@ -52,7 +55,7 @@ class ChunkBufferTest {
         AtomicInteger iteratedCounts = new AtomicInteger();
         byteBuffers.forEach(r -> {
             iteratedCounts.getAndIncrement();
-            assertThat(r.array()).isEqualTo(StringUtils.repeat("*", 5).getBytes(StandardCharsets.UTF_8));
+            assertThat(BinaryUtils.copyBytesFrom(r)).isEqualTo(StringUtils.repeat("*", 5).getBytes(StandardCharsets.UTF_8));
         });
         assertThat(iteratedCounts.get()).isEqualTo(5);
     }
@@ -72,9 +75,10 @@ class ChunkBufferTest {
         byteBuffers.forEach(r -> {
             iteratedCounts.getAndIncrement();
             if (iteratedCounts.get() * bufferSize < totalBytes) {
-                assertThat(r.array()).isEqualTo(StringUtils.repeat("*", bufferSize).getBytes(StandardCharsets.UTF_8));
+                assertThat(BinaryUtils.copyBytesFrom(r))
+                    .isEqualTo(StringUtils.repeat("*", bufferSize).getBytes(StandardCharsets.UTF_8));
             } else {
-                assertThat(r.array()).isEqualTo(StringUtils.repeat("*", 3).getBytes(StandardCharsets.UTF_8));
+                assertThat(BinaryUtils.copyBytesFrom(r)).isEqualTo(StringUtils.repeat("*", 3).getBytes(StandardCharsets.UTF_8));
 
             }
         });
@@ -111,15 +115,75 @@ class ChunkBufferTest {
             iteratedCounts.getAndIncrement();
             if (iteratedCounts.get() * bufferSize < totalBytes) {
                 // array of empty bytes
-                assertThat(r.array()).isEqualTo(ByteBuffer.allocate(bufferSize).array());
+                assertThat(BinaryUtils.copyBytesFrom(r)).isEqualTo(ByteBuffer.allocate(bufferSize).array());
             } else {
-                assertThat(r.array()).isEqualTo(ByteBuffer.allocate(totalBytes % bufferSize).array());
+                assertThat(BinaryUtils.copyBytesFrom(r)).isEqualTo(ByteBuffer.allocate(totalBytes % bufferSize).array());
             }
         });
         assertThat(iteratedCounts.get()).isEqualTo(4);
     }
 
 
+    @Test
+    void wholeChunks_areSlicedFromInputWithoutCopying() {
+        byte[] input = "0123456789".getBytes(StandardCharsets.UTF_8);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(5).totalBytes(input.length).build();
+
+        List<ByteBuffer> chunks = new ArrayList<>();
+        chunkBuffer.bufferAndCreateChunks(ByteBuffer.wrap(input)).forEach(chunks::add);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.array()).isSameAs(input));
+        assertThat(BinaryUtils.copyBytesFrom(chunks.get(1))).isEqualTo("56789".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void directAndOffsetInputBuffers_areChunkedByContent() {
+        String inputString = "abcdefghijklmnopqrstuvw";
+        byte[] bytes = inputString.getBytes(StandardCharsets.UTF_8);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(5).totalBytes(bytes.length).build();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(7);
+        direct.put(bytes, 0, 7).flip();
+        ByteBuffer offset = ByteBuffer.wrap(bytes, 5, bytes.length - 5).slice();
+        offset.position(2);
+
+        StringBuilder result = new StringBuilder();
+        List<Integer> sizes = new ArrayList<>();
+        for (ByteBuffer input : new ByteBuffer[] {direct, offset}) {
+            chunkBuffer.bufferAndCreateChunks(input).forEach(chunk -> {
+                sizes.add(chunk.remaining());
+                result.append(new String(BinaryUtils.copyBytesFrom(chunk), StandardCharsets.UTF_8));
+            });
+        }
+
+        assertThat(direct.position()).isZero();
+        assertThat(offset.position()).isEqualTo(2);
+        assertThat(result.toString()).isEqualTo(inputString);
+        assertThat(sizes).containsExactly(5, 5, 5, 5, 3);
+    }
+
+    @Test
+    void pooledStagingBuffers_areReturnedToPoolOnRelease() {
+        ByteBufferPool pool = ByteBufferPool.heap(5, 2);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(5).totalBytes(12).bufferPool(pool).build();
+
+        List<ByteBuffer> chunks = new ArrayList<>();
+        chunkBuffer.bufferAndCreateChunks(ByteBuffer.wrap("abc".getBytes(StandardCharsets.UTF_8))).forEach(chunks::add);
+        chunkBuffer.bufferAndCreateChunks(ByteBuffer.wrap("defghij".getBytes(StandardCharsets.UTF_8))).forEach(chunks::add);
+        chunkBuffer.bufferAndCreateChunks(ByteBuffer.wrap("kl".getBytes(StandardCharsets.UTF_8))).forEach(chunks::add);
+
+        assertThat(chunks).extracting(c -> new String(BinaryUtils.copyBytesFrom(c), StandardCharsets.UTF_8))
+                          .containsExactly("abcde", "fghij", "kl");
+        assertThat(pool.acquireCount()).isEqualTo(1);
+
+        chunks.forEach(chunkBuffer::release);
+        chunkBuffer.close();
+
+        assertThat(pool.releaseCount()).isEqualTo(1);
+        assertThat(pool.idleBufferCount()).isEqualTo(1);
+    }
+
     /**
      * * Total bytes 11(ChunkSize) 3 (threads)
      * * Buffering Size of 5
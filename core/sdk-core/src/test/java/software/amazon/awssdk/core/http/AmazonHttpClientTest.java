@@ -25,6 +25,8 @@ import static software.amazon.awssdk.core.internal.util.ResponseHandlerTestUtils
 import java.io.IOException;
 import java.net.URI;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -50,6 +52,7 @@ import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import utils.HttpTestUtils;
 import utils.ValidSdkObjects;
 
@@ -218,6 +221,54 @@ public class AmazonHttpClientTest {
         Assert.assertTrue(userAgent.contains("cfg/retry-mode/standard"));
     }
 
+    @Test
+    public void syncCallExecutor_runsCallOnExecutorThread() throws Exception {
+        ExecutorService syncCallExecutor =
+            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().threadNamePrefix("sync-call-test").build());
+        try {
+            AtomicReference<String> handlerThread = new AtomicReference<>();
+            HttpResponseHandler<?> handler = mock(HttpResponseHandler.class);
+            when(handler.handle(any(), any())).thenAnswer(invocation -> {
+                handlerThread.set(Thread.currentThread().getName());
+                return null;
+            });
+
+            syncCallExecutorClient(syncCallExecutor).requestExecutionBuilder()
+                                                    .request(ValidSdkObjects.sdkHttpFullRequest().build())
+                                                    .originalRequest(NoopTestRequest.builder().build())
+                                                    .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                                          .executionContext(null))
+                                                    .execute(combinedSyncResponseHandler(handler, null));
+
+            Assert.assertTrue(handlerThread.get().startsWith("sync-call-test"));
+        } finally {
+            syncCallExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void syncCallExecutor_callFails_exceptionIsThrownToCaller() throws Exception {
+        ExecutorService syncCallExecutor = Executors.newSingleThreadExecutor();
+        try {
+            IOException ioException = new IOException("BOOM");
+            when(abortableCallable.call()).thenThrow(ioException);
+
+            try {
+                syncCallExecutorClient(syncCallExecutor).requestExecutionBuilder()
+                                                        .request(ValidSdkObjects.sdkHttpFullRequest().build())
+                                                        .originalRequest(NoopTestRequest.builder().build())
+                                                        .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                                              .executionContext(null))
+                                                        .execute(combinedSyncResponseHandler(null, null));
+                Assert.fail("No exception when request repeatedly fails!");
+            } catch (SdkClientException e) {
+                Assert.assertSame(ioException, e.getCause());
+            }
+        } finally {
+            syncCallExecutor.shutdownNow();
+        }
+    }
+
     @Test
     public void closeClient_shouldCloseDependencies() {
         SdkClientConfiguration config = HttpTestUtils.testClientConfiguration()
@@ -232,6 +283,15 @@ public class AmazonHttpClientTest {
         verify(executor).shutdown();
     }
 
+    private AmazonSyncHttpClient syncCallExecutorClient(ExecutorService syncCallExecutor) {
+        SdkClientConfiguration config = HttpTestUtils.testClientConfiguration()
+                                                     .toBuilder()
+                                                     .option(SdkAdvancedClientOption.SYNC_CALL_EXECUTOR, syncCallExecutor)
+                                                     .option(SdkClientOption.SYNC_HTTP_CLIENT, sdkHttpClient)
+                                                     .build();
+        return new AmazonSyncHttpClient(config);
+    }
+
     private void stubSuccessfulResponse() throws Exception {
         when(abortableCallable.call()).thenReturn(HttpExecuteResponse.builder().response(SdkHttpResponse.builder()
                                                                                                         .statusCode(200)
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void releasedBuffer_isReusedAndCleared() {
+        ByteBufferPool pool = ByteBufferPool.heap(8, 1);
+        ByteBuffer buffer = pool.acquire();
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquire();
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(reused.remaining()).isEqualTo(8);
+        assertThat(pool.acquireCount()).isEqualTo(2);
+        assertThat(pool.allocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseWhenFull_discardsBuffer() {
+        ByteBufferPool pool = ByteBufferPool.heap(8, 1);
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.idleBufferCount()).isEqualTo(1);
+        assertThat(pool.releaseCount()).isEqualTo(2);
+        assertThat(pool.discardCount()).isEqualTo(1);
+    }
+
+    @Test
+    void foreignBuffers_areDiscarded() {
+        ByteBufferPool pool = ByteBufferPool.direct(8, 4);
+        pool.release(ByteBuffer.allocate(8));
+        pool.release(ByteBuffer.allocateDirect(16));
+
+        assertThat(pool.idleBufferCount()).isZero();
+        assertThat(pool.discardCount()).isEqualTo(2);
+        assertThat(pool.acquire().isDirect()).isTrue();
+    }
+}
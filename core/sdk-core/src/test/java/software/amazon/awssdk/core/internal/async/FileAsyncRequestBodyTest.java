@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
@@ -37,6 +38,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration.ReadStrategy;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -226,10 +229,124 @@ public class FileAsyncRequestBodyTest {
             .hasCauseInstanceOf(IOException.class);
     }
 
+    @Test
+    public void memoryMapped_readsFileContentsAsReadOnlyChunks() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(10_000)
+                                                                .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                .readAheadChunks(3)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.readOnlyChunks).isTrue();
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_readFully_doesNotRequestPastEndOfFile_receivesComplete() throws Exception {
+        int chunkSize = 16384;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(chunkSize)
+                                                                .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        for (long i = 0; i < TEST_FILE_SIZE / chunkSize; i++) {
+            subscriber.sub.request(1);
+        }
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.output.size()).isEqualTo(TEST_FILE_SIZE);
+    }
+
+    @Test
+    public void memoryMapped_configuredThroughFromFile_readsFileContentsAsReadOnlyChunks() throws Exception {
+        AsyncRequestBody asyncRequestBody =
+            AsyncRequestBody.fromFile(FileRequestBodyConfiguration.builder()
+                                                                  .path(testFile)
+                                                                  .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                  .build());
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.readOnlyChunks).isTrue();
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_mapsOnlyRequestedChunks() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(10_000)
+                                                                .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(2);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(2, 5, TimeUnit.SECONDS));
+
+        // Each chunk is a slice of the mapped region, so its capacity is what was left of the region
+        assertThat(subscriber.firstChunkCapacity).isEqualTo(20_000);
+
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_emptyFile_completesOnFirstRequest() throws Exception {
+        Files.write(testFile, new byte[0]);
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.output.size()).isZero();
+    }
+
+    @Test
+    public void memoryMapped_fileGetsTouched_failsBecauseUpdatedModificationTime() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .readStrategy(ReadStrategy.MEMORY_MAPPED)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        Thread.sleep(1_000); // Wait for 1 second so that we are definitely in a different second than when the file was created
+        Files.setLastModifiedTime(testFile, FileTime.from(Instant.now()));
+
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
         private final Semaphore onNextSemaphore = new Semaphore(0);
+        private volatile boolean readOnlyChunks = true;
+        private volatile int firstChunkCapacity = -1;
         private Subscription sub;
 
         @Override
@@ -239,6 +356,10 @@ public class FileAsyncRequestBodyTest {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            readOnlyChunks &= byteBuffer.isReadOnly();
+            if (firstChunkCapacity == -1) {
+                firstChunkCapacity = byteBuffer.capacity();
+            }
             invokeSafely(() -> output.write(BinaryUtils.copyBytesFrom(byteBuffer)));
             onNextSemaphore.release();
         }
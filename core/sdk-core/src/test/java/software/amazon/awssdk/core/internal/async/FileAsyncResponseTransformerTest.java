@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -107,6 +109,42 @@ class FileAsyncResponseTransformerTest {
         assertThat(future.isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    void releasableSubscriber_releasesBufferAfterItIsWritten() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath);
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+
+        String content = RandomStringUtils.randomAlphanumeric(30000);
+        AtomicInteger releaseCount = new AtomicInteger();
+        transformer.onStream(subscriber -> {
+            ReleasableByteBufferSubscriber releasableSubscriber = (ReleasableByteBufferSubscriber) subscriber;
+            releasableSubscriber.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+                    releasableSubscriber.onNext(buffer, releaseCount::incrementAndGet);
+                    releasableSubscriber.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        });
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(releaseCount).hasValue(1);
+        assertThat(testPath).hasContent(content);
+    }
+
     @Test
     void noConfiguration_fileAlreadyExists_shouldThrowException() throws Exception {
         Path testPath = testFs.getPath("test_file.txt");
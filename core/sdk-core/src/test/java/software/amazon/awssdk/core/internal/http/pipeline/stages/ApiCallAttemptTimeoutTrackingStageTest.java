@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -23,9 +24,12 @@ import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,7 +38,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -91,6 +97,66 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
         assertThat(context.apiCallAttemptTimeoutTracker().hasExecuted()).isFalse();
     }
 
+    @Test
+    public void interruptFreeTimeouts_timedOut_abortsRequestWithoutInterruptingThread() throws Exception {
+        ScheduledExecutorService realTimeoutExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ApiCallAttemptTimeoutTrackingStage<Void> interruptFreeStage =
+                new ApiCallAttemptTimeoutTrackingStage<>(interruptFreeDependencies(realTimeoutExecutor), wrapped);
+            when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+                .thenAnswer(invocationOnMock -> {
+                    RequestExecutionContext context = invocationOnMock.getArgument(1);
+                    CountDownLatch aborted = new CountDownLatch(1);
+                    context.apiCallAttemptTimeoutTracker().abortable(aborted::countDown);
+                    assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+                    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+                    throw new InterruptedException();
+                });
+
+            RequestExecutionContext context = requestContext(100);
+            assertThatThrownBy(() -> interruptFreeStage.execute(mock(SdkHttpFullRequest.class), context))
+                .isInstanceOf(ApiCallAttemptTimeoutException.class);
+            assertThat(context.apiCallAttemptTimeoutTracker().hasExecuted()).isTrue();
+            assertThat(Thread.interrupted()).isFalse();
+        } finally {
+            realTimeoutExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void interruptFreeTimeouts_requestRegisteredAfterTimeout_isAbortedImmediately() throws Exception {
+        ScheduledExecutorService realTimeoutExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ApiCallAttemptTimeoutTrackingStage<Void> interruptFreeStage =
+                new ApiCallAttemptTimeoutTrackingStage<>(interruptFreeDependencies(realTimeoutExecutor), wrapped);
+            AtomicBoolean aborted = new AtomicBoolean();
+            when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+                .thenAnswer(invocationOnMock -> {
+                    RequestExecutionContext context = invocationOnMock.getArgument(1);
+                    Thread.sleep(300);
+                    context.apiCallAttemptTimeoutTracker().abortable(() -> aborted.set(true));
+                    return null;
+                });
+
+            RequestExecutionContext context = requestContext(100);
+            interruptFreeStage.execute(mock(SdkHttpFullRequest.class), context);
+
+            assertThat(aborted).isTrue();
+            assertThat(Thread.interrupted()).isFalse();
+        } finally {
+            realTimeoutExecutor.shutdownNow();
+        }
+    }
+
+    private HttpClientDependencies interruptFreeDependencies(ScheduledExecutorService executor) {
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(SdkClientConfiguration.builder()
+                                                                                .option(SCHEDULED_EXECUTOR_SERVICE, executor)
+                                                                                .option(SdkAdvancedClientOption
+                                                                                            .INTERRUPT_FREE_TIMEOUTS, true)
+                                                                                .build())
+                                     .build();
+    }
 
     private RequestExecutionContext requestContext(long timeout) {
         SdkRequestOverrideConfiguration.Builder configBuilder = SdkRequestOverrideConfiguration.builder();
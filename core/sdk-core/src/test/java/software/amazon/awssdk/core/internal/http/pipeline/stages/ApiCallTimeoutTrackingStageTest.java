@@ -23,8 +23,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,16 +35,21 @@ import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -51,11 +58,13 @@ public class ApiCallTimeoutTrackingStageTest {
     @Mock
     private RequestPipeline<SdkHttpFullRequest, Response<Void>> wrapped;
 
+    private ScheduledExecutorService timeoutExecutor;
+
     private ApiCallTimeoutTrackingStage<Void> stage;
 
     @Before
     public void setUp() throws Exception {
-        final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder()
+        timeoutExecutor = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder()
             .threadNamePrefix("sdk-ScheduledExecutor-test").build());
         stage = new ApiCallTimeoutTrackingStage<>(HttpClientDependencies.builder()
                                                                         .clientConfiguration(SdkClientConfiguration.builder()
@@ -126,6 +135,83 @@ public class ApiCallTimeoutTrackingStageTest {
         }
     }
 
+    @Test
+    public void interruptFreeTimeouts_timedOut_abortsRequestWithoutInterruptingThread() throws Exception {
+        ApiCallTimeoutTrackingStage<Void> interruptFreeStage =
+            new ApiCallTimeoutTrackingStage<>(interruptFreeDependencies(RetryPolicy.none()), wrapped);
+        when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+            .thenAnswer(invocationOnMock -> {
+                RequestExecutionContext context = invocationOnMock.getArgument(1);
+                CountDownLatch aborted = new CountDownLatch(1);
+                context.apiCallTimeoutTracker().abortable(aborted::countDown);
+                assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(Thread.currentThread().isInterrupted()).isFalse();
+                // TimeoutExceptionHandlingStage reports a request aborted by the API call timeout as an InterruptedException
+                throw new InterruptedException();
+            });
+
+        RequestExecutionContext context = requestContext(100);
+        assertThatThrownBy(() -> interruptFreeStage.execute(mock(SdkHttpFullRequest.class), context))
+            .isInstanceOf(ApiCallTimeoutException.class);
+        assertThat(context.apiCallTimeoutTracker().hasExecuted()).isTrue();
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    public void interruptFreeTimeouts_timedOutAfterNonTimerInterruption_interruptFlagIsPreserved() throws Exception {
+        ApiCallTimeoutTrackingStage<Void> interruptFreeStage =
+            new ApiCallTimeoutTrackingStage<>(interruptFreeDependencies(RetryPolicy.none()), wrapped);
+        when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+            .thenAnswer(invocationOnMock -> {
+                Thread.sleep(300);
+                Thread.currentThread().interrupt();
+                return null;
+            });
+
+        RequestExecutionContext context = requestContext(100);
+        interruptFreeStage.execute(mock(SdkHttpFullRequest.class), context);
+
+        assertThat(context.apiCallTimeoutTracker().hasExecuted()).isTrue();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    public void interruptFreeTimeouts_timedOutDuringBackoff_endsBackoff() throws Exception {
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                                             .numRetries(3)
+                                             .retryCondition(c -> true)
+                                             .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMinutes(1)))
+                                             .build();
+        HttpClientDependencies dependencies = interruptFreeDependencies(retryPolicy);
+        ApiCallTimeoutTrackingStage<Void> interruptFreeStage =
+            new ApiCallTimeoutTrackingStage<>(dependencies, new RetryableStage<>(dependencies, wrapped));
+        when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+            .thenThrow(SdkClientException.create("Attempt failed"));
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("amazon.com")
+                                                       .build();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> interruptFreeStage.execute(request, requestContext(200)))
+            .isInstanceOf(ApiCallTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(30));
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    private HttpClientDependencies interruptFreeDependencies(RetryPolicy retryPolicy) {
+        SdkClientConfiguration clientConfiguration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE, timeoutExecutor)
+                                  .option(SdkClientOption.RETRY_POLICY, retryPolicy)
+                                  .option(SdkAdvancedClientOption.INTERRUPT_FREE_TIMEOUTS, true)
+                                  .build();
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(clientConfiguration)
+                                     .build();
+    }
+
     private RequestExecutionContext requestContext(long timeout) {
         SdkRequestOverrideConfiguration.Builder configBuilder = SdkRequestOverrideConfiguration.builder();
 
@@ -77,4 +77,42 @@ public class SyncTimeoutTaskTest {
         task.cancel();
         assertThat(interrupted.get()).isFalse();
     }
+
+    @Test
+    public void interruptFreeTask_run_abortsWithoutInterruptingThread() {
+        SyncTimeoutTask task = new SyncTimeoutTask(Thread.currentThread(), false);
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        task.abortable(() -> aborted.set(true));
+        task.run();
+
+        assertThat(task.hasExecuted()).isTrue();
+        assertThat(aborted.get()).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void interruptFreeTask_abortableSetAfterRun_isAbortedImmediately() {
+        SyncTimeoutTask task = new SyncTimeoutTask(Thread.currentThread(), false);
+        task.run();
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        task.abortable(() -> aborted.set(true));
+
+        assertThat(aborted.get()).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void interruptFreeTask_cancelledBeforeRun_doesNotAbort() {
+        SyncTimeoutTask task = new SyncTimeoutTask(Thread.currentThread(), false);
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        task.abortable(() -> aborted.set(true));
+        task.cancel();
+        task.run();
+
+        assertThat(task.hasExecuted()).isFalse();
+        assertThat(aborted.get()).isFalse();
+    }
 }
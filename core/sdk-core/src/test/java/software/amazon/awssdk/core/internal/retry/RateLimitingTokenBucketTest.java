@@ -18,7 +18,11 @@ package software.amazon.awssdk.core.internal.retry;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -154,4 +158,42 @@ public class RateLimitingTokenBucketTest {
 
         assertThat(tb.tryAcquireCapacity(5.0)).isEqualTo(2.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void acquire_concurrentCallers_acquireCapacityExactlyOnce() throws InterruptedException {
+        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
+
+        // stub out refill() so we have control over the capacity
+        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+
+        int threads = 16;
+        int acquiresPerThread = 1000;
+        tb.setFillRate(1.0);
+        tb.setCurrentCapacity(threads * acquiresPerThread / 2);
+        tb.enable();
+
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < acquiresPerThread; j++) {
+                        if (tb.acquire(1.0, true)) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(acquired.get()).isEqualTo(threads * acquiresPerThread / 2);
+        assertThat(tb.getCurrentCapacity()).isZero();
+    }
+}
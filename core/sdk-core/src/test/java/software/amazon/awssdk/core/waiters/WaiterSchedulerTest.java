@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+public class WaiterSchedulerTest extends BaseWaiterTest {
+    private static WaiterScheduler waiterScheduler;
+
+    @BeforeAll
+    public static void setUpScheduler() {
+        waiterScheduler = WaiterScheduler.builder().tickDuration(Duration.ofMillis(10)).jitter(0.0).build();
+    }
+
+    @AfterAll
+    public static void tearDownScheduler() {
+        waiterScheduler.close();
+    }
+
+    @Override
+    public BiFunction<Integer, TestWaiterConfiguration, WaiterResponse<String>> successOnResponseWaiterOperation() {
+        return (count, waiterConfiguration) -> waiter(waiterConfiguration, waiterScheduler)
+            .runAsync(resource(count, CompletableFuture::completedFuture)).join();
+    }
+
+    @Override
+    public BiFunction<Integer, TestWaiterConfiguration, WaiterResponse<String>> successOnExceptionWaiterOperation() {
+        return (count, waiterConfiguration) -> waiter(waiterConfiguration, waiterScheduler)
+            .runAsync(resource(count, m -> CompletableFutureUtils.failedFuture(new RuntimeException(m)))).join();
+    }
+
+    @Test
+    public void manyWaiters_inFlightPollsAreBounded() {
+        try (WaiterScheduler scheduler = WaiterScheduler.builder()
+                                                        .tickDuration(Duration.ofMillis(10))
+                                                        .maxConcurrentPolls(2)
+                                                        .build()) {
+            TestWaiterConfiguration waiterConfig = new TestWaiterConfiguration()
+                .overrideConfiguration(p -> p.maxAttempts(3).backoffStrategy(BackoffStrategy.none()))
+                .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(s -> s.equals(SUCCESS_STATE_MESSAGE)))
+                .addAcceptor(WaiterAcceptor.retryOnResponseAcceptor(i -> true));
+            AsyncWaiter<String> waiter = waiter(waiterConfig, scheduler);
+
+            ConcurrentLinkedQueue<CompletableFuture<String>> polls = new ConcurrentLinkedQueue<>();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            List<CompletableFuture<WaiterResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                responses.add(waiter.runAsync(() -> {
+                    maxInFlight.accumulateAndGet(scheduler.inFlightPolls(), Math::max);
+                    CompletableFuture<String> poll = new CompletableFuture<>();
+                    polls.add(poll);
+                    return poll;
+                }));
+            }
+
+            assertThat(scheduler.pendingWaits()).isEqualTo(10);
+            assertThat(scheduler.inFlightPolls()).isEqualTo(2);
+            assertThat(scheduler.queuedPolls()).isEqualTo(8);
+
+            // Each waiter succeeds on its first attempt; completing a poll starts the next queued one.
+            CompletableFuture<String> poll;
+            int completed = 0;
+            while (completed < 10) {
+                poll = polls.poll();
+                if (poll != null) {
+                    poll.complete(SUCCESS_STATE_MESSAGE);
+                    completed++;
+                }
+            }
+
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+            assertThat(maxInFlight.get()).isEqualTo(2);
+            assertThat(scheduler.pendingWaits()).isZero();
+            assertThat(scheduler.inFlightPolls()).isZero();
+            assertThat(scheduler.queuedPolls()).isZero();
+            assertThat(scheduler.completedPolls()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    public void closedScheduler_failsWaitingWaiters() {
+        WaiterScheduler scheduler = WaiterScheduler.create();
+        TestWaiterConfiguration waiterConfig = new TestWaiterConfiguration()
+            .overrideConfiguration(p -> p.maxAttempts(3).backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMinutes(1))))
+            .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(s -> s.equals(SUCCESS_STATE_MESSAGE)))
+            .addAcceptor(WaiterAcceptor.retryOnResponseAcceptor(i -> true));
+
+        CompletableFuture<WaiterResponse<String>> response =
+            waiter(waiterConfig, scheduler).runAsync(resource(2, CompletableFuture::completedFuture));
+        assertThat(response).isNotDone();
+
+        scheduler.close();
+
+        assertThatThrownBy(response::join).hasMessageContaining("The waiter scheduler has been closed");
+        assertThatThrownBy(() -> waiter(waiterConfig, scheduler).runAsync(resource(1, CompletableFuture::completedFuture))
+                                                                .join())
+            .hasMessageContaining("The waiter scheduler has been closed");
+    }
+
+    @Test
+    public void customScheduler_schedulesEveryAttempt() {
+        RecordingWaiterScheduler scheduler = new RecordingWaiterScheduler();
+        TestWaiterConfiguration waiterConfig = new TestWaiterConfiguration()
+            .overrideConfiguration(p -> p.maxAttempts(3).backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofSeconds(1))))
+            .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(s -> s.equals(SUCCESS_STATE_MESSAGE)))
+            .addAcceptor(WaiterAcceptor.retryOnResponseAcceptor(i -> true));
+
+        WaiterResponse<String> response =
+            waiter(waiterConfig, scheduler).runAsync(resource(3, CompletableFuture::completedFuture)).join();
+
+        assertThat(response.attemptsExecuted()).isEqualTo(3);
+        assertThat(scheduler.waits).hasValue(1);
+        assertThat(scheduler.delays).containsExactly(Duration.ZERO, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    private static AsyncWaiter<String> waiter(TestWaiterConfiguration waiterConfiguration, WaiterScheduler scheduler) {
+        return AsyncWaiter.builder(String.class)
+                          .overrideConfiguration(waiterConfiguration.getPollingStrategy())
+                          .acceptors(waiterConfiguration.getWaiterAcceptors())
+                          .waiterScheduler(scheduler)
+                          .build();
+    }
+
+    /**
+     * A polling function that returns the non success state message until the attempt with the provided index.
+     */
+    private static Supplier<CompletableFuture<String>> resource(int successAttemptIndex,
+                                                                Function<String, CompletableFuture<String>> result) {
+        AtomicInteger count = new AtomicInteger();
+        return () -> result.apply(count.incrementAndGet() < successAttemptIndex ? NON_SUCCESS_STATE_MESSAGE
+                                                                                 : SUCCESS_STATE_MESSAGE);
+    }
+
+    /**
+     * A scheduler that runs every attempt immediately and records the delays it was asked to wait for.
+     */
+    private static final class RecordingWaiterScheduler implements WaiterScheduler {
+        private final AtomicInteger waits = new AtomicInteger();
+        private final List<Duration> delays = new ArrayList<>();
+
+        @Override
+        public void waitStarted(CompletableFuture<?> waiterFuture) {
+            waits.incrementAndGet();
+        }
+
+        @Override
+        public synchronized <T> CompletableFuture<T> schedule(Supplier<CompletableFuture<T>> pollingFunction,
+                                                              Duration delay,
+                                                              CompletableFuture<?> waiterFuture) {
+            delays.add(delay);
+            return pollingFunction.get();
+        }
+
+        @Override
+        public int pendingWaits() {
+            return 0;
+        }
+
+        @Override
+        public int inFlightPolls() {
+            return 0;
+        }
+
+        @Override
+        public int queuedPolls() {
+            return 0;
+        }
+
+        @Override
+        public long completedPolls() {
+            return delays.size();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
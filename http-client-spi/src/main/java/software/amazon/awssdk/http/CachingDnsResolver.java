@@ -0,0 +1,345 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.Security;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * An {@link SdkDnsResolver} that caches the addresses of each host for a time-to-live, and can be shared by several HTTP
+ * clients.
+ *
+ * <ul>
+ *     <li>Lookups are performed on background threads, and concurrent lookups of the same host share a single lookup, so
+ *     that a slow name service does not hold up connection acquisition in {@link #resolveAsync(String)}.</li>
+ *     <li>When the cached addresses of a host expire, they continue to be returned while they are refreshed in the
+ *     background. If the refresh fails, the addresses are removed from the cache.</li>
+ *     <li>The cache holds at most {@link Builder#maxEntries(Integer)} hosts. When a new host would exceed it, expired hosts
+ *     are removed first, and then the hosts that expire soonest.</li>
+ *     <li>The addresses are ordered as described by <a href="https://www.rfc-editor.org/rfc/rfc8305#section-4">RFC 8305</a>,
+ *     alternating between IPv6 and IPv4 addresses starting with the family of the first address returned by the name
+ *     service. The Apache client tries the addresses in order until a connection succeeds, and the Netty client starts
+ *     staggered connection attempts to them, so both try the other family second. Clients that only connect to the first
+ *     address do not fall back to the others.</li>
+ *     <li>By default, each resolution rotates the addresses within each family, so that new connections are spread across
+ *     all the addresses of a host instead of all going to the first one.</li>
+ * </ul>
+ *
+ * <p>The name service of the JVM also caches lookups, for {@code networkaddress.cache.ttl} seconds. When that security
+ * property is set, it is the default time-to-live of this cache. This resolver should be {@link #close() closed} when it is
+ * no longer needed, to stop its lookup threads.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class CachingDnsResolver implements SdkDnsResolver, SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(CachingDnsResolver.class);
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_ENTRIES = 1024;
+    private static final int MAX_LOOKUP_THREADS = 4;
+
+    private final SdkDnsResolver delegate;
+    private final long timeToLiveNanos;
+    private final boolean rotateAddresses;
+    private final int maxEntries;
+    private final ThreadPoolExecutor lookupExecutor;
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CacheEntry>> lookups = new ConcurrentHashMap<>();
+
+    private CachingDnsResolver(DefaultBuilder builder) {
+        this.delegate = builder.delegate != null ? builder.delegate : SdkDnsResolver.systemResolver();
+        this.timeToLiveNanos = (builder.timeToLive != null ? builder.timeToLive : defaultTimeToLive()).toNanos();
+        this.rotateAddresses = builder.rotateAddresses == null || builder.rotateAddresses;
+        this.maxEntries = builder.maxEntries != null ? builder.maxEntries : DEFAULT_MAX_ENTRIES;
+        this.lookupExecutor = new ThreadPoolExecutor(MAX_LOOKUP_THREADS, MAX_LOOKUP_THREADS, 60, TimeUnit.SECONDS,
+                                                     new LinkedBlockingQueue<>(),
+                                                     new ThreadFactoryBuilder().threadNamePrefix("sdk-dns-resolver")
+                                                                               .daemonThreads(true)
+                                                                               .build());
+        this.lookupExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Create a resolver that caches the addresses returned by the name service of the JVM, with the default configuration.
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        try {
+            return resolveAsync(host).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unknownHost(host, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnknownHostException) {
+                throw (UnknownHostException) e.getCause();
+            }
+            throw unknownHost(host, e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<InetAddress[]> resolveAsync(String host) {
+        CacheEntry entry = cache.get(host);
+        if (entry != null) {
+            if (entry.isExpired(System.nanoTime())) {
+                lookup(host);
+            }
+            return CompletableFuture.completedFuture(entry.addresses());
+        }
+        return lookup(host).thenApply(CacheEntry::addresses);
+    }
+
+    /**
+     * Start a lookup of a host, or return the lookup that is already in progress.
+     */
+    private CompletableFuture<CacheEntry> lookup(String host) {
+        CompletableFuture<CacheEntry> lookup = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> inProgress = lookups.putIfAbsent(host, lookup);
+        if (inProgress != null) {
+            return inProgress;
+        }
+
+        try {
+            lookupExecutor.execute(() -> {
+                try {
+                    InetAddress[] addresses = delegate.resolve(host);
+                    if (addresses == null || addresses.length == 0) {
+                        throw new UnknownHostException("No addresses were resolved for " + host);
+                    }
+                    CacheEntry entry = new CacheEntry(addresses, System.nanoTime() + timeToLiveNanos);
+                    if (cache.put(host, entry) == null) {
+                        evictIfFull();
+                    }
+                    lookups.remove(host, lookup);
+                    lookup.complete(entry);
+                } catch (Throwable t) {
+                    log.debug(() -> "Unable to resolve " + host + ", removing it from the DNS cache.", t);
+                    cache.remove(host);
+                    lookups.remove(host, lookup);
+                    lookup.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lookups.remove(host, lookup);
+            lookup.completeExceptionally(unknownHost(host, e));
+        }
+        return lookup;
+    }
+
+    /**
+     * Remove entries until the cache is within its maximum size: expired entries first, then the entries that expire soonest.
+     * This only runs when a host is added to the cache.
+     */
+    private void evictIfFull() {
+        if (cache.size() <= maxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        cache.entrySet().removeIf(e -> e.getValue().isExpired(now) && !lookups.containsKey(e.getKey()));
+        while (cache.size() > maxEntries) {
+            Map.Entry<String, CacheEntry> soonest = null;
+            for (Map.Entry<String, CacheEntry> e : cache.entrySet()) {
+                if (soonest == null || e.getValue().expiresAtNanos - soonest.getValue().expiresAtNanos < 0) {
+                    soonest = e;
+                }
+            }
+            if (soonest == null) {
+                return;
+            }
+            cache.remove(soonest.getKey(), soonest.getValue());
+        }
+    }
+
+    private static UnknownHostException unknownHost(String host, Throwable cause) {
+        UnknownHostException exception = new UnknownHostException("Unable to resolve " + host);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private static Duration defaultTimeToLive() {
+        String jvmTimeToLive = Security.getProperty("networkaddress.cache.ttl");
+        if (jvmTimeToLive != null) {
+            try {
+                long seconds = Long.parseLong(jvmTimeToLive.trim());
+                if (seconds > 0) {
+                    return Duration.ofSeconds(seconds);
+                }
+            } catch (NumberFormatException e) {
+                log.debug(() -> "Ignoring invalid networkaddress.cache.ttl: " + jvmTimeToLive);
+            }
+        }
+        return DEFAULT_TIME_TO_LIVE;
+    }
+
+    @Override
+    public void close() {
+        lookupExecutor.shutdownNow();
+        cache.clear();
+    }
+
+    /**
+     * The addresses of a host, split by address family in the order in which the families should be tried.
+     */
+    private final class CacheEntry {
+        private final InetAddress[] firstFamily;
+        private final InetAddress[] secondFamily;
+        private final long expiresAtNanos;
+        private final AtomicInteger rotation = new AtomicInteger();
+
+        private CacheEntry(InetAddress[] addresses, long expiresAtNanos) {
+            List<InetAddress> first = new ArrayList<>();
+            List<InetAddress> second = new ArrayList<>();
+            for (InetAddress address : addresses) {
+                boolean sameFamily = address instanceof Inet4Address == addresses[0] instanceof Inet4Address;
+                (sameFamily ? first : second).add(address);
+            }
+            this.firstFamily = first.toArray(new InetAddress[0]);
+            this.secondFamily = second.toArray(new InetAddress[0]);
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+
+        /**
+         * The addresses of both families, interleaved, with each family rotated by one address per invocation.
+         */
+        private InetAddress[] addresses() {
+            int offset = rotateAddresses ? rotation.getAndIncrement() & Integer.MAX_VALUE : 0;
+            InetAddress[] result = new InetAddress[firstFamily.length + secondFamily.length];
+            int index = 0;
+            for (int i = 0; i < Math.max(firstFamily.length, secondFamily.length); i++) {
+                if (i < firstFamily.length) {
+                    result[index++] = firstFamily[(i + offset) % firstFamily.length];
+                }
+                if (i < secondFamily.length) {
+                    result[index++] = secondFamily[(i + offset) % secondFamily.length];
+                }
+            }
+            return result;
+        }
+    }
+
+    public interface Builder extends SdkBuilder<Builder, CachingDnsResolver> {
+        /**
+         * The resolver whose results are cached. By default, this is {@link SdkDnsResolver#systemResolver()}.
+         */
+        Builder delegate(SdkDnsResolver delegate);
+
+        /**
+         * How long the addresses of a host are cached before they are refreshed. By default, this is the value of the
+         * {@code networkaddress.cache.ttl} security property if it is positive, or 30 seconds otherwise.
+         */
+        Builder timeToLive(Duration timeToLive);
+
+        /**
+         * Whether each resolution rotates the addresses of a host, to spread new connections across all of them. By default,
+         * this is enabled.
+         */
+        Builder rotateAddresses(Boolean rotateAddresses);
+
+        /**
+         * The maximum number of hosts whose addresses are cached. When a new host would exceed it, expired hosts are removed
+         * first, and then the hosts that expire soonest. By default, this is 1024.
+         */
+        Builder maxEntries(Integer maxEntries);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SdkDnsResolver delegate;
+        private Duration timeToLive;
+        private Boolean rotateAddresses;
+        private Integer maxEntries;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder delegate(SdkDnsResolver delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public void setDelegate(SdkDnsResolver delegate) {
+            delegate(delegate);
+        }
+
+        @Override
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = Validate.isPositiveOrNull(timeToLive, "timeToLive");
+            return this;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            timeToLive(timeToLive);
+        }
+
+        @Override
+        public Builder rotateAddresses(Boolean rotateAddresses) {
+            this.rotateAddresses = rotateAddresses;
+            return this;
+        }
+
+        public void setRotateAddresses(Boolean rotateAddresses) {
+            rotateAddresses(rotateAddresses);
+        }
+
+        @Override
+        public Builder maxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries == null ? null : Validate.isPositive(maxEntries, "maxEntries");
+            return this;
+        }
+
+        public void setMaxEntries(Integer maxEntries) {
+            maxEntries(maxEntries);
+        }
+
+        @Override
+        public CachingDnsResolver build() {
+            return new CachingDnsResolver(this);
+        }
+    }
+}
@@ -42,6 +42,19 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of HTTP/2 connections that were open to the endpoint when this request was executed.
+     */
+    public static final SdkMetric<Integer> OPEN_CONNECTIONS =
+        metric("OpenHttp2Connections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of active HTTP/2 streams on the connection that this request was executed on, including the stream of the
+     * request itself.
+     */
+    public static final SdkMetric<Integer> CONNECTION_ACTIVE_STREAMS =
+        metric("ConnectionActiveStreams", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Resolves host names to the IP addresses that an HTTP client connects to. The Apache client tries the returned addresses
+ * in order until a connection succeeds. The Netty client starts a connection attempt to the first address, and to each
+ * following address if the previous attempts have neither succeeded nor failed after a short delay, and uses the first
+ * connection that succeeds.
+ *
+ * @see CachingDnsResolver
+ */
+@SdkPublicApi
+@FunctionalInterface
+public interface SdkDnsResolver {
+
+    /**
+     * Resolve the IP addresses of a host.
+     *
+     * @param host The host name to resolve.
+     * @return The IP addresses of the host, in the order in which they should be connected to.
+     * @throws UnknownHostException If the host could not be resolved.
+     */
+    InetAddress[] resolve(String host) throws UnknownHostException;
+
+    /**
+     * Resolve the IP addresses of a host without blocking the calling thread, if the resolver supports it. This is used by
+     * asynchronous HTTP clients, which must not block their I/O threads. By default, this invokes {@link #resolve(String)}
+     * on the calling thread.
+     *
+     * @param host The host name to resolve.
+     * @return A future that completes with the IP addresses of the host, or with an {@link UnknownHostException}.
+     */
+    default CompletableFuture<InetAddress[]> resolveAsync(String host) {
+        try {
+            return CompletableFuture.completedFuture(resolve(host));
+        } catch (UnknownHostException | RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return A resolver that uses the name service of the JVM, via {@link InetAddress#getAllByName(String)}.
+     */
+    static SdkDnsResolver systemResolver() {
+        return InetAddress::getAllByName;
+    }
+}
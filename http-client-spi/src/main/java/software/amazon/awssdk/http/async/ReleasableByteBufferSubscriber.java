@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A {@link Subscriber} of a response body that can receive the body's chunks as views over buffers owned by the HTTP client,
+ * instead of as copies of them.
+ * <p>
+ * HTTP clients that support it, when configured to, call {@link #onNext(ByteBuffer, Runnable)} instead of
+ * {@link #onNext(ByteBuffer)} for each chunk. The subscriber then owns the underlying buffer until it runs the provided
+ * release callback, after which the buffer may be reused by the HTTP client for other responses. HTTP clients that do not
+ * support it, and publishers that transform the body, call {@link #onNext(ByteBuffer)} as usual.
+ */
+@SdkPublicApi
+public interface ReleasableByteBufferSubscriber extends Subscriber<ByteBuffer> {
+
+    /**
+     * Receive the next chunk of the body as a read-only view over a buffer owned by the HTTP client.
+     * <p>
+     * The view must not be read after {@code release} has been run. The subscriber must run {@code release} once it has
+     * finished reading the view, including when it fails or is cancelled before doing so; a chunk that is never released is
+     * never returned to the HTTP client's buffer pool. Running {@code release} more than once has no effect.
+     *
+     * @param byteBuffer the read-only view of the next chunk
+     * @param release the callback that returns the chunk's buffer to the HTTP client
+     */
+    void onNext(ByteBuffer byteBuffer, Runnable release);
+}
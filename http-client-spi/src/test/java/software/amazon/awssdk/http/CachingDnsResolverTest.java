@@ -0,0 +1,179 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingDnsResolverTest {
+    private static final InetAddress IPV4_1 = address("10.0.0.1");
+    private static final InetAddress IPV4_2 = address("10.0.0.2");
+    private static final InetAddress IPV6_1 = address("2001:db8::1");
+    private static final InetAddress IPV6_2 = address("2001:db8::2");
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private volatile InetAddress[] addresses;
+
+    @BeforeEach
+    public void setup() {
+        addresses = new InetAddress[] {IPV6_1, IPV6_2, IPV4_1, IPV4_2};
+    }
+
+    @Test
+    public void resolve_cachesAddresses() throws Exception {
+        try (CachingDnsResolver resolver = resolver(Duration.ofMinutes(1), false)) {
+            resolver.resolve("example.com");
+            resolver.resolve("example.com");
+
+            assertThat(lookups.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void resolve_interleavesAddressFamilies() throws Exception {
+        try (CachingDnsResolver resolver = resolver(Duration.ofMinutes(1), false)) {
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV6_1, IPV4_1, IPV6_2, IPV4_2);
+        }
+    }
+
+    @Test
+    public void resolve_rotatesAddressesWithinEachFamily() throws Exception {
+        try (CachingDnsResolver resolver = resolver(Duration.ofMinutes(1), true)) {
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV6_1, IPV4_1, IPV6_2, IPV4_2);
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV6_2, IPV4_2, IPV6_1, IPV4_1);
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV6_1, IPV4_1, IPV6_2, IPV4_2);
+        }
+    }
+
+    @Test
+    public void resolve_expiredAddresses_areReturnedWhileRefreshing() throws Exception {
+        try (CachingDnsResolver resolver = resolver(Duration.ofMillis(10), false)) {
+            resolver.resolve("example.com");
+            Thread.sleep(20);
+            addresses = new InetAddress[] {IPV4_2};
+
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV6_1, IPV4_1, IPV6_2, IPV4_2);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (resolver.resolve("example.com").length != 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(resolver.resolve("example.com")).containsExactly(IPV4_2);
+        }
+    }
+
+    @Test
+    public void resolve_unknownHost_throwsUnknownHostException() {
+        try (CachingDnsResolver resolver = resolver(Duration.ofMinutes(1), false)) {
+            assertThatThrownBy(() -> resolver.resolve("unknown.example.com")).isInstanceOf(UnknownHostException.class);
+        }
+    }
+
+    @Test
+    public void resolveAsync_concurrentLookupsOfSameHost_shareOneLookup() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch finishLookup = new CountDownLatch(1);
+        SdkDnsResolver slowResolver = host -> {
+            lookups.incrementAndGet();
+            lookupStarted.countDown();
+            try {
+                finishLookup.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new InetAddress[] {IPV4_1};
+        };
+
+        try (CachingDnsResolver resolver = CachingDnsResolver.builder().delegate(slowResolver).build()) {
+            CompletableFuture<InetAddress[]> first = resolver.resolveAsync("example.com");
+            lookupStarted.await();
+            CompletableFuture<InetAddress[]> second = resolver.resolveAsync("example.com");
+
+            assertThat(first).isNotDone();
+            assertThat(second).isNotDone();
+
+            finishLookup.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(IPV4_1);
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(IPV4_1);
+            assertThat(lookups.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void resolve_moreHostsThanMaxEntries_evictsSoonestExpiringHost() throws Exception {
+        SdkDnsResolver standIn = host -> {
+            lookups.incrementAndGet();
+            return addresses;
+        };
+        try (CachingDnsResolver resolver = CachingDnsResolver.builder()
+                                                             .delegate(standIn)
+                                                             .timeToLive(Duration.ofMinutes(1))
+                                                             .maxEntries(2)
+                                                             .build()) {
+            resolver.resolve("first.example.com");
+            resolver.resolve("second.example.com");
+            resolver.resolve("third.example.com");
+            assertThat(lookups.get()).isEqualTo(3);
+
+            resolver.resolve("third.example.com");
+            resolver.resolve("second.example.com");
+            assertThat(lookups.get()).isEqualTo(3);
+
+            resolver.resolve("first.example.com");
+            assertThat(lookups.get()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    public void build_nonPositiveMaxEntries_throwsException() {
+        assertThatThrownBy(() -> CachingDnsResolver.builder().maxEntries(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CachingDnsResolver resolver(Duration timeToLive, boolean rotateAddresses) {
+        SdkDnsResolver standIn = host -> {
+            lookups.incrementAndGet();
+            if (host.startsWith("unknown")) {
+                throw new UnknownHostException(host);
+            }
+            return addresses;
+        };
+        return CachingDnsResolver.builder()
+                                 .delegate(standIn)
+                                 .timeToLive(timeToLive)
+                                 .rotateAddresses(rotateAddresses)
+                                 .build();
+    }
+
+    private static InetAddress address(String literal) {
+        try {
+            return InetAddress.getByName(literal);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -39,8 +40,11 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
 import org.apache.http.HeaderIterator;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Registry;
@@ -49,6 +53,7 @@ import org.apache.http.config.SocketConfig;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
@@ -57,8 +62,10 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpRequest;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -78,8 +85,10 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolWarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
+import software.amazon.awssdk.http.apache.internal.conn.SdkPoolingHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
@@ -111,6 +120,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
+    private final int minIdleConnections;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +130,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = null;
+        this.minIdleConnections = 0;
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
+        this.resolvedOptions = resolvedOptions;
+        this.routePlanner = resolveRoutePlanner(builder);
+        this.minIdleConnections = resolveMinIdleConnections(builder, resolvedOptions);
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
-        this.resolvedOptions = resolvedOptions;
     }
 
     public static Builder builder() {
@@ -148,12 +163,12 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions, minIdleConnections);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
                .disableContentCompression()
-               .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions))
+               .setKeepAliveStrategy(buildKeepAliveStrategy())
                .disableRedirectHandling()
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
@@ -170,23 +185,35 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
-    private void addProxyConfig(HttpClientBuilder builder,
-                                DefaultBuilder configuration) {
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
 
         Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
                         "The httpRoutePlanner and proxyConfiguration can't both be configured.");
-        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
-                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
         }
+        return configuration.httpRoutePlanner;
+    }
+
+    private int resolveMinIdleConnections(DefaultBuilder configuration, AttributeMap standardOptions) {
+        if (configuration.minIdleConnections == null || !useIdleConnectionReaper(standardOptions)) {
+            return 0;
+        }
+        return Math.max(0, configuration.minIdleConnections);
+    }
+
+    private void addProxyConfig(HttpClientBuilder builder,
+                                DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+
+        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
+                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
@@ -202,9 +229,20 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
-    private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
-        long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
-        return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
+    private ConnectionKeepAliveStrategy buildKeepAliveStrategy() {
+        long keepAlive = connectionKeepAliveMillis();
+        return keepAlive > 0 ? new SdkConnectionKeepAliveStrategy(keepAlive) : null;
+    }
+
+    /**
+     * How long released connections can be reused for, or 0 for no limit. When idle connections are retained, the idle
+     * connection reaper alone decides when idle connections are closed, so retained connections don't expire.
+     */
+    private long connectionKeepAliveMillis() {
+        if (minIdleConnections > 0) {
+            return 0;
+        }
+        return Math.max(0, resolvedOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis());
     }
 
     private boolean useIdleConnectionReaper(AttributeMap standardOptions) {
@@ -240,6 +278,48 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Establish connections to an endpoint ahead of the first requests to it, so that those requests don't pay for the TCP
+     * connection and TLS handshake. This blocks until the connections have been established, and the connections are then
+     * returned to the connection pool.
+     * <p>
+     * Warmed connections are closed after {@link Builder#connectionMaxIdleTime(Duration)} like any other idle connection,
+     * unless they are retained with {@link Builder#minIdleConnections(Integer)}. Warming up endpoints that are reached through
+     * a tunnelling (HTTPS) proxy is not supported.
+     *
+     * @param endpoint The endpoint to connect to, e.g. {@code https://s3.us-west-2.amazonaws.com}.
+     * @param connections The number of connections to establish, which may not exceed the maximum number of connections.
+     * @param timeout The maximum time to wait for the connections to be established.
+     * @throws IOException If the connections could not be established within the timeout.
+     */
+    public void warmUp(URI endpoint, int connections, Duration timeout) throws IOException {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(timeout, "timeout");
+        int maxConnections = resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        Validate.isTrue(connections > 0 && connections <= maxConnections,
+                        "connections must be between 1 and the maximum number of connections (%s), but was %s.",
+                        maxConnections, connections);
+
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+
+        HttpRoute route;
+        try {
+            HttpRoutePlanner planner = routePlanner != null ? routePlanner
+                                                            : new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+            route = planner.determineRoute(target, new BasicHttpRequest("GET", "/"), context);
+        } catch (HttpException e) {
+            throw new IOException("Unable to determine the route to " + endpoint + ".", e);
+        }
+        Validate.isTrue(!route.isTunnelled(), "Warming up connections through a tunnelling proxy is not supported.");
+
+        new ConnectionPoolWarmer(httpClient.getHttpClientConnectionManager(),
+                                 saturatedCast(requestConfig.connectionTimeout().toMillis()),
+                                 connectionKeepAliveMillis())
+            .warmUp(route, context, connections, timeout);
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -398,8 +478,23 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder useIdleConnectionReaper(Boolean useConnectionReaper);
 
+        /**
+         * Configure the minimum number of idle connections to each host that the idle connection reaper keeps open, so that
+         * a client that was warmed up with {@link ApacheHttpClient#warmUp(URI, int, Duration)} doesn't lose its connections
+         * during quiet periods. The most recently used connections are kept, and only idle connections beyond the minimum
+         * are closed after {@link #connectionMaxIdleTime(Duration)}.
+         * <p>
+         * This only applies when the idle connection reaper is enabled. Retained connections can still be closed by the
+         * server, or when they reach the {@link #connectionTimeToLive(Duration)}. By default, this is 0.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
         /**
          * Configuration that defines a DNS resolver. If no matches are found, the default resolver is used.
+         * <p>
+         * A {@link software.amazon.awssdk.http.CachingDnsResolver} can be used with a method reference, e.g.
+         * {@code dnsResolver(cachingDnsResolver::resolve)}, to cache lookups and spread new connections across all the
+         * addresses of a host. The client tries the resolved addresses in order when a connection attempt fails.
          */
         Builder dnsResolver(DnsResolver dnsResolver);
 
@@ -452,6 +547,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
+        private Integer minIdleConnections;
 
         private DefaultBuilder() {
         }
@@ -562,6 +658,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             useIdleConnectionReaper(useIdleConnectionReaper);
         }
 
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
         @Override
         public Builder dnsResolver(DnsResolver dnsResolver) {
             this.dnsResolver = dnsResolver;
@@ -633,17 +739,18 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private static class ApacheConnectionManagerFactory {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
+                                                  AttributeMap standardOptions,
+                                                  int minIdleConnections) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
 
             PoolingHttpClientConnectionManager cm = new
-                    PoolingHttpClientConnectionManager(
+                    SdkPoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
-                    null,
                     DefaultSchemePortResolver.INSTANCE,
                     configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
-                    TimeUnit.MILLISECONDS);
+                    TimeUnit.MILLISECONDS,
+                    minIdleConnections);
 
             cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
             cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Establishes connections in a connection manager ahead of the first requests that need them.
+ *
+ * <p>The connections are leased in parallel and held until all of them have been connected, and their TLS handshakes
+ * completed, so that the connection manager cannot lease the same connection twice. They are then released back to the
+ * connection manager.
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+    private final HttpClientConnectionManager connectionManager;
+    private final int connectTimeoutMillis;
+    private final long keepAliveMillis;
+
+    /**
+     * @param connectionManager The connection manager to warm up.
+     * @param connectTimeoutMillis The timeout for establishing each connection.
+     * @param keepAliveMillis How long the connections can be reused for after they are released, or 0 for no limit.
+     */
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager, int connectTimeoutMillis, long keepAliveMillis) {
+        this.connectionManager = connectionManager;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    /**
+     * Establish the provided number of connections for a route, waiting up to the timeout for all of them. Connections that
+     * are established after the timeout are still released to the connection manager.
+     *
+     * @throws IOException If a connection could not be established, or the timeout elapsed first.
+     */
+    public void warmUp(HttpRoute route, HttpContext context, int connections, Duration timeout) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(connections, new ThreadFactoryBuilder()
+            .threadNamePrefix("aws-java-sdk-apache-connection-warmer")
+            .daemonThreads(true)
+            .build());
+        try {
+            List<HttpClientConnection> leased = Collections.synchronizedList(new ArrayList<>(connections));
+            CompletableFuture<?>[] connected = new CompletableFuture<?>[connections];
+            for (int i = 0; i < connections; i++) {
+                connected[i] = CompletableFuture.runAsync(() -> leased.add(connect(route, context, deadline)), executor);
+            }
+
+            CompletableFuture<Void> allConnected = CompletableFuture.allOf(connected);
+            allConnected.whenComplete((r, t) -> {
+                synchronized (leased) {
+                    leased.forEach(this::release);
+                }
+            });
+
+            allConnected.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ConnectionPoolTimeoutException("Connections to " + route + " were not established within " + timeout
+                                                     + ".");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while establishing connections to " + route + ".");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Unable to establish connections to " + route + ".", cause);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private HttpClientConnection connect(HttpRoute route, HttpContext context, long deadline) {
+        HttpClientConnection connection;
+        try {
+            ConnectionRequest request = connectionManager.requestConnection(route, null);
+            connection = request.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(new InterruptedIOException("Interrupted while leasing a connection."));
+        } catch (ExecutionException | ConnectionPoolTimeoutException e) {
+            throw new CompletionException(e);
+        }
+
+        try {
+            if (!connection.isOpen()) {
+                connectionManager.connect(connection, route, connectTimeoutMillis, context);
+                connectionManager.routeComplete(connection, route, context);
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            release(connection);
+            throw new CompletionException(e);
+        }
+    }
+
+    private void release(HttpClientConnection connection) {
+        connectionManager.releaseConnection(connection, null, keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+}
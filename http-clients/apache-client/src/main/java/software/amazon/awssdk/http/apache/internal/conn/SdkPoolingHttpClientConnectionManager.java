@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.SchemePortResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link PoolingHttpClientConnectionManager} that keeps a minimum number of idle connections to each route open when idle
+ * connections are closed by the {@link IdleConnectionReaper}.
+ *
+ * <p>Idle connections are kept in the order in which they were released, so the most recently used connections of each
+ * route are the ones that are kept open.
+ */
+@SdkInternalApi
+public final class SdkPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+    private final int minIdleConnectionsPerRoute;
+
+    public SdkPoolingHttpClientConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                                 SchemePortResolver schemePortResolver,
+                                                 DnsResolver dnsResolver,
+                                                 long timeToLive,
+                                                 TimeUnit timeUnit,
+                                                 int minIdleConnectionsPerRoute) {
+        super(socketFactoryRegistry, null, schemePortResolver, dnsResolver, timeToLive, timeUnit);
+        this.minIdleConnectionsPerRoute = minIdleConnectionsPerRoute;
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTimeout, TimeUnit timeUnit) {
+        if (minIdleConnectionsPerRoute <= 0) {
+            super.closeIdleConnections(idleTimeout, timeUnit);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long deadline = now - Math.max(0, timeUnit.toMillis(idleTimeout));
+        Map<HttpRoute, Integer> retainedPerRoute = new HashMap<>();
+        enumAvailable(entry -> {
+            if (entry.isClosed() || entry.isExpired(now)) {
+                return;
+            }
+
+            int retained = retainedPerRoute.getOrDefault(entry.getRoute(), 0);
+            if (retained < minIdleConnectionsPerRoute) {
+                retainedPerRoute.put(entry.getRoute(), retained + 1);
+            } else if (entry.getUpdated() <= deadline) {
+                entry.close();
+            }
+        });
+    }
+}
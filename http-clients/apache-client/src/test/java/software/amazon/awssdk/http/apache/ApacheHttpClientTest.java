@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.routing.HttpRoutePlanner;
@@ -145,4 +146,22 @@ public class ApacheHttpClientTest {
                         .build()
                         .close();
     }
+
+    @Test
+    public void warmUp_connectionsAboveMaxConnections_throwsException() {
+        try (ApacheHttpClient client = (ApacheHttpClient) ApacheHttpClient.builder().maxConnections(2).build()) {
+            assertThatThrownBy(() -> client.warmUp(URI.create("http://localhost:1234"), 3, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum number of connections");
+        }
+    }
+
+    @Test
+    public void minIdleConnectionsCanBeUsedWithConnectionReaper() {
+        ApacheHttpClient.builder()
+                        .useIdleConnectionReaper(true)
+                        .minIdleConnections(2)
+                        .build()
+                        .close();
+    }
 }
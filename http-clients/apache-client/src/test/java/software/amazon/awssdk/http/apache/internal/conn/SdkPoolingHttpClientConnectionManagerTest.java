@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SdkPoolingHttpClientConnectionManager} and {@link ConnectionPoolWarmer}.
+ */
+public class SdkPoolingHttpClientConnectionManagerTest {
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+    private ServerSocket server;
+    private HttpRoute route;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    accepted.add(server.accept());
+                }
+            } catch (IOException e) {
+                // The server was closed
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        route = new HttpRoute(new HttpHost("localhost", server.getLocalPort(), "http"));
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        server.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void warmUp_establishesConnections() throws Exception {
+        SdkPoolingHttpClientConnectionManager cm = connectionManager(0);
+        try {
+            warmUp(cm, 3);
+
+            assertThat(cm.getStats(route).getAvailable()).isEqualTo(3);
+            assertThat(cm.getStats(route).getLeased()).isZero();
+        } finally {
+            cm.shutdown();
+        }
+    }
+
+    @Test
+    public void warmUp_reusesOpenConnections() throws Exception {
+        SdkPoolingHttpClientConnectionManager cm = connectionManager(0);
+        try {
+            warmUp(cm, 2);
+            warmUp(cm, 3);
+
+            assertThat(cm.getStats(route).getAvailable()).isEqualTo(3);
+        } finally {
+            cm.shutdown();
+        }
+    }
+
+    @Test
+    public void closeIdleConnections_keepsMinimumIdleConnections() throws Exception {
+        SdkPoolingHttpClientConnectionManager cm = connectionManager(2);
+        try {
+            warmUp(cm, 4);
+            Thread.sleep(10);
+
+            cm.closeIdleConnections(1, TimeUnit.MILLISECONDS);
+
+            assertThat(cm.getStats(route).getAvailable()).isEqualTo(2);
+        } finally {
+            cm.shutdown();
+        }
+    }
+
+    @Test
+    public void closeIdleConnections_withoutMinimum_closesAllIdleConnections() throws Exception {
+        SdkPoolingHttpClientConnectionManager cm = connectionManager(0);
+        try {
+            warmUp(cm, 2);
+            Thread.sleep(10);
+
+            cm.closeIdleConnections(1, TimeUnit.MILLISECONDS);
+
+            assertThat(cm.getStats(route).getAvailable()).isZero();
+        } finally {
+            cm.shutdown();
+        }
+    }
+
+    private void warmUp(SdkPoolingHttpClientConnectionManager cm, int connections) throws IOException {
+        new ConnectionPoolWarmer(cm, 1000, 0).warmUp(route, HttpClientContext.create(), connections, Duration.ofSeconds(5));
+    }
+
+    private static SdkPoolingHttpClientConnectionManager connectionManager(int minIdleConnections) {
+        SdkPoolingHttpClientConnectionManager cm =
+            new SdkPoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+                                                                     .register("http", PlainConnectionSocketFactory.INSTANCE)
+                                                                     .build(),
+                                                      DefaultSchemePortResolver.INSTANCE,
+                                                      null,
+                                                      -1,
+                                                      TimeUnit.MILLISECONDS,
+                                                      minIdleConnections);
+        cm.setDefaultMaxPerRoute(10);
+        cm.setMaxTotal(10);
+        return cm;
+    }
+}
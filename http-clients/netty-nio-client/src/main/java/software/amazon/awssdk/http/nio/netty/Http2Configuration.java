@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Long targetStreamsPerConnection;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.targetStreamsPerConnection = builder.targetStreamsPerConnection;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The number of concurrent streams per HTTP/2 connection above which new connections are opened.
+     */
+    public Long targetStreamsPerConnection() {
+        return targetStreamsPerConnection;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,14 +87,19 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
 
+        return targetStreamsPerConnection != null ? targetStreamsPerConnection.equals(that.targetStreamsPerConnection)
+                                                  : that.targetStreamsPerConnection == null;
     }
 
     @Override
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (targetStreamsPerConnection != null ? targetStreamsPerConnection.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,28 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the number of concurrent streams per connection that the client aims for. New streams are placed on the open
+         * connection with the fewest active streams that is below this target, and a new connection is opened when every
+         * connection has reached it, instead of when every connection has reached {@link #maxStreams(Long)}. This spreads
+         * many long-lived streams (e.g. event streams) over several connections instead of a single hot connection.
+         *
+         * <p>Connections without active streams are only used when all other connections have reached the target, so
+         * connections that are no longer needed become idle and are closed by the idle connection reaper. By default, there
+         * is no target and new connections are only opened when the existing connections cannot accept any more streams.</p>
+         *
+         * @param targetStreamsPerConnection The target number of concurrent HTTP/2 streams per connection.
+         * @return This builder for method chaining.
+         */
+        Builder targetStreamsPerConnection(Long targetStreamsPerConnection);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Long targetStreamsPerConnection;
 
         private DefaultBuilder() {
         }
@@ -141,6 +171,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.targetStreamsPerConnection = http2Configuration.targetStreamsPerConnection;
         }
 
         @Override
@@ -173,6 +204,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder targetStreamsPerConnection(Long targetStreamsPerConnection) {
+            this.targetStreamsPerConnection = Validate.isPositiveOrNull(targetStreamsPerConnection, "targetStreamsPerConnection");
+            return this;
+        }
+
+        public void setTargetStreamsPerConnection(Long targetStreamsPerConnection) {
+            targetStreamsPerConnection(targetStreamsPerConnection);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -28,6 +28,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import java.net.SocketOptions;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -37,14 +38,18 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolWarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -77,6 +82,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final AttributeMap NETTY_HTTP_DEFAULTS =
         AttributeMap.builder()
                     .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, Duration.ofSeconds(5))
+                    .put(NettyConfiguration.PUBLISH_POOLED_RESPONSE_BUFFERS, false)
+                    .put(NettyConfiguration.MIN_IDLE_CONNECTIONS, 0)
                     .build();
 
     private final SdkEventLoopGroup sdkEventLoopGroup;
@@ -84,12 +91,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final NettyConfiguration configuration;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Http2Configuration http2Configuration = builder.http2Configuration;
+
+        this.configuration = new NettyConfiguration(withHttp2Options(serviceDefaultsMap, http2Configuration));
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
-        Http2Configuration http2Configuration = builder.http2Configuration;
-
         long maxStreams = resolveMaxHttp2Streams(builder.maxHttp2Streams, http2Configuration);
         int initialWindowSize = resolveInitialWindowSize(http2Configuration);
 
@@ -103,6 +110,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .dnsResolver(builder.dnsResolver)
                                              .build();
     }
 
@@ -148,6 +156,33 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                      .orElseGet(SharedSdkEventLoopGroup::get);
     }
 
+    /**
+     * Establish connections to an endpoint before they are needed by requests, so that the first requests to the endpoint
+     * do not pay for the TCP and TLS handshakes.
+     *
+     * <p>The connections are established in parallel, and returned to the connection pool once all of them are ready. For
+     * HTTP/2, streams are multiplexed over connections, so fewer than the requested number of connections may be opened.
+     * Whether the connections stay open afterwards depends on the idle connection settings of this client, see
+     * {@link Builder#minIdleConnections(Integer)}.
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to establish, which must not exceed the maximum number of connections.
+     * @param timeout How long to wait for the connections to be established.
+     * @return A future that is completed once all connections are ready, or exceptionally if any of them could not be
+     * established, or the timeout elapsed first.
+     */
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections, Duration timeout) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(timeout, "timeout");
+        Validate.isTrue(connections > 0 && connections <= configuration.maxConnections(),
+                        "connections must be between 1 and the maximum number of connections (%s), but was %s.",
+                        configuration.maxConnections(), connections);
+
+        SdkHttpRequest request = SdkHttpRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        SdkChannelPool pool = pools.get(poolKey(request));
+        return ChannelPoolWarmer.warmUp(pool, connections, timeout, sdkEventLoopGroup.eventLoopGroup().next());
+    }
+
     private static URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -173,6 +208,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return Math.min(http2Configuration.maxStreams(), MAX_STREAMS_ALLOWED);
     }
 
+    private static AttributeMap withHttp2Options(AttributeMap options, Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.targetStreamsPerConnection() == null) {
+            return options;
+        }
+        return options.toBuilder()
+                      .put(NettyConfiguration.HTTP2_TARGET_STREAMS_PER_CONNECTION,
+                           http2Configuration.targetStreamsPerConnection())
+                      .build();
+    }
+
     private int resolveInitialWindowSize(Http2Configuration http2Configuration) {
         if (http2Configuration == null || http2Configuration.initialWindowSize() == null) {
             return DEFAULT_INITIAL_WINDOW_SIZE;
@@ -475,6 +520,55 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether response body chunks are published without being copied to subscribers that implement
+         * {@link ReleasableByteBufferSubscriber}.
+         * <p>
+         * When enabled, such subscribers receive read-only views over Netty's pooled, and usually direct, buffers, and must
+         * release each of them as described in {@link ReleasableByteBufferSubscriber#onNext(ByteBuffer, Runnable)}. This
+         * avoids copying every chunk of large response bodies to a new heap buffer, for example when
+         * {@code AsyncResponseTransformer.toFile} writes an object to disk. Other subscribers receive copies, as they do
+         * when this is disabled.
+         * <p>
+         * By default, this is disabled.
+         *
+         * @param publishPooledResponseBuffers Whether to publish pooled buffers to subscribers that can release them.
+         * @return The builder for method chaining.
+         */
+        Builder publishPooledResponseBuffers(Boolean publishPooledResponseBuffers);
+
+        /**
+         * Configure the number of connections to each host that are kept open even when they have been idle for longer than
+         * {@link #connectionMaxIdleTime(Duration)}. Together with {@link NettyNioAsyncHttpClient#warmUp(URI, int, Duration)},
+         * this keeps established connections available for bursts of traffic that follow quiet periods.
+         * <p>
+         * This only applies when {@link #useIdleConnectionReaper(Boolean)} is enabled. Connections are still closed when
+         * {@link #connectionTimeToLive(Duration)} elapses, or when the server closes them.
+         * <p>
+         * By default, no idle connections are kept open.
+         *
+         * @param minIdleConnections The number of connections to each host to keep open.
+         * @return The builder for method chaining.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
+        /**
+         * Configure the resolver that is used to look up the addresses of the hosts that the client connects to, including
+         * proxies. A {@link software.amazon.awssdk.http.CachingDnsResolver} looks up addresses without blocking the event
+         * loop, and spreads new connections across all the addresses of a host. The resolver is not closed when the client
+         * is closed, so it can be shared by several clients.
+         * <p>
+         * When a resolver is configured, new connections are attempted to all the resolved addresses in order, with a new
+         * attempt started every 250 milliseconds or as soon as the previous one fails, and the first connection that
+         * succeeds is used (RFC 8305).
+         * <p>
+         * By default, addresses are resolved by the JVM, on the event loop, and only the first address is connected to.
+         *
+         * @param dnsResolver The DNS resolver.
+         * @return The builder for method chaining.
+         */
+        Builder dnsResolver(SdkDnsResolver dnsResolver);
     }
 
     /**
@@ -492,6 +586,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private Http2Configuration http2Configuration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private SdkDnsResolver dnsResolver;
 
         private DefaultBuilder() {
         }
@@ -716,6 +811,36 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder publishPooledResponseBuffers(Boolean publishPooledResponseBuffers) {
+            standardOptions.put(NettyConfiguration.PUBLISH_POOLED_RESPONSE_BUFFERS, publishPooledResponseBuffers);
+            return this;
+        }
+
+        public void setPublishPooledResponseBuffers(Boolean publishPooledResponseBuffers) {
+            publishPooledResponseBuffers(publishPooledResponseBuffers);
+        }
+
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            standardOptions.put(NettyConfiguration.MIN_IDLE_CONNECTIONS, minIdleConnections);
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
+        @Override
+        public Builder dnsResolver(SdkDnsResolver dnsResolver) {
+            this.dnsResolver = dnsResolver;
+            return this;
+        }
+
+        public void setDnsResolver(SdkDnsResolver dnsResolver) {
+            dnsResolver(dnsResolver);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
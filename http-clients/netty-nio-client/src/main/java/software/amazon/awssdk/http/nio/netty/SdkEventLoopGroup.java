@@ -17,12 +17,21 @@ package software.amazon.awssdk.http.nio.netty;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.IoUringTransport;
 import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
@@ -75,8 +84,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveChannelFactory();
+        Transport transport = Optional.ofNullable(builder.transport).orElse(Transport.NIO);
+        Map<ChannelOption<?>, Object> nativeOptions = resolveNativeOptions(builder, transport);
+        this.eventLoopGroup = resolveEventLoopGroup(builder, transport);
+        this.channelFactory = withOptions(resolveChannelFactory(transport), nativeOptions);
     }
 
     /**
@@ -123,27 +134,113 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, Transport transport) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
+        switch (transport) {
+            case EPOLL:
+                if (!Epoll.isAvailable()) {
+                    throw new IllegalStateException("The epoll transport is not available.", Epoll.unavailabilityCause());
+                }
+                return new EpollEventLoopGroup(numThreads, threadFactory);
+            case IO_URING:
+                return IoUringTransport.newEventLoopGroup(numThreads, threadFactory);
+            case NIO:
+            default:
+                return new NioEventLoopGroup(numThreads, threadFactory);
+        }
+    }
+
+    private ChannelFactory<? extends Channel> resolveChannelFactory(Transport transport) {
+        switch (transport) {
+            case EPOLL:
+                return EpollSocketChannel::new;
+            case IO_URING:
+                return IoUringTransport.socketChannelFactory();
+            case NIO:
+            default:
+                return NioSocketChannel::new;
+        }
+    }
+
+    private Map<ChannelOption<?>, Object> resolveNativeOptions(DefaultBuilder builder, Transport transport) {
+        Map<ChannelOption<?>, Object> options = new HashMap<>();
+        switch (transport) {
+            case EPOLL:
+                options.put(EpollChannelOption.EPOLL_MODE, EpollMode.EDGE_TRIGGERED);
+                putIfNotNull(options, EpollChannelOption.TCP_QUICKACK, builder.tcpQuickAck);
+                putIfNotNull(options, EpollChannelOption.SO_BUSY_POLL, builder.busyPollMicros);
+                putIfNotNull(options, ChannelOption.TCP_FASTOPEN_CONNECT, builder.tcpFastOpenConnect);
+                break;
+            case IO_URING:
+                Validate.isTrue(builder.busyPollMicros == null, "busyPollMicros is only supported by the EPOLL transport.");
+                putIfNotNull(options, IoUringTransport.tcpQuickAckOption(), builder.tcpQuickAck);
+                putIfNotNull(options, ChannelOption.TCP_FASTOPEN_CONNECT, builder.tcpFastOpenConnect);
+                break;
+            case NIO:
+            default:
+                Validate.isTrue(builder.tcpQuickAck == null && builder.busyPollMicros == null
+                                && builder.tcpFastOpenConnect == null,
+                                "Native socket options are not supported by the NIO transport.");
+                break;
+        }
+        return options;
+    }
+
+    private static <T> void putIfNotNull(Map<ChannelOption<?>, Object> options, ChannelOption<T> option, T value) {
+        if (value != null) {
+            option.validate(value);
+            options.put(option, value);
+        }
+    }
 
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
+    /**
+     * Wrap the channel factory to set the native socket options on every channel it creates. Options that are also
+     * configured on the HTTP client are applied after these, so the client's values take precedence.
+     */
+    private static ChannelFactory<? extends Channel> withOptions(ChannelFactory<? extends Channel> channelFactory,
+                                                                 Map<ChannelOption<?>, Object> options) {
+        if (options.isEmpty()) {
+            return channelFactory;
+        }
+        return () -> {
+            Channel channel = channelFactory.newChannel();
+            options.forEach((option, value) -> setOption(channel, option, value));
+            return channel;
+        };
+    }
 
-        }*/
+    /**
+     * Set an option whose value was checked with {@link ChannelOption#validate} when it was configured.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void setOption(Channel channel, ChannelOption<T> option, Object value) {
+        channel.config().setOption(option, (T) value);
     }
 
-    private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
-        return NioSocketChannel::new;
+    /**
+     * The Netty transport used by an {@link SdkEventLoopGroup} created with {@link #builder()}.
+     */
+    public enum Transport {
+        /**
+         * The JDK's NIO transport, which is available on every platform. This is the default.
+         */
+        NIO,
+
+        /**
+         * Netty's native epoll transport, in edge-triggered mode. This is only available on Linux, and requires the
+         * {@code netty-transport-native-epoll} artifact for the platform to be on the classpath.
+         */
+        EPOLL,
+
+        /**
+         * Netty's native io_uring transport. This is only available on Linux kernels that support io_uring, and requires the
+         * {@code netty-incubator-transport-native-io_uring} artifact for the platform to be on the classpath.
+         */
+        IO_URING
     }
 
     /**
@@ -172,6 +269,47 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * The {@link Transport} of the {@link EventLoopGroup} and of the channels it creates. If not set,
+         * {@link Transport#NIO} is used. Building the {@link SdkEventLoopGroup} fails if the native library of the selected
+         * transport cannot be loaded.
+         *
+         * @param transport The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transport(Transport transport);
+
+        /**
+         * Whether to set {@code TCP_QUICKACK} on the sockets, so that ACKs are sent immediately rather than delayed. This is
+         * only supported by the {@link Transport#EPOLL} and {@link Transport#IO_URING} transports. If not set, the operating
+         * system default is used.
+         *
+         * @param tcpQuickAck Whether to enable quick ACKs.
+         * @return This builder for method chaining.
+         */
+        Builder tcpQuickAck(Boolean tcpQuickAck);
+
+        /**
+         * The {@code SO_BUSY_POLL} timeout of the sockets, in microseconds, which lets the kernel busy poll the device queue
+         * on blocking receives instead of waiting for an interrupt. This trades CPU for latency, and is only supported by the
+         * {@link Transport#EPOLL} transport. If not set, the operating system default is used.
+         *
+         * @param busyPollMicros The busy poll timeout, in microseconds. Must not be negative.
+         * @return This builder for method chaining.
+         */
+        Builder busyPollMicros(Integer busyPollMicros);
+
+        /**
+         * Whether to set {@code TCP_FASTOPEN_CONNECT} on the sockets, so that the first request on a connection to a host
+         * that has been connected to before is sent with the SYN. This is only supported by the {@link Transport#EPOLL} and
+         * {@link Transport#IO_URING} transports, and has no effect unless TCP fast open is enabled in the kernel. If not
+         * set, the operating system default is used.
+         *
+         * @param tcpFastOpenConnect Whether to enable TCP fast open on connect.
+         * @return This builder for method chaining.
+         */
+        Builder tcpFastOpenConnect(Boolean tcpFastOpenConnect);
+
         SdkEventLoopGroup build();
     }
 
@@ -179,6 +317,10 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private Transport transport;
+        private Boolean tcpQuickAck;
+        private Integer busyPollMicros;
+        private Boolean tcpFastOpenConnect;
 
         private DefaultBuilder() {
         }
@@ -203,6 +345,46 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transport(Transport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        public void setTransport(Transport transport) {
+            transport(transport);
+        }
+
+        @Override
+        public Builder tcpQuickAck(Boolean tcpQuickAck) {
+            this.tcpQuickAck = tcpQuickAck;
+            return this;
+        }
+
+        public void setTcpQuickAck(Boolean tcpQuickAck) {
+            tcpQuickAck(tcpQuickAck);
+        }
+
+        @Override
+        public Builder busyPollMicros(Integer busyPollMicros) {
+            this.busyPollMicros = busyPollMicros == null ? null : Validate.isNotNegative(busyPollMicros, "busyPollMicros");
+            return this;
+        }
+
+        public void setBusyPollMicros(Integer busyPollMicros) {
+            busyPollMicros(busyPollMicros);
+        }
+
+        @Override
+        public Builder tcpFastOpenConnect(Boolean tcpFastOpenConnect) {
+            this.tcpFastOpenConnect = tcpFastOpenConnect;
+            return this;
+        }
+
+        public void setTcpFastOpenConnect(Boolean tcpFastOpenConnect) {
+            tcpFastOpenConnect(tcpFastOpenConnect);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
@@ -16,21 +16,34 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
- * Extension of {@link SimpleChannelPool} to add an asynchronous close method
+ * Extension of {@link SimpleChannelPool} to add an asynchronous close method, and to connect with a
+ * {@link StaggeredConnector} if one is provided.
  */
 @SdkInternalApi
 public final class BetterSimpleChannelPool extends SimpleChannelPool {
     private final CompletableFuture<Boolean> closeFuture;
+    private final StaggeredConnector connector;
 
     BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler) {
+        this(bootstrap, handler, null);
+    }
+
+    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, StaggeredConnector connector) {
         super(bootstrap, handler);
-        closeFuture = new CompletableFuture<>();
+        this.closeFuture = new CompletableFuture<>();
+        this.connector = connector;
+    }
+
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        return connector != null ? connector.connect(bs) : super.connectChannel(bs);
     }
 
     @Override
@@ -48,6 +48,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlStateHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -66,6 +67,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final IdleConnectionRetainer idleConnectionRetainer;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
@@ -85,6 +87,9 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.idleConnectionRetainer = configuration.minIdleConnections() > 0
+                                      ? new IdleConnectionRetainer(configuration.minIdleConnections())
+                                      : null;
     }
 
     @Override
@@ -114,7 +119,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         }
 
         if (configuration.reapIdleConnections()) {
-            pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis()));
+            pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis(), idleConnectionRetainer));
         }
 
         if (configuration.connectionTtlMillis() > 0) {
@@ -153,6 +158,8 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(HTTP2_CONNECTION).set(codec.connection());
 
         ch.attr(HTTP2_INITIAL_WINDOW_SIZE).set(clientInitialWindowSize);
+        // Must be added before the Http2MultiplexHandler, which consumes the flow-control events of the codec
+        pipeline.addLast(Http2FlowControlStateHandler.getInstance());
         pipeline.addLast(new Http2MultiplexHandler(new NoOpChannelInitializer()));
         pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
         if (healthCheckPingPeriod == null) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Establishes connections in a channel pool ahead of the first requests that need them.
+ *
+ * <p>The connections are acquired in parallel and held until all of them have been established, and their TLS handshakes
+ * completed, so that the pool cannot hand the same connection out twice. They are then released back to the pool.
+ */
+@SdkInternalApi
+public final class ChannelPoolWarmer {
+
+    private ChannelPoolWarmer() {
+    }
+
+    /**
+     * Acquire the provided number of channels from the pool, and release them once they are all ready to use.
+     *
+     * @param pool The pool to warm up.
+     * @param connections The number of channels to acquire.
+     * @param timeout How long to wait for the channels to be ready. Channels that become ready later are still released to
+     * the pool.
+     * @param executor The executor used to time out the warm-up.
+     * @return A future that is completed when all channels are ready, or exceptionally if any of them failed or the timeout
+     * elapsed first.
+     */
+    public static CompletableFuture<Void> warmUp(ChannelPool pool, int connections, Duration timeout, EventExecutor executor) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        List<Channel> channels = Collections.synchronizedList(new ArrayList<>(connections));
+
+        CompletableFuture<?>[] ready = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            ready[i] = acquireReadyChannel(pool, channels);
+        }
+
+        ScheduledFuture<?> timeoutTask = executor.schedule(() -> {
+            result.completeExceptionally(new TimeoutException("Connections were not established within " + timeout + "."));
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        CompletableFuture.allOf(ready).whenComplete((r, t) -> {
+            timeoutTask.cancel(false);
+            synchronized (channels) {
+                channels.forEach(pool::release);
+            }
+
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(null);
+            }
+        });
+        return result;
+    }
+
+    private static CompletableFuture<Void> acquireReadyChannel(ChannelPool pool, List<Channel> channels) {
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        pool.acquire().addListener((GenericFutureListener<Future<Channel>>) acquire -> {
+            if (!acquire.isSuccess()) {
+                ready.completeExceptionally(acquire.cause());
+                return;
+            }
+
+            Channel channel = acquire.getNow();
+            channels.add(channel);
+
+            // HTTP/2 pools hand out stream channels, whose parent is the connection.
+            Channel connection = channel.parent() != null ? channel.parent() : channel;
+            SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                ready.complete(null);
+                return;
+            }
+
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    ready.complete(null);
+                } else {
+                    ready.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return ready;
+    }
+}
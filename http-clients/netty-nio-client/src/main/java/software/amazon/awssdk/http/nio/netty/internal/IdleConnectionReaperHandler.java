@@ -19,20 +19,44 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 
 /**
  * A handler that closes unused channels that have not had any traffic on them for a configurable amount of time.
+ *
+ * <p>If an {@link IdleConnectionRetainer} is provided, unused channels are only closed while the retainer allows it, so that
+ * a minimum number of connections stays open.
  */
 @SdkInternalApi
 public class IdleConnectionReaperHandler extends IdleStateHandler {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(IdleConnectionReaperHandler.class);
     private final int maxIdleTimeMillis;
+    private final IdleConnectionRetainer retainer;
+    private final AtomicBoolean counted = new AtomicBoolean(false);
 
     public IdleConnectionReaperHandler(int maxIdleTimeMillis) {
+        this(maxIdleTimeMillis, null);
+    }
+
+    public IdleConnectionReaperHandler(int maxIdleTimeMillis, IdleConnectionRetainer retainer) {
         super(0, 0, maxIdleTimeMillis, TimeUnit.MILLISECONDS);
         this.maxIdleTimeMillis = maxIdleTimeMillis;
+        this.retainer = retainer;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        if (retainer != null && counted.compareAndSet(false, true)) {
+            retainer.connectionOpened();
+            ctx.channel().closeFuture().addListener(f -> {
+                if (counted.compareAndSet(true, false)) {
+                    retainer.connectionClosed();
+                }
+            });
+        }
+        super.handlerAdded(ctx);
     }
 
     @Override
@@ -42,9 +66,29 @@ public class IdleConnectionReaperHandler extends IdleStateHandler {
         boolean channelNotInUse = Boolean.FALSE.equals(ctx.channel().attr(ChannelAttributeKey.IN_USE).get());
 
         if (channelNotInUse && ctx.channel().isOpen()) {
+            if (!releaseFromRetainer()) {
+                log.trace(ctx.channel(), () -> "Keeping unused connection (" + ctx.channel().id() + ") open, because closing "
+                                               + "it would leave fewer than the minimum number of connections open.");
+                return;
+            }
+
             log.debug(ctx.channel(), () -> "Closing unused connection (" + ctx.channel().id() + ") because it has been idle for "
                                           + "longer than " + maxIdleTimeMillis + " milliseconds.");
             ctx.close();
         }
     }
+
+    private boolean releaseFromRetainer() {
+        if (retainer == null || !counted.get()) {
+            return true;
+        }
+        if (!retainer.tryReleaseConnection()) {
+            return false;
+        }
+        if (!counted.compareAndSet(true, false)) {
+            // The connection was closed, and stopped being counted, since it was checked.
+            retainer.connectionOpened();
+        }
+        return true;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Counts the open connections of a channel pool, so that the {@link IdleConnectionReaperHandler}s of its connections only
+ * close idle connections while more than a minimum number of connections are open.
+ */
+@SdkInternalApi
+public final class IdleConnectionRetainer {
+    private final int minConnections;
+    private final AtomicInteger openConnections = new AtomicInteger(0);
+
+    public IdleConnectionRetainer(int minConnections) {
+        this.minConnections = minConnections;
+    }
+
+    void connectionOpened() {
+        openConnections.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        openConnections.decrementAndGet();
+    }
+
+    /**
+     * Stop counting a connection as open so that it can be closed, unless that would leave fewer than the minimum number of
+     * connections open.
+     *
+     * @return True if the connection is no longer counted and may be closed, false if it should be kept open.
+     */
+    boolean tryReleaseConnection() {
+        while (true) {
+            int open = openConnections.get();
+            if (open <= minConnections) {
+                return false;
+            }
+            if (openConnections.compareAndSet(open, open - 1)) {
+                return true;
+            }
+        }
+    }
+
+    int openConnections() {
+        return openConnections.get();
+    }
+}
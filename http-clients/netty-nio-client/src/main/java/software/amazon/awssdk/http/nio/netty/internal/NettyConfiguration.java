@@ -42,6 +42,21 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
+    /**
+     * Whether response body chunks are published as views over Netty's pooled buffers to subscribers that can release them.
+     */
+    public static final AttributeMap.Key<Boolean> PUBLISH_POOLED_RESPONSE_BUFFERS = new NettyOption<>(Boolean.class);
+
+    /**
+     * The number of connections to each host that the idle connection reaper keeps open, even when they are idle.
+     */
+    public static final AttributeMap.Key<Integer> MIN_IDLE_CONNECTIONS = new NettyOption<>(Integer.class);
+
+    /**
+     * The number of concurrent streams per HTTP/2 connection above which new connections are opened, if any.
+     */
+    public static final AttributeMap.Key<Long> HTTP2_TARGET_STREAMS_PER_CONNECTION = new NettyOption<>(Long.class);
+
     private final AttributeMap configuration;
 
     public NettyConfiguration(AttributeMap configuration) {
@@ -107,4 +122,27 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean publishPooledResponseBuffers() {
+        return Boolean.TRUE.equals(configuration.get(PUBLISH_POOLED_RESPONSE_BUFFERS));
+    }
+
+    public int minIdleConnections() {
+        Integer minIdleConnections = configuration.get(MIN_IDLE_CONNECTIONS);
+        return minIdleConnections == null ? 0 : minIdleConnections;
+    }
+
+    /**
+     * @return The target number of concurrent streams per HTTP/2 connection, or {@link Long#MAX_VALUE} if there is none.
+     */
+    public long http2TargetStreamsPerConnection() {
+        Long targetStreams = configuration.get(HTTP2_TARGET_STREAMS_PER_CONNECTION);
+        return targetStreams == null ? Long.MAX_VALUE : targetStreams;
+    }
+
+    private static final class NettyOption<T> extends AttributeMap.Key<T> {
+        private NettyOption(Class<T> valueType) {
+            super(valueType);
+        }
+    }
 }
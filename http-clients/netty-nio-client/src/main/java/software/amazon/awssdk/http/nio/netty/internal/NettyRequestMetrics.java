@@ -82,6 +82,7 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+        metricCollector.reportMetric(Http2Metric.CONNECTION_ACTIVE_STREAMS, http2Connection.numActiveStreams());
     }
 
     /**
@@ -61,6 +61,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -287,6 +288,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            ReleasableByteBufferSubscriber releasableSubscriber = releasableSubscriber(subscriber);
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -326,6 +328,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (releasableSubscriber != null) {
+                        onNextWithoutCopy(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -341,6 +348,26 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publish a read-only view over the content's buffer, which the subscriber releases once it is done with
+                 * it. Once the view has been handed to the subscriber it is the subscriber's to release, even if onNext
+                 * throws, because the subscriber may still be reading from it.
+                 */
+                private void onNextWithoutCopy(HttpContent httpContent) {
+                    ReleaseOnce release = new ReleaseOnce(httpContent);
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                    } catch (Throwable t) {
+                        release.run();
+                        onError(t);
+                        return;
+                    }
+
+                    tryCatch(() -> releasableSubscriber.onNext(byteBuffer, release),
+                             this::notifyError);
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -389,6 +416,39 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
             });
         }
+
+        /**
+         * @return The subscriber, if pooled buffers are published to subscribers that can release them and it is one, or
+         * null otherwise.
+         */
+        private ReleasableByteBufferSubscriber releasableSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            NettyConfiguration configuration = requestContext.configuration();
+            if (configuration != null
+                && configuration.publishPooledResponseBuffers()
+                && subscriber instanceof ReleasableByteBufferSubscriber) {
+                return (ReleasableByteBufferSubscriber) subscriber;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Releases the buffer of an {@link HttpContent} the first time it is run.
+     */
+    private static final class ReleaseOnce implements Runnable {
+        private final HttpContent httpContent;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private ReleaseOnce(HttpContent httpContent) {
+            this.httpContent = httpContent;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                ReferenceCountUtil.release(httpContent);
+            }
+        }
     }
 
     /**
@@ -486,33 +546,68 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
-            delegate.subscribe(new Subscriber<ByteBuffer>() {
-                @Override
-                public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(subscription);
-                }
+            // Keep the subscriber's ability to receive pooled buffers visible to the delegate.
+            if (subscriber instanceof ReleasableByteBufferSubscriber) {
+                delegate.subscribe(new ReleasableDataCountingSubscriber(ctx, (ReleasableByteBufferSubscriber) subscriber));
+            } else {
+                delegate.subscribe(new DataCountingSubscriber(ctx, subscriber));
+            }
+        }
+    }
 
-                @Override
-                public void onNext(ByteBuffer byteBuffer) {
-                    Long responseDataSoFar = ctx.channel().attr(RESPONSE_DATA_READ).get();
-                    if (responseDataSoFar == null) {
-                        responseDataSoFar = 0L;
-                    }
+    private static class DataCountingSubscriber implements Subscriber<ByteBuffer> {
+        private final ChannelHandlerContext ctx;
+        private final Subscriber<? super ByteBuffer> subscriber;
 
-                    ctx.channel().attr(RESPONSE_DATA_READ).set(responseDataSoFar + byteBuffer.remaining());
-                    subscriber.onNext(byteBuffer);
-                }
+        private DataCountingSubscriber(ChannelHandlerContext ctx, Subscriber<? super ByteBuffer> subscriber) {
+            this.ctx = ctx;
+            this.subscriber = subscriber;
+        }
 
-                @Override
-                public void onError(Throwable throwable) {
-                    subscriber.onError(throwable);
-                }
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
 
-                @Override
-                public void onComplete() {
-                    subscriber.onComplete();
-                }
-            });
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            countData(byteBuffer);
+            subscriber.onNext(byteBuffer);
+        }
+
+        protected void countData(ByteBuffer byteBuffer) {
+            Long responseDataSoFar = ctx.channel().attr(RESPONSE_DATA_READ).get();
+            if (responseDataSoFar == null) {
+                responseDataSoFar = 0L;
+            }
+
+            ctx.channel().attr(RESPONSE_DATA_READ).set(responseDataSoFar + byteBuffer.remaining());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class ReleasableDataCountingSubscriber extends DataCountingSubscriber
+        implements ReleasableByteBufferSubscriber {
+        private final ReleasableByteBufferSubscriber subscriber;
+
+        private ReleasableDataCountingSubscriber(ChannelHandlerContext ctx, ReleasableByteBufferSubscriber subscriber) {
+            super(ctx, subscriber);
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            countData(byteBuffer);
+            subscriber.onNext(byteBuffer, release);
         }
     }
-}
\ No newline at end of file
+}
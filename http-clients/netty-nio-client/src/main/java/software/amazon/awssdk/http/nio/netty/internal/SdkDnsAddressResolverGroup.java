@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * An {@link AddressResolverGroup} that resolves the addresses of hosts with an {@link SdkDnsResolver}, using
+ * {@link SdkDnsResolver#resolveAsync(String)} so that resolvers which support it do not block the event loop.
+ * <p>
+ * A bootstrap connects to the single address returned by {@link InetNameResolver#resolve(String)}. The channel pools
+ * connect with a {@link StaggeredConnector} instead, which tries all the addresses of a host.
+ */
+@SdkInternalApi
+public final class SdkDnsAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private final SdkDnsResolver dnsResolver;
+
+    public SdkDnsAddressResolverGroup(SdkDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new SdkNameResolver(executor, dnsResolver).asAddressResolver();
+    }
+
+    private static final class SdkNameResolver extends InetNameResolver {
+        private final SdkDnsResolver dnsResolver;
+
+        private SdkNameResolver(EventExecutor executor, SdkDnsResolver dnsResolver) {
+            super(executor);
+            this.dnsResolver = dnsResolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            resolveAsync(inetHost).whenComplete((addresses, t) -> {
+                if (t != null) {
+                    promise.tryFailure(unwrap(t));
+                } else if (addresses == null || addresses.length == 0) {
+                    promise.tryFailure(noAddressesFound(inetHost));
+                } else {
+                    promise.trySuccess(addresses[0]);
+                }
+            });
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            resolveAsync(inetHost).whenComplete((addresses, t) -> {
+                if (t != null) {
+                    promise.tryFailure(unwrap(t));
+                } else if (addresses == null || addresses.length == 0) {
+                    promise.tryFailure(noAddressesFound(inetHost));
+                } else {
+                    promise.trySuccess(Arrays.asList(addresses));
+                }
+            });
+        }
+
+        private CompletableFuture<InetAddress[]> resolveAsync(String inetHost) {
+            return dnsResolver.resolveAsync(inetHost);
+        }
+
+        private static UnknownHostException noAddressesFound(String inetHost) {
+            return new UnknownHostException("No addresses were resolved for " + inetHost);
+        }
+
+        private static Throwable unwrap(Throwable t) {
+            return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        }
+    }
+}
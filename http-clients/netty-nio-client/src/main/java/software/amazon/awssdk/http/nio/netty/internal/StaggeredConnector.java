@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Connects to a host that has several addresses, as described by
+ * <a href="https://www.rfc-editor.org/rfc/rfc8305#section-5">RFC 8305</a>. All the addresses of the host are resolved with
+ * an {@link SdkDnsResolver}. A connection attempt is started for the first address, and an attempt for each following
+ * address is started when the previous attempt fails or after the attempt delay, whichever comes first. The first attempt
+ * that succeeds is used, and the others are closed.
+ */
+@SdkInternalApi
+final class StaggeredConnector {
+    private static final Duration DEFAULT_ATTEMPT_DELAY = Duration.ofMillis(250);
+
+    private final SdkDnsResolver dnsResolver;
+    private final long attemptDelayMillis;
+
+    StaggeredConnector(SdkDnsResolver dnsResolver) {
+        this(dnsResolver, DEFAULT_ATTEMPT_DELAY);
+    }
+
+    StaggeredConnector(SdkDnsResolver dnsResolver, Duration attemptDelay) {
+        this.dnsResolver = dnsResolver;
+        this.attemptDelayMillis = attemptDelay.toMillis();
+    }
+
+    /**
+     * Connect the provided bootstrap to its remote address. Every attempt is made on the same event loop, which is chosen
+     * from the group of the bootstrap.
+     */
+    ChannelFuture connect(Bootstrap bootstrap) {
+        SocketAddress remoteAddress = bootstrap.config().remoteAddress();
+        if (!(remoteAddress instanceof InetSocketAddress) || !((InetSocketAddress) remoteAddress).isUnresolved()) {
+            return bootstrap.connect();
+        }
+
+        InetSocketAddress unresolvedAddress = (InetSocketAddress) remoteAddress;
+        EventLoop eventLoop = bootstrap.config().group().next();
+        ConnectFuture result = new ConnectFuture(eventLoop);
+        dnsResolver.resolveAsync(unresolvedAddress.getHostString()).whenComplete((addresses, t) -> {
+            try {
+                eventLoop.execute(() -> {
+                    if (t != null) {
+                        result.tryFailure(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                    } else if (addresses == null || addresses.length == 0) {
+                        result.tryFailure(new UnknownHostException("No addresses were resolved for "
+                                                                   + unresolvedAddress.getHostString()));
+                    } else {
+                        new Race(bootstrap.clone(eventLoop), eventLoop, addresses, unresolvedAddress.getPort(), result).start();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.tryFailure(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The connection attempts to the addresses of one host. All its methods are invoked on its event loop.
+     */
+    private final class Race {
+        private final Bootstrap bootstrap;
+        private final EventLoop eventLoop;
+        private final InetAddress[] addresses;
+        private final int port;
+        private final ConnectFuture result;
+        private final List<ChannelFuture> attempts = new ArrayList<>();
+
+        private int nextAddress;
+        private int failedAttempts;
+        private ScheduledFuture<?> nextAttemptTimer;
+
+        private Race(Bootstrap bootstrap, EventLoop eventLoop, InetAddress[] addresses, int port, ConnectFuture result) {
+            this.bootstrap = bootstrap;
+            this.eventLoop = eventLoop;
+            this.addresses = addresses;
+            this.port = port;
+            this.result = result;
+        }
+
+        private void start() {
+            result.addListener(f -> {
+                if (f.isCancelled()) {
+                    closeAllExcept(null);
+                }
+            });
+            startNextAttempt();
+        }
+
+        private void startNextAttempt() {
+            cancelNextAttemptTimer();
+            if (result.isDone() || nextAddress == addresses.length) {
+                return;
+            }
+
+            ChannelFuture attempt = bootstrap.connect(new InetSocketAddress(addresses[nextAddress++], port));
+            attempts.add(attempt);
+            if (nextAddress < addresses.length) {
+                nextAttemptTimer = eventLoop.schedule(this::startNextAttempt, attemptDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            attempt.addListener(f -> attemptCompleted(attempt));
+        }
+
+        private void attemptCompleted(ChannelFuture attempt) {
+            if (attempt.isSuccess()) {
+                if (result.succeedWith(attempt.channel())) {
+                    closeAllExcept(attempt);
+                } else {
+                    attempt.channel().close();
+                }
+                return;
+            }
+
+            if (++failedAttempts == addresses.length) {
+                result.tryFailure(attempt.cause());
+            } else {
+                startNextAttempt();
+            }
+        }
+
+        private void closeAllExcept(ChannelFuture winner) {
+            cancelNextAttemptTimer();
+            for (ChannelFuture attempt : attempts) {
+                if (attempt != winner && !attempt.cancel(false)) {
+                    attempt.channel().close();
+                }
+            }
+        }
+
+        private void cancelNextAttemptTimer() {
+            if (nextAttemptTimer != null) {
+                nextAttemptTimer.cancel(false);
+                nextAttemptTimer = null;
+            }
+        }
+    }
+
+    /**
+     * The future of a connection that completes with the channel of the attempt that succeeded.
+     */
+    private static final class ConnectFuture extends DefaultPromise<Void> implements ChannelFuture {
+        private volatile Channel channel;
+
+        private ConnectFuture(EventLoop eventLoop) {
+            super(eventLoop);
+        }
+
+        private boolean succeedWith(Channel winner) {
+            if (isDone()) {
+                return false;
+            }
+            this.channel = winner;
+            return trySuccess(null);
+        }
+
+        @Override
+        public Channel channel() {
+            return channel;
+        }
+
+        @Override
+        public boolean isVoid() {
+            return false;
+        }
+
+        @Override
+        public ConnectFuture addListener(GenericFutureListener<? extends Future<? super Void>> listener) {
+            super.addListener(listener);
+            return this;
+        }
+
+        @Override
+        public ConnectFuture addListeners(GenericFutureListener<? extends Future<? super Void>>... listeners) {
+            super.addListeners(listeners);
+            return this;
+        }
+
+        @Override
+        public ConnectFuture removeListener(GenericFutureListener<? extends Future<? super Void>> listener) {
+            super.removeListener(listener);
+            return this;
+        }
+
+        @Override
+        public ConnectFuture removeListeners(GenericFutureListener<? extends Future<? super Void>>... listeners) {
+            super.removeListeners(listeners);
+            return this;
+        }
+
+        @Override
+        public ConnectFuture sync() throws InterruptedException {
+            super.sync();
+            return this;
+        }
+
+        @Override
+        public ConnectFuture syncUninterruptibly() {
+            super.syncUninterruptibly();
+            return this;
+        }
+
+        @Override
+        public ConnectFuture await() throws InterruptedException {
+            super.await();
+            return this;
+        }
+
+        @Override
+        public ConnectFuture awaitUninterruptibly() {
+            super.awaitUninterruptibly();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameStreamEvent;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Keeps the flow-control state of a {@link MultiplexedChannelRecord} up to date while its streams are active.
+ * <p>
+ * The {@link Http2FrameCodec} owns the listener of the remote flow controller, and turns its callbacks into
+ * {@link Http2FrameStreamEvent}s of type {@link Http2FrameStreamEvent.Type#Writability Writability}, which fire for every
+ * active stream when the connection-level window is exhausted or replenished. This handler must sit between the codec and
+ * the {@link Http2MultiplexHandler}, which consumes those events.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class Http2FlowControlStateHandler extends ChannelInboundHandlerAdapter {
+    private static final Http2FlowControlStateHandler INSTANCE = new Http2FlowControlStateHandler();
+
+    private Http2FlowControlStateHandler() {
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+        if (evt instanceof Http2FrameStreamEvent
+            && ((Http2FrameStreamEvent) evt).type() == Http2FrameStreamEvent.Type.Writability) {
+            MultiplexedChannelRecord multiplexedChannel =
+                ctx.channel().attr(Http2MultiplexedChannelPool.MULTIPLEXED_CHANNEL).get();
+            if (multiplexedChannel != null) {
+                multiplexedChannel.updateFlowControlState();
+            }
+        }
+        ctx.fireUserEventTriggered(evt);
+    }
+
+    public static Http2FlowControlStateHandler getInstance() {
+        return INSTANCE;
+    }
+}
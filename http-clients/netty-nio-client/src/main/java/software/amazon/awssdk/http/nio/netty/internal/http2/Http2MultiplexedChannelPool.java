@@ -51,6 +51,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -65,7 +66,14 @@ import software.amazon.awssdk.utils.Validate;
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
  * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * when the max concurrency (or the configured target number of streams) for every connection is reached then a new
+ * connection will be opened.
+ *
+ * <p>
+ * New streams are placed on the connection with the fewest active streams. Connections whose flow-control window is
+ * exhausted are only used when no other connection is available, and neither are connections without active streams, so
+ * that connections which are no longer needed become idle and are closed by the idle connection timeout.
+ * </p>
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -79,7 +87,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     /**
      * Reference to the {@link MultiplexedChannelRecord} on a channel.
      */
-    private static final AttributeKey<MultiplexedChannelRecord> MULTIPLEXED_CHANNEL = NettyUtils.getOrCreateAttributeKey(
+    static final AttributeKey<MultiplexedChannelRecord> MULTIPLEXED_CHANNEL = NettyUtils.getOrCreateAttributeKey(
             "software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool.MULTIPLEXED_CHANNEL");
 
     /**
@@ -92,6 +100,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final long targetStreamsPerConnection;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +110,23 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param targetStreamsPerConnection The number of active streams at which a connection stops receiving new streams while
+     * a new connection can be opened instead.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                long targetStreamsPerConnection) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.targetStreamsPerConnection = targetStreamsPerConnection;
     }
 
     @SdkTestInternalApi
@@ -127,17 +149,67 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
+        MultiplexedChannelRecord preferredConnection = preferredConnection();
+        if (preferredConnection != null && acquireStreamOnInitializedConnection(preferredConnection, promise)) {
+            return promise;
+        }
+
+        // The preferred connection filled up or was closed since it was chosen, so fall back to any connection below the target
         for (MultiplexedChannelRecord multiplexedChannel : connections) {
-            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
+            if (multiplexedChannel != preferredConnection
+                && multiplexedChannel.activeStreams() < targetStreamsPerConnection
+                && acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
             }
         }
 
-        // No available streams on existing connections, establish new connection and add it to list
+        // No available streams on existing connections below the target, establish new connection and add it to list
         acquireStreamOnNewConnection(promise);
         return promise;
     }
 
+    /**
+     * The connection below the target number of streams that a new stream should be placed on, or null if there is none. The
+     * connections are compared in a single pass, without sorting them.
+     */
+    private MultiplexedChannelRecord preferredConnection() {
+        MultiplexedChannelRecord preferred = null;
+        long preferredActiveStreams = 0;
+        boolean preferredBlocked = false;
+        for (MultiplexedChannelRecord connection : connections) {
+            long activeStreams = connection.activeStreams();
+            if (activeStreams >= targetStreamsPerConnection) {
+                continue;
+            }
+
+            boolean blocked = connection.isFlowControlBlocked();
+            if (preferred == null || isBetterPlacement(blocked, activeStreams, preferredBlocked, preferredActiveStreams)) {
+                preferred = connection;
+                preferredActiveStreams = activeStreams;
+                preferredBlocked = blocked;
+            }
+        }
+        return preferred;
+    }
+
+    /**
+     * Whether a connection is a better place for a new stream than another: connections whose flow-control window is not
+     * exhausted come first, then connections that already have active streams, and then those with the fewest active
+     * streams.
+     */
+    private static boolean isBetterPlacement(boolean blocked, long activeStreams,
+                                             boolean otherBlocked, long otherActiveStreams) {
+        if (blocked != otherBlocked) {
+            return !blocked;
+        }
+        boolean idle = activeStreams == 0;
+        boolean otherIdle = otherActiveStreams == 0;
+        if (idle != otherIdle) {
+            return !idle;
+        }
+        return activeStreams < otherActiveStreams;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -443,6 +515,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 try {
                     metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(m.getAvailableStreams()));
+                    metrics.reportMetric(Http2Metric.OPEN_CONNECTIONS, channelMetrics.size());
                     result.complete(null);
                 } catch (Exception e) {
                     result.completeExceptionally(e);
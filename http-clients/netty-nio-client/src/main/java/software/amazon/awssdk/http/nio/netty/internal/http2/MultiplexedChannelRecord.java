@@ -21,6 +21,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.wa
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelOutboundInvoker;
+import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
@@ -68,6 +69,9 @@ public class MultiplexedChannelRecord {
 
     private volatile int lastStreamId;
 
+    // Only write in the connection.eventLoop()
+    private volatile boolean flowControlBlocked;
+
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
         this.connection = connection;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
@@ -114,6 +118,7 @@ public class MultiplexedChannelRecord {
                 channel.attr(ChannelAttributeKey.HTTP2_FRAME_STREAM).set(channel.stream());
                 channel.attr(ChannelAttributeKey.CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(channel));
                 childChannels.put(channel.id(), channel);
+                updateFlowControlState();
                 promise.setSuccess(channel);
 
                 if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
@@ -236,9 +241,25 @@ public class MultiplexedChannelRecord {
         doInEventLoop(connection.eventLoop(), () -> {
             childChannels.remove(childChannel.id());
             releaseClaim();
+            updateFlowControlState();
         });
     }
 
+    /**
+     * Record whether the connection-level flow-control window of the remote endpoint is exhausted, in which case request
+     * data written to new streams on this connection would have to wait for a {@code WINDOW_UPDATE}. This is called when
+     * streams are opened or closed, and by {@link Http2FlowControlStateHandler} when the flow controller reports that the
+     * window changed.
+     */
+    void updateFlowControlState() {
+        warnIfNotInEventLoop(connection.eventLoop());
+
+        Http2Connection http2Connection = connection.attr(ChannelAttributeKey.HTTP2_CONNECTION).get();
+        if (http2Connection != null) {
+            flowControlBlocked = http2Connection.remote().flowController().windowSize(http2Connection.connectionStream()) <= 0;
+        }
+    }
+
     private void closeIfIdle() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -300,6 +321,21 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return The number of streams claimed on this connection, including streams that are still being opened.
+     */
+    long activeStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * @return Whether the remote endpoint's connection-level flow-control window is exhausted, as last reported by the flow
+     * controller or observed when streams were opened or closed on this connection.
+     */
+    boolean isFlowControlBlocked() {
+        return flowControlBlocked;
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Creates the classes of Netty's io_uring transport. The transport is an optional dependency that is still incubating, so it
+ * is only accessed reflectively.
+ */
+@SdkInternalApi
+public final class IoUringTransport {
+    static final String EVENT_LOOP_GROUP_CLASS = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    static final String SOCKET_CHANNEL_CLASS = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+
+    private static final String IO_URING_CLASS = "io.netty.incubator.channel.uring.IOUring";
+    private static final String CHANNEL_OPTION_CLASS = "io.netty.incubator.channel.uring.IOUringChannelOption";
+
+    private IoUringTransport() {
+    }
+
+    /**
+     * Create an io_uring event loop group.
+     *
+     * @throws IllegalStateException If the transport is not on the classpath, or its native library cannot be loaded.
+     */
+    public static EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+        try {
+            Class<?> ioUring = loadClass(IO_URING_CLASS);
+            if (!(Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                Throwable cause = (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null);
+                throw new IllegalStateException("The io_uring transport is not available.", cause);
+            }
+            return (EventLoopGroup) loadClass(EVENT_LOOP_GROUP_CLASS).getConstructor(int.class, ThreadFactory.class)
+                                                                     .newInstance(numberOfThreads, threadFactory);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create the io_uring event loop group.", e);
+        }
+    }
+
+    public static ChannelFactory<? extends Channel> socketChannelFactory() {
+        return new ReflectiveChannelFactory<>(loadClass(SOCKET_CHANNEL_CLASS).asSubclass(Channel.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ChannelOption<Boolean> tcpQuickAckOption() {
+        try {
+            return (ChannelOption<Boolean>) loadClass(CHANNEL_OPTION_CLASS).getField("TCP_QUICKACK").get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to load the io_uring TCP_QUICKACK option.", e);
+        }
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The io_uring transport is not on the classpath. Add the "
+                                            + "netty-incubator-transport-native-io_uring artifact to use it.", e);
+        }
+    }
+}
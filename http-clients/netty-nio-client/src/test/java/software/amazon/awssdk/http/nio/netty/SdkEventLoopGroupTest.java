@@ -16,11 +16,20 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
 
+import io.netty.channel.Channel;
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup.Transport;
 
 public class SdkEventLoopGroupTest {
 
@@ -49,4 +58,56 @@ public class SdkEventLoopGroupTest {
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
     }
+
+    @Test
+    public void nioTransport_createsNioEventLoopGroup() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).transport(Transport.NIO).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void nioTransport_nativeSocketOption_throwsException() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().tcpQuickAck(true).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void negativeBusyPollMicros_throwsException() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().busyPollMicros(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("busyPollMicros");
+    }
+
+    @Test
+    public void ioUringTransport_notOnClasspath_throwsException() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transport(Transport.IO_URING).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("io_uring");
+    }
+
+    @Test
+    public void epollTransport_nativeSocketOptionsSetOnChannels() {
+        assumeTrue(Epoll.isAvailable());
+
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(Transport.EPOLL)
+                                                               .tcpQuickAck(true)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+            Channel channel = sdkEventLoopGroup.channelFactory().newChannel();
+            assertThat(channel).isInstanceOf(EpollSocketChannel.class);
+            assertThat(channel.config().getOption(EpollChannelOption.EPOLL_MODE)).isEqualTo(EpollMode.EDGE_TRIGGERED);
+            assertThat(channel.config().getOption(EpollChannelOption.TCP_QUICKACK)).isTrue();
+            channel.unsafe().closeForcibly();
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
 }
@@ -16,13 +16,19 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALIVE;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AddressResolver;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.UnknownHostException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -74,4 +80,58 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createBootstrap_dnsResolverConfigured_shouldResolveWithIt() throws Exception {
+        InetAddress address = InetAddress.getByAddress("some-awesome-service-1234.amazonaws.com", new byte[] {127, 0, 0, 1});
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                  new SdkChannelOptions(),
+                                  host -> new InetAddress[] {address});
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443);
+        assertThat(bootstrap.config().resolver()).isInstanceOf(SdkDnsAddressResolverGroup.class);
+
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            AddressResolver<InetSocketAddress> resolver =
+                ((SdkDnsAddressResolverGroup) bootstrap.config().resolver()).getResolver(eventLoop);
+            InetSocketAddress resolved =
+                resolver.resolve(InetSocketAddress.createUnresolved("some-awesome-service-1234.amazonaws.com", 443))
+                        .sync()
+                        .getNow();
+
+            assertThat(resolved.getAddress()).isEqualTo(address);
+            assertThat(resolved.getPort()).isEqualTo(443);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void createBootstrap_dnsResolverReturnsNoAddresses_shouldFailWithUnknownHost() {
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                  new SdkChannelOptions(),
+                                  host -> new InetAddress[0]);
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443);
+
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            AddressResolver<InetSocketAddress> resolver =
+                ((SdkDnsAddressResolverGroup) bootstrap.config().resolver()).getResolver(eventLoop);
+            InetSocketAddress unresolved = InetSocketAddress.createUnresolved("some-awesome-service-1234.amazonaws.com", 443);
+
+            assertThatThrownBy(() -> resolver.resolve(unresolved).sync())
+                .isInstanceOf(UnknownHostException.class)
+                .hasMessageContaining("some-awesome-service-1234.amazonaws.com");
+            assertThatThrownBy(() -> resolver.resolveAll(unresolved).sync())
+                .isInstanceOf(UnknownHostException.class);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+}
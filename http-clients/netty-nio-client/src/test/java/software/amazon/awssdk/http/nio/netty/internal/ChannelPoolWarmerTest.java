@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class ChannelPoolWarmerTest {
+    private static EventLoopGroup eventLoopGroup;
+
+    @BeforeAll
+    public static void setup() {
+        eventLoopGroup = new DefaultEventLoopGroup(1);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    @Test
+    public void allChannelsAcquired_heldUntilAllReadyThenReleased() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Channel first = new EmbeddedChannel();
+        Channel second = new EmbeddedChannel();
+        Promise<Channel> secondAcquire = ImmediateEventExecutor.INSTANCE.newPromise();
+        when(pool.acquire()).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(first), secondAcquire);
+
+        CompletableFuture<Void> warmUp = ChannelPoolWarmer.warmUp(pool, 2, Duration.ofSeconds(10), eventLoopGroup.next());
+
+        assertThat(warmUp).isNotDone();
+        verify(pool, never()).release(first);
+
+        secondAcquire.setSuccess(second);
+
+        assertThat(warmUp).isCompleted();
+        verify(pool).release(first);
+        verify(pool).release(second);
+    }
+
+    @Test
+    public void acquireFails_failsWarmUpAndReleasesAcquiredChannels() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Channel channel = new EmbeddedChannel();
+        IOException failure = new IOException("Connection refused");
+        when(pool.acquire()).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(channel),
+                                        ImmediateEventExecutor.INSTANCE.newFailedFuture(failure));
+
+        CompletableFuture<Void> warmUp = ChannelPoolWarmer.warmUp(pool, 2, Duration.ofSeconds(10), eventLoopGroup.next());
+
+        assertThatThrownBy(warmUp::join).hasCause(failure);
+        verify(pool).release(channel);
+    }
+
+    @Test
+    public void timeoutElapses_failsWarmUp() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Promise<Channel> acquire = ImmediateEventExecutor.INSTANCE.newPromise();
+        when(pool.acquire()).thenReturn(acquire);
+
+        CompletableFuture<Void> warmUp = ChannelPoolWarmer.warmUp(pool, 1, Duration.ofMillis(10), eventLoopGroup.next());
+
+        assertThatThrownBy(warmUp::join).hasCauseInstanceOf(TimeoutException.class);
+
+        Channel channel = new EmbeddedChannel();
+        acquire.setSuccess(channel);
+        verify(pool).release(channel);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.junit.jupiter.api.Test;
+
+public class IdleConnectionReaperHandlerTest {
+    @Test
+    public void notInUseChannelsAreClosed() {
+        IdleConnectionReaperHandler handler = new IdleConnectionReaperHandler(60_000);
+        EmbeddedChannel channel = idleChannel(handler);
+
+        handler.channelIdle(channel.pipeline().context(handler), IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void inUseChannelsAreNotClosed() {
+        IdleConnectionReaperHandler handler = new IdleConnectionReaperHandler(60_000);
+        EmbeddedChannel channel = idleChannel(handler);
+        channel.attr(ChannelAttributeKey.IN_USE).set(true);
+
+        handler.channelIdle(channel.pipeline().context(handler), IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void retainer_keepsMinimumConnectionsOpen() {
+        IdleConnectionRetainer retainer = new IdleConnectionRetainer(1);
+        IdleConnectionReaperHandler firstHandler = new IdleConnectionReaperHandler(60_000, retainer);
+        IdleConnectionReaperHandler secondHandler = new IdleConnectionReaperHandler(60_000, retainer);
+        EmbeddedChannel first = idleChannel(firstHandler);
+        EmbeddedChannel second = idleChannel(secondHandler);
+        assertThat(retainer.openConnections()).isEqualTo(2);
+
+        ChannelHandlerContext firstContext = first.pipeline().context(firstHandler);
+        ChannelHandlerContext secondContext = second.pipeline().context(secondHandler);
+        firstHandler.channelIdle(firstContext, IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+        secondHandler.channelIdle(secondContext, IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+
+        assertThat(first.isOpen()).isFalse();
+        assertThat(second.isOpen()).isTrue();
+        assertThat(retainer.openConnections()).isEqualTo(1);
+
+        secondHandler.channelIdle(secondContext, IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        assertThat(second.isOpen()).isTrue();
+
+        second.close();
+        assertThat(retainer.openConnections()).isEqualTo(0);
+    }
+
+    private static EmbeddedChannel idleChannel(IdleConnectionReaperHandler handler) {
+        EmbeddedChannel channel = new EmbeddedChannel(handler);
+        channel.attr(ChannelAttributeKey.IN_USE).set(false);
+        return channel;
+    }
+}
@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,6 +41,7 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -53,9 +55,11 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -235,6 +239,41 @@ public class PublisherAdapterTest {
         }
     }
 
+    @Test
+    public void publishPooledResponseBuffers_releasableSubscriber_contentReleasedBySubscriber() {
+        ByteBuf content = Unpooled.copiedBuffer("hello", StandardCharsets.UTF_8);
+        Flowable<HttpContent> testPublisher = Flowable.just(new DefaultHttpContent(content));
+
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.ACCEPTED,
+                                                                                    testPublisher);
+
+        NettyConfiguration configuration =
+            new NettyConfiguration(AttributeMap.builder()
+                                               .put(NettyConfiguration.PUBLISH_POOLED_RESPONSE_BUFFERS, true)
+                                               .build());
+        RequestContext pooledRequestContext = new RequestContext(channelPool,
+                                                                 eventLoopGroup,
+                                                                 requestContext.executeRequest(),
+                                                                 configuration);
+
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedHttpResponse,
+                                                                                                 ctx,
+                                                                                                 pooledRequestContext,
+                                                                                                 executeFuture);
+        ReleasableTestSubscriber subscriber = new ReleasableTestSubscriber();
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(subscriber.isCompleted).isEqualTo(true);
+        assertThat(subscriber.received).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(1);
+
+        subscriber.release.run();
+        subscriber.release.run();
+        assertThat(content.refCnt()).isEqualTo(0);
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -262,4 +301,39 @@ public class PublisherAdapterTest {
             isCompleted = true;
         }
     }
+
+    static final class ReleasableTestSubscriber implements ReleasableByteBufferSubscriber {
+
+        private Subscription subscription;
+        private String received;
+        private Runnable release;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            throw new AssertionError("Content should be published without copying");
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            this.received = StandardCharsets.UTF_8.decode(byteBuffer).toString();
+            this.release = release;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
 }
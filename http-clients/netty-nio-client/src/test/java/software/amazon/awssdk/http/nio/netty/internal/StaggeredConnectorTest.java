@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+public class StaggeredConnectorTest {
+    private EventLoopGroup group;
+    private ServerSocket server;
+
+    @Before
+    public void setup() throws Exception {
+        group = new NioEventLoopGroup(1);
+        server = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+    }
+
+    @After
+    public void teardown() throws Exception {
+        server.close();
+        group.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void connect_firstAddressRefuses_connectsToNextAddressWithoutWaitingForDelay() throws Exception {
+        StaggeredConnector connector = new StaggeredConnector(resolver("127.0.0.2", "127.0.0.1"), Duration.ofMinutes(1));
+
+        ChannelFuture future = connector.connect(bootstrap());
+
+        assertThat(future.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(future.channel().isActive()).isTrue();
+        assertThat(((InetSocketAddress) future.channel().remoteAddress()).getAddress())
+            .isEqualTo(InetAddress.getByName("127.0.0.1"));
+        future.channel().close();
+    }
+
+    @Test
+    public void connect_firstAddressDoesNotAnswer_connectsToNextAddressAfterDelay() throws Exception {
+        StaggeredConnector connector = new StaggeredConnector(resolver("10.255.255.1", "127.0.0.1"), Duration.ofMillis(50));
+
+        ChannelFuture future = connector.connect(bootstrap());
+
+        assertThat(future.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(((InetSocketAddress) future.channel().remoteAddress()).getAddress())
+            .isEqualTo(InetAddress.getByName("127.0.0.1"));
+        future.channel().close();
+    }
+
+    @Test
+    public void connect_everyAddressRefuses_fails() throws Exception {
+        StaggeredConnector connector = new StaggeredConnector(resolver("127.0.0.2", "127.0.0.3"), Duration.ofMillis(50));
+
+        ChannelFuture future = connector.connect(bootstrap());
+
+        assertThat(future.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isSuccess()).isFalse();
+        assertThat(future.cause()).isNotNull();
+    }
+
+    @Test
+    public void connect_resolutionFails_fails() throws Exception {
+        SdkDnsResolver failing = new SdkDnsResolver() {
+            @Override
+            public InetAddress[] resolve(String host) throws UnknownHostException {
+                throw new UnknownHostException(host);
+            }
+
+            @Override
+            public CompletableFuture<InetAddress[]> resolveAsync(String host) {
+                CompletableFuture<InetAddress[]> future = new CompletableFuture<>();
+                future.completeExceptionally(new UnknownHostException(host));
+                return future;
+            }
+        };
+        StaggeredConnector connector = new StaggeredConnector(failing);
+
+        ChannelFuture future = connector.connect(bootstrap());
+
+        assertThat(future.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cause()).isInstanceOf(UnknownHostException.class);
+    }
+
+    private Bootstrap bootstrap() {
+        return new Bootstrap().group(group)
+                              .channel(NioSocketChannel.class)
+                              .handler(new ChannelInboundHandlerAdapter())
+                              .remoteAddress(InetSocketAddress.createUnresolved("example.com", server.getLocalPort()));
+    }
+
+    private static SdkDnsResolver resolver(String... addresses) {
+        return host -> {
+            InetAddress[] resolved = new InetAddress[addresses.length];
+            for (int i = 0; i < addresses.length; i++) {
+                resolved[i] = InetAddress.getByName(addresses[i]);
+            }
+            return resolved;
+        };
+    }
+}
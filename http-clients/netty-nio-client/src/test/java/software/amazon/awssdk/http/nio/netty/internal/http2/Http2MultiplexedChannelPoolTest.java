@@ -46,6 +46,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -330,6 +331,55 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_withTargetStreamsPerConnection_spreadsStreamsAcrossConnections() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(10L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(10L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, null, 2);
+
+            Channel stream1 = doAcquire(channel1, channel2, h2Pool);
+            Channel stream2 = doAcquire(channel1, channel2, h2Pool);
+            Channel stream3 = doAcquire(channel1, channel2, h2Pool);
+            Channel stream4 = doAcquire(channel1, channel2, h2Pool);
+
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+            assertThat(stream1.parent()).isEqualTo(channel1);
+            assertThat(stream2.parent()).isEqualTo(channel1);
+            assertThat(stream3.parent()).isEqualTo(channel2);
+            assertThat(stream4.parent()).isEqualTo(channel2);
+
+            MetricCollection metrics = getMetrics(h2Pool);
+            assertThat(metrics.metricValues(Http2Metric.OPEN_CONNECTIONS)).containsExactly(2);
+
+            // With a stream released on the first connection, it has the fewest active streams below the target.
+            stream1.close();
+            h2Pool.release(stream1).awaitUninterruptibly();
+            runPendingTasks(channel1, channel2);
+
+            Channel stream5 = doAcquire(channel1, channel2, h2Pool);
+            assertThat(stream5.parent()).isEqualTo(channel1);
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
@@ -78,6 +78,9 @@ import software.amazon.awssdk.utils.Validate;
  *
  * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
  *
+ * <p>This client does not support a custom {@link software.amazon.awssdk.http.SdkDnsResolver}: {@link HttpURLConnection}
+ * resolves hosts with the name service of the JVM, and only connects to the first address of a host.</p>
+ *
  * <p>This can be created via {@link #builder()}</p>
  */
 @SdkPublicApi
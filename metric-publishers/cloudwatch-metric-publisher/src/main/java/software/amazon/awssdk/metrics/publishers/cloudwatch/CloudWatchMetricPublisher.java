@@ -232,7 +232,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               builder.detailedMetricsPrecision);
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
@@ -395,6 +396,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Integer detailedMetricsPrecision;
 
         private Builder() {
         }
@@ -580,6 +582,25 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the number of significant decimal digits to which the values of {@link #detailedMetrics(Collection)} are
+         * retained, between 1 and 5.
+         *
+         * <p>By default, every unique value of a detailed metric is stored until it is published. When a precision is
+         * configured, values are instead counted in log-linear histogram buckets whose width is at most {@code
+         * 10^-significantDigits} of the values in them, and each bucket is published as the average of its values. This bounds
+         * the memory used per detailed metric, and the number of values sent to CloudWatch, by the precision and the range of
+         * the values rather than by the number of unique values. Sums, averages and counts are preserved, while minimums,
+         * maximums and percentiles are accurate to the configured precision.
+         *
+         * <p>For latency metrics, a precision of 2 or 3 significant digits is usually sufficient. {@link #build()} fails with
+         * an {@link IllegalArgumentException} if the precision is outside of this range.
+         */
+        public Builder detailedMetricsPrecision(Integer significantDigits) {
+            this.detailedMetricsPrecision = significantDigits;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,6 +30,9 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
  * until they can be added to a {@link MetricDatum}.
+ *
+ * <p>When a precision is configured, values are recorded in a {@link LogLinearHistogram} instead of being stored exactly, which
+ * bounds the number of distinct values (and therefore the memory and number of {@link MetricDatum}s) for this metric.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
@@ -36,12 +40,19 @@ class DetailedMetricAggregator implements MetricAggregator {
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final Map<Double, DetailedMetrics> metricDetails;
+    private final LogLinearHistogram histogram;
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+        this(key, unit, null);
+    }
+
+    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit, Integer significantDigits) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        this.metricDetails = significantDigits == null ? new HashMap<>() : null;
+        this.histogram = significantDigits == null ? null : new LogLinearHistogram(significantDigits);
     }
 
     @Override
@@ -56,6 +67,10 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
+        if (histogram != null) {
+            histogram.recordValue(value);
+            return;
+        }
         metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
     }
 
@@ -65,6 +80,11 @@ class DetailedMetricAggregator implements MetricAggregator {
     }
 
     public Collection<DetailedMetrics> detailedMetrics() {
+        if (histogram != null) {
+            List<DetailedMetrics> result = new ArrayList<>(histogram.bucketCount());
+            histogram.forEachBucket((value, count) -> result.add(new DetailedMetrics(value, count)));
+            return Collections.unmodifiableList(result);
+        }
         return Collections.unmodifiableCollection(metricDetails.values());
     }
 
@@ -76,6 +96,11 @@ class DetailedMetricAggregator implements MetricAggregator {
             this.metricValue = metricValue;
         }
 
+        private DetailedMetrics(double metricValue, int metricCount) {
+            this.metricValue = metricValue;
+            this.metricCount = metricCount;
+        }
+
         public double metricValue() {
             return metricValue;
         }
@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A log-linear histogram of double values, stored in primitive arrays.
+ *
+ * <p>Values are bucketed by their sign, binary exponent and the most significant bits of their mantissa, in the style of
+ * HdrHistogram: every power of two is split into {@code 2^subBucketBits} linear sub-buckets, so the width of a bucket is at most
+ * {@code 10^-significantDigits} of the values in it. The number of buckets that can exist is therefore bounded by the precision
+ * and the range of recorded values, not by the number of values recorded.
+ *
+ * <p>Each non-empty bucket keeps its count and the sum of its values, and is reported as the mean of its values. Buckets
+ * holding a single distinct value are therefore reported exactly.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class LogLinearHistogram {
+    static final int MIN_SIGNIFICANT_DIGITS = 1;
+    static final int MAX_SIGNIFICANT_DIGITS = 5;
+
+    private static final int MANTISSA_BITS = 52;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private final int shift;
+
+    private int[] buckets;
+    private int[] counts;
+    private double[] sums;
+    private int size;
+
+    LogLinearHistogram(int significantDigits) {
+        validateSignificantDigits(significantDigits);
+        int subBucketBits = (int) Math.ceil(significantDigits * Math.log(10) / Math.log(2));
+        this.shift = MANTISSA_BITS - subBucketBits;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Validate that a histogram can be created with the given number of significant digits.
+     */
+    static int validateSignificantDigits(int significantDigits) {
+        Validate.isTrue(significantDigits >= MIN_SIGNIFICANT_DIGITS && significantDigits <= MAX_SIGNIFICANT_DIGITS,
+                        "significantDigits must be between %s and %s, but was %s",
+                        MIN_SIGNIFICANT_DIGITS, MAX_SIGNIFICANT_DIGITS, significantDigits);
+        return significantDigits;
+    }
+
+    /**
+     * Record a value in this histogram.
+     */
+    void recordValue(double value) {
+        int bucket = bucketFor(value);
+        int slot = slotFor(bucket);
+        if (buckets[slot] == EMPTY) {
+            buckets[slot] = bucket;
+            if (++size * 2 > buckets.length) {
+                grow();
+                slot = slotFor(bucket);
+            }
+        }
+        counts[slot]++;
+        sums[slot] += value;
+    }
+
+    /**
+     * The number of non-empty buckets in this histogram.
+     */
+    int bucketCount() {
+        return size;
+    }
+
+    /**
+     * Invoke the consumer with the value and count of every non-empty bucket, in ascending order of value.
+     */
+    void forEachBucket(BucketConsumer consumer) {
+        // Pack the sort key of each bucket with its slot, so that a primitive sort orders the slots by value.
+        long[] order = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (buckets[slot] != EMPTY) {
+                order[i++] = ((long) sortKey(buckets[slot]) << 32) | slot;
+            }
+        }
+        Arrays.sort(order);
+
+        for (long entry : order) {
+            int slot = (int) entry;
+            consumer.accept(sums[slot] / counts[slot], counts[slot]);
+        }
+    }
+
+    /**
+     * Buckets of positive values sort in the same order as their values. Buckets of negative values have the sign bit set and
+     * sort in reverse order of their magnitude, so they are mapped onto negative keys.
+     */
+    private int sortKey(int bucket) {
+        int signBit = 1 << (Long.SIZE - 1 - shift);
+        if ((bucket & signBit) == 0) {
+            return bucket;
+        }
+        return -(bucket & ~signBit) - 1;
+    }
+
+    private int bucketFor(double value) {
+        // Treat -0.0 as 0.0. The sign bit, exponent and top mantissa bits of the value form the bucket.
+        long bits = Double.doubleToRawLongBits(value == 0 ? 0.0 : value);
+        return (int) (bits >>> shift);
+    }
+
+    private int slotFor(int bucket) {
+        int mask = buckets.length - 1;
+        int slot = mix(bucket) & mask;
+        while (buckets[slot] != EMPTY && buckets[slot] != bucket) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int bucket) {
+        int h = bucket * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void grow() {
+        int[] oldBuckets = buckets;
+        int[] oldCounts = counts;
+        double[] oldSums = sums;
+        allocate(oldBuckets.length * 2);
+        for (int i = 0; i < oldBuckets.length; i++) {
+            if (oldBuckets[i] != EMPTY) {
+                int slot = slotFor(oldBuckets[i]);
+                buckets[slot] = oldBuckets[i];
+                counts[slot] = oldCounts[i];
+                sums[slot] = oldSums[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        buckets = new int[capacity];
+        Arrays.fill(buckets, EMPTY);
+        counts = new int[capacity];
+        sums = new double[capacity];
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double value, int count);
+    }
+}
@@ -79,14 +79,31 @@ class TimeBucketedMetrics {
      */
     private final boolean metricCategoriesContainsAll;
 
-
+    /**
+     * The number of significant digits to which {@link #detailedMetrics} values are bucketed, or null if they should be stored
+     * exactly.
+     */
+    private final Integer detailedMetricsPrecision;
 
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
                         Set<SdkMetric<?>> detailedMetrics) {
+        this(dimensions, metricCategories, metricLevel, detailedMetrics, null);
+    }
+
+    TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
+                        Set<MetricCategory> metricCategories,
+                        MetricLevel metricLevel,
+                        Set<SdkMetric<?>> detailedMetrics,
+                        Integer detailedMetricsPrecision) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
+        if (detailedMetricsPrecision != null) {
+            // Fail when the publisher is built, rather than when the first detailed metric is aggregated
+            LogLinearHistogram.validateSignificantDigits(detailedMetricsPrecision);
+        }
+        this.detailedMetricsPrecision = detailedMetricsPrecision;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
@@ -170,7 +187,7 @@ class TimeBucketedMetrics {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
         if (detailedMetrics.contains(metric)) {
-            return new DetailedMetricAggregator(aggregatorKey, metricUnit);
+            return new DetailedMetricAggregator(aggregatorKey, metricUnit, detailedMetricsPrecision);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
         }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.metrics.publishers.cloudwatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 
@@ -268,6 +269,22 @@ public class CloudWatchMetricPublisherTest {
         assertThat(availableConcurrency.statisticValues()).isNull();
     }
 
+    @Test
+    public void detailedMetricsPrecisionOutOfRangeFailsOnBuild() {
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsPrecision(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("significantDigits");
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsPrecision(6).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("significantDigits");
+    }
+
+    @Test
+    public void detailedMetricsPrecisionInRangeIsAccepted() {
+        publisherBuilder.detailedMetricsPrecision(1).build().close();
+        publisherBuilder.detailedMetricsPrecision(5).build().close();
+    }
+
     private MetricDatum getDatum(PutMetricDataRequest call, SdkMetric<?> metric) {
         return call.metricData().stream().filter(m -> m.metricName().equals(metric.name())).findAny().get();
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LogLinearHistogramTest {
+    @Test
+    public void distinctValuesAreReportedExactlyInAscendingOrder() {
+        LogLinearHistogram histogram = new LogLinearHistogram(3);
+        histogram.recordValue(4);
+        histogram.recordValue(-2.5);
+        histogram.recordValue(0);
+        histogram.recordValue(-0.0);
+        histogram.recordValue(1);
+        histogram.recordValue(4);
+        histogram.recordValue(-100);
+
+        List<Double> values = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            counts.add(count);
+        });
+
+        assertThat(histogram.bucketCount()).isEqualTo(5);
+        assertThat(values).containsExactly(-100.0, -2.5, 0.0, 1.0, 4.0);
+        assertThat(counts).containsExactly(1, 1, 2, 1, 2);
+    }
+
+    @Test
+    public void bucketCountIsBoundedByPrecisionAndRange() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        Random random = new Random(0);
+        double sum = 0;
+        for (int i = 0; i < 100_000; i++) {
+            double value = 1 + random.nextDouble() * 1023;
+            sum += value;
+            histogram.recordValue(value);
+        }
+
+        // 10 powers of two, each split into 2^7 sub-buckets for 2 significant digits.
+        assertThat(histogram.bucketCount()).isLessThanOrEqualTo(10 * 128);
+
+        int[] totalCount = {0};
+        double[] totalSum = {0};
+        histogram.forEachBucket((value, count) -> {
+            totalCount[0] += count;
+            totalSum[0] += value * count;
+        });
+        assertThat(totalCount[0]).isEqualTo(100_000);
+        assertThat(totalSum[0]).isCloseTo(sum, within(sum * 1e-9));
+    }
+
+    @Test
+    public void bucketValuesAreWithinConfiguredPrecision() {
+        for (int digits = LogLinearHistogram.MIN_SIGNIFICANT_DIGITS;
+             digits <= LogLinearHistogram.MAX_SIGNIFICANT_DIGITS;
+             digits++) {
+            double maxRelativeError = Math.pow(10, -digits);
+            Random random = new Random(digits);
+            for (int i = 0; i < 1_000; i++) {
+                LogLinearHistogram histogram = new LogLinearHistogram(digits);
+                double value = Math.exp(random.nextDouble() * 20);
+                histogram.recordValue(value);
+                histogram.recordValue(value * (1 + maxRelativeError / 2));
+                histogram.forEachBucket((bucketValue, count) -> {
+                    assertThat(Math.abs(bucketValue - value) / value).isLessThanOrEqualTo(maxRelativeError);
+                });
+            }
+        }
+    }
+
+    @Test
+    public void invalidPrecisionIsRejected() {
+        assertThatThrownBy(() -> new LogLinearHistogram(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LogLinearHistogram(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
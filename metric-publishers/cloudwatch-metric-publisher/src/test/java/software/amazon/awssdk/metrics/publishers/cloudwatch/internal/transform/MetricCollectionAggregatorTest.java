@@ -419,6 +419,29 @@ public class MetricCollectionAggregatorTest {
                                               DEFAULT_DETAILED_METRICS);
     }
 
+    @Test
+    public void detailedMetricsWithPrecisionAreBucketed() {
+        MetricCollectionAggregator aggregator = new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                                                               DEFAULT_DIMENSIONS,
+                                                                               DEFAULT_CATEGORIES,
+                                                                               DEFAULT_METRIC_LEVEL,
+                                                                               Collections.singleton(HttpMetric.MAX_CONCURRENCY),
+                                                                               2);
+        MetricCollector collector = collector();
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1000);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1001);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1002);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 2000);
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).containsExactly(1001.0, 2000.0);
+                assertThat(metricData.counts()).containsExactly(3.0, 1.0);
+            });
+        });
+    }
+
     private MetricCollectionAggregator aggregatorWithCustomDetailedMetrics(SdkMetric<?>... detailedMetrics) {
         return new MetricCollectionAggregator(DEFAULT_NAMESPACE,
                                               DEFAULT_DIMENSIONS,
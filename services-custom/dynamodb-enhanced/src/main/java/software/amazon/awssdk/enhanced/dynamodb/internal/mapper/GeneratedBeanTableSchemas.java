@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaProcessor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Locates the table schemas that {@link BeanTableSchemaProcessor} generates for bean classes at build time.
+ *
+ * <p>The schema for a bean class is generated into the package of the bean, in a class named after the bean with the
+ * names of any enclosing classes prepended and separated by underscores, followed by {@value #GENERATED_CLASS_SUFFIX}.
+ * For example, the schema for {@code com.example.Outer.Customer} is created by
+ * {@code com.example.Outer_Customer_TableSchema.create()}.
+ */
+@SdkInternalApi
+public final class GeneratedBeanTableSchemas {
+    public static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+    public static final String CREATE_METHOD_NAME = "create";
+
+    private GeneratedBeanTableSchemas() {
+    }
+
+    /**
+     * Returns the binary name of the class generated for the bean class with the provided binary name.
+     */
+    public static String generatedClassName(String beanBinaryName) {
+        int packageEnd = beanBinaryName.lastIndexOf('.');
+        String packagePrefix = beanBinaryName.substring(0, packageEnd + 1);
+        String flatName = beanBinaryName.substring(packageEnd + 1).replace('$', '_');
+        return packagePrefix + flatName + GENERATED_CLASS_SUFFIX;
+    }
+
+    /**
+     * Creates the table schema generated for the provided bean class, if the bean was processed by
+     * {@link BeanTableSchemaProcessor} when it was compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<StaticTableSchema<T>> create(Class<T> beanClass) {
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName(beanClass.getName()), true, beanClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        Method createMethod;
+        try {
+            createMethod = generatedClass.getMethod(CREATE_METHOD_NAME);
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+
+        if (!Modifier.isStatic(createMethod.getModifiers())
+            || !StaticTableSchema.class.equals(createMethod.getReturnType())) {
+            return Optional.empty();
+        }
+
+        StaticTableSchema<?> tableSchema;
+        try {
+            tableSchema = (StaticTableSchema<?>) createMethod.invoke(null);
+        } catch (IllegalAccessException e) {
+            return Optional.empty();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not create the generated table schema for " + beanClass.getTypeName(),
+                                            e.getCause());
+        }
+
+        if (!beanClass.equals(tableSchema.itemType().rawClass())) {
+            return Optional.empty();
+        }
+        return Optional.of((StaticTableSchema<T>) tableSchema);
+    }
+}
@@ -50,6 +50,7 @@ import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.AttributeConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeGetter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeSetter;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedBeanTableSchemas;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
@@ -98,7 +99,8 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPrese
  * </pre>
  *
  * Creating an {@link BeanTableSchema} is a moderately expensive operation, and should be performed sparingly. This is
- * usually done once at application startup.
+ * usually done once at application startup. To avoid scanning the bean class at runtime, for example to reduce the cold
+ * start time of short-lived applications, compile it with {@link BeanTableSchemaProcessor}.
  *
  * If this table schema is not behaving as you expect, enable debug logging for 'software.amazon.awssdk.enhanced.dynamodb.beans'.
  *
@@ -120,11 +122,20 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
      * Creating an {@link BeanTableSchema} is a moderately expensive operation, and should be performed sparingly. This is
      * usually done once at application startup.
      *
+     * If the bean class was compiled with {@link BeanTableSchemaProcessor}, the schema that was generated for it at build
+     * time is used instead, and the bean class is not scanned.
+     *
      * @param beanClass The bean class to build the table schema from.
      * @param <T> The bean class type.
      * @return An initialized {@link BeanTableSchema}
      */
     public static <T> BeanTableSchema<T> create(Class<T> beanClass) {
+        Optional<StaticTableSchema<T>> generatedTableSchema = GeneratedBeanTableSchemas.create(beanClass);
+        if (generatedTableSchema.isPresent()) {
+            debugLog(beanClass, () -> "Using the table schema generated at build time");
+            return new BeanTableSchema<>(generatedTableSchema.get());
+        }
+
         return create(beanClass, new MetaTableSchemaCache());
     }
 
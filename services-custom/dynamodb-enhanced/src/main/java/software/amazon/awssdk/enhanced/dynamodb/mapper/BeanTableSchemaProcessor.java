@@ -0,0 +1,606 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAtomicCounter;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAutoGeneratedTimestampAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedBeanTableSchemas;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnoreNulls;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbUpdateBehavior;
+
+/**
+ * An annotation processor that generates the {@link StaticTableSchema} of every class annotated with {@link DynamoDbBean}
+ * when it is compiled. {@link BeanTableSchema#create(Class)} and {@link TableSchema#fromBean(Class)} use the generated
+ * schema when it is present, so the bean class is not scanned with {@link java.beans.Introspector} at runtime. This
+ * reduces the time it takes to create the first table schema, which matters most for short-lived applications such as
+ * AWS Lambda functions.
+ * <p>
+ * The processor is not registered as a service, so it has to be enabled explicitly when compiling the bean classes, for
+ * example with {@code javac -processor software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaProcessor} or by
+ * adding this module to the {@code annotationProcessorPaths} of the maven-compiler-plugin.
+ * <p>
+ * The generated schema maps a bean in exactly the same way as the schema {@link BeanTableSchema} creates at runtime. If a
+ * bean uses a feature the processor cannot reproduce, such as a generic bean class, a generic property type, a custom
+ * attribute tag annotation or a nested bean that references the bean itself, no schema is generated for it, a note is
+ * reported, and the bean class is scanned at runtime as usual.
+ * <p>
+ * Classes annotated with {@link DynamoDbImmutable} are not supported: no schema is generated for them, a note is reported,
+ * and {@link TableSchema#fromImmutableClass(Class)} scans them at runtime as usual. They can still be nested in a bean that
+ * the processor generates a schema for.
+ */
+@SdkPublicApi
+public final class BeanTableSchemaProcessor extends AbstractProcessor {
+    private static final String DYNAMO_DB_BEAN = DynamoDbBean.class.getCanonicalName();
+    private static final String DYNAMO_DB_IMMUTABLE = DynamoDbImmutable.class.getCanonicalName();
+    private static final String DYNAMO_DB_ATTRIBUTE = DynamoDbAttribute.class.getCanonicalName();
+    private static final String DYNAMO_DB_CONVERTED_BY = DynamoDbConvertedBy.class.getCanonicalName();
+    private static final String DYNAMO_DB_FLATTEN = DynamoDbFlatten.class.getCanonicalName();
+    private static final String DYNAMO_DB_IGNORE = DynamoDbIgnore.class.getCanonicalName();
+    private static final String DYNAMO_DB_IGNORE_NULLS = DynamoDbIgnoreNulls.class.getCanonicalName();
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = DynamoDbPreserveEmptyObject.class.getCanonicalName();
+    private static final String ATTRIBUTE_TAG = BeanTableSchemaAttributeTag.class.getCanonicalName();
+
+    private static final String INDENT = "            ";
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(DYNAMO_DB_BEAN, DYNAMO_DB_IMMUTABLE));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(DynamoDbImmutable.class)) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                String.format("No table schema is generated for @DynamoDbImmutable classes, so %s will be scanned at runtime",
+                              element),
+                element);
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(DynamoDbBean.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            TypeElement beanClass = (TypeElement) element;
+            String generatedClassName = GeneratedBeanTableSchemas.generatedClassName(
+                elements.getBinaryName(beanClass).toString());
+            String source;
+            try {
+                source = generateSource(beanClass, generatedClassName);
+            } catch (UnsupportedBeanException e) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    String.format("No table schema was generated for %s, so it will be scanned at runtime: %s",
+                                  beanClass.getQualifiedName(), e.getMessage()),
+                    beanClass);
+                continue;
+            }
+
+            try (Writer writer = processingEnv.getFiler().createSourceFile(generatedClassName, beanClass).openWriter()) {
+                writer.write(source);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Could not write the table schema of %s: %s", beanClass.getQualifiedName(), e.getMessage()),
+                    beanClass);
+            }
+        }
+
+        return false;
+    }
+
+    private String generateSource(TypeElement beanClass, String generatedClassName) {
+        String packageName = elements.getPackageOf(beanClass).getQualifiedName().toString();
+        validateBeanClass(beanClass, packageName);
+
+        String beanName = beanClass.getQualifiedName().toString();
+        String simpleName = generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import java.util.Arrays;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.TableSchema;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.extensions.AutoGeneratedTimestampRecordExtension;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;\n")
+              .append("import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;\n\n")
+              .append("/**\n")
+              .append(" * The table schema of {@link ").append(beanName).append("}, generated by {@code ")
+              .append(BeanTableSchemaProcessor.class.getName()).append("}.\n")
+              .append(" */\n")
+              .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+              .append("public final class ").append(simpleName).append(" {\n")
+              .append("    private ").append(simpleName).append("() {\n")
+              .append("    }\n\n")
+              .append("    public static StaticTableSchema<").append(beanName).append("> ")
+              .append(GeneratedBeanTableSchemas.CREATE_METHOD_NAME).append("() {\n")
+              .append("        return StaticTableSchema.builder(").append(beanName).append(".class)\n")
+              .append(INDENT).append(".newItemSupplier(").append(beanName).append("::new)\n")
+              .append(INDENT).append(".attributeConverterProviders(")
+              .append(converterProviders(beanClass, packageName)).append(")\n");
+
+        for (Property property : properties(beanClass)) {
+            if (property.annotation(DYNAMO_DB_IGNORE) != null) {
+                continue;
+            }
+
+            if (!types.isSameType(property.type(), property.setter.getParameters().get(0).asType())) {
+                throw new UnsupportedBeanException("the getter and setter of " + property.name() + " use different types");
+            }
+
+            if (property.annotation(DYNAMO_DB_FLATTEN) != null) {
+                if (property.type().getKind() != TypeKind.DECLARED
+                    || !((DeclaredType) property.type()).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedBeanException("the flattened property " + property.name() + " has a generic type");
+                }
+                source.append(INDENT).append(".flatten(TableSchema.fromClass(")
+                      .append(classLiteral(property.type(), packageName)).append("), ")
+                      .append(beanName).append("::").append(property.getter.getSimpleName()).append(", ")
+                      .append(beanName).append("::").append(property.setter.getSimpleName()).append(")\n");
+                continue;
+            }
+
+            source.append(INDENT).append(".addAttribute(")
+                  .append(typeExpression(property.type(), property, packageName)).append(",\n")
+                  .append(INDENT).append("              a -> a.name(").append(attributeName(property)).append(")\n")
+                  .append(INDENT).append("                    .getter(").append(beanName).append("::")
+                  .append(property.getter.getSimpleName()).append(")\n")
+                  .append(INDENT).append("                    .setter(").append(beanName).append("::")
+                  .append(property.setter.getSimpleName()).append(")");
+
+            for (String tag : tags(property)) {
+                source.append("\n").append(INDENT).append("                    .addTag(").append(tag).append(")");
+            }
+
+            AnnotationMirror convertedBy = property.annotation(DYNAMO_DB_CONVERTED_BY);
+            if (convertedBy != null) {
+                source.append("\n").append(INDENT).append("                    .attributeConverter((AttributeConverter) ")
+                      .append(newInstance((TypeMirror) annotationValue(convertedBy, "value").getValue(), packageName))
+                      .append(")");
+            }
+            source.append(")\n");
+        }
+
+        return source.append(INDENT).append(".build();\n")
+                     .append("    }\n")
+                     .append("}\n")
+                     .toString();
+    }
+
+    private void validateBeanClass(TypeElement beanClass, String packageName) {
+        if (!beanClass.getTypeParameters().isEmpty()) {
+            throw new UnsupportedBeanException("generic bean classes are not supported");
+        }
+
+        if (beanClass.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedBeanException("the bean class is abstract");
+        }
+
+        if (beanClass.getNestingKind() != NestingKind.TOP_LEVEL
+            && (beanClass.getNestingKind() != NestingKind.MEMBER || !beanClass.getModifiers().contains(Modifier.STATIC))) {
+            throw new UnsupportedBeanException("the bean class is neither a top level class nor a static nested class");
+        }
+
+        if (!isAccessible(beanClass, packageName)) {
+            throw new UnsupportedBeanException("the bean class is not accessible from its package");
+        }
+
+        if (!hasPublicNoArgConstructor(beanClass)) {
+            throw new UnsupportedBeanException("the bean class has no public no-argument constructor");
+        }
+
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> pending = new ArrayDeque<>(referencedDocumentClasses(beanClass));
+        while (!pending.isEmpty()) {
+            TypeElement documentClass = pending.pop();
+            if (documentClass.equals(beanClass)) {
+                throw new UnsupportedBeanException("the bean class references itself through its attributes");
+            }
+            if (visited.add(documentClass)) {
+                pending.addAll(referencedDocumentClasses(documentClass));
+            }
+        }
+    }
+
+    /**
+     * Returns the bean and immutable classes that the public accessors of a class refer to. This is a superset of the
+     * document classes the class is mapped to, and is used to detect references that the generated schema cannot
+     * resolve without recursing forever.
+     */
+    private Set<TypeElement> referencedDocumentClasses(TypeElement typeElement) {
+        Set<TypeElement> result = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(typeElement))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && method.getParameters().isEmpty()) {
+                addDocumentClasses(method.getReturnType(), result);
+            }
+        }
+        return result;
+    }
+
+    private void addDocumentClasses(TypeMirror type, Set<TypeElement> result) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            addDocumentClasses(((ArrayType) type).getComponentType(), result);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            if (isDocumentClass(typeElement)) {
+                result.add(typeElement);
+            }
+            ((DeclaredType) type).getTypeArguments().forEach(t -> addDocumentClasses(t, result));
+        }
+    }
+
+    /**
+     * Returns the readable and writable properties of a bean class ordered by name, following the same rules as
+     * {@link java.beans.Introspector}.
+     */
+    private List<Property> properties(TypeElement beanClass) {
+        Map<String, ExecutableElement> getters = new HashMap<>();
+        Map<String, ExecutableElement> booleanGetters = new HashMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(beanClass))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                || method.getModifiers().contains(Modifier.STATIC)
+                || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+
+            if (parameterCount == 0 && name.length() > 3 && name.startsWith("get") && returnKind != TypeKind.VOID) {
+                getters.merge(propertyName(name.substring(3)), method, (a, b) -> mostSpecific(beanClass, a, b));
+            } else if (parameterCount == 0 && name.length() > 2 && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+                booleanGetters.merge(propertyName(name.substring(2)), method, (a, b) -> mostSpecific(beanClass, a, b));
+            } else if (parameterCount == 1 && name.length() > 3 && name.startsWith("set") && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(propertyName(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        getters.putAll(booleanGetters);
+
+        Map<String, Property> properties = new TreeMap<>();
+        getters.forEach((name, getter) -> {
+            TypeMirror type = types.erasure(getter.getReturnType());
+            setters.getOrDefault(name, Collections.emptyList())
+                   .stream()
+                   .filter(s -> types.isSameType(type, types.erasure(s.getParameters().get(0).asType())))
+                   .reduce((a, b) -> mostSpecific(beanClass, a, b))
+                   .ifPresent(setter -> properties.put(name, new Property(getter, setter)));
+        });
+        return new ArrayList<>(properties.values());
+    }
+
+    private ExecutableElement mostSpecific(TypeElement beanClass, ExecutableElement a, ExecutableElement b) {
+        return elements.overrides(b, a, beanClass) ? b : a;
+    }
+
+    private static String propertyName(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private String attributeName(Property property) {
+        AnnotationMirror dynamoDbAttribute = property.annotation(DYNAMO_DB_ATTRIBUTE);
+        String name = dynamoDbAttribute != null ? (String) annotationValue(dynamoDbAttribute, "value").getValue()
+                                                : property.name();
+        return elements.getConstantExpression(name);
+    }
+
+    private String converterProviders(TypeElement beanClass, String packageName) {
+        AnnotationValue providers = annotationValue(annotation(beanClass, DYNAMO_DB_BEAN), "converterProviders");
+        return values(providers).stream()
+                                .map(v -> newInstance((TypeMirror) v.getValue(), packageName))
+                                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns the expressions that create the attribute tags of a property, in the same order as
+     * {@link BeanTableSchema}, which adds the tags of the getter annotations before those of the setter annotations.
+     */
+    private List<String> tags(Property property) {
+        List<String> tags = new ArrayList<>();
+        List<AnnotationMirror> annotations = new ArrayList<>(property.getter.getAnnotationMirrors());
+        annotations.addAll(property.setter.getAnnotationMirrors());
+
+        for (AnnotationMirror annotation : annotations) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotation(annotationType, ATTRIBUTE_TAG) != null) {
+                tags.add(tag(annotation, annotationType.getQualifiedName().toString()));
+            }
+        }
+        return tags;
+    }
+
+    private String tag(AnnotationMirror annotation, String annotationName) {
+        if (annotationName.equals(DynamoDbPartitionKey.class.getCanonicalName())) {
+            return "StaticAttributeTags.primaryPartitionKey()";
+        }
+        if (annotationName.equals(DynamoDbSortKey.class.getCanonicalName())) {
+            return "StaticAttributeTags.primarySortKey()";
+        }
+        if (annotationName.equals(DynamoDbSecondaryPartitionKey.class.getCanonicalName())) {
+            return "StaticAttributeTags.secondaryPartitionKey(" + indexNames(annotation) + ")";
+        }
+        if (annotationName.equals(DynamoDbSecondarySortKey.class.getCanonicalName())) {
+            return "StaticAttributeTags.secondarySortKey(" + indexNames(annotation) + ")";
+        }
+        if (annotationName.equals(DynamoDbUpdateBehavior.class.getCanonicalName())) {
+            VariableElement value = (VariableElement) annotationValue(annotation, "value").getValue();
+            return "StaticAttributeTags.updateBehavior(UpdateBehavior." + value.getSimpleName() + ")";
+        }
+        if (annotationName.equals(DynamoDbAtomicCounter.class.getCanonicalName())) {
+            return "StaticAttributeTags.atomicCounter("
+                   + elements.getConstantExpression(annotationValue(annotation, "delta").getValue()) + ", "
+                   + elements.getConstantExpression(annotationValue(annotation, "startValue").getValue()) + ")";
+        }
+        if (annotationName.equals(DynamoDbVersionAttribute.class.getCanonicalName())) {
+            return "VersionedRecordExtension.AttributeTags.versionAttribute()";
+        }
+        if (annotationName.equals(DynamoDbAutoGeneratedTimestampAttribute.class.getCanonicalName())) {
+            return "AutoGeneratedTimestampRecordExtension.AttributeTags.autoGeneratedTimestampAttribute()";
+        }
+        throw new UnsupportedBeanException("the attribute tag annotation " + annotationName + " is not supported");
+    }
+
+    private String indexNames(AnnotationMirror annotation) {
+        return values(annotationValue(annotation, "indexNames"))
+            .stream()
+            .map(v -> elements.getConstantExpression(v.getValue()))
+            .collect(Collectors.joining(", ", "Arrays.asList(", ")"));
+    }
+
+    /**
+     * Returns the expression that creates the {@code EnhancedType} of a property type. As in {@link BeanTableSchema}, the
+     * bean and immutable classes used directly or as the elements of lists and the values of maps are mapped as documents.
+     */
+    private String typeExpression(TypeMirror type, Property property, String packageName) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement typeElement = (TypeElement) declaredType.asElement();
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+            String rawName = typeElement.getQualifiedName().toString();
+
+            if (typeArguments.isEmpty() && isDocumentClass(typeElement)) {
+                String tableSchema = annotation(typeElement, DYNAMO_DB_IMMUTABLE) != null ? "fromImmutableClass" : "fromBean";
+                String classLiteral = classLiteral(type, packageName);
+                return "EnhancedType.documentOf(" + classLiteral + ", TableSchema." + tableSchema + "(" + classLiteral + "), "
+                       + "b -> b.preserveEmptyObject(" + (property.annotation(DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null) + ")"
+                       + ".ignoreNulls(" + (property.annotation(DYNAMO_DB_IGNORE_NULLS) != null) + "))";
+            }
+
+            if (!typeArguments.isEmpty()) {
+                if (rawName.equals(List.class.getName())) {
+                    return "EnhancedType.listOf(" + typeExpression(typeArguments.get(0), property, packageName) + ")";
+                }
+                if (rawName.equals(Map.class.getName())) {
+                    return "EnhancedType.mapOf(" + plainTypeExpression(typeArguments.get(0), packageName) + ", "
+                           + typeExpression(typeArguments.get(1), property, packageName) + ")";
+                }
+                if (isDocumentClass(typeElement)) {
+                    throw new UnsupportedBeanException("the generic document class " + rawName + " is not supported");
+                }
+            }
+        }
+        return plainTypeExpression(type, packageName);
+    }
+
+    private String plainTypeExpression(TypeMirror type, String packageName) {
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return "new EnhancedType<" + typeName(type, packageName) + ">() { }";
+        }
+        return "EnhancedType.of(" + classLiteral(type, packageName) + ")";
+    }
+
+    private String classLiteral(TypeMirror type, String packageName) {
+        if (!type.getKind().isPrimitive() && type.getKind() != TypeKind.ARRAY && type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedBeanException("the type " + type + " is not supported");
+        }
+        return typeName(types.erasure(type), packageName) + ".class";
+    }
+
+    private String typeName(TypeMirror type, String packageName) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) type).getComponentType(), packageName) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            if (!isAccessible(typeElement, packageName)) {
+                throw new UnsupportedBeanException("the type " + typeElement.getQualifiedName() + " is not accessible");
+            }
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+            if (typeArguments.isEmpty()) {
+                return typeElement.getQualifiedName().toString();
+            }
+            return typeArguments.stream()
+                                .map(t -> typeName(t, packageName))
+                                .collect(Collectors.joining(", ", typeElement.getQualifiedName() + "<", ">"));
+        }
+        throw new UnsupportedBeanException("the type " + type + " is not supported");
+    }
+
+    private String newInstance(TypeMirror type, String packageName) {
+        TypeElement typeElement = (TypeElement) types.asElement(type);
+        if (typeElement == null
+            || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+            || (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC))
+            || !hasPublicNoArgConstructor(typeElement)) {
+            throw new UnsupportedBeanException("the class " + type + " cannot be instantiated with a public no-argument "
+                                               + "constructor");
+        }
+        return "new " + typeName(types.erasure(type), packageName) + "()";
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement typeElement) {
+        return ElementFilter.constructorsIn(typeElement.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private boolean isAccessible(TypeElement typeElement, String packageName) {
+        for (Element element = typeElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC)
+                && !elements.getPackageOf(element).getQualifiedName().contentEquals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDocumentClass(TypeElement typeElement) {
+        return annotation(typeElement, DYNAMO_DB_IMMUTABLE) != null || annotation(typeElement, DYNAMO_DB_BEAN) != null;
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .map(Map.Entry::getValue)
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalStateException("Annotation " + annotation + " has no value " + name));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> values(AnnotationValue arrayValue) {
+        return (List<? extends AnnotationValue>) arrayValue.getValue();
+    }
+
+    /**
+     * A bean property with both a read and a write method.
+     */
+    private static final class Property {
+        private final ExecutableElement getter;
+        private final ExecutableElement setter;
+
+        private Property(ExecutableElement getter, ExecutableElement setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private String name() {
+            String methodName = getter.getSimpleName().toString();
+            return propertyName(methodName.substring(methodName.startsWith("is") ? 2 : 3));
+        }
+
+        private TypeMirror type() {
+            return getter.getReturnType();
+        }
+
+        /**
+         * Returns an annotation of the property, preferring the annotation of the getter to that of the setter.
+         */
+        private AnnotationMirror annotation(String annotationName) {
+            AnnotationMirror getterAnnotation = BeanTableSchemaProcessor.annotation(getter, annotationName);
+            return getterAnnotation != null ? getterAnnotation : BeanTableSchemaProcessor.annotation(setter, annotationName);
+        }
+    }
+
+    private static final class UnsupportedBeanException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedBeanException(String message) {
+            super(message);
+        }
+    }
+}
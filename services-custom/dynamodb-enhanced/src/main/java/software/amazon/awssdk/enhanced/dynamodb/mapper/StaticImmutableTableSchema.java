@@ -23,7 +23,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -85,13 +84,17 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
     private final StaticTableMetadata tableMetadata;
     private final EnhancedType<T> itemType;
     private final AttributeConverterProvider attributeConverterProvider;
-    private final Map<String, FlattenedMapper<T, B, ?>> indexedFlattenedMappers;
+    private final List<FlattenedMapper<T, B, ?>> flattenedMappers;
+    private final Map<String, Integer> flattenedMapperIndexes;
     private final List<String> attributeNames;
 
     private static class FlattenedMapper<T, B, T1> {
         private final Function<T, T1> otherItemGetter;
         private final BiConsumer<B, T1> otherItemSetter;
         private final TableSchema<T1> otherItemTableSchema;
+        // The schema the other item table schema delegates to, if it is a static schema whose attributes can be written
+        // straight into the map of this schema
+        private final StaticImmutableTableSchema<T1, ?> otherItemStaticTableSchema;
 
         private FlattenedMapper(Function<T, T1> otherItemGetter,
                                 BiConsumer<B, T1> otherItemSetter,
@@ -99,8 +102,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             this.otherItemGetter = otherItemGetter;
             this.otherItemSetter = otherItemSetter;
             this.otherItemTableSchema = otherItemTableSchema;
-
-
+            this.otherItemStaticTableSchema = staticImmutableTableSchema(otherItemTableSchema);
         }
 
         public TableSchema<T1> getOtherItemTableSchema() {
@@ -123,14 +125,18 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             return thisBuilder;
         }
 
-        private Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
+        private void itemToMap(T item, boolean ignoreNulls, Map<String, AttributeValue> attributeValueMap) {
             T1 otherItem = this.otherItemGetter.apply(item);
 
             if (otherItem == null) {
-                return Collections.emptyMap();
+                return;
             }
 
-            return this.otherItemTableSchema.itemToMap(otherItem, ignoreNulls);
+            if (this.otherItemStaticTableSchema != null) {
+                this.otherItemStaticTableSchema.itemToMap(otherItem, ignoreNulls, attributeValueMap);
+            } else {
+                attributeValueMap.putAll(this.otherItemTableSchema.itemToMap(otherItem, ignoreNulls));
+            }
         }
 
         private AttributeValue attributeValue(T item, String attributeName) {
@@ -178,9 +184,12 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             }
         );
 
-        Map<String, FlattenedMapper<T, B, ?>> mutableFlattenedMappers = new HashMap<>();
+        List<FlattenedMapper<T, B, ?>> mutableFlattenedMappers = new ArrayList<>();
+        Map<String, Integer> mutableFlattenedMapperIndexes = new HashMap<>();
         builder.flattenedMappers.forEach(
             flattenedMapper -> {
+                Integer flattenedMapperIndex = mutableFlattenedMappers.size();
+                mutableFlattenedMappers.add(flattenedMapper);
                 flattenedMapper.otherItemTableSchema.attributeNames().forEach(
                     attributeName -> {
                         if (mutableAttributeNames.contains(attributeName)) {
@@ -190,7 +199,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
                         }
 
                         mutableAttributeNames.add(attributeName);
-                        mutableFlattenedMappers.put(attributeName, flattenedMapper);
+                        mutableFlattenedMapperIndexes.put(attributeName, flattenedMapperIndex);
                     }
                 );
 
@@ -206,7 +215,8 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         this.attributeMappers = Collections.unmodifiableList(mutableAttributeMappers);
         this.indexedMappers = Collections.unmodifiableMap(mutableIndexedMappers);
         this.attributeNames = Collections.unmodifiableList(new ArrayList<>(mutableAttributeNames));
-        this.indexedFlattenedMappers = Collections.unmodifiableMap(mutableFlattenedMappers);
+        this.flattenedMappers = Collections.unmodifiableList(mutableFlattenedMappers);
+        this.flattenedMapperIndexes = Collections.unmodifiableMap(mutableFlattenedMapperIndexes);
         this.newBuilderSupplier = builder.newBuilderSupplier;
         this.buildItemFunction = builder.buildItemFunction;
         this.tableMetadata = tableMetadataBuilder.build();
@@ -451,12 +461,13 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             builder = constructNewBuilder();
         }
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
-        
+        // The attributes of each flattened object, indexed like flattenedMappers and allocated when first needed
+        Map<String, AttributeValue>[] flattenedAttributeValues = null;
+
         for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
             String key = entry.getKey();
             AttributeValue value = entry.getValue();
-            
+
             if (!isNullAttributeValue(value)) {
                 ResolvedImmutableAttribute<T, B> attributeMapper = indexedMappers.get(key);
 
@@ -467,28 +478,36 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
                     attributeMapper.updateItemMethod().accept(builder, value);
                 } else {
-                    FlattenedMapper<T, B, ?> flattenedMapper = this.indexedFlattenedMappers.get(key);
+                    Integer flattenedMapperIndex = this.flattenedMapperIndexes.get(key);
 
-                    if (flattenedMapper != null) {
-                        Map<String, AttributeValue> flattenedAttributeValues = 
-                            flattenedAttributeValuesMap.get(flattenedMapper);
-                        
+                    if (flattenedMapperIndex != null) {
                         if (flattenedAttributeValues == null) {
-                            flattenedAttributeValues = new HashMap<>();
+                            flattenedAttributeValues = newAttributeValueMapArray(flattenedMappers.size());
                         }
-                        
-                        flattenedAttributeValues.put(key, value);
-                        flattenedAttributeValuesMap.put(flattenedMapper, flattenedAttributeValues);
+
+                        Map<String, AttributeValue> otherItemAttributeValues = flattenedAttributeValues[flattenedMapperIndex];
+
+                        if (otherItemAttributeValues == null) {
+                            int otherItemAttributeCount =
+                                flattenedMappers.get(flattenedMapperIndex).otherItemTableSchema.attributeNames().size();
+                            otherItemAttributeValues = new HashMap<>(initialCapacity(otherItemAttributeCount));
+                            flattenedAttributeValues[flattenedMapperIndex] = otherItemAttributeValues;
+                        }
+
+                        otherItemAttributeValues.put(key, value);
                     }
                 }
             }
         }
 
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
-                flattenedAttributeValuesMap.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+        if (flattenedAttributeValues != null) {
+            for (int i = 0; i < flattenedAttributeValues.length; i++) {
+                if (flattenedAttributeValues[i] != null) {
+                    builder = flattenedMappers.get(i).mapToItem(builder, this::constructNewBuilder, flattenedAttributeValues[i]);
+                }
+            }
         }
-        
+
         return builder == null ? null : buildItemFunction.apply(builder);
     }
 
@@ -500,27 +519,31 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(initialCapacity(attributeNames.size()));
+        itemToMap(item, ignoreNulls, attributeValueMap);
+        return unmodifiableMap(attributeValueMap);
+    }
 
-        attributeMappers.forEach(attributeMapper -> {
-            String attributeKey = attributeMapper.attributeName();
+    /**
+     * Writes the attributes of an item, including those of its flattened objects, into the provided map.
+     */
+    private void itemToMap(T item, boolean ignoreNulls, Map<String, AttributeValue> attributeValueMap) {
+        for (ResolvedImmutableAttribute<T, B> attributeMapper : attributeMappers) {
             AttributeValue attributeValue = attributeMapper.attributeGetterMethod().apply(item);
 
             if (!ignoreNulls || !isNullAttributeValue(attributeValue)) {
-                attributeValueMap.put(attributeKey, attributeValue);
+                attributeValueMap.put(attributeMapper.attributeName(), attributeValue);
             }
-        });
-
-        indexedFlattenedMappers.forEach((name, flattenedMapper) -> {
-            attributeValueMap.putAll(flattenedMapper.itemToMap(item, ignoreNulls));
-        });
+        }
 
-        return unmodifiableMap(attributeValueMap);
+        for (FlattenedMapper<T, B, ?> flattenedMapper : flattenedMappers) {
+            flattenedMapper.itemToMap(item, ignoreNulls, attributeValueMap);
+        }
     }
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, Collection<String> attributes) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(initialCapacity(attributes.size()));
 
         attributes.forEach(key -> {
             AttributeValue attributeValue = attributeValue(item, key);
@@ -538,14 +561,14 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         ResolvedImmutableAttribute<T, B> attributeMapper = indexedMappers.get(key);
 
         if (attributeMapper == null) {
-            FlattenedMapper<T, B, ?> flattenedMapper = indexedFlattenedMappers.get(key);
+            Integer flattenedMapperIndex = flattenedMapperIndexes.get(key);
 
-            if (flattenedMapper == null) {
+            if (flattenedMapperIndex == null) {
                 throw new IllegalArgumentException(String.format("TableSchema does not know how to retrieve requested "
                                                                      + "attribute '%s' from mapped object.", key));
             }
 
-            return flattenedMapper.attributeValue(item, key);
+            return flattenedMappers.get(flattenedMapperIndex).attributeValue(item, key);
         }
 
         AttributeValue attributeValue = attributeMapper.attributeGetterMethod().apply(item);
@@ -576,6 +599,38 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         return this.attributeConverterProvider;
     }
 
+    /**
+     * Returns the capacity of a {@link HashMap} that holds the provided number of entries without being resized.
+     */
+    private static int initialCapacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, AttributeValue>[] newAttributeValueMapArray(int size) {
+        return (Map<String, AttributeValue>[]) new Map<?, ?>[size];
+    }
+
+    /**
+     * Returns the {@link StaticImmutableTableSchema} a table schema is, or ultimately delegates to, or null if it is
+     * another kind of table schema. Only the wrappers of this package are unwrapped, as other subclasses of
+     * {@link WrappedTableSchema} may override how items are mapped.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T1> StaticImmutableTableSchema<T1, ?> staticImmutableTableSchema(TableSchema<T1> tableSchema) {
+        TableSchema<T1> resolvedTableSchema = tableSchema;
+
+        while (resolvedTableSchema instanceof StaticTableSchema
+               || resolvedTableSchema instanceof BeanTableSchema
+               || resolvedTableSchema instanceof ImmutableTableSchema) {
+            resolvedTableSchema = ((WrappedTableSchema<T1, ?>) resolvedTableSchema).delegateTableSchema();
+        }
+
+        return resolvedTableSchema instanceof StaticImmutableTableSchema
+               ? (StaticImmutableTableSchema<T1, ?>) resolvedTableSchema
+               : null;
+    }
+
     private B constructNewBuilder() {
         if (newBuilderSupplier == null) {
             throw new UnsupportedOperationException("An abstract TableSchema cannot be used to map a database record "
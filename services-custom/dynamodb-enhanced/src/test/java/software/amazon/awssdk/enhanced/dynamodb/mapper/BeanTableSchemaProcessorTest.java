@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedBeanTableSchemas;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.AttributeConverterBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.CustomMetadataBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.FlattenedBeanBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.ListBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NestedBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NestedImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.ParameterizedDocumentBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.RemappedAttributeBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SecondaryIndexBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SetterAnnotatedBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+
+public class BeanTableSchemaProcessorTest {
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(classes = {SimpleBean.class, NestedBean.class, SecondaryIndexBean.class, RemappedAttributeBean.class,
+                            FlattenedBeanBean.class, ListBean.class, AttributeConverterBean.class, SetterAnnotatedBean.class,
+                            CustomMetadataBean.class})
+    public void generatedSchema_matchesIntrospectedSchema(Class<?> beanClass) throws Exception {
+        TableSchema<?> generated = generatedTableSchema(beanClass);
+        TableSchema<?> introspected = BeanTableSchema.create(beanClass);
+
+        assertThat(generated.itemType()).isEqualTo(introspected.itemType());
+        assertThat(generated.attributeNames()).containsExactlyElementsOf(introspected.attributeNames());
+
+        TableMetadata generatedMetadata = generated.tableMetadata();
+        TableMetadata introspectedMetadata = introspected.tableMetadata();
+        assertThat(generatedMetadata.allKeys()).containsExactlyInAnyOrderElementsOf(introspectedMetadata.allKeys());
+        assertThat(generatedMetadata.customMetadata().keySet())
+            .containsExactlyInAnyOrderElementsOf(introspectedMetadata.customMetadata().keySet());
+        introspectedMetadata.indices().forEach(index -> {
+            assertThat(generatedMetadata.indexPartitionKey(index.name()))
+                .isEqualTo(introspectedMetadata.indexPartitionKey(index.name()));
+            assertThat(generatedMetadata.indexSortKey(index.name()))
+                .isEqualTo(introspectedMetadata.indexSortKey(index.name()));
+        });
+    }
+
+    @Test
+    public void generatedSchema_mapsItemsLikeIntrospectedSchema() throws Exception {
+        @SuppressWarnings("unchecked")
+        TableSchema<ListBean> generated = (TableSchema<ListBean>) generatedTableSchema(ListBean.class);
+        TableSchema<ListBean> introspected = BeanTableSchema.create(ListBean.class);
+
+        ListBean listBean = new ListBean();
+        listBean.setId("id-value");
+        listBean.setStringList(Arrays.asList("one", "two"));
+        listBean.setStringListList(Collections.singletonList(Collections.singletonList("three")));
+
+        assertThat(generated.itemToMap(listBean, true)).isEqualTo(introspected.itemToMap(listBean, true));
+        assertThat(generated.mapToItem(introspected.itemToMap(listBean, true))).isEqualTo(listBean);
+    }
+
+    @Test
+    public void unsupportedBean_noSchemaGenerated() throws Exception {
+        Path sources = processBean(ParameterizedDocumentBean.class);
+
+        try (Stream<Path> files = Files.walk(sources)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    public void immutableClass_noSchemaGeneratedAndNoteReported() throws Exception {
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        Path sources = processBean(NestedImmutable.class, diagnostics);
+
+        try (Stream<Path> files = Files.walk(sources)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+        assertThat(new String(diagnostics.toByteArray(), StandardCharsets.UTF_8))
+            .contains("No table schema is generated for @DynamoDbImmutable classes")
+            .contains(NestedImmutable.class.getCanonicalName());
+    }
+
+    @Test
+    public void generatedClassName_flattensNestedClassNames() {
+        assertThat(GeneratedBeanTableSchemas.generatedClassName("com.example.Outer$Customer"))
+            .isEqualTo("com.example.Outer_Customer_TableSchema");
+        assertThat(GeneratedBeanTableSchemas.generatedClassName("Customer")).isEqualTo("Customer_TableSchema");
+    }
+
+    /**
+     * Runs the processor over a compiled bean class, compiles the generated source and creates the generated schema in a
+     * separate class loader, so that {@link BeanTableSchema#create(Class)} keeps introspecting the bean in this test.
+     */
+    private TableSchema<?> generatedTableSchema(Class<?> beanClass) throws Exception {
+        Path sources = processBean(beanClass);
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+        List<String> sourceFiles;
+        try (Stream<Path> files = Files.walk(sources)) {
+            sourceFiles = files.filter(Files::isRegularFile).map(Path::toString).collect(Collectors.toList());
+        }
+        assertThat(sourceFiles).isNotEmpty();
+
+        List<String> arguments = Stream.concat(Stream.of("-proc:none", "-classpath", System.getProperty("java.class.path"),
+                                                         "-d", classes.toString()),
+                                               sourceFiles.stream())
+                                       .collect(Collectors.toList());
+        assertThat(compiler().run(null, null, null, arguments.toArray(new String[0]))).isZero();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                                                             getClass().getClassLoader())) {
+            Class<?> generatedClass =
+                classLoader.loadClass(GeneratedBeanTableSchemas.generatedClassName(beanClass.getName()));
+            return (TableSchema<?>) generatedClass.getMethod(GeneratedBeanTableSchemas.CREATE_METHOD_NAME).invoke(null);
+        }
+    }
+
+    private Path processBean(Class<?> beanClass) throws IOException {
+        return processBean(beanClass, null);
+    }
+
+    private Path processBean(Class<?> beanClass, OutputStream diagnostics) throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve("sources"));
+        String[] arguments = {"-proc:only",
+                              "-processor", BeanTableSchemaProcessor.class.getName(),
+                              "-classpath", System.getProperty("java.class.path"),
+                              "-s", sources.toString(),
+                              beanClass.getName()};
+        assertThat(compiler().run(null, null, diagnostics, arguments)).isZero();
+        return sources;
+    }
+
+    private static JavaCompiler compiler() {
+        return ToolProvider.getSystemJavaCompiler();
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -179,6 +180,56 @@ public class StaticImmutableTableSchemaFlattenTest {
         assertThat(record).isEqualTo(TEST_RECORD);
     }
 
+    @Test
+    public void itemToMap_callsFlattenedGetterOncePerItem() {
+        AtomicInteger getterCalls = new AtomicInteger();
+        TableSchema<ImmutableRecord> tableSchema =
+            TableSchema.builder(ImmutableRecord.class, ImmutableRecord.Builder.class)
+                       .newItemBuilder(ImmutableRecord::builder, ImmutableRecord.Builder::build)
+                       .addAttribute(String.class, a -> a.name("id")
+                                                         .getter(ImmutableRecord::id)
+                                                         .setter(ImmutableRecord.Builder::id))
+                       .flatten(childTableSchema2a,
+                                record -> {
+                                    getterCalls.incrementAndGet();
+                                    return record.getChild1();
+                                },
+                                ImmutableRecord.Builder::child1)
+                       .build();
+
+        Map<String, AttributeValue> result = tableSchema.itemToMap(TEST_RECORD, false);
+
+        assertThat(result).containsOnlyKeys("id", "attribute2a", "attribute3a", "attribute3b");
+        assertThat(getterCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void itemToMap_nullFlattenedRecord_ignoreNulls() {
+        ImmutableRecord record = ImmutableRecord.builder().id("id123").attribute1("1").build();
+
+        Map<String, AttributeValue> result = immutableTableSchema.itemToMap(record, true);
+
+        assertThat(result).containsOnlyKeys("id", "attribute1");
+    }
+
+    @Test
+    public void mapToItem_partialRecord() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", AttributeValue.builder().s("id123").build());
+        itemMap.put("attribute4b", AttributeValue.builder().s("4b").build());
+
+        ImmutableRecord record = immutableTableSchema.mapToItem(itemMap);
+
+        ImmutableRecord expectedRecord =
+            ImmutableRecord.builder()
+                           .id("id123")
+                           .child2(ImmutableRecord.builder()
+                                                  .child2(ImmutableRecord.builder().attribute1("4b").build())
+                                                  .build())
+                           .build();
+        assertThat(record).isEqualTo(expectedRecord);
+    }
+
     @Test
     public void attributeNames() {
         Collection<String> result = immutableTableSchema.attributeNames();
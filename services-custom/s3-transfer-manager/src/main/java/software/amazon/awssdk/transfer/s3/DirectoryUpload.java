@@ -18,6 +18,8 @@ package software.amazon.awssdk.transfer.s3;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgress;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgressSnapshot;
 
 /**
  * An upload transfer of a single object to S3.
@@ -27,4 +29,11 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 public interface DirectoryUpload extends DirectoryTransfer {
     @Override
     CompletableFuture<CompletedDirectoryUpload> completionFuture();
+
+    /**
+     * The progress of the upload, in files. The files of the source directory are discovered while they are being uploaded, so
+     * the number of files discovered only becomes final once {@link DirectoryTransferProgressSnapshot#discoveryComplete()} is
+     * true.
+     */
+    DirectoryTransferProgress progress();
 }
@@ -46,6 +46,7 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Path manifestFile;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destinationDirectory = Validate.paramNotNull(builder.destinationDirectory, "destinationDirectory");
@@ -55,6 +56,7 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.manifestFile = builder.manifestFile;
     }
 
     /**
@@ -101,6 +103,14 @@ public final class DownloadDirectoryRequest
         return filter == null ? DownloadFilter.allObjects() : filter;
     }
 
+    /**
+     * @return the optional manifest file of an incremental download
+     * @see Builder#manifestFile(Path)
+     */
+    public Optional<Path> manifestFile() {
+        return Optional.ofNullable(manifestFile);
+    }
+
     /**
      * @return the {@link ListObjectsV2Request} transformer if not null, otherwise no-op
      * @see Builder#listObjectsV2RequestTransformer(Consumer)
@@ -159,7 +169,10 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
-        return Objects.equals(filter, that.filter);
+        if (!Objects.equals(filter, that.filter)) {
+            return false;
+        }
+        return Objects.equals(manifestFile, that.manifestFile);
     }
 
     @Override
@@ -171,6 +184,7 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (manifestFile != null ? manifestFile.hashCode() : 0);
         return result;
     }
 
@@ -184,6 +198,7 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("manifestFile", manifestFile)
                        .build();
     }
 
@@ -299,6 +314,30 @@ public final class DownloadDirectoryRequest
          */
         Builder filter(DownloadFilter filter);
 
+        /**
+         * Specify a local file in which to record the state of the download, making it incremental.
+         * <p>
+         * When a manifest file is specified, an object is only downloaded if its destination file does not exist, if their
+         * sizes differ, or if the object was modified after the file. Once the download completes, the size and last-modified
+         * time of each file that was downloaded or found unchanged are recorded in the manifest, with the ETag of its object.
+         * On the next download with the same manifest, an object whose ETag and destination file size and last-modified time
+         * all match the manifest is skipped without comparing timestamps, so that repeated downloads of a large, mostly
+         * unchanged prefix only fetch the objects that changed.
+         * <p>
+         * The manifest file should not be inside the destination directory. A manifest written for another bucket or prefix
+         * is ignored. Local files are never deleted, and objects that fail to download are not recorded, so they are retried
+         * by the next download. If the download fails part way, the objects downloaded so far are still recorded.
+         * <p>
+         * The entries of the manifest are held in memory during the download, which takes a few hundred bytes of heap per
+         * key, so a prefix with millions of keys needs a heap of several hundred megabytes or more.
+         * <p>
+         * By default, if no manifest file is specified, all objects will be downloaded.
+         *
+         * @param manifestFile the manifest file
+         * @return This builder for method chaining.
+         */
+        Builder manifestFile(Path manifestFile);
+
         /**
          * Specify a function used to transform the {@link DownloadFileRequest}s generated by this
          * {@link DownloadDirectoryRequest}. The provided function is called once for each file that is downloaded, allowing
@@ -389,6 +428,7 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Path manifestFile;
 
         private DefaultBuilder() {
         }
@@ -401,6 +441,7 @@ public final class DownloadDirectoryRequest
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
             this.delimiter = request.delimiter;
+            this.manifestFile = request.manifestFile;
         }
 
         @Override
@@ -485,6 +526,20 @@ public final class DownloadDirectoryRequest
             return filter;
         }
 
+        @Override
+        public Builder manifestFile(Path manifestFile) {
+            this.manifestFile = manifestFile;
+            return this;
+        }
+
+        public void setManifestFile(Path manifestFile) {
+            manifestFile(manifestFile);
+        }
+
+        public Path getManifestFile() {
+            return manifestFile;
+        }
+
         @Override
         public DownloadDirectoryRequest build() {
             return new DownloadDirectoryRequest(this);
@@ -25,7 +25,22 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 @SdkPreviewApi
 public interface FileUpload extends ObjectTransfer {
-    
+
+    /**
+     * Pause the current upload operation and returns the information that can
+     * be used to resume the upload at a later time.
+     * <p>
+     * The information object is serializable for persistent storage until it should be resumed.
+     * See {@link ResumableFileUpload} for supported formats.
+     * <p>
+     * Only uploads performed with a multipart upload by a transfer manager built with
+     * {@link S3TransferManager.Builder#s3AsyncClient} keep their uploaded parts when they are paused. Other uploads are
+     * resumed from the beginning.
+     *
+     * @return {@link ResumableFileUpload} that can be used to resume the upload
+     */
+    ResumableFileUpload pause();
+
     @Override
     CompletableFuture<CompletedFileUpload> completionFuture();
 }
@@ -0,0 +1,466 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import static software.amazon.awssdk.utils.BinaryUtils.fromBase64Bytes;
+import static software.amazon.awssdk.utils.BinaryUtils.toBase64Bytes;
+import static software.amazon.awssdk.utils.IoUtils.toByteArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.transfer.s3.internal.serialization.ResumableFileUploadSerializer;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * An opaque token that holds the state and can be used to resume a paused upload operation.
+ * <p>
+ * When the upload was paused during a multipart upload, the token contains the id of the multipart upload, its part size
+ * and the parts that were uploaded, so that only the missing parts are sent when the upload is resumed. Otherwise, the
+ * resumed upload starts from the beginning.
+ * <p>
+ * <b>Serialization: </b>When serializing this token, the following structures will not be preserved/persisted:
+ * <ul>
+ *     <li>{@link TransferRequestOverrideConfiguration}</li>
+ *     <li>{@link AwsRequestOverrideConfiguration} (from {@link PutObjectRequest})</li>
+ * </ul>
+ *
+ * @see S3TransferManager#uploadFile(UploadFileRequest)
+ * @see S3TransferManager#resumeUploadFile(ResumableFileUpload)
+ */
+@SdkPublicApi
+public final class ResumableFileUpload implements ResumableTransfer,
+                                                  ToCopyableBuilder<ResumableFileUpload.Builder, ResumableFileUpload> {
+
+    private final UploadFileRequest uploadFileRequest;
+    private final long fileLength;
+    private final Instant fileLastModified;
+    private final String multipartUploadId;
+    private final Long partSizeInBytes;
+    private final List<CompletedPart> completedParts;
+
+    private ResumableFileUpload(DefaultBuilder builder) {
+        this.uploadFileRequest = Validate.paramNotNull(builder.uploadFileRequest, "uploadFileRequest");
+        this.fileLength = Validate.isNotNegative(Validate.paramNotNull(builder.fileLength, "fileLength"), "fileLength");
+        this.fileLastModified = Validate.paramNotNull(builder.fileLastModified, "fileLastModified");
+        this.multipartUploadId = builder.multipartUploadId;
+        this.partSizeInBytes = Validate.isPositiveOrNull(builder.partSizeInBytes, "partSizeInBytes");
+        this.completedParts = builder.completedParts == null
+                              ? Collections.emptyList()
+                              : Collections.unmodifiableList(new ArrayList<>(builder.completedParts));
+        Validate.isTrue(multipartUploadId == null || partSizeInBytes != null,
+                        "partSizeInBytes must be specified together with multipartUploadId");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ResumableFileUpload that = (ResumableFileUpload) o;
+
+        if (fileLength != that.fileLength) {
+            return false;
+        }
+        if (!uploadFileRequest.equals(that.uploadFileRequest)) {
+            return false;
+        }
+        if (!Objects.equals(fileLastModified, that.fileLastModified)) {
+            return false;
+        }
+        if (!Objects.equals(multipartUploadId, that.multipartUploadId)) {
+            return false;
+        }
+        if (!Objects.equals(partSizeInBytes, that.partSizeInBytes)) {
+            return false;
+        }
+        return completedParts.equals(that.completedParts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = uploadFileRequest.hashCode();
+        result = 31 * result + (int) (fileLength ^ (fileLength >>> 32));
+        result = 31 * result + (fileLastModified != null ? fileLastModified.hashCode() : 0);
+        result = 31 * result + (multipartUploadId != null ? multipartUploadId.hashCode() : 0);
+        result = 31 * result + (partSizeInBytes != null ? partSizeInBytes.hashCode() : 0);
+        result = 31 * result + completedParts.hashCode();
+        return result;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * @return the {@link UploadFileRequest} to resume
+     */
+    public UploadFileRequest uploadFileRequest() {
+        return uploadFileRequest;
+    }
+
+    /**
+     * The length of the file at the time of the pause. The upload is resumed only if the file still has this length.
+     */
+    public long fileLength() {
+        return fileLength;
+    }
+
+    /**
+     * Last modified time of the file at the time of the pause. The upload is resumed only if the file has not been modified
+     * since.
+     */
+    public Instant fileLastModified() {
+        return fileLastModified;
+    }
+
+    /**
+     * The id of the multipart upload to resume, or {@link Optional#empty()} if the upload was paused before a multipart
+     * upload was started, in which case the upload is resumed from the beginning.
+     */
+    public Optional<String> multipartUploadId() {
+        return Optional.ofNullable(multipartUploadId);
+    }
+
+    /**
+     * The part size of the multipart upload, or {@link Optional#empty()} if there is no multipart upload to resume.
+     */
+    public Optional<Long> partSizeInBytes() {
+        return Optional.ofNullable(partSizeInBytes);
+    }
+
+    /**
+     * The parts of the multipart upload that were uploaded at the time of the pause, with their ETags and checksums, ordered
+     * by part number. The parts are listed again from S3 when the upload is resumed.
+     */
+    public List<CompletedPart> completedParts() {
+        return completedParts;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ResumableFileUpload")
+                       .add("fileLength", fileLength)
+                       .add("fileLastModified", fileLastModified)
+                       .add("multipartUploadId", multipartUploadId)
+                       .add("partSizeInBytes", partSizeInBytes)
+                       .add("completedParts", completedParts.size())
+                       .add("uploadFileRequest", uploadFileRequest)
+                       .build();
+    }
+
+    /**
+     * Persists this upload object to a file in Base64-encoded JSON format.
+     *
+     * @param path The path to the file to which you want to write the serialized upload object.
+     */
+    public void writeToFile(Path path) {
+        try {
+            Files.write(path, toBase64Bytes(ResumableFileUploadSerializer.toJson(this)));
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to write to " + path, e);
+        }
+    }
+
+    /**
+     * Writes the serialized JSON data representing this object to an output stream.
+     * Note that the {@link OutputStream} is not closed or flushed after writing.
+     *
+     * @param outputStream The output stream to write the serialized object to.
+     */
+    public void writeToOutputStream(OutputStream outputStream) {
+        byte[] bytes = ResumableFileUploadSerializer.toJson(this);
+        try {
+            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+            IoUtils.copy(byteArrayInputStream, outputStream);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to write this upload object to the given OutputStream", e);
+        }
+    }
+
+    /**
+     * Returns the serialized JSON data representing this object as a UTF-8 string.
+     */
+    public String toUtf8String() {
+        return new String(ResumableFileUploadSerializer.toJson(this), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the serialized JSON data representing this object as a string encoded with the supplied charset.
+     *
+     * @param cs encoding charset
+     * @return the serialized JSON string
+     */
+    public String toString(Charset cs) {
+        return new String(ResumableFileUploadSerializer.toJson(this), cs);
+    }
+
+    /**
+     * Returns the serialized JSON data representing this object as an {@link SdkBytes} object.
+     *
+     * @return the serialized JSON as {@link SdkBytes}
+     */
+    public SdkBytes toBytes() {
+        return SdkBytes.fromByteArray(ResumableFileUploadSerializer.toJson(this));
+    }
+
+    /**
+     * Returns the serialized JSON data representing this object as an {@link InputStream}.
+     *
+     * @return the serialized JSON input stream
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(ResumableFileUploadSerializer.toJson(this));
+    }
+
+    /**
+     * Deserialize data at the given path into a {@link ResumableFileUpload}. The file must be written as
+     * Base64 encoded JSON.
+     *
+     * @param path The {@link Path} to the file with serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromFile(Path path) {
+        try {
+            return ResumableFileUploadSerializer.fromJson(fromBase64Bytes(Files.readAllBytes(path)));
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to create a ResumableFileUpload from " + path, e);
+        }
+    }
+
+    /**
+     * Deserialize a ByteBuffer with JSON data into a {@link ResumableFileUpload}.
+     *
+     * @param byteBuffer the serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromByteBuffer(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return ResumableFileUploadSerializer.fromJson(bytes);
+    }
+
+    /**
+     * Deserialize a byte array with JSON data into a {@link ResumableFileUpload}.
+     *
+     * @param bytes the serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromBytes(byte[] bytes) {
+        return ResumableFileUploadSerializer.fromJson(bytes);
+    }
+
+    /**
+     * Deserialize contents of an input stream with JSON data into a {@link ResumableFileUpload}.
+     * Note that the {@link InputStream} is not closed after reading.
+     *
+     * @param inputStream the stream containing serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromInputStream(InputStream inputStream) {
+        try {
+            return ResumableFileUploadSerializer.fromJson(toByteArray(inputStream));
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to create a ResumableFileUpload from the given InputStream", e);
+        }
+    }
+
+    /**
+     * Deserialize a string with JSON data into a {@link ResumableFileUpload}.
+     *
+     * @param contents the serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromString(String contents) {
+        return ResumableFileUploadSerializer.fromJson(contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deserialize a string with JSON data into a {@link ResumableFileUpload}.
+     *
+     * @param contents the serialized data
+     * @return the deserialized {@link ResumableFileUpload}
+     */
+    public static ResumableFileUpload fromString(String contents, Charset cs) {
+        return ResumableFileUploadSerializer.fromJson(contents.getBytes(cs));
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ResumableFileUpload> {
+
+        /**
+         * Sets the upload file request
+         *
+         * @param uploadFileRequest the upload file request
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder uploadFileRequest(UploadFileRequest uploadFileRequest);
+
+        /**
+         * The {@link UploadFileRequest} request
+         *
+         * <p>
+         * This is a convenience method that creates an instance of the {@link UploadFileRequest} builder avoiding the
+         * need to create one manually via {@link UploadFileRequest#builder()}.
+         *
+         * @param uploadFileRequestBuilder the upload file request builder
+         * @return a reference to this object so that method calls can be chained together.
+         * @see #uploadFileRequest(UploadFileRequest)
+         */
+        default ResumableFileUpload.Builder uploadFileRequest(Consumer<UploadFileRequest.Builder> uploadFileRequestBuilder) {
+            UploadFileRequest request = UploadFileRequest.builder()
+                                                         .applyMutation(uploadFileRequestBuilder)
+                                                         .build();
+            uploadFileRequest(request);
+            return this;
+        }
+
+        /**
+         * Sets the length of the file at the time of the pause
+         *
+         * @param fileLength the length of the file in bytes
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder fileLength(Long fileLength);
+
+        /**
+         * Sets the last modified time of the file at the time of the pause
+         *
+         * @param fileLastModified the last modified time of the file
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder fileLastModified(Instant fileLastModified);
+
+        /**
+         * Sets the id of the multipart upload to resume
+         *
+         * @param multipartUploadId the multipart upload id
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder multipartUploadId(String multipartUploadId);
+
+        /**
+         * Sets the part size of the multipart upload to resume
+         *
+         * @param partSizeInBytes the part size in bytes
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * Sets the parts of the multipart upload that were uploaded at the time of the pause
+         *
+         * @param completedParts the uploaded parts
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder completedParts(Collection<CompletedPart> completedParts);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+
+        private UploadFileRequest uploadFileRequest;
+        private Long fileLength;
+        private Instant fileLastModified;
+        private String multipartUploadId;
+        private Long partSizeInBytes;
+        private Collection<CompletedPart> completedParts;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ResumableFileUpload resumableFileUpload) {
+            this.uploadFileRequest = resumableFileUpload.uploadFileRequest;
+            this.fileLength = resumableFileUpload.fileLength;
+            this.fileLastModified = resumableFileUpload.fileLastModified;
+            this.multipartUploadId = resumableFileUpload.multipartUploadId;
+            this.partSizeInBytes = resumableFileUpload.partSizeInBytes;
+            this.completedParts = resumableFileUpload.completedParts;
+        }
+
+        @Override
+        public Builder uploadFileRequest(UploadFileRequest uploadFileRequest) {
+            this.uploadFileRequest = uploadFileRequest;
+            return this;
+        }
+
+        @Override
+        public Builder fileLength(Long fileLength) {
+            this.fileLength = fileLength;
+            return this;
+        }
+
+        @Override
+        public Builder fileLastModified(Instant fileLastModified) {
+            this.fileLastModified = fileLastModified;
+            return this;
+        }
+
+        @Override
+        public Builder multipartUploadId(String multipartUploadId) {
+            this.multipartUploadId = multipartUploadId;
+            return this;
+        }
+
+        @Override
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder completedParts(Collection<CompletedPart> completedParts) {
+            this.completedParts = completedParts;
+            return this;
+        }
+
+        @Override
+        public ResumableFileUpload build() {
+            return new ResumableFileUpload(this);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  * information can be used to resume the upload or download later on
  *
  * @see FileDownload#pause()
+ * @see FileUpload#pause()
  */
 @SdkPublicApi
 @SdkPreviewApi
@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -242,6 +243,55 @@ public interface S3TransferManager extends SdkAutoCloseable {
         return uploadFile(UploadFileRequest.builder().applyMutation(request).build());
     }
 
+    /**
+     * Resumes an uploadFile operation. This upload operation uses the same configuration as the original upload. If the
+     * original upload was paused during a multipart upload, the parts already uploaded are listed from Amazon S3 and only the
+     * missing parts are sent. If it is determined that the file has been modified since the last pause, or that there is no
+     * multipart upload to resume, the SDK will upload the file from the beginning as if it is a new {@link UploadFileRequest}.
+     *
+     * <p>
+     * <b>Usage Example:</b>
+     * <pre>
+     * {@code
+     * // Initiate the transfer
+     * FileUpload upload =
+     *     tm.uploadFile(u -> u.source(Paths.get("myFile.txt"))
+     *                         .putObjectRequest(p -> p.bucket("bucket").key("key")));
+     *
+     * // Pause the upload
+     * ResumableFileUpload resumableFileUpload = upload.pause();
+     *
+     * // Optionally, persist the upload object
+     * resumableFileUpload.writeToFile(file);
+     * ResumableFileUpload resumableFileUpload2 = ResumableFileUpload.fromFile(file);
+     *
+     * // Resume the upload
+     * FileUpload resumedUpload = tm.resumeUploadFile(resumableFileUpload2);
+     *
+     * // Wait for the transfer to complete
+     * resumedUpload.completionFuture().join();
+     * }
+     * </pre>
+     *
+     * @param resumableFileUpload the upload to resume.
+     * @return A new {@code FileUpload} object to use to check the state of the upload.
+     * @see #uploadFile(UploadFileRequest)
+     * @see FileUpload#pause()
+     */
+    default FileUpload resumeUploadFile(ResumableFileUpload resumableFileUpload) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the {@link ResumableFileUpload} builder, avoiding the need to
+     * create one manually via {@link ResumableFileUpload#builder()}.
+     *
+     * @see #resumeUploadFile(ResumableFileUpload)
+     */
+    default FileUpload resumeUploadFile(Consumer<ResumableFileUpload.Builder> resumableFileUpload) {
+        return resumeUploadFile(ResumableFileUpload.builder().applyMutation(resumableFileUpload).build());
+    }
+
     /**
      * Upload the given {@link AsyncRequestBody} to an object in S3. For file-based uploads, you may use
      * {@link #uploadFile(UploadFileRequest)} instead.
@@ -531,6 +581,26 @@ public interface S3TransferManager extends SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Use the provided {@link S3AsyncClient} to perform transfers, instead of the CRT-based S3 client the
+         * {@link S3TransferManager} creates by default.
+         *
+         * <p>
+         * Uploads and downloads are split into parts that are transferred in parallel by the SDK itself, so this works with
+         * any HTTP client and does not require the native CRT library. The size and concurrency of the parts are configured
+         * with {@link S3TransferManagerOverrideConfiguration.Builder#partSizeInBytes(Long)},
+         * {@link S3TransferManagerOverrideConfiguration.Builder#maxInFlightParts(Integer)} and
+         * {@link S3TransferManagerOverrideConfiguration.Builder#maxMemoryInBytes(Long)}.
+         *
+         * <p>
+         * This cannot be combined with {@link #s3ClientConfiguration(S3ClientConfiguration)}, which configures the CRT-based
+         * client. The provided client is not closed when the {@link S3TransferManager} is closed.
+         *
+         * @param s3AsyncClient the S3 client to use
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder s3AsyncClient(S3AsyncClient s3AsyncClient);
+
         /**
          * Configuration settings for how {@link S3TransferManager} should process the request. The
          * {@link S3TransferManager} already provides sensible defaults. All values are optional.
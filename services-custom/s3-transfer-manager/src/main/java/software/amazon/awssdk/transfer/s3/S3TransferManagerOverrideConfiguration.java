@@ -40,10 +40,29 @@ public final class S3TransferManagerOverrideConfiguration implements
                                                               S3TransferManagerOverrideConfiguration> {
     private final Executor executor;
     private final UploadDirectoryOverrideConfiguration uploadDirectoryConfiguration;
+    private final Long partSizeInBytes;
+    private final Integer maxInFlightParts;
+    private final Long maxMemoryInBytes;
+    private final Integer directoryTransferMaxConcurrency;
+    private final Long smallObjectThresholdInBytes;
+    private final Integer smallObjectMaxConcurrency;
+    private final Boolean adaptiveConcurrencyEnabled;
 
     private S3TransferManagerOverrideConfiguration(DefaultBuilder builder) {
         this.executor = builder.executor;
         this.uploadDirectoryConfiguration = builder.uploadDirectoryConfiguration;
+        this.partSizeInBytes = Validate.isPositiveOrNull(builder.partSizeInBytes, "partSizeInBytes");
+        this.maxInFlightParts = Validate.isPositiveOrNull(builder.maxInFlightParts, "maxInFlightParts");
+        this.maxMemoryInBytes = Validate.isPositiveOrNull(builder.maxMemoryInBytes, "maxMemoryInBytes");
+        this.directoryTransferMaxConcurrency = Validate.isPositiveOrNull(builder.directoryTransferMaxConcurrency,
+                                                                         "directoryTransferMaxConcurrency");
+        this.smallObjectThresholdInBytes = builder.smallObjectThresholdInBytes == null
+                                           ? null
+                                           : Validate.isNotNegative(builder.smallObjectThresholdInBytes,
+                                                                    "smallObjectThresholdInBytes");
+        this.smallObjectMaxConcurrency = Validate.isPositiveOrNull(builder.smallObjectMaxConcurrency,
+                                                                   "smallObjectMaxConcurrency");
+        this.adaptiveConcurrencyEnabled = builder.adaptiveConcurrencyEnabled;
     }
 
     /**
@@ -60,6 +79,55 @@ public final class S3TransferManagerOverrideConfiguration implements
         return Optional.ofNullable(uploadDirectoryConfiguration);
     }
 
+    /**
+     * @return the optional part size of multipart transfers specified
+     */
+    public Optional<Long> partSizeInBytes() {
+        return Optional.ofNullable(partSizeInBytes);
+    }
+
+    /**
+     * @return the optional maximum number of in-flight parts of a multipart transfer specified
+     */
+    public Optional<Integer> maxInFlightParts() {
+        return Optional.ofNullable(maxInFlightParts);
+    }
+
+    /**
+     * @return the optional maximum memory used to buffer the parts of all multipart transfers specified
+     */
+    public Optional<Long> maxMemoryInBytes() {
+        return Optional.ofNullable(maxMemoryInBytes);
+    }
+
+    /**
+     * @return the optional maximum number of concurrent file transfers of a directory transfer specified
+     */
+    public Optional<Integer> directoryTransferMaxConcurrency() {
+        return Optional.ofNullable(directoryTransferMaxConcurrency);
+    }
+
+    /**
+     * @return the optional size under which the objects of a directory transfer are scheduled as small objects specified
+     */
+    public Optional<Long> smallObjectThresholdInBytes() {
+        return Optional.ofNullable(smallObjectThresholdInBytes);
+    }
+
+    /**
+     * @return the optional maximum number of concurrent small object transfers of a directory transfer specified
+     */
+    public Optional<Integer> smallObjectMaxConcurrency() {
+        return Optional.ofNullable(smallObjectMaxConcurrency);
+    }
+
+    /**
+     * @return whether the concurrency of directory transfers adapts to throughput and throttling, if specified
+     */
+    public Optional<Boolean> adaptiveConcurrencyEnabled() {
+        return Optional.ofNullable(adaptiveConcurrencyEnabled);
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -79,13 +147,41 @@ public final class S3TransferManagerOverrideConfiguration implements
         if (!Objects.equals(executor, that.executor)) {
             return false;
         }
-        return Objects.equals(uploadDirectoryConfiguration, that.uploadDirectoryConfiguration);
+        if (!Objects.equals(uploadDirectoryConfiguration, that.uploadDirectoryConfiguration)) {
+            return false;
+        }
+        if (!Objects.equals(partSizeInBytes, that.partSizeInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(maxInFlightParts, that.maxInFlightParts)) {
+            return false;
+        }
+        if (!Objects.equals(maxMemoryInBytes, that.maxMemoryInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(directoryTransferMaxConcurrency, that.directoryTransferMaxConcurrency)) {
+            return false;
+        }
+        if (!Objects.equals(smallObjectThresholdInBytes, that.smallObjectThresholdInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(smallObjectMaxConcurrency, that.smallObjectMaxConcurrency)) {
+            return false;
+        }
+        return Objects.equals(adaptiveConcurrencyEnabled, that.adaptiveConcurrencyEnabled);
     }
 
     @Override
     public int hashCode() {
         int result = executor != null ? executor.hashCode() : 0;
         result = 31 * result + (uploadDirectoryConfiguration != null ? uploadDirectoryConfiguration.hashCode() : 0);
+        result = 31 * result + (partSizeInBytes != null ? partSizeInBytes.hashCode() : 0);
+        result = 31 * result + (maxInFlightParts != null ? maxInFlightParts.hashCode() : 0);
+        result = 31 * result + (maxMemoryInBytes != null ? maxMemoryInBytes.hashCode() : 0);
+        result = 31 * result + (directoryTransferMaxConcurrency != null ? directoryTransferMaxConcurrency.hashCode() : 0);
+        result = 31 * result + (smallObjectThresholdInBytes != null ? smallObjectThresholdInBytes.hashCode() : 0);
+        result = 31 * result + (smallObjectMaxConcurrency != null ? smallObjectMaxConcurrency.hashCode() : 0);
+        result = 31 * result + (adaptiveConcurrencyEnabled != null ? adaptiveConcurrencyEnabled.hashCode() : 0);
         return result;
     }
 
@@ -148,11 +244,138 @@ public final class S3TransferManagerOverrideConfiguration implements
                                                                                     .applyMutation(uploadConfigurationBuilder)
                                                                                     .build());
         }
+
+        /**
+         * Specify the size of the parts that objects are split into by multipart uploads and downloads.
+         *
+         * <p>
+         * This only applies when the {@link S3TransferManager} is created with an
+         * {@link S3TransferManager.Builder#s3AsyncClient(software.amazon.awssdk.services.s3.S3AsyncClient) S3AsyncClient}.
+         * The part size of the CRT-based S3 client is configured with
+         * {@link S3ClientConfiguration.Builder#minimumPartSizeInBytes(Long)}. The part size is increased for uploads of known
+         * length that would otherwise need more than 10,000 parts.
+         *
+         * <p>
+         * Default to 8 MiB.
+         *
+         * @param partSizeInBytes the part size, in bytes
+         * @return this builder for method chaining.
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * Specify the maximum number of parts of a single multipart upload or download that are buffered or in flight at a
+         * time.
+         *
+         * <p>
+         * This only applies when the {@link S3TransferManager} is created with an
+         * {@link S3TransferManager.Builder#s3AsyncClient(software.amazon.awssdk.services.s3.S3AsyncClient) S3AsyncClient}.
+         *
+         * <p>
+         * Default to 16.
+         *
+         * @param maxInFlightParts the maximum number of in-flight parts
+         * @return this builder for method chaining.
+         * @see #maxMemoryInBytes(Long)
+         */
+        Builder maxInFlightParts(Integer maxInFlightParts);
+
+        /**
+         * Specify the maximum memory used to buffer the parts of multipart uploads and downloads, shared by all the transfers
+         * of the {@link S3TransferManager}. A transfer reserves the memory for its in-flight parts before it starts, and waits
+         * until enough memory is released by other transfers. The number of in-flight parts of a transfer is lowered when
+         * that many parts would not fit, but at least one part is always in flight.
+         *
+         * <p>
+         * This only applies when the {@link S3TransferManager} is created with an
+         * {@link S3TransferManager.Builder#s3AsyncClient(software.amazon.awssdk.services.s3.S3AsyncClient) S3AsyncClient}.
+         *
+         * <p>
+         * Default to 256 MiB.
+         *
+         * @param maxMemoryInBytes the maximum memory, in bytes
+         * @return this builder for method chaining.
+         * @see #maxInFlightParts(Integer)
+         */
+        Builder maxMemoryInBytes(Long maxMemoryInBytes);
+
+        /**
+         * Specify the maximum number of files that are uploaded or downloaded concurrently by
+         * {@link S3TransferManager#uploadDirectory(UploadDirectoryRequest)} and
+         * {@link S3TransferManager#downloadDirectory(DownloadDirectoryRequest)}, not counting small objects.
+         *
+         * <p>
+         * When adaptive concurrency is enabled, this is an upper bound: the concurrency is lowered when S3 asks to slow down.
+         *
+         * <p>
+         * Default to 100.
+         *
+         * @param directoryTransferMaxConcurrency the maximum number of concurrent file transfers
+         * @return this builder for method chaining.
+         * @see #smallObjectMaxConcurrency(Integer)
+         * @see #adaptiveConcurrencyEnabled(Boolean)
+         */
+        Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency);
+
+        /**
+         * Specify the size under which the objects of a directory transfer are small objects. The cost of transferring a small
+         * object is dominated by the overhead of the request rather than by its content, so small objects are scheduled
+         * separately, with a higher concurrency, and are never held back by the transfer of larger objects. Set it to 0 to
+         * schedule all objects together.
+         *
+         * <p>
+         * Default to 64 KiB.
+         *
+         * @param smallObjectThresholdInBytes the size under which objects are small objects, in bytes
+         * @return this builder for method chaining.
+         * @see #smallObjectMaxConcurrency(Integer)
+         */
+        Builder smallObjectThresholdInBytes(Long smallObjectThresholdInBytes);
+
+        /**
+         * Specify the maximum number of small objects that are uploaded or downloaded concurrently by a directory transfer, in
+         * addition to the other files. This should not exceed the maximum number of connections of the HTTP client of the S3
+         * client, or the transfers will wait for connections instead.
+         *
+         * <p>
+         * When adaptive concurrency is enabled, the concurrency starts at the
+         * {@link #directoryTransferMaxConcurrency(Integer) directory transfer concurrency} and is raised towards this limit while
+         * throughput keeps up.
+         *
+         * <p>
+         * Default to 400.
+         *
+         * @param smallObjectMaxConcurrency the maximum number of concurrent small object transfers
+         * @return this builder for method chaining.
+         * @see #smallObjectThresholdInBytes(Long)
+         */
+        Builder smallObjectMaxConcurrency(Integer smallObjectMaxConcurrency);
+
+        /**
+         * Specify whether the concurrency of directory transfers adapts to the conditions observed during the transfer. The
+         * concurrency is raised by one transfer after each round of successful transfers that did not lower the throughput, and
+         * halved when a transfer fails because S3 asked to slow down ({@code 503 SlowDown}). When disabled, the maximum
+         * concurrency is used throughout the transfer.
+         *
+         * <p>
+         * Default to true.
+         *
+         * @param adaptiveConcurrencyEnabled whether the concurrency of directory transfers is adaptive
+         * @return this builder for method chaining.
+         */
+        Builder adaptiveConcurrencyEnabled(Boolean adaptiveConcurrencyEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Executor executor;
         private UploadDirectoryOverrideConfiguration uploadDirectoryConfiguration;
+        private Long partSizeInBytes;
+        private Integer maxInFlightParts;
+        private Long maxMemoryInBytes;
+        private Integer directoryTransferMaxConcurrency;
+        private Long smallObjectThresholdInBytes;
+        private Integer smallObjectMaxConcurrency;
+        private Boolean adaptiveConcurrencyEnabled;
 
         private DefaultBuilder() {
         }
@@ -160,6 +383,13 @@ public final class S3TransferManagerOverrideConfiguration implements
         private DefaultBuilder(S3TransferManagerOverrideConfiguration configuration) {
             this.executor = configuration.executor;
             this.uploadDirectoryConfiguration = configuration.uploadDirectoryConfiguration;
+            this.partSizeInBytes = configuration.partSizeInBytes;
+            this.maxInFlightParts = configuration.maxInFlightParts;
+            this.maxMemoryInBytes = configuration.maxMemoryInBytes;
+            this.directoryTransferMaxConcurrency = configuration.directoryTransferMaxConcurrency;
+            this.smallObjectThresholdInBytes = configuration.smallObjectThresholdInBytes;
+            this.smallObjectMaxConcurrency = configuration.smallObjectMaxConcurrency;
+            this.adaptiveConcurrencyEnabled = configuration.adaptiveConcurrencyEnabled;
         }
 
         @Override
@@ -190,6 +420,104 @@ public final class S3TransferManagerOverrideConfiguration implements
             return uploadDirectoryConfiguration;
         }
 
+        @Override
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        public void setPartSizeInBytes(Long partSizeInBytes) {
+            partSizeInBytes(partSizeInBytes);
+        }
+
+        public Long getPartSizeInBytes() {
+            return partSizeInBytes;
+        }
+
+        @Override
+        public Builder maxInFlightParts(Integer maxInFlightParts) {
+            this.maxInFlightParts = maxInFlightParts;
+            return this;
+        }
+
+        public void setMaxInFlightParts(Integer maxInFlightParts) {
+            maxInFlightParts(maxInFlightParts);
+        }
+
+        public Integer getMaxInFlightParts() {
+            return maxInFlightParts;
+        }
+
+        @Override
+        public Builder maxMemoryInBytes(Long maxMemoryInBytes) {
+            this.maxMemoryInBytes = maxMemoryInBytes;
+            return this;
+        }
+
+        public void setMaxMemoryInBytes(Long maxMemoryInBytes) {
+            maxMemoryInBytes(maxMemoryInBytes);
+        }
+
+        public Long getMaxMemoryInBytes() {
+            return maxMemoryInBytes;
+        }
+
+        @Override
+        public Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            this.directoryTransferMaxConcurrency = directoryTransferMaxConcurrency;
+            return this;
+        }
+
+        public void setDirectoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            directoryTransferMaxConcurrency(directoryTransferMaxConcurrency);
+        }
+
+        public Integer getDirectoryTransferMaxConcurrency() {
+            return directoryTransferMaxConcurrency;
+        }
+
+        @Override
+        public Builder smallObjectThresholdInBytes(Long smallObjectThresholdInBytes) {
+            this.smallObjectThresholdInBytes = smallObjectThresholdInBytes;
+            return this;
+        }
+
+        public void setSmallObjectThresholdInBytes(Long smallObjectThresholdInBytes) {
+            smallObjectThresholdInBytes(smallObjectThresholdInBytes);
+        }
+
+        public Long getSmallObjectThresholdInBytes() {
+            return smallObjectThresholdInBytes;
+        }
+
+        @Override
+        public Builder smallObjectMaxConcurrency(Integer smallObjectMaxConcurrency) {
+            this.smallObjectMaxConcurrency = smallObjectMaxConcurrency;
+            return this;
+        }
+
+        public void setSmallObjectMaxConcurrency(Integer smallObjectMaxConcurrency) {
+            smallObjectMaxConcurrency(smallObjectMaxConcurrency);
+        }
+
+        public Integer getSmallObjectMaxConcurrency() {
+            return smallObjectMaxConcurrency;
+        }
+
+        @Override
+        public Builder adaptiveConcurrencyEnabled(Boolean adaptiveConcurrencyEnabled) {
+            this.adaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+            return this;
+        }
+
+        public void setAdaptiveConcurrencyEnabled(Boolean adaptiveConcurrencyEnabled) {
+            adaptiveConcurrencyEnabled(adaptiveConcurrencyEnabled);
+        }
+
+        public Boolean getAdaptiveConcurrencyEnabled() {
+            return adaptiveConcurrencyEnabled;
+        }
+
         @Override
         public S3TransferManagerOverrideConfiguration build() {
             return new S3TransferManagerOverrideConfiguration(this);
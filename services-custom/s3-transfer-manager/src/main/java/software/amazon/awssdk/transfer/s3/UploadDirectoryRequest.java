@@ -42,6 +42,8 @@ public final class UploadDirectoryRequest
     private final String prefix;
     private final UploadDirectoryOverrideConfiguration overrideConfiguration;
     private final String delimiter;
+    private final UploadFilter filter;
+    private final Path manifestFile;
 
     public UploadDirectoryRequest(DefaultBuilder builder) {
         this.sourceDirectory = Validate.paramNotNull(builder.sourceDirectory, "sourceDirectory");
@@ -49,6 +51,8 @@ public final class UploadDirectoryRequest
         this.prefix = builder.prefix;
         this.overrideConfiguration = builder.configuration;
         this.delimiter = builder.delimiter;
+        this.filter = builder.filter;
+        this.manifestFile = builder.manifestFile;
     }
 
     /**
@@ -87,6 +91,22 @@ public final class UploadDirectoryRequest
         return Optional.ofNullable(delimiter);
     }
 
+    /**
+     * @return the optional filter, or {@link UploadFilter#allFiles()} if no filter was provided
+     * @see Builder#filter(UploadFilter)
+     */
+    public UploadFilter filter() {
+        return filter == null ? UploadFilter.allFiles() : filter;
+    }
+
+    /**
+     * @return the optional manifest file of an incremental upload
+     * @see Builder#manifestFile(Path)
+     */
+    public Optional<Path> manifestFile() {
+        return Optional.ofNullable(manifestFile);
+    }
+
     /**
      * @return the optional override configuration
      * @see Builder#overrideConfiguration(UploadDirectoryOverrideConfiguration)
@@ -131,7 +151,13 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(overrideConfiguration, that.overrideConfiguration)) {
             return false;
         }
-        return Objects.equals(delimiter, that.delimiter);
+        if (!Objects.equals(delimiter, that.delimiter)) {
+            return false;
+        }
+        if (!Objects.equals(filter, that.filter)) {
+            return false;
+        }
+        return Objects.equals(manifestFile, that.manifestFile);
     }
 
     @Override
@@ -141,6 +167,8 @@ public final class UploadDirectoryRequest
         result = 31 * result + (prefix != null ? prefix.hashCode() : 0);
         result = 31 * result + (overrideConfiguration != null ? overrideConfiguration.hashCode() : 0);
         result = 31 * result + (delimiter != null ? delimiter.hashCode() : 0);
+        result = 31 * result + (filter != null ? filter.hashCode() : 0);
+        result = 31 * result + (manifestFile != null ? manifestFile.hashCode() : 0);
         return result;
     }
 
@@ -152,6 +180,8 @@ public final class UploadDirectoryRequest
                        .add("prefix", prefix)
                        .add("overrideConfiguration", overrideConfiguration)
                        .add("delimiter", delimiter)
+                       .add("filter", filter)
+                       .add("manifestFile", manifestFile)
                        .build();
     }
 
@@ -231,6 +261,47 @@ public final class UploadDirectoryRequest
          */
         Builder delimiter(String delimiter);
 
+        /**
+         * Specify a filter that will be used to evaluate which files should be uploaded from the source directory.
+         * <p>
+         * You can use a filter, for example, to skip hidden files or to exclude a directory such as {@code .git}. The filter is
+         * evaluated before the attributes of an entry are read, and a directory that is filtered out is not traversed. Multiple
+         * {@link UploadFilter}s can be composed together via the {@code and} and {@code or} methods.
+         * <p>
+         * By default, if no filter is specified, all files will be uploaded.
+         *
+         * @param filter the filter
+         * @return This builder for method chaining.
+         * @see UploadFilter
+         */
+        Builder filter(UploadFilter filter);
+
+        /**
+         * Specify a local file in which to record the state of the upload, making it incremental.
+         * <p>
+         * When a manifest file is specified, the objects under the prefix are listed before the upload, and a file is only
+         * uploaded if no object exists for it, if their sizes differ, or if the file was modified after the object. Once the
+         * upload completes, the size and last-modified time of each file that was uploaded or found unchanged are recorded in
+         * the manifest, with the ETag of its object. On the next upload with the same manifest, a file whose size, last-modified
+         * time and object ETag all match the manifest is skipped without comparing timestamps, so that repeated uploads of a
+         * large, mostly unchanged directory only send the files that changed. Skipped files are counted in
+         * {@link DirectoryUpload#progress()}.
+         * <p>
+         * The manifest file should not be inside the source directory. A manifest written for another bucket or prefix is
+         * ignored. Objects are never deleted, and files that fail to upload are not recorded, so they are retried by the next
+         * upload. If the upload fails part way, the files uploaded so far are still recorded.
+         * <p>
+         * The listing of the prefix and the entries of the manifest are held in memory during the upload, which takes a few
+         * hundred bytes of heap per key for each, so a prefix with millions of keys needs a heap of several hundred
+         * megabytes or more.
+         * <p>
+         * By default, if no manifest file is specified, all files will be uploaded.
+         *
+         * @param manifestFile the manifest file
+         * @return This builder for method chaining.
+         */
+        Builder manifestFile(Path manifestFile);
+
         /**
          * Add an optional request override configuration.
          *
@@ -268,6 +339,8 @@ public final class UploadDirectoryRequest
         private String prefix;
         private UploadDirectoryOverrideConfiguration configuration;
         private String delimiter;
+        private UploadFilter filter;
+        private Path manifestFile;
 
         private DefaultBuilder() {
         }
@@ -278,6 +351,8 @@ public final class UploadDirectoryRequest
             this.prefix = request.prefix;
             this.configuration = request.overrideConfiguration;
             this.delimiter = request.delimiter;
+            this.filter = request.filter;
+            this.manifestFile = request.manifestFile;
         }
 
         @Override
@@ -336,6 +411,34 @@ public final class UploadDirectoryRequest
             return delimiter;
         }
 
+        @Override
+        public Builder filter(UploadFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public void setFilter(UploadFilter filter) {
+            filter(filter);
+        }
+
+        public UploadFilter getFilter() {
+            return filter;
+        }
+
+        @Override
+        public Builder manifestFile(Path manifestFile) {
+            this.manifestFile = manifestFile;
+            return this;
+        }
+
+        public void setManifestFile(Path manifestFile) {
+            manifestFile(manifestFile);
+        }
+
+        public Path getManifestFile() {
+            return manifestFile;
+        }
+
         @Override
         public Builder overrideConfiguration(UploadDirectoryOverrideConfiguration configuration) {
             this.configuration = configuration;
@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3;
+
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkPreviewApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * {@link UploadFilter} allows you to filter out which files should be uploaded as part of an {@link UploadDirectoryRequest}. You
+ * could use it, for example, to skip hidden files, or to exclude a directory such as {@code .git}. Multiple
+ * {@link UploadFilter}s can be composed together via {@link #and(Predicate)} and {@link #or(Predicate)} methods.
+ * <p>
+ * The filter is evaluated against every entry of the source directory before the attributes of the entry are read, so an
+ * entry that is filtered out costs no more than being listed. As the type of the entry is not known yet, the filter is also
+ * evaluated against directories: a directory that is filtered out is not traversed.
+ */
+@SdkPublicApi
+@SdkPreviewApi
+public interface UploadFilter extends Predicate<Path> {
+
+    /**
+     * Evaluate whether the entry of the source directory should be uploaded, or traversed if it is a directory.
+     *
+     * @param path The {@link Path} of the file or directory, resolved against the source directory
+     * @return true if the entry should be uploaded or traversed, false if it should be skipped
+     */
+    @Override
+    boolean test(Path path);
+
+    /**
+     * An {@link UploadFilter} that uploads all files. This is the default behavior if no filter is provided.
+     */
+    @SdkPreviewApi
+    static UploadFilter allFiles() {
+        return path -> true;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of concurrent transfers, adjusting the limit with additive increase and multiplicative decrease (AIMD).
+ *
+ * <p>Completions are counted in rounds of as many transfers as the current limit. At the end of a round where all transfers
+ * succeeded, the limit is raised by one, unless the throughput of the round dropped compared to the previous round, which
+ * means that more concurrency no longer helps. When a transfer fails because S3 asked to slow down, the limit is halved. The
+ * transfers that were already in flight at that point may fail in the same way, so they do not halve it again.
+ *
+ * <p>When not adaptive, the limit stays at its maximum.
+ */
+@SdkInternalApi
+public final class AimdConcurrencyLimiter {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int MIN_LIMIT = 1;
+    private static final int SERVICE_UNAVAILABLE_STATUS_CODE = 503;
+
+    /**
+     * The ratio to the throughput of the previous round under which the limit is no longer raised, which allows for some
+     * noise in the measurements.
+     */
+    private static final double THROUGHPUT_TOLERANCE = 0.9;
+
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private long completions;
+    private long noDecreaseBefore;
+    private long roundStartNanos;
+    private long roundCompletions;
+    private long roundBytes;
+    private double previousThroughput;
+
+    public AimdConcurrencyLimiter(int initialLimit, int maxLimit, boolean adaptive) {
+        this(initialLimit, maxLimit, adaptive, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AimdConcurrencyLimiter(int initialLimit, int maxLimit, boolean adaptive, LongSupplier nanoClock) {
+        this.maxLimit = Validate.isPositive(maxLimit, "maxLimit");
+        this.adaptive = adaptive;
+        this.nanoClock = nanoClock;
+        this.limit = adaptive ? Math.min(Validate.isPositive(initialLimit, "initialLimit"), maxLimit) : maxLimit;
+        this.roundStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Start a transfer if the limit allows it.
+     *
+     * @return true if the transfer can start, in which case {@link #release(long, Throwable)} must be called once it completes
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Complete a transfer started with {@link #tryAcquire()}.
+     *
+     * @param bytes the number of bytes transferred, or a negative value if unknown
+     * @param t the failure of the transfer, or null if it succeeded
+     */
+    public void release(long bytes, Throwable t) {
+        if (adaptive) {
+            synchronized (this) {
+                completions++;
+                if (t == null) {
+                    onSuccess(bytes);
+                } else if (isSlowDown(t)) {
+                    onSlowDown();
+                }
+            }
+        }
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void onSuccess(long bytes) {
+        roundCompletions++;
+        roundBytes += Math.max(bytes, 0);
+        if (roundCompletions < limit) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        double throughput = (double) roundBytes / Math.max(1, now - roundStartNanos);
+        if (limit < maxLimit && throughput >= previousThroughput * THROUGHPUT_TOLERANCE) {
+            limit++;
+        }
+        previousThroughput = throughput;
+        startRound(now);
+    }
+
+    private void onSlowDown() {
+        if (completions < noDecreaseBefore) {
+            return;
+        }
+
+        int previousLimit = limit;
+        limit = Math.max(MIN_LIMIT, limit / 2);
+        // The transfer being released is still counted in flight
+        noDecreaseBefore = completions + inFlight.get() - 1;
+        previousThroughput = 0;
+        startRound(nanoClock.getAsLong());
+        log.debug(() -> "S3 asked to slow down, lowering the concurrency from " + previousLimit + " to " + limit);
+    }
+
+    private void startRound(long now) {
+        roundStartNanos = now;
+        roundCompletions = 0;
+        roundBytes = 0;
+    }
+
+    private static boolean isSlowDown(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SdkServiceException) {
+                SdkServiceException exception = (SdkServiceException) cause;
+                return exception.statusCode() == SERVICE_UNAVAILABLE_STATUS_CODE || exception.isThrottlingException();
+            }
+        }
+        return false;
+    }
+}
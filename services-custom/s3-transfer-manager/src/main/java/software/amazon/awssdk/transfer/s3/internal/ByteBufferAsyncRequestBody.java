@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An {@link AsyncRequestBody} that sends the remaining content of a buffer owned by the transfer manager.
+ *
+ * <p>Unlike {@link AsyncRequestBody#fromByteBuffer(ByteBuffer)}, the content is not copied, so a part buffered by a multipart
+ * transfer is held in memory once. Each subscription gets a read-only view of the content, so the body can be resent when a
+ * request is retried.
+ */
+@SdkInternalApi
+final class ByteBufferAsyncRequestBody implements AsyncRequestBody {
+    private static final Logger log = Logger.loggerFor(ByteBufferAsyncRequestBody.class);
+    private static final String MIMETYPE_OCTET_STREAM = "application/octet-stream";
+
+    private final ByteBuffer byteBuffer;
+
+    ByteBufferAsyncRequestBody(ByteBuffer byteBuffer) {
+        this.byteBuffer = byteBuffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of((long) byteBuffer.remaining());
+    }
+
+    @Override
+    public String contentType() {
+        return MIMETYPE_OCTET_STREAM;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        // As per rule 1.9 we must throw NullPointerException if the subscriber parameter is null
+        if (s == null) {
+            throw new NullPointerException("Subscription MUST NOT be null.");
+        }
+
+        // As per 2.13, this method must return normally (i.e. not throw).
+        try {
+            s.onSubscribe(
+                new Subscription() {
+                    private boolean done = false;
+
+                    @Override
+                    public void request(long n) {
+                        if (done) {
+                            return;
+                        }
+                        if (n > 0) {
+                            done = true;
+                            s.onNext(byteBuffer.duplicate());
+                            s.onComplete();
+                        } else {
+                            s.onError(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        synchronized (this) {
+                            if (!done) {
+                                done = true;
+                            }
+                        }
+                    }
+                }
+            );
+        } catch (Throwable ex) {
+            log.error(() -> s + " violated the Reactive Streams rule 2.13 by throwing an exception from onSubscribe.", ex);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.transfer.s3.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.DirectoryUpload;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgress;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
@@ -27,9 +28,11 @@ import software.amazon.awssdk.utils.Validate;
 public final class DefaultDirectoryUpload implements DirectoryUpload {
     
     private final CompletableFuture<CompletedDirectoryUpload> completionFuture;
+    private final DirectoryTransferProgress progress;
 
-    DefaultDirectoryUpload(CompletableFuture<CompletedDirectoryUpload> completionFuture) {
+    DefaultDirectoryUpload(CompletableFuture<CompletedDirectoryUpload> completionFuture, DirectoryTransferProgress progress) {
         this.completionFuture = Validate.paramNotNull(completionFuture, "completionFuture");
+        this.progress = Validate.paramNotNull(progress, "progress");
     }
 
     @Override
@@ -37,6 +40,11 @@ public final class DefaultDirectoryUpload implements DirectoryUpload {
         return completionFuture;
     }
 
+    @Override
+    public DirectoryTransferProgress progress() {
+        return progress;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -48,18 +56,24 @@ public final class DefaultDirectoryUpload implements DirectoryUpload {
 
         DefaultDirectoryUpload that = (DefaultDirectoryUpload) o;
 
-        return Objects.equals(completionFuture, that.completionFuture);
+        if (!Objects.equals(completionFuture, that.completionFuture)) {
+            return false;
+        }
+        return Objects.equals(progress, that.progress);
     }
 
     @Override
     public int hashCode() {
-        return completionFuture != null ? completionFuture.hashCode() : 0;
+        int result = completionFuture != null ? completionFuture.hashCode() : 0;
+        result = 31 * result + (progress != null ? progress.hashCode() : 0);
+        return result;
     }
 
     @Override
     public String toString() {
         return ToString.builder("DefaultDirectoryUpload")
                        .add("completionFuture", completionFuture)
+                       .add("progress", progress)
                        .build();
     }
 }
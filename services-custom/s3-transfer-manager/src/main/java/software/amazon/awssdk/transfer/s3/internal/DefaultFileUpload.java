@@ -13,26 +13,53 @@
  * permissions and limitations under the License.
  */
 
+
 package software.amazon.awssdk.transfer.s3.internal;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.transfer.s3.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.FileUpload;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
 @SdkInternalApi
 public final class DefaultFileUpload implements FileUpload {
-    
+    private static final Logger log = Logger.loggerFor(FileUpload.class);
     private final CompletableFuture<CompletedFileUpload> completionFuture;
     private final TransferProgress progress;
+    private final UploadFileRequest request;
+    private final MultipartUploadState uploadState;
+    private final long fileLength;
+    private final Instant fileLastModified;
+    private volatile ResumableFileUpload resumableFileUpload;
+    private final Object lock = new Object();
 
-    DefaultFileUpload(CompletableFuture<CompletedFileUpload> completionFuture, TransferProgress progress) {
+    /**
+     * @param uploadState the state of the multipart upload, or null if the upload is not performed by the Java multipart
+     *                    engine, in which case a paused upload is resumed from the beginning
+     * @param fileLength the length of the file when the upload started, before any of its content was read
+     * @param fileLastModified the last modified time of the file when the upload started, before any of its content was read
+     */
+    DefaultFileUpload(CompletableFuture<CompletedFileUpload> completionFuture,
+                      TransferProgress progress,
+                      UploadFileRequest request,
+                      MultipartUploadState uploadState,
+                      long fileLength,
+                      Instant fileLastModified) {
         this.completionFuture = Validate.paramNotNull(completionFuture, "completionFuture");
         this.progress = Validate.paramNotNull(progress, "progress");
+        this.request = Validate.paramNotNull(request, "request");
+        this.uploadState = uploadState;
+        this.fileLength = fileLength;
+        this.fileLastModified = Validate.paramNotNull(fileLastModified, "fileLastModified");
     }
 
     @Override
@@ -45,6 +72,38 @@ public final class DefaultFileUpload implements FileUpload {
         return progress;
     }
 
+    @Override
+    public ResumableFileUpload pause() {
+        log.debug(() -> "Start to pause ");
+        if (resumableFileUpload == null) {
+            synchronized (lock) {
+                if (resumableFileUpload == null) {
+                    // Pause before cancelling, so that the multipart upload is kept rather than aborted
+                    if (uploadState != null) {
+                        uploadState.pause();
+                    }
+                    completionFuture.cancel(true);
+
+                    // The file is described as it was when the upload started, so that the uploaded parts are not reused
+                    // if the file was modified during the upload
+                    ResumableFileUpload.Builder builder =
+                        ResumableFileUpload.builder()
+                                           .uploadFileRequest(request)
+                                           .fileLength(fileLength)
+                                           .fileLastModified(fileLastModified)
+                                           .completedParts(Collections.emptyList());
+                    if (uploadState != null && uploadState.uploadId().isPresent()) {
+                        builder.multipartUploadId(uploadState.uploadId().get())
+                               .partSizeInBytes(uploadState.partSizeInBytes().orElse(null))
+                               .completedParts(uploadState.completedParts());
+                    }
+                    resumableFileUpload = builder.build();
+                }
+            }
+        }
+        return resumableFileUpload;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -59,6 +118,18 @@ public final class DefaultFileUpload implements FileUpload {
         if (!Objects.equals(completionFuture, that.completionFuture)) {
             return false;
         }
+        if (!Objects.equals(request, that.request)) {
+            return false;
+        }
+        if (!Objects.equals(uploadState, that.uploadState)) {
+            return false;
+        }
+        if (fileLength != that.fileLength) {
+            return false;
+        }
+        if (!Objects.equals(fileLastModified, that.fileLastModified)) {
+            return false;
+        }
         return Objects.equals(progress, that.progress);
     }
 
@@ -66,6 +137,10 @@ public final class DefaultFileUpload implements FileUpload {
     public int hashCode() {
         int result = completionFuture != null ? completionFuture.hashCode() : 0;
         result = 31 * result + (progress != null ? progress.hashCode() : 0);
+        result = 31 * result + (request != null ? request.hashCode() : 0);
+        result = 31 * result + (uploadState != null ? uploadState.hashCode() : 0);
+        result = 31 * result + (int) (fileLength ^ (fileLength >>> 32));
+        result = 31 * result + (fileLastModified != null ? fileLastModified.hashCode() : 0);
         return result;
     }
 
@@ -74,6 +149,7 @@ public final class DefaultFileUpload implements FileUpload {
         return ToString.builder("DefaultFileUpload")
                        .add("completionFuture", completionFuture)
                        .add("progress", progress)
+                       .add("request", request)
                        .build();
     }
 }
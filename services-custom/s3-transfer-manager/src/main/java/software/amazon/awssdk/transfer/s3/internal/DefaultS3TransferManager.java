@@ -15,9 +15,19 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_MAX_IN_FLIGHT_PARTS;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_MAX_MEMORY_IN_BYTES;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_PART_SIZE_IN_BYTES;
+import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.fileNotModified;
+import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toCompletedParts;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.arns.Arn;
@@ -25,6 +35,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
@@ -32,6 +43,10 @@ import software.amazon.awssdk.services.s3.internal.resource.S3Resource;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.transfer.s3.CompletedCopy;
 import software.amazon.awssdk.transfer.s3.CompletedDownload;
@@ -49,6 +64,7 @@ import software.amazon.awssdk.transfer.s3.DownloadRequest;
 import software.amazon.awssdk.transfer.s3.FileDownload;
 import software.amazon.awssdk.transfer.s3.FileUpload;
 import software.amazon.awssdk.transfer.s3.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.S3ClientConfiguration;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.S3TransferManagerOverrideConfiguration;
@@ -56,6 +72,7 @@ import software.amazon.awssdk.transfer.s3.Upload;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.UploadRequest;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultDirectoryTransferProgress;
 import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
 import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -66,27 +83,37 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultS3TransferManager implements S3TransferManager {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
-    private final S3CrtAsyncClient s3CrtAsyncClient;
+    private final S3AsyncClient s3AsyncClient;
+    private final boolean isDefaultS3AsyncClient;
     private final TransferManagerConfiguration transferConfiguration;
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
 
     public DefaultS3TransferManager(DefaultBuilder tmBuilder) {
+        Validate.isTrue(tmBuilder.s3AsyncClient == null || tmBuilder.s3ClientConfiguration == null,
+                        "s3ClientConfiguration cannot be specified together with s3AsyncClient");
         transferConfiguration = resolveTransferManagerConfiguration(tmBuilder);
-        s3CrtAsyncClient = initializeS3CrtClient(tmBuilder);
-        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
-        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3CrtAsyncClient::listObjectsV2);
+        if (tmBuilder.s3AsyncClient != null) {
+            s3AsyncClient = initializeMultipartClient(tmBuilder.s3AsyncClient, transferConfiguration);
+            isDefaultS3AsyncClient = false;
+        } else {
+            s3AsyncClient = initializeS3CrtClient(tmBuilder);
+            isDefaultS3AsyncClient = true;
+        }
+        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
+        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, listObjectsHelper, this::uploadFile);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
     }
 
     @SdkTestInternalApi
-    DefaultS3TransferManager(S3CrtAsyncClient s3CrtAsyncClient,
+    DefaultS3TransferManager(S3AsyncClient s3AsyncClient,
                              UploadDirectoryHelper uploadDirectoryHelper,
                              TransferManagerConfiguration configuration,
                              DownloadDirectoryHelper downloadDirectoryHelper) {
-        this.s3CrtAsyncClient = s3CrtAsyncClient;
+        this.s3AsyncClient = s3AsyncClient;
+        this.isDefaultS3AsyncClient = true;
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
@@ -97,17 +124,39 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         tmBuilder.transferManagerConfiguration.uploadDirectoryConfiguration()
                                               .ifPresent(transferConfigBuilder::uploadDirectoryConfiguration);
         tmBuilder.transferManagerConfiguration.executor().ifPresent(transferConfigBuilder::executor);
+        tmBuilder.transferManagerConfiguration.partSizeInBytes().ifPresent(transferConfigBuilder::partSizeInBytes);
+        tmBuilder.transferManagerConfiguration.maxInFlightParts().ifPresent(transferConfigBuilder::maxInFlightParts);
+        tmBuilder.transferManagerConfiguration.maxMemoryInBytes().ifPresent(transferConfigBuilder::maxMemoryInBytes);
+        tmBuilder.transferManagerConfiguration.directoryTransferMaxConcurrency()
+                                              .ifPresent(transferConfigBuilder::directoryTransferMaxConcurrency);
+        tmBuilder.transferManagerConfiguration.smallObjectThresholdInBytes()
+                                              .ifPresent(transferConfigBuilder::smallObjectThresholdInBytes);
+        tmBuilder.transferManagerConfiguration.smallObjectMaxConcurrency()
+                                              .ifPresent(transferConfigBuilder::smallObjectMaxConcurrency);
+        tmBuilder.transferManagerConfiguration.adaptiveConcurrencyEnabled()
+                                              .ifPresent(transferConfigBuilder::adaptiveConcurrencyEnabled);
         return transferConfigBuilder.build();
     }
 
+    private static S3AsyncClient initializeMultipartClient(S3AsyncClient s3AsyncClient,
+                                                           TransferManagerConfiguration transferConfiguration) {
+        return new MultipartS3AsyncClient(s3AsyncClient,
+                                          transferConfiguration.option(MULTIPART_PART_SIZE_IN_BYTES),
+                                          transferConfiguration.option(MULTIPART_MAX_IN_FLIGHT_PARTS),
+                                          transferConfiguration.option(MULTIPART_MAX_MEMORY_IN_BYTES));
+    }
+
     private static S3CrtAsyncClient initializeS3CrtClient(DefaultBuilder tmBuilder) {
+        S3ClientConfiguration s3ClientConfiguration = tmBuilder.s3ClientConfiguration != null
+                                                      ? tmBuilder.s3ClientConfiguration
+                                                      : S3ClientConfiguration.builder().build();
         S3CrtAsyncClient.S3CrtAsyncClientBuilder clientBuilder = S3CrtAsyncClient.builder();
-        tmBuilder.s3ClientConfiguration.credentialsProvider().ifPresent(clientBuilder::credentialsProvider);
-        tmBuilder.s3ClientConfiguration.maxConcurrency().ifPresent(clientBuilder::maxConcurrency);
-        tmBuilder.s3ClientConfiguration.minimumPartSizeInBytes().ifPresent(clientBuilder::minimumPartSizeInBytes);
-        tmBuilder.s3ClientConfiguration.region().ifPresent(clientBuilder::region);
-        tmBuilder.s3ClientConfiguration.targetThroughputInGbps().ifPresent(clientBuilder::targetThroughputInGbps);
-        tmBuilder.s3ClientConfiguration.endpointOverride().ifPresent(clientBuilder::endpointOverride);
+        s3ClientConfiguration.credentialsProvider().ifPresent(clientBuilder::credentialsProvider);
+        s3ClientConfiguration.maxConcurrency().ifPresent(clientBuilder::maxConcurrency);
+        s3ClientConfiguration.minimumPartSizeInBytes().ifPresent(clientBuilder::minimumPartSizeInBytes);
+        s3ClientConfiguration.region().ifPresent(clientBuilder::region);
+        s3ClientConfiguration.targetThroughputInGbps().ifPresent(clientBuilder::targetThroughputInGbps);
+        s3ClientConfiguration.endpointOverride().ifPresent(clientBuilder::endpointOverride);
 
         return clientBuilder.build();
     }
@@ -129,7 +178,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(uploadRequest.putObjectRequest().bucket(), "upload");
 
             CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadRequest.putObjectRequest(), requestBody);
+                s3AsyncClient.putObject(uploadRequest.putObjectRequest(), requestBody);
 
             // Forward upload cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -149,33 +198,158 @@ public final class DefaultS3TransferManager implements S3TransferManager {
     public FileUpload uploadFile(UploadFileRequest uploadFileRequest) {
         Validate.paramNotNull(uploadFileRequest, "uploadFileRequest");
 
+        MultipartUploadState uploadState = s3AsyncClient instanceof MultipartS3AsyncClient ? new MultipartUploadState() : null;
+        return doUploadFile(uploadFileRequest, uploadState, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Uploads the file once {@code uploadStateFuture} completes, which lets a resumed upload prepare its state
+     * asynchronously. The upload state is null when the upload cannot be paused and resumed from its uploaded parts.
+     */
+    private FileUpload doUploadFile(UploadFileRequest uploadFileRequest,
+                                    MultipartUploadState uploadState,
+                                    CompletableFuture<?> uploadStateFuture) {
+        // Described before any content is read, so that a modification during the upload prevents resuming it
+        File source = uploadFileRequest.source().toFile();
+        long fileLength = source.length();
+        Instant fileLastModified = Instant.ofEpochMilli(source.lastModified());
+
         AsyncRequestBody requestBody = AsyncRequestBody.fromFile(uploadFileRequest.source());
 
         CompletableFuture<CompletedFileUpload> returnFuture = new CompletableFuture<>();
 
         TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest, requestBody);
         progressUpdater.transferInitiated();
-        requestBody = progressUpdater.wrapRequestBody(requestBody);
+        AsyncRequestBody progressRequestBody = progressUpdater.wrapRequestBody(requestBody);
         progressUpdater.registerCompletion(returnFuture);
 
         try {
             assertNotUnsupportedArn(uploadFileRequest.putObjectRequest().bucket(), "upload");
 
-            CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadFileRequest.putObjectRequest(), requestBody);
+            uploadStateFuture.whenComplete((ignored, t) -> {
+                if (t != null) {
+                    returnFuture.completeExceptionally(t);
+                    return;
+                }
+
+                // The upload was paused or cancelled before it started
+                if (returnFuture.isDone()) {
+                    return;
+                }
+
+                try {
+                    CompletableFuture<PutObjectResponse> crtFuture =
+                        putObject(uploadFileRequest.putObjectRequest(), progressRequestBody, uploadState);
+
+                    // Forward upload cancellation to CRT future
+                    CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+
+                    CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
+                                                                      r -> CompletedFileUpload.builder()
+                                                                                              .response(r)
+                                                                                              .build());
+                } catch (Throwable throwable) {
+                    returnFuture.completeExceptionally(throwable);
+                }
+            });
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
 
-            // Forward upload cancellation to CRT future
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
+        return new DefaultFileUpload(returnFuture, progressUpdater.progress(), uploadFileRequest, uploadState,
+                                     fileLength, fileLastModified);
+    }
 
-            CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
-                                                              r -> CompletedFileUpload.builder()
-                                                                                      .response(r)
-                                                                                      .build());
+    private CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest,
+                                                           AsyncRequestBody requestBody,
+                                                           MultipartUploadState uploadState) {
+        if (uploadState != null) {
+            return ((MultipartS3AsyncClient) s3AsyncClient).putObject(putObjectRequest, requestBody, uploadState);
+        }
+        return s3AsyncClient.putObject(putObjectRequest, requestBody);
+    }
+
+    @Override
+    public FileUpload resumeUploadFile(ResumableFileUpload resumableFileUpload) {
+        Validate.paramNotNull(resumableFileUpload, "resumableFileUpload");
+        UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
+
+        if (!(s3AsyncClient instanceof MultipartS3AsyncClient) || !resumableFileUpload.multipartUploadId().isPresent()) {
+            log.debug(() -> String.format("There is no multipart upload to resume. The SDK will upload the file (%s) from "
+                                          + "the beginning.", uploadFileRequest.source()));
+            return uploadFile(uploadFileRequest);
+        }
+
+        String uploadId = resumableFileUpload.multipartUploadId().get();
+        if (!fileNotModified(resumableFileUpload)) {
+            log.debug(() -> String.format("The file (%s) has been modified since the last pause. The SDK will upload the "
+                                          + "file from the beginning.", uploadFileRequest.source()));
+            abortMultipartUpload(uploadFileRequest.putObjectRequest(), uploadId);
+            return uploadFile(uploadFileRequest);
+        }
+
+        MultipartUploadState uploadState = new MultipartUploadState(uploadId,
+                                                                    resumableFileUpload.partSizeInBytes().get(),
+                                                                    resumableFileUpload.completedParts());
+        return doUploadFile(uploadFileRequest, uploadState, listUploadedParts(resumableFileUpload, uploadState));
+    }
+
+    /**
+     * Lists the parts of the multipart upload to resume, and records the ones that can be kept in the upload state. If the
+     * multipart upload no longer exists, the upload restarts from the beginning.
+     */
+    private CompletableFuture<Void> listUploadedParts(ResumableFileUpload resumableFileUpload,
+                                                      MultipartUploadState uploadState) {
+        PutObjectRequest putObjectRequest = resumableFileUpload.uploadFileRequest().putObjectRequest();
+        String uploadId = resumableFileUpload.multipartUploadId().get();
+        ListPartsRequest listPartsRequest = ListPartsRequest.builder()
+                                                            .bucket(putObjectRequest.bucket())
+                                                            .key(putObjectRequest.key())
+                                                            .uploadId(uploadId)
+                                                            .expectedBucketOwner(putObjectRequest.expectedBucketOwner())
+                                                            .requestPayer(putObjectRequest.requestPayerAsString())
+                                                            .build();
+        List<Part> parts = new ArrayList<>();
+
+        try {
+            return s3AsyncClient.listPartsPaginator(listPartsRequest)
+                                .parts()
+                                .subscribe(parts::add)
+                                .handle((ignored, t) -> {
+                                    if (t == null) {
+                                        uploadState.replaceCompletedParts(toCompletedParts(resumableFileUpload, parts));
+                                        return null;
+                                    }
+
+                                    Throwable cause = t instanceof CompletionException && t.getCause() != null
+                                                      ? t.getCause() : t;
+                                    if (cause instanceof NoSuchUploadException) {
+                                        log.debug(() -> String.format("The multipart upload (%s) no longer exists. The SDK "
+                                                                      + "will upload the file from the beginning.", uploadId));
+                                        uploadState.restart();
+                                        return null;
+                                    }
+                                    throw new CompletionException(SdkClientException.create("Failed to resume the request",
+                                                                                            cause));
+                                });
         } catch (Throwable throwable) {
-            returnFuture.completeExceptionally(throwable);
+            return CompletableFutureUtils.failedFuture(SdkClientException.create("Failed to resume the request", throwable));
         }
+    }
 
-        return new DefaultFileUpload(returnFuture, progressUpdater.progress());
+    private void abortMultipartUpload(PutObjectRequest putObjectRequest, String uploadId) {
+        s3AsyncClient.abortMultipartUpload(b -> b.bucket(putObjectRequest.bucket())
+                                                 .key(putObjectRequest.key())
+                                                 .uploadId(uploadId)
+                                                 .expectedBucketOwner(putObjectRequest.expectedBucketOwner())
+                                                 .requestPayer(putObjectRequest.requestPayerAsString()))
+                     .whenComplete((r, t) -> {
+                         if (t != null) {
+                             log.warn(() -> String.format("Failed to abort the multipart upload (%s) of the modified file. "
+                                                          + "Its parts will be stored until the upload is aborted.", uploadId),
+                                      t);
+                         }
+                     });
     }
 
     @Override
@@ -187,7 +361,8 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
             return uploadDirectoryHelper.uploadDirectory(uploadDirectoryRequest);
         } catch (Throwable throwable) {
-            return new DefaultDirectoryUpload(CompletableFutureUtils.failedFuture(throwable));
+            return new DefaultDirectoryUpload(CompletableFutureUtils.failedFuture(throwable),
+                                              new DefaultDirectoryTransferProgress());
         }
     }
 
@@ -209,7 +384,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
             CompletableFuture<ResultT> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
 
             // Forward download cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -253,8 +428,8 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
             CompletableFuture<GetObjectResponse> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(),
-                                           responseTransformer);
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(),
+                                        responseTransformer);
 
             // Forward download cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -278,24 +453,24 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         CompletableFuture<TransferProgress> progressFuture = new CompletableFuture<>();
         CompletableFuture<DownloadFileRequest> newDownloadFileRequestFuture = new CompletableFuture<>();
 
-        s3CrtAsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
-                        .thenAccept(headObjectResponse -> {
-                            Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
-                                requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
-                                                                                  originalDownloadRequest);
-
-                            DownloadFileRequest newDownloadFileRequest = requestPair.left();
-                            newDownloadFileRequestFuture.complete(newDownloadFileRequest);
-                            log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
-
-                            TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
-                                                                                     requestPair.right(),
-                                                                                     returnFuture);
-                            progressFuture.complete(progressUpdater.progress());
-                        }).exceptionally(throwable -> {
-                            handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
-                            return null;
-                        });
+        s3AsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
+                     .thenAccept(headObjectResponse -> {
+                         Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
+                             requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
+                                                                               originalDownloadRequest);
+
+                         DownloadFileRequest newDownloadFileRequest = requestPair.left();
+                         newDownloadFileRequestFuture.complete(newDownloadFileRequest);
+                         log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
+
+                         TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
+                                                                                  requestPair.right(),
+                                                                                  returnFuture);
+                         progressFuture.complete(progressUpdater.progress());
+                     }).exceptionally(throwable -> {
+                         handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
+                         return null;
+                     });
 
         return new DefaultFileDownload(returnFuture, progressFuture, newDownloadFileRequestFuture);
     }
@@ -338,7 +513,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(copyRequest.copyObjectRequest().destinationBucket(), "copy destinationBucket");
 
             CompletableFuture<CopyObjectResponse> crtFuture =
-                s3CrtAsyncClient.copyObject(copyRequest.copyObjectRequest());
+                s3AsyncClient.copyObject(copyRequest.copyObjectRequest());
 
             // Forward transfer cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -356,7 +531,9 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
     @Override
     public void close() {
-        s3CrtAsyncClient.close();
+        if (isDefaultS3AsyncClient) {
+            s3AsyncClient.close();
+        }
         transferConfiguration.close();
     }
 
@@ -402,7 +579,8 @@ public final class DefaultS3TransferManager implements S3TransferManager {
     }
 
     private static final class DefaultBuilder implements S3TransferManager.Builder {
-        private S3ClientConfiguration s3ClientConfiguration = S3ClientConfiguration.builder().build();
+        private S3ClientConfiguration s3ClientConfiguration;
+        private S3AsyncClient s3AsyncClient;
         private S3TransferManagerOverrideConfiguration transferManagerConfiguration =
             S3TransferManagerOverrideConfiguration.builder().build();
 
@@ -415,6 +593,12 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             return this;
         }
 
+        @Override
+        public Builder s3AsyncClient(S3AsyncClient s3AsyncClient) {
+            this.s3AsyncClient = s3AsyncClient;
+            return this;
+        }
+
         @Override
         public Builder transferConfiguration(S3TransferManagerOverrideConfiguration transferManagerConfiguration) {
             this.transferManagerConfiguration = transferManagerConfiguration;
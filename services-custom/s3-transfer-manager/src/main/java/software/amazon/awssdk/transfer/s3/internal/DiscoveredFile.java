@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A regular file found by a {@link ParallelDirectoryWalker}, with the attributes read when it was found.
+ */
+@SdkInternalApi
+public final class DiscoveredFile {
+    private final Path path;
+    private final long size;
+    private final long lastModifiedMillis;
+
+    public DiscoveredFile(Path path, long size, long lastModifiedMillis) {
+        this.path = path;
+        this.size = size;
+        this.lastModifiedMillis = lastModifiedMillis;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long lastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DiscoveredFile that = (DiscoveredFile) o;
+
+        if (size != that.size) {
+            return false;
+        }
+        if (lastModifiedMillis != that.lastModifiedMillis) {
+            return false;
+        }
+        return Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = path != null ? path.hashCode() : 0;
+        result = 31 * result + (int) (size ^ (size >>> 32));
+        result = 31 * result + (int) (lastModifiedMillis ^ (lastModifiedMillis >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DiscoveredFile")
+                       .add("path", path)
+                       .add("size", size)
+                       .add("lastModifiedMillis", lastModifiedMillis)
+                       .build();
+    }
+}
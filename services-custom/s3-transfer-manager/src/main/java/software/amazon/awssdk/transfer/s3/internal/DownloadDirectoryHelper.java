@@ -16,13 +16,13 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
-import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -51,6 +51,9 @@ import software.amazon.awssdk.utils.Validate;
 /**
  * An internal helper class that sends {@link DownloadFileRequest}s while it retrieves the objects to download from S3
  * recursively
+ *
+ * <p>If the request has a manifest file, the download is incremental: objects whose destination file is unchanged according
+ * to the listing and the {@link TransferManifest} are skipped.
  */
 @SdkInternalApi
 public class DownloadDirectoryHelper {
@@ -107,44 +110,71 @@ public class DownloadDirectoryHelper {
                                 .build();
 
         Queue<FailedFileDownload> failedFileDownloads = new ConcurrentLinkedQueue<>();
+        TransferManifest manifest = downloadDirectoryRequest.manifestFile()
+                                                            .map(file -> TransferManifest.load(file, bucket, prefix))
+                                                            .orElse(null);
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        AsyncBufferingSubscriber<DownloadFileContext> asyncBufferingSubscriber =
-            new AsyncBufferingSubscriber<>(downloadSingleFile(returnFuture, downloadDirectoryRequest,
-                                                              failedFileDownloads),
-                                           allOfFutures,
-                                           DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY);
+        // Forward cancellation of the return future to the subscriber, which then stops requesting more objects, and from
+        // there to the downloads in flight. They are cancelled after the subscriber's future is done, so no new download is
+        // started.
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
+
+        SizeAwareBufferingSubscriber<DownloadFileContext> bufferingSubscriber =
+            SizeAwareBufferingSubscriber.create(transferConfiguration,
+                                                downloadSingleFile(allOfFutures, downloadDirectoryRequest, failedFileDownloads,
+                                                                   manifest),
+                                                DownloadDirectoryHelper::objectSize,
+                                                allOfFutures);
         listObjectsHelper.listS3ObjectsRecursively(request)
                          .map(s3Object -> determineDestinationPath(downloadDirectoryRequest, s3Object))
                          .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+                         .subscribe(bufferingSubscriber);
 
         allOfFutures.whenComplete((r, t) -> {
             if (t != null) {
-                returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
-            } else {
+                SdkClientException failure = SdkClientException.create("Failed to send request", t);
+                if (manifest != null) {
+                    manifest.writeAfterFailure(failure);
+                }
+                returnFuture.completeExceptionally(failure);
+                return;
+            }
+            try {
+                if (manifest != null) {
+                    manifest.write();
+                }
                 returnFuture.complete(CompletedDirectoryDownload.builder()
                                                                 .failedTransfers(failedFileDownloads)
                                                                 .build());
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
             }
         });
     }
 
     private Function<DownloadFileContext, CompletableFuture<?>> downloadSingleFile(
-        CompletableFuture<CompletedDirectoryDownload> returnFuture,
+        CompletableFuture<Void> allOfFutures,
         DownloadDirectoryRequest downloadDirectoryRequest,
-        Queue<FailedFileDownload> failedFileDownloads) {
+        Queue<FailedFileDownload> failedFileDownloads,
+        TransferManifest manifest) {
 
         return downloadContext -> {
             CompletableFuture<CompletedFileDownload> future = doDownloadSingleFile(downloadDirectoryRequest,
                                                                                    failedFileDownloads,
+                                                                                   manifest,
                                                                                    downloadContext);
-            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+            CompletableFutureUtils.forwardExceptionTo(allOfFutures, future);
             return future;
         };
     }
 
+    private static long objectSize(DownloadFileContext downloadContext) {
+        Long size = downloadContext.source().size();
+        return size == null ? -1 : size;
+    }
+
     private DownloadFileContext determineDestinationPath(DownloadDirectoryRequest downloadDirectoryRequest, S3Object s3Object) {
         FileSystem fileSystem = downloadDirectoryRequest.destinationDirectory().getFileSystem();
         String delimiter = downloadDirectoryRequest.delimiter().orElse(DEFAULT_DELIMITER);
@@ -165,10 +195,24 @@ public class DownloadDirectoryHelper {
 
     private CompletableFuture<CompletedFileDownload> doDownloadSingleFile(DownloadDirectoryRequest downloadDirectoryRequest,
                                                                           Collection<FailedFileDownload> failedFileDownloads,
+                                                                          TransferManifest manifest,
                                                                           DownloadFileContext downloadContext) {
         DownloadFileRequest downloadFileRequest = downloadFileRequest(downloadDirectoryRequest, downloadContext);
+        S3Object s3Object = downloadContext.source();
+        Path destination = downloadFileRequest.destination();
 
         try {
+            if (manifest != null) {
+                BasicFileAttributes attributes = readAttributes(destination);
+                if (isUnchanged(s3Object, attributes, manifest.previousEntry(s3Object.key()))) {
+                    log.debug(() -> "Skipping download of " + s3Object.key() + " since " + destination + " is unchanged");
+                    manifest.record(s3Object.key(), new TransferManifest.Entry(attributes.size(),
+                                                                               attributes.lastModifiedTime().toMillis(),
+                                                                               s3Object.eTag()));
+                    return CompletableFuture.completedFuture(null);
+                }
+            }
+
             log.debug(() -> "Sending download request " + downloadFileRequest);
             createParentDirectoriesIfNeeded(downloadContext.destination());
 
@@ -180,6 +224,8 @@ public class DownloadDirectoryHelper {
                                                               .exception(t instanceof CompletionException ? t.getCause() : t)
                                                               .request(downloadFileRequest)
                                                               .build());
+                } else if (manifest != null) {
+                    recordDownload(manifest, s3Object.key(), destination, r.response().eTag());
                 }
             });
             CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
@@ -194,6 +240,39 @@ public class DownloadDirectoryHelper {
         }
     }
 
+    /**
+     * Whether an object does not need to be downloaded, following the rules of {@code aws s3 sync}: the destination file must
+     * have the size of the object, and either match the entry recorded by the previous download or have been modified after
+     * the object.
+     */
+    private static boolean isUnchanged(S3Object s3Object, BasicFileAttributes attributes,
+                                       TransferManifest.Entry previousEntry) {
+        if (attributes == null || !attributes.isRegularFile() || s3Object.size() == null
+            || s3Object.size() != attributes.size()) {
+            return false;
+        }
+        long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+        if (previousEntry != null) {
+            return previousEntry.matches(attributes.size(), lastModifiedMillis, s3Object.eTag());
+        }
+        return s3Object.lastModified() != null && s3Object.lastModified().toEpochMilli() <= lastModifiedMillis;
+    }
+
+    private static void recordDownload(TransferManifest manifest, String key, Path destination, String eTag) {
+        BasicFileAttributes attributes = readAttributes(destination);
+        if (attributes != null) {
+            manifest.record(key, new TransferManifest.Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), eTag));
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
      * Normalizing the key by stripping the prefix from the s3 object key if the prefix is not empty.
      *
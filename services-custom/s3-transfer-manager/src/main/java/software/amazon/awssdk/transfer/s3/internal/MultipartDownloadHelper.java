@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads objects with parallel ranged {@code GetObject} requests over any {@link S3AsyncClient}.
+ *
+ * <p>The first part is requested on its own, and the {@code Content-Range} of its response gives the size of the object.
+ * The remaining parts are then requested concurrently, pinned to the ETag of the first part so that all parts come from the
+ * same version of the object, and are handed to the response transformer as a single stream, in order. No more than the
+ * maximum number of in-flight parts are requested or buffered ahead of the transformer. That number is lowered so that the
+ * parts fit in the memory limit, and the memory for them is reserved from the {@link MultipartMemoryLimiter} shared by all
+ * transfers before the first part is requested. Once the size of the object is known, the memory that its parts do not need
+ * is released.
+ *
+ * <p>Requests that already specify a range or a part number are sent as they are.
+ */
+@SdkInternalApi
+public final class MultipartDownloadHelper {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int INVALID_RANGE_STATUS_CODE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+    private final MultipartMemoryLimiter memoryLimiter;
+
+    public MultipartDownloadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxInFlightParts,
+                                   MultipartMemoryLimiter memoryLimiter) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = (int) Math.min(maxInFlightParts,
+                                               Math.max(1, memoryLimiter.maxMemoryInBytes() / partSizeInBytes));
+        this.memoryLimiter = memoryLimiter;
+    }
+
+    @SdkTestInternalApi
+    MultipartDownloadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxInFlightParts) {
+        this(s3AsyncClient, partSizeInBytes, maxInFlightParts, new MultipartMemoryLimiter(Long.MAX_VALUE));
+    }
+
+    public <ResultT> CompletableFuture<ResultT> downloadObject(
+        GetObjectRequest getObjectRequest,
+        AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer) {
+
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            return s3AsyncClient.getObject(getObjectRequest, responseTransformer);
+        }
+
+        CompletableFuture<ResultT> returnFuture = new CompletableFuture<>();
+        CompletableFuture<Long> reservationFuture = memoryLimiter.reserve(partSizeInBytes * maxInFlightParts);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, reservationFuture);
+
+        reservationFuture.thenAccept(reservedBytes -> {
+            AtomicLong heldBytes = new AtomicLong(reservedBytes);
+            returnFuture.whenComplete((r, t) -> memoryLimiter.release(heldBytes.getAndSet(0)));
+            downloadParts(getObjectRequest, responseTransformer, heldBytes, returnFuture);
+        });
+        return returnFuture;
+    }
+
+    private <ResultT> void downloadParts(GetObjectRequest getObjectRequest,
+                                         AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer,
+                                         AtomicLong heldBytes,
+                                         CompletableFuture<ResultT> returnFuture) {
+        CompletableFuture<ResponseBytes<GetObjectResponse>> firstPartFuture = getPart(getObjectRequest, null, 0);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+        firstPartFuture.whenComplete((firstPart, t) -> {
+            if (t != null) {
+                if (isInvalidRange(t)) {
+                    // Empty objects have no satisfiable range
+                    CompletableFuture<ResultT> getObjectFuture = s3AsyncClient.getObject(getObjectRequest, responseTransformer);
+                    CompletableFutureUtils.forwardExceptionTo(returnFuture, getObjectFuture);
+                    CompletableFutureUtils.forwardResultTo(getObjectFuture, returnFuture);
+                } else {
+                    returnFuture.completeExceptionally(t);
+                }
+                return;
+            }
+
+            try {
+                transform(getObjectRequest, firstPart, responseTransformer, heldBytes, returnFuture);
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    private <ResultT> void transform(GetObjectRequest getObjectRequest,
+                                     ResponseBytes<GetObjectResponse> firstPart,
+                                     AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer,
+                                     AtomicLong heldBytes,
+                                     CompletableFuture<ResultT> returnFuture) {
+        GetObjectResponse firstResponse = firstPart.response();
+        long objectSize = objectSize(firstResponse);
+        int numParts = objectSize == 0 ? 1 : Math.toIntExact((objectSize + partSizeInBytes - 1) / partSizeInBytes);
+
+        // Give back the memory reserved for more parts than the object has
+        long neededBytes = partSizeInBytes * Math.min(numParts, maxInFlightParts);
+        long reservedBytes = heldBytes.getAndUpdate(held -> Math.min(held, neededBytes));
+        memoryLimiter.release(reservedBytes - Math.min(reservedBytes, neededBytes));
+
+        log.debug(() -> "Downloading " + getObjectRequest.key() + " of " + objectSize + " bytes in " + numParts + " parts");
+
+        GetObjectResponse response = firstResponse.toBuilder()
+                                                  .contentLength(objectSize)
+                                                  .contentRange(null)
+                                                  .build();
+        PartsPublisher publisher = new PartsPublisher(getObjectRequest, firstResponse.eTag(), firstPart, numParts);
+
+        CompletableFuture<ResultT> transformFuture = responseTransformer.prepare();
+        responseTransformer.onResponse(response);
+        responseTransformer.onStream(publisher);
+
+        // Stop fetching parts if the download is cancelled or fails
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                publisher.cancelParts();
+            }
+        });
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+    }
+
+    private CompletableFuture<ResponseBytes<GetObjectResponse>> getPart(GetObjectRequest getObjectRequest, String eTag,
+                                                                        int partIndex) {
+        long start = partIndex * partSizeInBytes;
+        long end = start + partSizeInBytes - 1;
+        GetObjectRequest.Builder partRequest = getObjectRequest.toBuilder().range("bytes=" + start + "-" + end);
+        if (eTag != null) {
+            partRequest.ifMatch(eTag);
+        }
+        return s3AsyncClient.getObject(partRequest.build(), AsyncResponseTransformer.toBytes());
+    }
+
+    /**
+     * The size of the object, from the {@code Content-Range} of a ranged response, for example {@code bytes 0-99/1000}, or
+     * from the content length if the whole object was returned.
+     */
+    @SdkTestInternalApi
+    static long objectSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            return response.contentLength();
+        }
+
+        int separator = contentRange.lastIndexOf('/');
+        if (separator < 0 || separator == contentRange.length() - 1 || contentRange.endsWith("*")) {
+            throw SdkClientException.create("Unable to determine the object size from the Content-Range " + contentRange);
+        }
+        return Long.parseLong(contentRange.substring(separator + 1).trim());
+    }
+
+    private static boolean isInvalidRange(Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == INVALID_RANGE_STATUS_CODE;
+    }
+
+    /**
+     * Publishes the content of the parts in order, fetching parts ahead of the subscriber up to the maximum number of
+     * in-flight parts.
+     *
+     * <p>All emissions happen in {@link #drain()}, which is only ever run by one thread at a time.
+     */
+    private final class PartsPublisher implements SdkPublisher<ByteBuffer> {
+        private final GetObjectRequest getObjectRequest;
+        private final String eTag;
+        private final int numParts;
+        private final Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> parts = new ConcurrentHashMap<>();
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+
+        private volatile Subscriber<? super ByteBuffer> subscriber;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private int nextPartToFetch = 1;
+        private int nextPartToEmit;
+        private boolean terminated;
+
+        private PartsPublisher(GetObjectRequest getObjectRequest, String eTag, ResponseBytes<GetObjectResponse> firstPart,
+                               int numParts) {
+            this.getObjectRequest = getObjectRequest;
+            this.eTag = eTag;
+            this.numParts = numParts;
+            this.parts.put(0, CompletableFuture.completedFuture(firstPart));
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            if (subscriber != null) {
+                s.onSubscribe(new NoOpSubscription());
+                s.onError(new IllegalStateException("The content of a multipart download can only be subscribed to once"));
+                return;
+            }
+
+            subscriber = s;
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        error = new IllegalArgumentException("§3.9: non-positive requests are not allowed!");
+                    } else {
+                        demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+                    }
+                    drain();
+                }
+
+                @Override
+                public void cancel() {
+                    cancelParts();
+                }
+            });
+        }
+
+        private void cancelParts() {
+            cancelled = true;
+            parts.values().forEach(part -> part.cancel(true));
+        }
+
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                drainOnce();
+            } while (drainers.decrementAndGet() != 0);
+        }
+
+        private void drainOnce() {
+            if (terminated || subscriber == null) {
+                return;
+            }
+
+            if (cancelled) {
+                terminated = true;
+                return;
+            }
+
+            fetchParts();
+
+            while (error == null && demand.get() > 0 && nextPartToEmit < numParts) {
+                CompletableFuture<ResponseBytes<GetObjectResponse>> part = parts.get(nextPartToEmit);
+                if (!part.isDone() || part.isCompletedExceptionally()) {
+                    break;
+                }
+
+                parts.remove(nextPartToEmit);
+                nextPartToEmit++;
+                demand.decrementAndGet();
+                fetchParts();
+                subscriber.onNext(part.join().asByteBufferUnsafe());
+            }
+
+            if (error != null) {
+                terminated = true;
+                cancelParts();
+                subscriber.onError(error);
+            } else if (nextPartToEmit == numParts) {
+                terminated = true;
+                subscriber.onComplete();
+            }
+        }
+
+        private void fetchParts() {
+            while (nextPartToFetch < numParts && nextPartToFetch < nextPartToEmit + maxInFlightParts) {
+                int partIndex = nextPartToFetch++;
+                CompletableFuture<ResponseBytes<GetObjectResponse>> part = getPart(getObjectRequest, eTag, partIndex);
+                parts.put(partIndex, part);
+                part.whenComplete((r, t) -> {
+                    if (t != null && error == null) {
+                        error = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    }
+                    drain();
+                });
+            }
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
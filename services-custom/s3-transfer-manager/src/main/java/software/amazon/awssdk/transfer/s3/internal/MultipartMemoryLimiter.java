@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the memory used to buffer parts across all the multipart transfers of a {@link MultipartS3AsyncClient}.
+ *
+ * <p>A transfer reserves the memory for all the parts it may buffer before it starts, and releases it once it completes.
+ * Reservations are granted in the order they were requested, and a transfer never waits for more memory while holding some,
+ * so transfers cannot block each other indefinitely. A reservation larger than the limit is lowered to the limit, so that it
+ * can be granted once no other transfer holds memory.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class MultipartMemoryLimiter {
+    private final long maxMemoryInBytes;
+
+    // Guarded by this
+    private final Queue<Reservation> waiting = new ArrayDeque<>();
+    private long availableBytes;
+
+    public MultipartMemoryLimiter(long maxMemoryInBytes) {
+        this.maxMemoryInBytes = Validate.isPositive(maxMemoryInBytes, "maxMemoryInBytes");
+        this.availableBytes = maxMemoryInBytes;
+    }
+
+    public long maxMemoryInBytes() {
+        return maxMemoryInBytes;
+    }
+
+    /**
+     * Reserve memory for a transfer.
+     *
+     * @return a future completed with the number of bytes reserved once they are available, which must be passed to
+     * {@link #release(long)} when the transfer no longer needs them. Cancelling the future gives up the reservation.
+     */
+    public CompletableFuture<Long> reserve(long bytes) {
+        Reservation reservation = new Reservation(Math.min(Validate.isPositive(bytes, "bytes"), maxMemoryInBytes));
+        synchronized (this) {
+            if (!waiting.isEmpty() || availableBytes < reservation.bytes) {
+                waiting.add(reservation);
+                return reservation.future;
+            }
+            availableBytes -= reservation.bytes;
+        }
+        reservation.future.complete(reservation.bytes);
+        return reservation.future;
+    }
+
+    /**
+     * Release memory reserved with {@link #reserve(long)}, granting the reservations that were waiting for it.
+     */
+    public void release(long bytes) {
+        if (bytes <= 0) {
+            return;
+        }
+
+        long released = bytes;
+        while (released > 0) {
+            Queue<Reservation> granted = new ArrayDeque<>();
+            synchronized (this) {
+                availableBytes += released;
+                while (!waiting.isEmpty()) {
+                    Reservation reservation = waiting.peek();
+                    if (reservation.future.isDone()) {
+                        // Cancelled while waiting
+                        waiting.poll();
+                    } else if (reservation.bytes <= availableBytes) {
+                        waiting.poll();
+                        availableBytes -= reservation.bytes;
+                        granted.add(reservation);
+                    } else {
+                        break;
+                    }
+                }
+            }
+
+            // Complete the futures outside of the lock, and give back the memory of the reservations that were cancelled
+            released = 0;
+            for (Reservation reservation : granted) {
+                if (!reservation.future.complete(reservation.bytes)) {
+                    released += reservation.bytes;
+                }
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    synchronized long availableBytes() {
+        return availableBytes;
+    }
+
+    private static final class Reservation {
+        private final long bytes;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private Reservation(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
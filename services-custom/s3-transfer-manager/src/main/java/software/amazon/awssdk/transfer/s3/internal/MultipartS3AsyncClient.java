@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.DelegatingS3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link S3AsyncClient} that performs {@code PutObject} and {@code GetObject} as parallel multipart transfers on top of
+ * another {@link S3AsyncClient}, using any HTTP client. This is the Java counterpart of the CRT-based S3 client, for
+ * platforms where the native CRT library is not available. All other operations are sent as they are.
+ *
+ * <p>At most {@code maxInFlightParts} parts of a transfer are buffered or in flight at a time. {@code maxMemoryInBytes} limits
+ * the memory used to buffer parts across all the transfers of this client, which matters when many transfers run at once,
+ * such as the transfers of a directory: a transfer waits to start until the memory for its parts is available.
+ */
+@SdkInternalApi
+public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
+    private final MultipartUploadHelper uploadHelper;
+    private final MultipartDownloadHelper downloadHelper;
+
+    public MultipartS3AsyncClient(S3AsyncClient delegate, long partSizeInBytes, int maxInFlightParts, long maxMemoryInBytes) {
+        super(delegate);
+        Validate.isPositive(partSizeInBytes, "partSizeInBytes");
+        Validate.isTrue(partSizeInBytes <= Integer.MAX_VALUE, "partSizeInBytes must not be greater than %s",
+                        Integer.MAX_VALUE);
+        Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+        Validate.isPositive(maxMemoryInBytes, "maxMemoryInBytes");
+
+        MultipartMemoryLimiter memoryLimiter = new MultipartMemoryLimiter(maxMemoryInBytes);
+        this.uploadHelper = new MultipartUploadHelper(delegate, partSizeInBytes, maxInFlightParts, memoryLimiter);
+        this.downloadHelper = new MultipartDownloadHelper(delegate, partSizeInBytes, maxInFlightParts, memoryLimiter);
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        return uploadHelper.uploadObject(putObjectRequest, requestBody);
+    }
+
+    /**
+     * Uploads an object, recording the progress of the multipart upload in the provided state so that the upload can be
+     * paused and resumed. If the state has an upload id, that multipart upload is resumed.
+     */
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody,
+                                                          MultipartUploadState uploadState) {
+        return uploadHelper.uploadObject(putObjectRequest, requestBody, uploadState);
+    }
+
+    @Override
+    public <ReturnT> CompletableFuture<ReturnT> getObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+        return downloadHelper.downloadObject(getObjectRequest, asyncResponseTransformer);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Uploads objects with parallel multipart uploads over any {@link S3AsyncClient}.
+ *
+ * <p>The request body is split into parts of a fixed size as it is read. A part is uploaded as soon as it is full, and no
+ * more data is requested from the body while the maximum number of parts are buffered or in flight. That number is lowered
+ * so that the parts fit in the memory limit, and the memory for them is reserved from the {@link MultipartMemoryLimiter}
+ * shared by all transfers before the body is read. Bodies that are known to fit in a single part are streamed with a single
+ * {@code PutObject} request, without buffering. Bodies that turn out to be smaller than one part are buffered and also sent
+ * with a single {@code PutObject} request.
+ *
+ * <p>The progress of a multipart upload is recorded in a {@link MultipartUploadState}. An upload resumed from a state that
+ * has an upload id continues that multipart upload with the same part size: the body is read from the beginning, but the
+ * parts that are already uploaded are skipped rather than sent again.
+ */
+@SdkInternalApi
+public final class MultipartUploadHelper {
+    /**
+     * The maximum number of parts of a multipart upload allowed by S3.
+     */
+    static final int MAX_PARTS = 10_000;
+
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+    private final MultipartMemoryLimiter memoryLimiter;
+
+    public MultipartUploadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxInFlightParts,
+                                 MultipartMemoryLimiter memoryLimiter) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
+        this.memoryLimiter = memoryLimiter;
+    }
+
+    @SdkTestInternalApi
+    MultipartUploadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxInFlightParts) {
+        this(s3AsyncClient, partSizeInBytes, maxInFlightParts, new MultipartMemoryLimiter(Long.MAX_VALUE));
+    }
+
+    public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        return uploadObject(putObjectRequest, requestBody, new MultipartUploadState());
+    }
+
+    public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody,
+                                                             MultipartUploadState uploadState) {
+        Optional<String> uploadId = uploadState.uploadId();
+        if (uploadId.isPresent()) {
+            log.debug(() -> "Resuming multipart upload " + uploadId.get() + " of " + putObjectRequest.key() + " with "
+                            + uploadState.completedParts().size() + " parts already uploaded");
+            long partSize = uploadState.partSizeInBytes().orElse(partSizeInBytes);
+            return uploadParts(putObjectRequest, requestBody, partSize, uploadState);
+        }
+
+        Optional<Long> contentLength = requestBody.contentLength();
+
+        if (hasObjectIntegrityValues(putObjectRequest)) {
+            log.debug(() -> "Uploading " + putObjectRequest.key() + " with a single request, as object-level checksums "
+                            + "cannot be applied to a multipart upload");
+            return s3AsyncClient.putObject(putObjectRequest, requestBody);
+        }
+
+        if (contentLength.isPresent() && contentLength.get() <= partSizeInBytes) {
+            return s3AsyncClient.putObject(putObjectRequest, requestBody);
+        }
+
+        long partSize = contentLength.map(this::partSizeFor).orElse(partSizeInBytes);
+        return uploadParts(putObjectRequest, requestBody, partSize, uploadState);
+    }
+
+    private CompletableFuture<PutObjectResponse> uploadParts(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody,
+                                                             long partSize, MultipartUploadState uploadState) {
+        if (partSize > Integer.MAX_VALUE) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("The object is too large to be uploaded with a part size of at most "
+                                          + Integer.MAX_VALUE + " bytes"));
+        }
+
+        int partsInMemory = partsInMemory(partSize, requestBody.contentLength().orElse(null));
+        CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
+        CompletableFuture<Long> reservationFuture = memoryLimiter.reserve(partSize * partsInMemory);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, reservationFuture);
+
+        reservationFuture.thenAccept(reservedBytes -> {
+            returnFuture.whenComplete((r, t) -> memoryLimiter.release(reservedBytes));
+            try {
+                requestBody.subscribe(new UploadPartsSubscriber(putObjectRequest, (int) partSize, partsInMemory, uploadState,
+                                                                returnFuture));
+            } catch (Throwable t) {
+                returnFuture.completeExceptionally(t);
+            }
+        });
+        return returnFuture;
+    }
+
+    /**
+     * The number of parts of an upload that can be buffered or in flight at a time: the maximum number of in-flight parts,
+     * lowered so that they fit in the memory limit and to the number of parts of the body when its length is known.
+     */
+    private int partsInMemory(long partSize, Long contentLength) {
+        long partsInMemory = Math.min(maxInFlightParts, Math.max(1, memoryLimiter.maxMemoryInBytes() / partSize));
+        if (contentLength != null) {
+            partsInMemory = Math.min(partsInMemory, Math.max(1, (contentLength + partSize - 1) / partSize));
+        }
+        return (int) partsInMemory;
+    }
+
+    /**
+     * The part size to use for a body of the provided length, increased from the configured part size when the body would
+     * otherwise need more than {@link #MAX_PARTS} parts.
+     */
+    private long partSizeFor(long contentLength) {
+        long minimumPartSize = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(partSizeInBytes, minimumPartSize);
+    }
+
+    private static boolean hasObjectIntegrityValues(PutObjectRequest request) {
+        return request.contentMD5() != null
+               || request.checksumCRC32() != null
+               || request.checksumCRC32C() != null
+               || request.checksumSHA1() != null
+               || request.checksumSHA256() != null;
+    }
+
+    private static CreateMultipartUploadRequest toCreateMultipartUploadRequest(PutObjectRequest request) {
+        return CreateMultipartUploadRequest.builder()
+                                           .bucket(request.bucket())
+                                           .key(request.key())
+                                           .acl(request.aclAsString())
+                                           .bucketKeyEnabled(request.bucketKeyEnabled())
+                                           .cacheControl(request.cacheControl())
+                                           .checksumAlgorithm(request.checksumAlgorithmAsString())
+                                           .contentDisposition(request.contentDisposition())
+                                           .contentEncoding(request.contentEncoding())
+                                           .contentLanguage(request.contentLanguage())
+                                           .contentType(request.contentType())
+                                           .expectedBucketOwner(request.expectedBucketOwner())
+                                           .expires(request.expires())
+                                           .grantFullControl(request.grantFullControl())
+                                           .grantRead(request.grantRead())
+                                           .grantReadACP(request.grantReadACP())
+                                           .grantWriteACP(request.grantWriteACP())
+                                           .metadata(request.metadata())
+                                           .objectLockLegalHoldStatus(request.objectLockLegalHoldStatusAsString())
+                                           .objectLockMode(request.objectLockModeAsString())
+                                           .objectLockRetainUntilDate(request.objectLockRetainUntilDate())
+                                           .requestPayer(request.requestPayerAsString())
+                                           .serverSideEncryption(request.serverSideEncryptionAsString())
+                                           .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                           .sseCustomerKey(request.sseCustomerKey())
+                                           .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                           .ssekmsEncryptionContext(request.ssekmsEncryptionContext())
+                                           .ssekmsKeyId(request.ssekmsKeyId())
+                                           .storageClass(request.storageClassAsString())
+                                           .tagging(request.tagging())
+                                           .websiteRedirectLocation(request.websiteRedirectLocation())
+                                           .overrideConfiguration(request.overrideConfiguration().orElse(null))
+                                           .build();
+    }
+
+    private static UploadPartRequest toUploadPartRequest(PutObjectRequest request, String uploadId, int partNumber,
+                                                         long contentLength) {
+        return UploadPartRequest.builder()
+                                .bucket(request.bucket())
+                                .key(request.key())
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(contentLength)
+                                .checksumAlgorithm(request.checksumAlgorithmAsString())
+                                .expectedBucketOwner(request.expectedBucketOwner())
+                                .requestPayer(request.requestPayerAsString())
+                                .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                .sseCustomerKey(request.sseCustomerKey())
+                                .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                .overrideConfiguration(request.overrideConfiguration().orElse(null))
+                                .build();
+    }
+
+    private static CompleteMultipartUploadRequest toCompleteMultipartUploadRequest(PutObjectRequest request, String uploadId,
+                                                                                   List<CompletedPart> parts) {
+        return CompleteMultipartUploadRequest.builder()
+                                             .bucket(request.bucket())
+                                             .key(request.key())
+                                             .uploadId(uploadId)
+                                             .multipartUpload(u -> u.parts(parts))
+                                             .expectedBucketOwner(request.expectedBucketOwner())
+                                             .requestPayer(request.requestPayerAsString())
+                                             .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                             .sseCustomerKey(request.sseCustomerKey())
+                                             .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                             .overrideConfiguration(request.overrideConfiguration().orElse(null))
+                                             .build();
+    }
+
+    private static PutObjectResponse toPutObjectResponse(CompleteMultipartUploadResponse response) {
+        return PutObjectResponse.builder()
+                                .eTag(response.eTag())
+                                .expiration(response.expiration())
+                                .versionId(response.versionId())
+                                .bucketKeyEnabled(response.bucketKeyEnabled())
+                                .checksumCRC32(response.checksumCRC32())
+                                .checksumCRC32C(response.checksumCRC32C())
+                                .checksumSHA1(response.checksumSHA1())
+                                .checksumSHA256(response.checksumSHA256())
+                                .requestCharged(response.requestChargedAsString())
+                                .serverSideEncryption(response.serverSideEncryptionAsString())
+                                .ssekmsKeyId(response.ssekmsKeyId())
+                                .build();
+    }
+
+    /**
+     * Splits the request body into parts and uploads them. Parts that the upload state records as already uploaded are
+     * read but not buffered or sent.
+     *
+     * <p>The reactive streams signals are serialized, so the state only touched by them needs no synchronization. The part
+     * futures complete on other threads, and only touch the in-flight count and the outstanding demand.
+     */
+    private final class UploadPartsSubscriber implements Subscriber<ByteBuffer> {
+        private final PutObjectRequest putObjectRequest;
+        private final int partSize;
+        private final int maxInFlightParts;
+        private final MultipartUploadState uploadState;
+        private final CompletableFuture<PutObjectResponse> returnFuture;
+
+        private final AtomicInteger inFlightParts = new AtomicInteger();
+        private final AtomicBoolean demandOutstanding = new AtomicBoolean();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+        private final List<CompletableFuture<CompletedPart>> partFutures = new ArrayList<>();
+
+        private Subscription subscription;
+        private volatile CompletableFuture<String> uploadIdFuture;
+        private ByteBuffer currentPart;
+        private int currentPartLength;
+        private int nextPartNumber = 1;
+        private volatile boolean partInProgress;
+        private volatile boolean done;
+
+        private UploadPartsSubscriber(PutObjectRequest putObjectRequest, int partSize, int maxInFlightParts,
+                                      MultipartUploadState uploadState, CompletableFuture<PutObjectResponse> returnFuture) {
+            this.putObjectRequest = putObjectRequest;
+            this.partSize = partSize;
+            this.maxInFlightParts = maxInFlightParts;
+            this.uploadState = uploadState;
+            this.returnFuture = returnFuture;
+            this.uploadIdFuture = uploadState.uploadId().map(CompletableFuture::completedFuture).orElse(null);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+
+            // Stop reading the body and abort the upload if the upload is cancelled or fails
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    done = true;
+                    s.cancel();
+                    abortUpload(t);
+                }
+            });
+
+            requestMoreIfPossible();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            demandOutstanding.set(false);
+
+            if (done) {
+                return;
+            }
+
+            while (byteBuffer.hasRemaining()) {
+                if (!partInProgress) {
+                    boolean alreadyUploaded = uploadState.completedPart(nextPartNumber) != null;
+                    currentPart = alreadyUploaded ? null : ByteBuffer.allocate(partSize);
+                    partInProgress = true;
+                }
+
+                int length = Math.min(byteBuffer.remaining(), partSize - currentPartLength);
+                if (currentPart != null) {
+                    ByteBuffer chunk = byteBuffer.duplicate();
+                    chunk.limit(chunk.position() + length);
+                    currentPart.put(chunk);
+                }
+                byteBuffer.position(byteBuffer.position() + length);
+                currentPartLength += length;
+
+                if (currentPartLength == partSize) {
+                    submitCurrentPart();
+                }
+            }
+
+            requestMoreIfPossible();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done = true;
+            returnFuture.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+
+            if (uploadIdFuture == null) {
+                // The whole body fits in a single part
+                ByteBuffer body = currentPart == null ? ByteBuffer.allocate(0) : (ByteBuffer) currentPart.flip();
+                currentPart = null;
+                CompletableFuture<PutObjectResponse> putObjectFuture =
+                    s3AsyncClient.putObject(putObjectRequest, new ByteBufferAsyncRequestBody(body));
+                CompletableFutureUtils.forwardExceptionTo(returnFuture, putObjectFuture);
+                CompletableFutureUtils.forwardResultTo(putObjectFuture, returnFuture);
+                return;
+            }
+
+            if (partInProgress && currentPartLength > 0) {
+                submitCurrentPart();
+            }
+
+            CompletableFuture<?>[] parts = partFutures.toArray(new CompletableFuture<?>[0]);
+            CompletableFuture<CompleteMultipartUploadResponse> completeFuture =
+                CompletableFuture.allOf(parts)
+                                 .thenCombine(uploadIdFuture, (ignored, uploadId) -> uploadId)
+                                 .thenCompose(this::completeUpload);
+
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, completeFuture);
+            CompletableFutureUtils.forwardTransformedResultTo(completeFuture, returnFuture,
+                                                              MultipartUploadHelper::toPutObjectResponse);
+        }
+
+        private void submitCurrentPart() {
+            // No buffer is kept for a part that is already uploaded
+            ByteBuffer part = currentPart == null ? null : (ByteBuffer) currentPart.flip();
+            currentPart = null;
+            currentPartLength = 0;
+            partInProgress = false;
+
+            int partNumber = nextPartNumber++;
+            if (partNumber > MAX_PARTS) {
+                done = true;
+                subscription.cancel();
+                returnFuture.completeExceptionally(
+                    SdkClientException.create("The request body is larger than " + MAX_PARTS + " parts of " + partSize
+                                              + " bytes, which is the maximum number of parts of a multipart upload"));
+                return;
+            }
+
+            if (uploadIdFuture == null) {
+                uploadIdFuture = s3AsyncClient.createMultipartUpload(toCreateMultipartUploadRequest(putObjectRequest))
+                                              .thenApply(CreateMultipartUploadResponse::uploadId)
+                                              .thenApply(uploadId -> {
+                                                  uploadState.multipartUploadCreated(uploadId, partSize);
+                                                  return uploadId;
+                                              });
+            }
+
+            if (part == null) {
+                partFutures.add(CompletableFuture.completedFuture(uploadState.completedPart(partNumber)));
+                return;
+            }
+
+            inFlightParts.incrementAndGet();
+            CompletableFuture<CompletedPart> partFuture = uploadIdFuture.thenCompose(uploadId -> uploadPart(uploadId,
+                                                                                                            partNumber,
+                                                                                                            part));
+            partFutures.add(partFuture);
+
+            partFuture.whenComplete((r, t) -> {
+                inFlightParts.decrementAndGet();
+                if (t != null) {
+                    returnFuture.completeExceptionally(t);
+                } else {
+                    requestMoreIfPossible();
+                }
+            });
+        }
+
+        private CompletableFuture<CompletedPart> uploadPart(String uploadId, int partNumber, ByteBuffer part) {
+            UploadPartRequest request = toUploadPartRequest(putObjectRequest, uploadId, partNumber, part.remaining());
+            return s3AsyncClient.uploadPart(request, new ByteBufferAsyncRequestBody(part))
+                                .thenApply(response -> CompletedPart.builder()
+                                                                    .partNumber(partNumber)
+                                                                    .eTag(response.eTag())
+                                                                    .checksumCRC32(response.checksumCRC32())
+                                                                    .checksumCRC32C(response.checksumCRC32C())
+                                                                    .checksumSHA1(response.checksumSHA1())
+                                                                    .checksumSHA256(response.checksumSHA256())
+                                                                    .build())
+                                .thenApply(completedPart -> {
+                                    uploadState.partCompleted(completedPart);
+                                    return completedPart;
+                                });
+        }
+
+        private CompletableFuture<CompleteMultipartUploadResponse> completeUpload(String uploadId) {
+            List<CompletedPart> parts = partFutures.stream()
+                                                   .map(CompletableFuture::join)
+                                                   .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                                                   .collect(Collectors.toList());
+
+            return s3AsyncClient.completeMultipartUpload(toCompleteMultipartUploadRequest(putObjectRequest, uploadId, parts));
+        }
+
+        /**
+         * Request more data from the body, unless the maximum number of parts are already buffered or in flight. A part that
+         * is being filled always gets more data, as it is already accounted for.
+         */
+        private void requestMoreIfPossible() {
+            if (done) {
+                return;
+            }
+
+            boolean hasCapacity = partInProgress || inFlightParts.get() < maxInFlightParts;
+            if (hasCapacity && demandOutstanding.compareAndSet(false, true)) {
+                subscription.request(1);
+            }
+        }
+
+        private void abortUpload(Throwable cause) {
+            if (uploadIdFuture == null || !aborted.compareAndSet(false, true)) {
+                return;
+            }
+
+            uploadIdFuture.thenCompose(uploadId -> {
+                if (uploadState.isRetained(uploadId)) {
+                    log.debug(() -> "Keeping multipart upload " + uploadId + " of " + putObjectRequest.key()
+                                    + " to resume the paused upload");
+                    return CompletableFuture.<AbortMultipartUploadResponse>completedFuture(null);
+                }
+
+                log.debug(() -> "Aborting multipart upload " + uploadId + " of " + putObjectRequest.key(), cause);
+                AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                                                                                 .bucket(putObjectRequest.bucket())
+                                                                                 .key(putObjectRequest.key())
+                                                                                 .uploadId(uploadId)
+                                                                                 .expectedBucketOwner(
+                                                                                     putObjectRequest.expectedBucketOwner())
+                                                                                 .requestPayer(
+                                                                                     putObjectRequest.requestPayerAsString())
+                                                                                 .build();
+                return s3AsyncClient.abortMultipartUpload(request);
+            }).whenComplete((r, t) -> {
+                if (t != null) {
+                    log.warn(() -> "Failed to abort the multipart upload of " + putObjectRequest.key()
+                                   + ". Its parts will be stored until the upload is aborted.", t);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * The progress of a multipart upload that can be paused and resumed: the upload id, the part size and the parts that have
+ * been uploaded so far.
+ *
+ * <p>Once the upload is paused, the upload id no longer changes, so that a multipart upload that is created after the pause
+ * is not mistaken for the one to resume and can be aborted.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class MultipartUploadState {
+    private final Map<Integer, CompletedPart> completedParts = new ConcurrentHashMap<>();
+    private String uploadId;
+    private Long partSizeInBytes;
+    private boolean paused;
+
+    /**
+     * The state of a new upload.
+     */
+    public MultipartUploadState() {
+    }
+
+    /**
+     * The state of an existing multipart upload to resume. The part size must be the one the upload was started with.
+     */
+    public MultipartUploadState(String uploadId, long partSizeInBytes, Collection<CompletedPart> completedParts) {
+        this.uploadId = uploadId;
+        this.partSizeInBytes = partSizeInBytes;
+        completedParts.forEach(this::partCompleted);
+    }
+
+    public synchronized Optional<String> uploadId() {
+        return Optional.ofNullable(uploadId);
+    }
+
+    public synchronized Optional<Long> partSizeInBytes() {
+        return Optional.ofNullable(partSizeInBytes);
+    }
+
+    /**
+     * The parts uploaded so far, ordered by part number.
+     */
+    public List<CompletedPart> completedParts() {
+        List<CompletedPart> parts = new ArrayList<>(completedParts.values());
+        parts.sort(Comparator.comparingInt(CompletedPart::partNumber));
+        return parts;
+    }
+
+    /**
+     * The part with the provided number, or null if it has not been uploaded.
+     */
+    public CompletedPart completedPart(int partNumber) {
+        return completedParts.get(partNumber);
+    }
+
+    /**
+     * Records the multipart upload that was created for this upload, unless the upload is already paused.
+     */
+    public synchronized void multipartUploadCreated(String uploadId, long partSizeInBytes) {
+        if (!paused) {
+            this.uploadId = uploadId;
+            this.partSizeInBytes = partSizeInBytes;
+        }
+    }
+
+    public void partCompleted(CompletedPart part) {
+        completedParts.put(part.partNumber(), part);
+    }
+
+    /**
+     * Replaces the parts known to be uploaded, for example with the parts listed by S3 before resuming the upload.
+     */
+    public void replaceCompletedParts(Collection<CompletedPart> parts) {
+        completedParts.clear();
+        parts.forEach(this::partCompleted);
+    }
+
+    /**
+     * Forgets the multipart upload to resume, so that the object is uploaded from the beginning. This is used when the
+     * multipart upload no longer exists.
+     */
+    public synchronized void restart() {
+        if (!paused) {
+            uploadId = null;
+            partSizeInBytes = null;
+            completedParts.clear();
+        }
+    }
+
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    /**
+     * Whether the provided multipart upload should be kept rather than aborted when the upload stops, because the upload was
+     * paused and can be resumed from it.
+     */
+    public synchronized boolean isRetained(String uploadId) {
+        return paused && uploadId.equals(this.uploadId);
+    }
+}
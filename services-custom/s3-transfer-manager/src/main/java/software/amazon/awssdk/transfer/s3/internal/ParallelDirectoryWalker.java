@@ -0,0 +1,372 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultDirectoryTransferProgress;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Publishes the regular files of a directory tree, with their size and last-modified time, listing the directories in
+ * parallel on a dedicated {@link ForkJoinPool}.
+ *
+ * <p>Unlike {@link Files#walk}, the tree is not traversed by a single thread. Directories are listed by tasks that each read a
+ * batch of entries, evaluate the filter against them, and only then read the attributes of the entries that pass it, once per
+ * entry. The subdirectories found are queued for the other tasks, depth first, so that the number of open directories stays
+ * proportional to the depth of the tree.
+ *
+ * <p>Files are published as soon as they are found. Listing stops while {@code maxBufferedFiles} files are waiting for the
+ * subscriber, so the memory used by the walk does not grow with the size of the tree. The files of a directory are published
+ * in the order they are listed, but the files of different directories may be interleaved.
+ *
+ * <p>All emissions happen in {@link #drain()}, which is only ever run by one thread at a time.
+ */
+@SdkInternalApi
+public final class ParallelDirectoryWalker implements SdkPublisher<DiscoveredFile> {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final int DEFAULT_MAX_BUFFERED_FILES = 1000;
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final LinkOption[] linkOptions;
+    private final Predicate<Path> filter;
+    private final DefaultDirectoryTransferProgress progress;
+    private final int parallelism;
+    private final int batchSize;
+    private final int maxBufferedFiles;
+
+    private final Deque<DirectoryCursor> pendingDirectories = new ConcurrentLinkedDeque<>();
+    private final Queue<DiscoveredFile> files = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedFiles = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicInteger drainers = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile Subscriber<? super DiscoveredFile> subscriber;
+    private volatile ForkJoinPool pool;
+    private volatile boolean cancelled;
+    private volatile boolean terminated;
+
+    public ParallelDirectoryWalker(Path root, int maxDepth, boolean followSymbolicLinks, Predicate<Path> filter,
+                                   DefaultDirectoryTransferProgress progress) {
+        this(root, maxDepth, followSymbolicLinks, filter, progress, DEFAULT_PARALLELISM, DEFAULT_BATCH_SIZE,
+             DEFAULT_MAX_BUFFERED_FILES);
+    }
+
+    @SdkTestInternalApi
+    ParallelDirectoryWalker(Path root, int maxDepth, boolean followSymbolicLinks, Predicate<Path> filter,
+                            DefaultDirectoryTransferProgress progress, int parallelism, int batchSize, int maxBufferedFiles) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.followSymbolicLinks = followSymbolicLinks;
+        this.linkOptions = followSymbolicLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+        this.filter = filter;
+        this.progress = progress;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.maxBufferedFiles = maxBufferedFiles;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super DiscoveredFile> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new NoOpSubscription());
+            s.onError(new IllegalStateException("A directory walk can only be subscribed to once"));
+            return;
+        }
+
+        pool = new ForkJoinPool(parallelism);
+        if (maxDepth > 0) {
+            pendingDirectories.add(new DirectoryCursor(root, 0, null, null));
+        }
+        subscriber = s;
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    error.compareAndSet(null, new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                } else {
+                    demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+    }
+
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            drainOnce();
+        } while (drainers.decrementAndGet() != 0);
+    }
+
+    private void drainOnce() {
+        if (terminated) {
+            // Close the directories requeued by the tasks that were still running when the walk ended
+            closePendingDirectories();
+            return;
+        }
+
+        if (subscriber == null) {
+            return;
+        }
+
+        if (cancelled) {
+            terminate();
+            return;
+        }
+
+        while (error.get() == null && !cancelled && demand.get() > 0) {
+            DiscoveredFile file = files.poll();
+            if (file == null) {
+                break;
+            }
+            bufferedFiles.decrementAndGet();
+            demand.decrementAndGet();
+            subscriber.onNext(file);
+        }
+
+        Throwable t = error.get();
+        if (t != null) {
+            terminate();
+            subscriber.onError(t);
+            return;
+        }
+
+        listPendingDirectories();
+
+        // A task queues the files and directories it found before it completes, so nothing is left once no task is active
+        // and both queues are empty
+        if (activeTasks.get() == 0 && files.isEmpty() && pendingDirectories.isEmpty()) {
+            terminate();
+            progress.discoveryComplete();
+            subscriber.onComplete();
+        }
+    }
+
+    private void listPendingDirectories() {
+        while (activeTasks.get() < parallelism && bufferedFiles.get() < maxBufferedFiles) {
+            DirectoryCursor cursor = pendingDirectories.pollFirst();
+            if (cursor == null) {
+                return;
+            }
+            activeTasks.incrementAndGet();
+            pool.execute(() -> listBatch(cursor));
+        }
+    }
+
+    private void listBatch(DirectoryCursor cursor) {
+        try {
+            if (terminated || cancelled || error.get() != null) {
+                cursor.close();
+            } else {
+                listEntries(cursor);
+            }
+        } catch (Throwable t) {
+            cursor.close();
+            Throwable cause = t instanceof IOException
+                              ? SdkClientException.create("Failed to list files within the provided directory: "
+                                                          + cursor.directory, t)
+                              : t;
+            error.compareAndSet(null, cause);
+        } finally {
+            activeTasks.decrementAndGet();
+            drain();
+        }
+    }
+
+    private void listEntries(DirectoryCursor cursor) throws IOException {
+        if (followSymbolicLinks && cursor.parent == null && cursor.fileKey == null) {
+            cursor.fileKey = Files.readAttributes(cursor.directory, BasicFileAttributes.class).fileKey();
+        }
+
+        int depth = cursor.depth + 1;
+        List<DirectoryCursor> subdirectories = new ArrayList<>();
+        for (Path entry : cursor.nextBatch(batchSize, filter)) {
+            BasicFileAttributes attributes = readAttributes(entry);
+            if (attributes == null) {
+                continue;
+            }
+
+            if (attributes.isRegularFile()) {
+                files.add(new DiscoveredFile(entry, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                bufferedFiles.incrementAndGet();
+                progress.fileDiscovered();
+            } else if (attributes.isDirectory() && depth < maxDepth) {
+                if (followSymbolicLinks && isLoop(entry, attributes.fileKey(), cursor)) {
+                    throw new FileSystemLoopException(entry.toString());
+                }
+                subdirectories.add(new DirectoryCursor(entry, depth, attributes.fileKey(), cursor));
+            }
+        }
+
+        // Queue the subdirectories in front of the rest of this directory, so the tree is traversed depth first
+        if (!cursor.exhausted) {
+            pendingDirectories.addFirst(cursor);
+        }
+        for (int i = subdirectories.size() - 1; i >= 0; i--) {
+            pendingDirectories.addFirst(subdirectories.get(i));
+        }
+    }
+
+    private BasicFileAttributes readAttributes(Path entry) throws IOException {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class, linkOptions);
+        } catch (NoSuchFileException e) {
+            if (followSymbolicLinks) {
+                try {
+                    // A broken symbolic link is neither a file nor a directory
+                    return Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (NoSuchFileException ignored) {
+                    // Deleted since it was listed
+                }
+            }
+            log.debug(() -> "Skipping " + entry + ", which no longer exists");
+            return null;
+        }
+    }
+
+    private static boolean isLoop(Path directory, Object fileKey, DirectoryCursor parent) throws IOException {
+        for (DirectoryCursor ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            if (fileKey != null && ancestor.fileKey != null) {
+                if (fileKey.equals(ancestor.fileKey)) {
+                    return true;
+                }
+            } else if (Files.isSameFile(directory, ancestor.directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void terminate() {
+        terminated = true;
+        pool.shutdown();
+        closePendingDirectories();
+    }
+
+    private void closePendingDirectories() {
+        DirectoryCursor cursor;
+        while ((cursor = pendingDirectories.poll()) != null) {
+            cursor.close();
+        }
+    }
+
+    /**
+     * A directory being listed. A cursor is only used by one task at a time.
+     */
+    private static final class DirectoryCursor {
+        private final Path directory;
+        private final int depth;
+        private final DirectoryCursor parent;
+        private Object fileKey;
+        private DirectoryStream<Path> stream;
+        private Iterator<Path> iterator;
+        private boolean exhausted;
+
+        private DirectoryCursor(Path directory, int depth, Object fileKey, DirectoryCursor parent) {
+            this.directory = directory;
+            this.depth = depth;
+            this.fileKey = fileKey;
+            this.parent = parent;
+        }
+
+        /**
+         * Read up to {@code batchSize} entries, and return the ones accepted by the filter.
+         */
+        private List<Path> nextBatch(int batchSize, Predicate<Path> filter) throws IOException {
+            if (stream == null) {
+                stream = Files.newDirectoryStream(directory);
+                iterator = stream.iterator();
+            }
+
+            List<Path> batch = new ArrayList<>();
+            try {
+                for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+                    Path entry = iterator.next();
+                    if (filter.test(entry)) {
+                        batch.add(entry);
+                    }
+                }
+                if (!iterator.hasNext()) {
+                    exhausted = true;
+                    close();
+                }
+            } catch (DirectoryIteratorException e) {
+                throw e.getCause();
+            }
+            return batch;
+        }
+
+        private void close() {
+            IoUtils.closeQuietly(stream, log.logger());
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
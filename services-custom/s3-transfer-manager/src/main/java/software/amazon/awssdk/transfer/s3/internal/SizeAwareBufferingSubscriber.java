@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.ADAPTIVE_CONCURRENCY_ENABLED;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.SMALL_OBJECT_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.SMALL_OBJECT_THRESHOLD_IN_BYTES;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link Subscriber} that executes the provided function for every item, limiting how many of the
+ * returned futures can be incomplete at once, and schedules items in two lanes according to their size.
+ *
+ * <p>Items smaller than the small object threshold go to a lane of their own, with a higher concurrency limit. The cost of
+ * transferring a small object is dominated by the overhead of the request, so running many of them at once keeps the
+ * connections busy, and they are never held back by larger objects waiting for the other lane. Items of unknown size go to
+ * the other lane. The concurrency of each lane is limited by its own {@link AimdConcurrencyLimiter}.
+ *
+ * <p>At most as many items as the two lanes can run concurrently are requested ahead and buffered. All deliveries happen in
+ * {@link #drain()}, which is only ever run by one thread at a time. If the return future is completed by someone else, for
+ * example because the transfer was cancelled, the subscription is cancelled and the buffered items are dropped.
+ *
+ * @param <T> Type of data requested
+ */
+@SdkInternalApi
+public final class SizeAwareBufferingSubscriber<T> implements Subscriber<T> {
+    private static final Logger log = Logger.loggerFor(SizeAwareBufferingSubscriber.class);
+
+    private final Function<T, CompletableFuture<?>> consumer;
+    private final ToLongFunction<T> sizeFunction;
+    private final long smallObjectThresholdInBytes;
+    private final Lane smallObjects;
+    private final Lane otherObjects;
+    private final CompletableFuture<Void> returnFuture;
+    private final int maxBufferedItems;
+    private final AtomicInteger bufferedItems = new AtomicInteger();
+    private final AtomicLong outstandingDemand = new AtomicLong();
+    private final AtomicInteger drainers = new AtomicInteger();
+    private volatile Subscription subscription;
+    private volatile boolean isStreamingDone;
+
+    public SizeAwareBufferingSubscriber(Function<T, CompletableFuture<?>> consumer,
+                                        ToLongFunction<T> sizeFunction,
+                                        long smallObjectThresholdInBytes,
+                                        AimdConcurrencyLimiter smallObjectLimiter,
+                                        AimdConcurrencyLimiter limiter,
+                                        CompletableFuture<Void> returnFuture) {
+        this.consumer = consumer;
+        this.sizeFunction = sizeFunction;
+        this.smallObjectThresholdInBytes = smallObjectThresholdInBytes;
+        this.smallObjects = new Lane(smallObjectLimiter);
+        this.otherObjects = new Lane(limiter);
+        this.returnFuture = returnFuture;
+        this.maxBufferedItems = smallObjectLimiter.maxLimit() + limiter.maxLimit();
+        returnFuture.whenComplete((r, t) -> drain());
+    }
+
+    /**
+     * Create a subscriber with the directory transfer concurrency settings of the transfer manager.
+     */
+    public static <T> SizeAwareBufferingSubscriber<T> create(TransferManagerConfiguration transferConfiguration,
+                                                             Function<T, CompletableFuture<?>> consumer,
+                                                             ToLongFunction<T> sizeFunction,
+                                                             CompletableFuture<Void> returnFuture) {
+        int maxConcurrency = transferConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY);
+        int smallObjectMaxConcurrency = transferConfiguration.option(SMALL_OBJECT_MAX_CONCURRENCY);
+        boolean adaptive = transferConfiguration.option(ADAPTIVE_CONCURRENCY_ENABLED);
+
+        AimdConcurrencyLimiter smallObjectLimiter =
+            new AimdConcurrencyLimiter(Math.min(maxConcurrency, smallObjectMaxConcurrency), smallObjectMaxConcurrency, adaptive);
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(maxConcurrency, maxConcurrency, adaptive);
+        return new SizeAwareBufferingSubscriber<>(consumer, sizeFunction,
+                                                  transferConfiguration.option(SMALL_OBJECT_THRESHOLD_IN_BYTES),
+                                                  smallObjectLimiter, limiter, returnFuture);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Validate.paramNotNull(subscription, "subscription");
+        if (this.subscription != null) {
+            log.warn(() -> "The subscriber has already been subscribed. Cancelling the incoming subscription");
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (item == null) {
+            subscription.cancel();
+            NullPointerException exception = new NullPointerException("Item must not be null");
+            returnFuture.completeExceptionally(exception);
+            throw exception;
+        }
+
+        outstandingDemand.decrementAndGet();
+        laneOf(item).buffer.add(item);
+        bufferedItems.incrementAndGet();
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        isStreamingDone = true;
+        returnFuture.completeExceptionally(t);
+        smallObjects.buffer.clear();
+        otherObjects.buffer.clear();
+    }
+
+    @Override
+    public void onComplete() {
+        isStreamingDone = true;
+        drain();
+    }
+
+    /**
+     * @return the number of requests that are currently in flight
+     */
+    public int numRequestsInFlight() {
+        return smallObjects.limiter.inFlight() + otherObjects.limiter.inFlight();
+    }
+
+    private Lane laneOf(T item) {
+        long size = sizeFunction.applyAsLong(item);
+        return size >= 0 && size < smallObjectThresholdInBytes ? smallObjects : otherObjects;
+    }
+
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            drainOnce();
+        } while (drainers.decrementAndGet() != 0);
+    }
+
+    private void drainOnce() {
+        if (subscription == null) {
+            return;
+        }
+
+        if (returnFuture.isDone()) {
+            cancelUpstream();
+            return;
+        }
+
+        if (!deliverItems(smallObjects) || !deliverItems(otherObjects)) {
+            return;
+        }
+
+        if (isStreamingDone) {
+            if (bufferedItems.get() == 0 && numRequestsInFlight() == 0) {
+                returnFuture.complete(null);
+            }
+            return;
+        }
+
+        long demand = maxBufferedItems - bufferedItems.get() - outstandingDemand.get();
+        if (demand > 0) {
+            outstandingDemand.addAndGet(demand);
+            subscription.request(demand);
+        }
+    }
+
+    private void cancelUpstream() {
+        if (!isStreamingDone) {
+            isStreamingDone = true;
+            subscription.cancel();
+        }
+        smallObjects.buffer.clear();
+        otherObjects.buffer.clear();
+        bufferedItems.set(0);
+    }
+
+    /**
+     * Deliver the buffered items of a lane while its limiter allows it.
+     *
+     * @return false if the consumer failed, in which case the subscription is cancelled
+     */
+    private boolean deliverItems(Lane lane) {
+        while (!lane.buffer.isEmpty() && lane.limiter.tryAcquire()) {
+            T item = lane.buffer.poll();
+            bufferedItems.decrementAndGet();
+
+            CompletableFuture<?> future;
+            try {
+                future = consumer.apply(item);
+            } catch (Throwable t) {
+                lane.limiter.release(-1, t);
+                isStreamingDone = true;
+                subscription.cancel();
+                returnFuture.completeExceptionally(t);
+                return false;
+            }
+
+            long size = sizeFunction.applyAsLong(item);
+            future.whenComplete((r, t) -> {
+                lane.limiter.release(size, t);
+                drain();
+            });
+        }
+        return true;
+    }
+
+    private final class Lane {
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+        private final AimdConcurrencyLimiter limiter;
+
+        private Lane(AimdConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.SizeConstant;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -38,21 +39,57 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
+    public static final TransferConfigurationOption<Long> MULTIPART_PART_SIZE_IN_BYTES =
+        new TransferConfigurationOption<>("MultipartPartSizeInBytes", Long.class);
+
+    public static final TransferConfigurationOption<Integer> MULTIPART_MAX_IN_FLIGHT_PARTS =
+        new TransferConfigurationOption<>("MultipartMaxInFlightParts", Integer.class);
+
+    public static final TransferConfigurationOption<Long> MULTIPART_MAX_MEMORY_IN_BYTES =
+        new TransferConfigurationOption<>("MultipartMaxMemoryInBytes", Long.class);
+
+    public static final TransferConfigurationOption<Integer> DIRECTORY_TRANSFER_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("DirectoryTransferMaxConcurrency", Integer.class);
+
+    public static final TransferConfigurationOption<Long> SMALL_OBJECT_THRESHOLD_IN_BYTES =
+        new TransferConfigurationOption<>("SmallObjectThresholdInBytes", Long.class);
+
+    public static final TransferConfigurationOption<Integer> SMALL_OBJECT_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("SmallObjectMaxConcurrency", Integer.class);
+
+    public static final TransferConfigurationOption<Boolean> ADAPTIVE_CONCURRENCY_ENABLED =
+        new TransferConfigurationOption<>("AdaptiveConcurrencyEnabled", Boolean.class);
+
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
-    public static final int DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY = 100;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
     private static final Boolean DEFAULT_UPLOAD_DIRECTORY_RECURSIVE = Boolean.TRUE;
 
     private static final Boolean DEFAULT_UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS = Boolean.FALSE;
 
+    private static final long DEFAULT_MULTIPART_PART_SIZE_IN_BYTES = 8 * SizeConstant.MB;
+    private static final int DEFAULT_MULTIPART_MAX_IN_FLIGHT_PARTS = 16;
+    private static final long DEFAULT_MULTIPART_MAX_MEMORY_IN_BYTES = 256 * SizeConstant.MB;
+
+    private static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
+    private static final long DEFAULT_SMALL_OBJECT_THRESHOLD_IN_BYTES = 64 * SizeConstant.KB;
+    private static final int DEFAULT_SMALL_OBJECT_MAX_CONCURRENCY = 400;
+    private static final Boolean DEFAULT_ADAPTIVE_CONCURRENCY_ENABLED = Boolean.TRUE;
+
     // TODO: revisit default settings before GA
     public static final AttributeMap TRANSFER_MANAGER_DEFAULTS = AttributeMap
         .builder()
         .put(UPLOAD_DIRECTORY_MAX_DEPTH, DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH)
         .put(UPLOAD_DIRECTORY_RECURSIVE, DEFAULT_UPLOAD_DIRECTORY_RECURSIVE)
         .put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, DEFAULT_UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS)
+        .put(MULTIPART_PART_SIZE_IN_BYTES, DEFAULT_MULTIPART_PART_SIZE_IN_BYTES)
+        .put(MULTIPART_MAX_IN_FLIGHT_PARTS, DEFAULT_MULTIPART_MAX_IN_FLIGHT_PARTS)
+        .put(MULTIPART_MAX_MEMORY_IN_BYTES, DEFAULT_MULTIPART_MAX_MEMORY_IN_BYTES)
+        .put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY)
+        .put(SMALL_OBJECT_THRESHOLD_IN_BYTES, DEFAULT_SMALL_OBJECT_THRESHOLD_IN_BYTES)
+        .put(SMALL_OBJECT_MAX_CONCURRENCY, DEFAULT_SMALL_OBJECT_MAX_CONCURRENCY)
+        .put(ADAPTIVE_CONCURRENCY_ENABLED, DEFAULT_ADAPTIVE_CONCURRENCY_ENABLED)
         .build();
 
     private final String name;
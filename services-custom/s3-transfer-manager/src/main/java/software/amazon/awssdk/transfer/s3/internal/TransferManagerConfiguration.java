@@ -53,6 +53,14 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
                             uploadDirectoryConfiguration.maxDepth().orElse(null));
         standardOptions.put(TransferConfigurationOption.UPLOAD_DIRECTORY_RECURSIVE,
                             uploadDirectoryConfiguration.recursive().orElse(null));
+        standardOptions.put(TransferConfigurationOption.MULTIPART_PART_SIZE_IN_BYTES, builder.partSizeInBytes);
+        standardOptions.put(TransferConfigurationOption.MULTIPART_MAX_IN_FLIGHT_PARTS, builder.maxInFlightParts);
+        standardOptions.put(TransferConfigurationOption.MULTIPART_MAX_MEMORY_IN_BYTES, builder.maxMemoryInBytes);
+        standardOptions.put(TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY,
+                            builder.directoryTransferMaxConcurrency);
+        standardOptions.put(TransferConfigurationOption.SMALL_OBJECT_THRESHOLD_IN_BYTES, builder.smallObjectThresholdInBytes);
+        standardOptions.put(TransferConfigurationOption.SMALL_OBJECT_MAX_CONCURRENCY, builder.smallObjectMaxConcurrency);
+        standardOptions.put(TransferConfigurationOption.ADAPTIVE_CONCURRENCY_ENABLED, builder.adaptiveConcurrencyEnabled);
         finalizeExecutor(builder, standardOptions);
 
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
@@ -118,6 +126,13 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         private UploadDirectoryOverrideConfiguration uploadDirectoryOverrideConfiguration =
             UploadDirectoryOverrideConfiguration.builder().build();
         private Executor executor;
+        private Long partSizeInBytes;
+        private Integer maxInFlightParts;
+        private Long maxMemoryInBytes;
+        private Integer directoryTransferMaxConcurrency;
+        private Long smallObjectThresholdInBytes;
+        private Integer smallObjectMaxConcurrency;
+        private Boolean adaptiveConcurrencyEnabled;
 
         public Builder uploadDirectoryConfiguration(UploadDirectoryOverrideConfiguration configuration) {
             this.uploadDirectoryOverrideConfiguration = configuration;
@@ -129,6 +144,41 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        public Builder maxInFlightParts(Integer maxInFlightParts) {
+            this.maxInFlightParts = maxInFlightParts;
+            return this;
+        }
+
+        public Builder maxMemoryInBytes(Long maxMemoryInBytes) {
+            this.maxMemoryInBytes = maxMemoryInBytes;
+            return this;
+        }
+
+        public Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            this.directoryTransferMaxConcurrency = directoryTransferMaxConcurrency;
+            return this;
+        }
+
+        public Builder smallObjectThresholdInBytes(Long smallObjectThresholdInBytes) {
+            this.smallObjectThresholdInBytes = smallObjectThresholdInBytes;
+            return this;
+        }
+
+        public Builder smallObjectMaxConcurrency(Integer smallObjectMaxConcurrency) {
+            this.smallObjectMaxConcurrency = smallObjectMaxConcurrency;
+            return this;
+        }
+
+        public Builder adaptiveConcurrencyEnabled(Boolean adaptiveConcurrencyEnabled) {
+            this.adaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+            return this;
+        }
+
         public TransferManagerConfiguration build() {
             return new TransferManagerConfiguration(this);
         }
@@ -0,0 +1,276 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * The local record of an incremental directory transfer: for each key transferred between a directory and a bucket prefix,
+ * the size and last-modified time of the local file and the ETag of the object, as they were after the last transfer.
+ *
+ * <p>The manifest is a UTF-8 text file with one tab-separated line per key, after a header line identifying the bucket and
+ * prefix it belongs to. Keys and ETags are URL-encoded. A manifest that belongs to another bucket or prefix, or that cannot
+ * be read, is ignored, and all files are then compared against the listing of the bucket only.
+ *
+ * <p>The entries of the previous transfer, and the entries recorded during the current one, are both held in memory until
+ * the manifest is written, which takes a few hundred bytes of heap per key for each. A prefix with millions of keys
+ * therefore needs a heap of several hundred megabytes or more.
+ *
+ * <p>Only the keys recorded during the current transfer are written back, so keys that failed, or that no longer exist, are
+ * dropped from the manifest. The manifest is also written when the transfer fails part way, so that the keys already
+ * transferred are skipped next time. The manifest is replaced atomically where the file system supports it.
+ */
+@SdkInternalApi
+public final class TransferManifest {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final String HEADER = "s3-transfer-manifest-v1";
+    private static final char SEPARATOR = '\t';
+    private static final String SEPARATOR_STRING = String.valueOf(SEPARATOR);
+
+    private final Path file;
+    private final String bucket;
+    private final String prefix;
+    private final Map<String, Entry> previousEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private TransferManifest(Path file, String bucket, String prefix, Map<String, Entry> previousEntries) {
+        this.file = file;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Load the manifest of a transfer between the given bucket and prefix, or start an empty one if the file does not exist,
+     * belongs to another bucket or prefix, or cannot be read.
+     */
+    public static TransferManifest load(Path file, String bucket, String prefix) {
+        return new TransferManifest(file, bucket, prefix, readEntries(file, bucket, prefix));
+    }
+
+    /**
+     * The entry recorded for the key by the previous transfer, or null if there is none.
+     */
+    public Entry previousEntry(String key) {
+        return previousEntries.get(key);
+    }
+
+    /**
+     * Record the state of a key that is unchanged or was transferred successfully.
+     */
+    public void record(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    /**
+     * Replace the manifest file with the entries recorded during this transfer.
+     */
+    public void write() {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writer.write(HEADER);
+                writer.write(SEPARATOR);
+                writer.write(SdkHttpUtils.urlEncode(bucket));
+                writer.write(SEPARATOR);
+                writer.write(SdkHttpUtils.urlEncode(prefix));
+                writer.newLine();
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    writeEntry(writer, entry.getKey(), entry.getValue());
+                }
+            }
+            move(tempFile, file);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw SdkClientException.create("Failed to write the transfer manifest " + file, e);
+        }
+    }
+
+    /**
+     * Write the entries recorded so far after the transfer failed, so that the keys already transferred are skipped by the
+     * next transfer. A failure to write the manifest is added to the suppressed exceptions of the transfer failure.
+     */
+    public void writeAfterFailure(Throwable transferFailure) {
+        try {
+            write();
+        } catch (RuntimeException e) {
+            transferFailure.addSuppressed(e);
+        }
+    }
+
+    private static Map<String, Entry> readEntries(Path file, String bucket, String prefix) {
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            String header = reader.readLine();
+            if (!Objects.equals(header, HEADER + SEPARATOR + SdkHttpUtils.urlEncode(bucket) + SEPARATOR
+                                        + SdkHttpUtils.urlEncode(prefix))) {
+                log.debug(() -> "Ignoring the transfer manifest " + file + " since it was written for another bucket or prefix");
+                return Collections.emptyMap();
+            }
+
+            Map<String, Entry> entries = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                readEntry(entries, line);
+            }
+            return entries;
+        } catch (NoSuchFileException e) {
+            return Collections.emptyMap();
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Ignoring the transfer manifest " + file + " since it could not be read; all files will be "
+                           + "compared with the objects in the bucket", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private static void readEntry(Map<String, Entry> entries, String line) {
+        String[] fields = line.split(SEPARATOR_STRING, -1);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Invalid transfer manifest entry: " + line);
+        }
+        String eTag = fields[3].isEmpty() ? null : SdkHttpUtils.urlDecode(fields[3]);
+        entries.put(SdkHttpUtils.urlDecode(fields[0]),
+                    new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]), eTag));
+    }
+
+    private static void writeEntry(BufferedWriter writer, String key, Entry entry) throws IOException {
+        writer.write(SdkHttpUtils.urlEncode(key));
+        writer.write(SEPARATOR);
+        writer.write(Long.toString(entry.size));
+        writer.write(SEPARATOR);
+        writer.write(Long.toString(entry.lastModifiedMillis));
+        writer.write(SEPARATOR);
+        if (entry.eTag != null) {
+            writer.write(SdkHttpUtils.urlEncode(entry.eTag));
+        }
+        writer.newLine();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug(() -> "Failed to delete " + path, e);
+        }
+    }
+
+    /**
+     * The recorded state of a key: the size and last-modified time of the local file, and the ETag of the object.
+     */
+    public static final class Entry {
+        private final long size;
+        private final long lastModifiedMillis;
+        private final String eTag;
+
+        public Entry(long size, long lastModifiedMillis, String eTag) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.eTag = eTag;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long lastModifiedMillis() {
+            return lastModifiedMillis;
+        }
+
+        public String eTag() {
+            return eTag;
+        }
+
+        /**
+         * Whether this entry was recorded for a file of the given size and last-modified time, and an object with the
+         * given ETag.
+         */
+        public boolean matches(long size, long lastModifiedMillis, String eTag) {
+            return this.size == size && this.lastModifiedMillis == lastModifiedMillis
+                   && this.eTag != null && this.eTag.equals(eTag);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Entry entry = (Entry) o;
+
+            if (size != entry.size) {
+                return false;
+            }
+            if (lastModifiedMillis != entry.lastModifiedMillis) {
+                return false;
+            }
+            return Objects.equals(eTag, entry.eTag);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (int) (size ^ (size >>> 32));
+            result = 31 * result + (int) (lastModifiedMillis ^ (lastModifiedMillis >>> 32));
+            result = 31 * result + (eTag != null ? eTag.hashCode() : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("TransferManifest.Entry")
+                           .add("size", size)
+                           .add("lastModifiedMillis", lastModifiedMillis)
+                           .add("eTag", eTag)
+                           .build();
+        }
+    }
+}
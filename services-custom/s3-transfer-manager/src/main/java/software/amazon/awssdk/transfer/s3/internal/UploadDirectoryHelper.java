@@ -18,24 +18,23 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
 
-import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
-import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.CompletedFileUpload;
@@ -46,6 +45,7 @@ import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.UploadFileRequest;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultDirectoryTransferProgress;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
@@ -53,30 +53,38 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * An internal helper class that traverses the file tree and send the upload request
- * for each file.
+ * for each file. Files are uploaded as they are found, scheduled by a {@link SizeAwareBufferingSubscriber}.
+ *
+ * <p>If the request has a manifest file, the upload is incremental: the objects under the prefix are listed first, and files
+ * that are unchanged according to the listing and the {@link TransferManifest} are skipped.
  */
 @SdkInternalApi
 public class UploadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
 
     private final TransferManagerConfiguration transferConfiguration;
+    private final ListObjectsHelper listObjectsHelper;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
     private final FileSystem fileSystem;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 ListObjectsHelper listObjectsHelper,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
+        this.listObjectsHelper = listObjectsHelper;
         this.uploadFunction = uploadFunction;
         this.fileSystem = FileSystems.getDefault();
     }
 
     @SdkTestInternalApi
     UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                          ListObjectsHelper listObjectsHelper,
                           Function<UploadFileRequest, FileUpload> uploadFunction,
                           FileSystem fileSystem) {
 
         this.transferConfiguration = transferConfiguration;
+        this.listObjectsHelper = listObjectsHelper;
         this.uploadFunction = uploadFunction;
         this.fileSystem = fileSystem;
     }
@@ -84,9 +92,10 @@ public class UploadDirectoryHelper {
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
 
         CompletableFuture<CompletedDirectoryUpload> returnFuture = new CompletableFuture<>();
+        DefaultDirectoryTransferProgress progress = new DefaultDirectoryTransferProgress();
 
         // offload the execution to the transfer manager executor
-        CompletableFuture.runAsync(() -> doUploadDirectory(returnFuture, uploadDirectoryRequest),
+        CompletableFuture.runAsync(() -> doUploadDirectory(returnFuture, progress, uploadDirectoryRequest),
                                    transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
                          .whenComplete((r, t) -> {
                              if (t != null) {
@@ -94,34 +103,104 @@ public class UploadDirectoryHelper {
                              }
                          });
 
-        return new DefaultDirectoryUpload(returnFuture);
+        return new DefaultDirectoryUpload(returnFuture, progress);
     }
 
     private void doUploadDirectory(CompletableFuture<CompletedDirectoryUpload> returnFuture,
+                                   DefaultDirectoryTransferProgress progress,
                                    UploadDirectoryRequest uploadDirectoryRequest) {
 
-        Path directory = uploadDirectoryRequest.sourceDirectory();
-
         validateDirectory(uploadDirectoryRequest);
 
+        Optional<Path> manifestFile = uploadDirectoryRequest.manifestFile();
+        if (!manifestFile.isPresent()) {
+            uploadFiles(returnFuture, progress, uploadDirectoryRequest, null, null);
+            return;
+        }
+
+        String bucket = uploadDirectoryRequest.bucket();
+        String prefix = resolvePrefix(uploadDirectoryRequest, resolveDelimiter(uploadDirectoryRequest));
+        CompletableFuture<Map<String, TransferManifest.Entry>> remoteObjectsFuture = listRemoteObjects(bucket, prefix);
+
+        // Forward cancellation of the return future to the listing.
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, remoteObjectsFuture);
+
+        remoteObjectsFuture.whenCompleteAsync((remoteObjects, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(t);
+                return;
+            }
+            try {
+                TransferManifest manifest = TransferManifest.load(manifestFile.get(), bucket, prefix);
+                uploadFiles(returnFuture, progress, uploadDirectoryRequest, manifest, remoteObjects);
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+            }
+        }, transferConfiguration.option(TransferConfigurationOption.EXECUTOR));
+    }
+
+    /**
+     * Upload the files of the source directory. If the manifest is not null, files that are unchanged are skipped.
+     */
+    private void uploadFiles(CompletableFuture<CompletedDirectoryUpload> returnFuture,
+                             DefaultDirectoryTransferProgress progress,
+                             UploadDirectoryRequest uploadDirectoryRequest,
+                             TransferManifest manifest,
+                             Map<String, TransferManifest.Entry> remoteObjects) {
+
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
-        List<CompletableFuture<CompletedFileUpload>> futures;
+        CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        try (Stream<Path> entries = listFiles(directory, uploadDirectoryRequest)) {
-            futures = entries.map(path -> {
-                CompletableFuture<CompletedFileUpload> future = uploadSingleFile(uploadDirectoryRequest,
-                                                                                 failedFileUploads, path);
+        // Forward cancellation of the return future to the subscriber, which then stops requesting more files, and from there
+        // to the uploads in flight. They are cancelled after the subscriber's future is done, so no new upload is started.
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
-                // Forward cancellation of the return future to all individual futures.
-                CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
-                return future;
-            }).collect(Collectors.toList());
-        }
+        SizeAwareBufferingSubscriber<DiscoveredFile> bufferingSubscriber =
+            SizeAwareBufferingSubscriber.create(transferConfiguration,
+                                                file -> uploadSingleFile(allOfFutures, progress, uploadDirectoryRequest,
+                                                                         failedFileUploads, manifest, remoteObjects, file),
+                                                DiscoveredFile::size,
+                                                allOfFutures);
+        listFiles(uploadDirectoryRequest, progress).subscribe(bufferingSubscriber);
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                         .whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                                                               .failedTransfers(failedFileUploads)
-                                                                                               .build()));
+        allOfFutures.whenComplete((r, t) -> {
+            if (t != null) {
+                if (manifest != null) {
+                    manifest.writeAfterFailure(t);
+                }
+                returnFuture.completeExceptionally(t);
+                return;
+            }
+            try {
+                if (manifest != null) {
+                    manifest.write();
+                }
+                returnFuture.complete(CompletedDirectoryUpload.builder()
+                                                              .failedTransfers(failedFileUploads)
+                                                              .build());
+            } catch (Throwable throwable) {
+                returnFuture.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    /**
+     * List the objects under the prefix, without a delimiter, keeping only what is needed to compare them with the files.
+     * The whole listing is held in memory for the duration of the upload, since the files are not walked in key order.
+     */
+    private CompletableFuture<Map<String, TransferManifest.Entry>> listRemoteObjects(String bucket, String prefix) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                                                           .bucket(bucket)
+                                                           .prefix(prefix)
+                                                           .build();
+
+        Map<String, TransferManifest.Entry> remoteObjects = new ConcurrentHashMap<>();
+        return listObjectsHelper.listS3ObjectsRecursively(request)
+                                .subscribe(s3Object -> remoteObjects.put(s3Object.key(), new TransferManifest.Entry(
+                                    s3Object.size() == null ? -1 : s3Object.size(),
+                                    s3Object.lastModified() == null ? Long.MIN_VALUE : s3Object.lastModified().toEpochMilli(),
+                                    s3Object.eTag())))
+                                .thenApply(ignore -> remoteObjects);
     }
 
     private void validateDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -138,57 +217,77 @@ public class UploadDirectoryHelper {
         }
     }
 
-    private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
+    private CompletableFuture<CompletedFileUpload> uploadSingleFile(CompletableFuture<Void> allOfFutures,
+                                                                    DefaultDirectoryTransferProgress progress,
+                                                                    UploadDirectoryRequest uploadDirectoryRequest,
                                                                     Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
+                                                                    TransferManifest manifest,
+                                                                    Map<String, TransferManifest.Entry> remoteObjects,
+                                                                    DiscoveredFile file) {
+        Path path = file.path();
         int nameCount = uploadDirectoryRequest.sourceDirectory().getNameCount();
         UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
+        String key = uploadFileRequest.putObjectRequest().key();
+
+        if (manifest != null) {
+            TransferManifest.Entry remoteObject = remoteObjects.get(key);
+            if (isUnchanged(file, remoteObject, manifest.previousEntry(key))) {
+                log.debug(() -> String.format("Skipping upload of path (%s) since object (%s) is unchanged", path, key));
+                manifest.record(key, new TransferManifest.Entry(file.size(), file.lastModifiedMillis(), remoteObject.eTag()));
+                progress.fileSkipped();
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
         CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
             if (t != null) {
+                progress.fileFailed();
                 failedFileUploads.add(FailedFileUpload.builder()
                                                       .exception(t instanceof CompletionException ? t.getCause() : t)
                                                       .request(uploadFileRequest)
                                                       .build());
+            } else {
+                progress.fileTransferred();
+                if (manifest != null) {
+                    manifest.record(key, new TransferManifest.Entry(file.size(), file.lastModifiedMillis(),
+                                                                    r.response().eTag()));
+                }
             }
         });
         CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
+
+        // Forward cancellation of the directory upload to all individual futures.
+        CompletableFutureUtils.forwardExceptionTo(allOfFutures, future);
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
-
-        try {
-            boolean recursive = transferConfiguration.resolveUploadDirectoryRecursive(request);
-            boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
-
-            if (!recursive) {
-                return Files.list(directory)
-                            .filter(p -> isRegularFile(p, followSymbolicLinks));
-            }
-
-            int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
-
-            if (followSymbolicLinks) {
-                return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
-            }
-
-            return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
-
-        } catch (IOException e) {
-            throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
+    /**
+     * Whether a file does not need to be uploaded, following the rules of {@code aws s3 sync}: the object must have the size
+     * of the file, and either match the entry recorded by the previous upload or have been modified after the file.
+     */
+    private static boolean isUnchanged(DiscoveredFile file, TransferManifest.Entry remoteObject,
+                                       TransferManifest.Entry previousEntry) {
+        if (remoteObject == null || remoteObject.size() != file.size()) {
+            return false;
         }
+        if (previousEntry != null) {
+            return previousEntry.matches(file.size(), file.lastModifiedMillis(), remoteObject.eTag());
+        }
+        return file.lastModifiedMillis() <= remoteObject.lastModifiedMillis();
     }
 
-    private boolean isRegularFile(Path path, boolean followSymlinks) {
-        if (followSymlinks) {
-            return Files.isRegularFile(path);
-        }
+    /**
+     * List the regular files of the source directory, in parallel, as they are needed by the uploads. Entries rejected by the
+     * filter of the request are skipped before their attributes are read, and directories rejected by it are not traversed.
+     */
+    private SdkPublisher<DiscoveredFile> listFiles(UploadDirectoryRequest request, DefaultDirectoryTransferProgress progress) {
+        boolean recursive = transferConfiguration.resolveUploadDirectoryRecursive(request);
+        boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
+        int maxDepth = recursive ? transferConfiguration.resolveUploadDirectoryMaxDepth(request) : 1;
 
-        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS);
+        return new ParallelDirectoryWalker(request.sourceDirectory(), maxDepth, followSymbolicLinks, request.filter(), progress);
     }
 
     /**
@@ -216,16 +315,22 @@ public class UploadDirectoryHelper {
         return StringUtils.replace(relativePathName, separator, delimiter);
     }
 
+    private static String resolveDelimiter(UploadDirectoryRequest uploadDirectoryRequest) {
+        return uploadDirectoryRequest.delimiter()
+                                     .filter(s -> !s.isEmpty())
+                                     .orElse(DEFAULT_DELIMITER);
+    }
+
+    private static String resolvePrefix(UploadDirectoryRequest uploadDirectoryRequest, String delimiter) {
+        return uploadDirectoryRequest.prefix()
+                                     .map(s -> normalizePrefix(s, delimiter))
+                                     .orElse(DEFAULT_PREFIX);
+    }
+
     private UploadFileRequest constructUploadRequest(UploadDirectoryRequest uploadDirectoryRequest, int directoryNameCount,
                                                      Path path) {
-        String delimiter =
-            uploadDirectoryRequest.delimiter()
-                                  .filter(s -> !s.isEmpty())
-                                  .orElse(DEFAULT_DELIMITER);
-
-        String prefix = uploadDirectoryRequest.prefix()
-                                              .map(s -> normalizePrefix(s, delimiter))
-                                              .orElse(DEFAULT_PREFIX);
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        String prefix = resolvePrefix(uploadDirectoryRequest, delimiter);
 
         String relativePathName = getRelativePathName(directoryNameCount, path, delimiter);
         String key = prefix + relativePathName;
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal.progress;
+
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.Mutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgress;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgressSnapshot;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * An SDK-internal implementation of {@link DirectoryTransferProgress}, updated by the directory transfer as it discovers and
+ * transfers files.
+ *
+ * @see DirectoryTransferProgress
+ */
+@Mutable
+@ThreadSafe
+@SdkInternalApi
+public final class DefaultDirectoryTransferProgress implements DirectoryTransferProgress {
+
+    private final AtomicLong filesDiscovered = new AtomicLong();
+    private final AtomicLong filesTransferred = new AtomicLong();
+    private final AtomicLong filesFailed = new AtomicLong();
+    private final AtomicLong filesSkipped = new AtomicLong();
+    private volatile boolean discoveryComplete;
+
+    public void fileDiscovered() {
+        filesDiscovered.incrementAndGet();
+    }
+
+    public void fileTransferred() {
+        filesTransferred.incrementAndGet();
+    }
+
+    public void fileFailed() {
+        filesFailed.incrementAndGet();
+    }
+
+    public void fileSkipped() {
+        filesSkipped.incrementAndGet();
+    }
+
+    public void discoveryComplete() {
+        discoveryComplete = true;
+    }
+
+    @Override
+    public DirectoryTransferProgressSnapshot snapshot() {
+        // Files are discovered before they are transferred, so the counts are read in the reverse order to never report more
+        // files transferred than discovered
+        boolean complete = discoveryComplete;
+        long transferred = filesTransferred.get();
+        long failed = filesFailed.get();
+        long skipped = filesSkipped.get();
+        return DefaultDirectoryTransferProgressSnapshot.builder()
+                                                       .discoveryComplete(complete)
+                                                       .filesTransferred(transferred)
+                                                       .filesFailed(failed)
+                                                       .filesSkipped(skipped)
+                                                       .filesDiscovered(filesDiscovered.get())
+                                                       .build();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryTransferProgress")
+                       .add("snapshot", snapshot())
+                       .build();
+    }
+}
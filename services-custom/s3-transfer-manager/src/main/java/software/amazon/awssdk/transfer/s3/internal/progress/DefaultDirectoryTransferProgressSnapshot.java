@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal.progress;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgressSnapshot;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An SDK-internal implementation of {@link DirectoryTransferProgressSnapshot}.
+ */
+@SdkInternalApi
+public final class DefaultDirectoryTransferProgressSnapshot implements DirectoryTransferProgressSnapshot {
+
+    private final long filesDiscovered;
+    private final long filesTransferred;
+    private final long filesFailed;
+    private final long filesSkipped;
+    private final boolean discoveryComplete;
+
+    private DefaultDirectoryTransferProgressSnapshot(Builder builder) {
+        this.filesDiscovered = Validate.isNotNegative(builder.filesDiscovered, "filesDiscovered");
+        this.filesTransferred = Validate.isNotNegative(builder.filesTransferred, "filesTransferred");
+        this.filesFailed = Validate.isNotNegative(builder.filesFailed, "filesFailed");
+        this.filesSkipped = Validate.isNotNegative(builder.filesSkipped, "filesSkipped");
+        this.discoveryComplete = builder.discoveryComplete;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public long filesDiscovered() {
+        return filesDiscovered;
+    }
+
+    @Override
+    public long filesTransferred() {
+        return filesTransferred;
+    }
+
+    @Override
+    public long filesFailed() {
+        return filesFailed;
+    }
+
+    @Override
+    public long filesSkipped() {
+        return filesSkipped;
+    }
+
+    @Override
+    public boolean discoveryComplete() {
+        return discoveryComplete;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DefaultDirectoryTransferProgressSnapshot that = (DefaultDirectoryTransferProgressSnapshot) o;
+
+        if (filesDiscovered != that.filesDiscovered) {
+            return false;
+        }
+        if (filesTransferred != that.filesTransferred) {
+            return false;
+        }
+        if (filesFailed != that.filesFailed) {
+            return false;
+        }
+        if (filesSkipped != that.filesSkipped) {
+            return false;
+        }
+        return discoveryComplete == that.discoveryComplete;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (filesDiscovered ^ (filesDiscovered >>> 32));
+        result = 31 * result + (int) (filesTransferred ^ (filesTransferred >>> 32));
+        result = 31 * result + (int) (filesFailed ^ (filesFailed >>> 32));
+        result = 31 * result + (int) (filesSkipped ^ (filesSkipped >>> 32));
+        result = 31 * result + (discoveryComplete ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryTransferProgressSnapshot")
+                       .add("filesDiscovered", filesDiscovered)
+                       .add("filesTransferred", filesTransferred)
+                       .add("filesFailed", filesFailed)
+                       .add("filesSkipped", filesSkipped)
+                       .add("discoveryComplete", discoveryComplete)
+                       .build();
+    }
+
+    public static final class Builder {
+        private long filesDiscovered;
+        private long filesTransferred;
+        private long filesFailed;
+        private long filesSkipped;
+        private boolean discoveryComplete;
+
+        private Builder() {
+        }
+
+        public Builder filesDiscovered(long filesDiscovered) {
+            this.filesDiscovered = filesDiscovered;
+            return this;
+        }
+
+        public Builder filesTransferred(long filesTransferred) {
+            this.filesTransferred = filesTransferred;
+            return this;
+        }
+
+        public Builder filesFailed(long filesFailed) {
+            this.filesFailed = filesFailed;
+            return this;
+        }
+
+        public Builder filesSkipped(long filesSkipped) {
+            this.filesSkipped = filesSkipped;
+            return this;
+        }
+
+        public Builder discoveryComplete(boolean discoveryComplete) {
+            this.discoveryComplete = discoveryComplete;
+            return this;
+        }
+
+        public DefaultDirectoryTransferProgressSnapshot build() {
+            return new DefaultDirectoryTransferProgressSnapshot(this);
+        }
+    }
+}
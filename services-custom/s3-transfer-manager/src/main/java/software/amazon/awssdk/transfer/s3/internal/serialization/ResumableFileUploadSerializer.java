@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal.serialization;
+
+import static software.amazon.awssdk.transfer.s3.internal.serialization.TransferManagerMarshallingUtils.completedPartSdkField;
+import static software.amazon.awssdk.transfer.s3.internal.serialization.TransferManagerMarshallingUtils.getMarshaller;
+import static software.amazon.awssdk.transfer.s3.internal.serialization.TransferManagerMarshallingUtils.getUnmarshaller;
+import static software.amazon.awssdk.transfer.s3.internal.serialization.TransferManagerMarshallingUtils.putObjectSdkField;
+
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.UploadFileRequest;
+import software.amazon.awssdk.utils.Logger;
+
+@SdkInternalApi
+public final class ResumableFileUploadSerializer {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private ResumableFileUploadSerializer() {
+    }
+
+    /**
+     * Serializes an instance of {@link ResumableFileUpload} into valid JSON. This object contains a nested PutObjectRequest and
+     * a list of CompletedPart, and therefore makes use of the standard JSON marshalling classes.
+     */
+    public static byte[] toJson(ResumableFileUpload upload) {
+        JsonWriter jsonGenerator = JsonWriter.create();
+
+        jsonGenerator.writeStartObject();
+
+        TransferManagerJsonMarshaller.LONG.marshall(upload.fileLength(), jsonGenerator, "fileLength");
+        TransferManagerJsonMarshaller.INSTANT.marshall(upload.fileLastModified(), jsonGenerator, "fileLastModified");
+        if (upload.multipartUploadId().isPresent()) {
+            TransferManagerJsonMarshaller.STRING.marshall(upload.multipartUploadId().get(), jsonGenerator, "multipartUploadId");
+        }
+        if (upload.partSizeInBytes().isPresent()) {
+            TransferManagerJsonMarshaller.LONG.marshall(upload.partSizeInBytes().get(), jsonGenerator, "partSizeInBytes");
+        }
+        marshallCompletedParts(upload.completedParts(), jsonGenerator);
+        marshallUploadFileRequest(upload.uploadFileRequest(), jsonGenerator);
+        jsonGenerator.writeEndObject();
+
+        return jsonGenerator.getBytes();
+    }
+
+    private static void marshallCompletedParts(List<CompletedPart> completedParts, JsonWriter jsonGenerator) {
+        jsonGenerator.writeFieldName("completedParts");
+        jsonGenerator.writeStartArray();
+        for (CompletedPart part : completedParts) {
+            jsonGenerator.writeStartObject();
+            part.sdkFields().forEach(field -> marshallPojoField(field, part, jsonGenerator));
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    /**
+     * At this point we do not need to persist the TransferRequestOverrideConfiguration, because it only contains listeners and
+     * they are not used in the resume operation.
+     */
+    private static void marshallUploadFileRequest(UploadFileRequest fileRequest, JsonWriter jsonGenerator) {
+        jsonGenerator.writeFieldName("uploadFileRequest");
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("source");
+        jsonGenerator.writeValue(fileRequest.source().toString());
+        marshallPutObjectRequest(fileRequest.putObjectRequest(), jsonGenerator);
+        jsonGenerator.writeEndObject();
+    }
+
+    private static void marshallPutObjectRequest(PutObjectRequest putObjectRequest, JsonWriter jsonGenerator) {
+        jsonGenerator.writeFieldName("putObjectRequest");
+        jsonGenerator.writeStartObject();
+        validateNoRequestOverrideConfiguration(putObjectRequest);
+        putObjectRequest.sdkFields().forEach(field -> marshallPojoField(field, putObjectRequest, jsonGenerator));
+        jsonGenerator.writeEndObject();
+    }
+
+    private static void validateNoRequestOverrideConfiguration(PutObjectRequest putObjectRequest) {
+        if (putObjectRequest.overrideConfiguration().isPresent()) {
+            log.debug(() -> "ResumableFileUpload PutObjectRequest contains an override configuration that will not be "
+                            + "serialized");
+        }
+    }
+
+    private static void marshallPojoField(SdkField<?> field, SdkPojo pojo, JsonWriter jsonGenerator) {
+        Object val = field.getValueOrDefault(pojo);
+        TransferManagerJsonMarshaller<Object> marshaller = getMarshaller(field.marshallingType(), val);
+        marshaller.marshall(val, jsonGenerator, field.locationName());
+    }
+
+    public static ResumableFileUpload fromJson(byte[] bytes) {
+        TransferManagerJsonUnmarshaller<Object> longUnmarshaller = getUnmarshaller(MarshallingType.LONG);
+        TransferManagerJsonUnmarshaller<Object> instantUnmarshaller = getUnmarshaller(MarshallingType.INSTANT);
+        TransferManagerJsonUnmarshaller<Object> stringUnmarshaller = getUnmarshaller(MarshallingType.STRING);
+
+        JsonNodeParser jsonNodeParser = JsonNodeParser.builder().build();
+        Map<String, JsonNode> uploadNodes = jsonNodeParser.parse(bytes).asObject();
+
+        ResumableFileUpload.Builder builder = ResumableFileUpload.builder();
+        builder.fileLength((Long) longUnmarshaller.unmarshall(uploadNodes.get("fileLength")));
+        builder.fileLastModified((Instant) instantUnmarshaller.unmarshall(uploadNodes.get("fileLastModified")));
+        if (uploadNodes.get("multipartUploadId") != null) {
+            builder.multipartUploadId((String) stringUnmarshaller.unmarshall(uploadNodes.get("multipartUploadId")));
+        }
+        if (uploadNodes.get("partSizeInBytes") != null) {
+            builder.partSizeInBytes((Long) longUnmarshaller.unmarshall(uploadNodes.get("partSizeInBytes")));
+        }
+        if (uploadNodes.get("completedParts") != null) {
+            builder.completedParts(parseCompletedParts(uploadNodes.get("completedParts")));
+        }
+        builder.uploadFileRequest(parseUploadFileRequest(uploadNodes.get("uploadFileRequest")));
+
+        return builder.build();
+    }
+
+    private static List<CompletedPart> parseCompletedParts(JsonNode completedParts) {
+        return completedParts.asArray()
+                             .stream()
+                             .map(part -> {
+                                 CompletedPart.Builder partBuilder = CompletedPart.builder();
+                                 part.asObject().forEach((key, value) -> setParameter(partBuilder, completedPartSdkField(key),
+                                                                                      value));
+                                 return partBuilder.build();
+                             })
+                             .collect(Collectors.toList());
+    }
+
+    private static UploadFileRequest parseUploadFileRequest(JsonNode fileRequest) {
+        UploadFileRequest.Builder fileRequestBuilder = UploadFileRequest.builder();
+        Map<String, JsonNode> fileRequestNodes = fileRequest.asObject();
+
+        fileRequestBuilder.source(Paths.get(fileRequestNodes.get("source").asString()));
+
+        PutObjectRequest.Builder putObjectBuilder = PutObjectRequest.builder();
+        Map<String, JsonNode> putObjectRequestNodes = fileRequestNodes.get("putObjectRequest").asObject();
+        putObjectRequestNodes.forEach((key, value) -> setParameter(putObjectBuilder, putObjectSdkField(key), value));
+        fileRequestBuilder.putObjectRequest(putObjectBuilder.build());
+
+        return fileRequestBuilder.build();
+    }
+
+    private static void setParameter(Object builder, SdkField<?> field, JsonNode value) {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        TransferManagerJsonUnmarshaller<Object> unmarshaller = getUnmarshaller(marshallingType);
+        field.set(builder, unmarshaller.unmarshall(value));
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.transfer.s3.internal.serialization;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
@@ -68,6 +70,26 @@ public interface TransferManagerJsonUnmarshaller<T> {
         }
     };
 
+    /**
+     * Unmarshalls a JSON object of strings, such as the metadata of a request.
+     */
+    TransferManagerJsonUnmarshaller<Map<String, String>> MAP = new TransferManagerJsonUnmarshaller<Map<String, String>>() {
+        @Override
+        public Map<String, String> unmarshall(JsonNode jsonContent) {
+            if (jsonContent == null || jsonContent.isNull()) {
+                return null;
+            }
+            Map<String, String> map = new LinkedHashMap<>();
+            jsonContent.asObject().forEach((key, value) -> map.put(key, value.text()));
+            return map;
+        }
+
+        @Override
+        public Map<String, String> unmarshall(String content) {
+            throw new UnsupportedOperationException("A map cannot be unmarshalled from a single value");
+        }
+    };
+
     default T unmarshall(JsonNode jsonContent) {
         return jsonContent != null && !jsonContent.isNull() ? unmarshall(jsonContent.text()) : null;
     }
@@ -22,21 +22,23 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 /**
  * Marshallers and unmarshallers for serializing objects in TM, using the SDK request {@link MarshallingType}.
  * <p>
- * Excluded marshalling types that should not appear inside a POJO like GetObjectRequest:
+ * Excluded marshalling types that should not appear inside a POJO like GetObjectRequest or PutObjectRequest:
  * <ul>
  *     <li>MarshallingType.SDK_POJO</li>
  *     <li>MarshallingType.DOCUMENT</li>
- *     <li>MarshallingType.MAP</li>
  *     <li>MarshallingType.LIST</li>
  * </ul>
  * <p>
- * Note: unmarshalling generic List and Map structures is not supported at this time
+ * Note: unmarshalling generic List structures, and Map structures of anything but strings, is not supported at this time
  */
 @SdkInternalApi
 public final class TransferManagerMarshallingUtils {
@@ -44,6 +46,8 @@ public final class TransferManagerMarshallingUtils {
     private static final Map<MarshallingType<?>, TransferManagerJsonMarshaller<?>> MARSHALLERS;
     private static final Map<MarshallingType<?>, TransferManagerJsonUnmarshaller<?>> UNMARSHALLERS;
     private static final Map<String, SdkField<?>> GET_OBJECT_SDK_FIELDS;
+    private static final Map<String, SdkField<?>> PUT_OBJECT_SDK_FIELDS;
+    private static final Map<String, SdkField<?>> COMPLETED_PART_SDK_FIELDS;
 
     static {
         Map<MarshallingType<?>, TransferManagerJsonMarshaller<?>> marshallers = new HashMap<>();
@@ -74,12 +78,17 @@ public final class TransferManagerMarshallingUtils {
         unmarshallers.put(MarshallingType.BIG_DECIMAL, TransferManagerJsonUnmarshaller.BIG_DECIMAL);
         unmarshallers.put(MarshallingType.BOOLEAN, TransferManagerJsonUnmarshaller.BOOLEAN);
         unmarshallers.put(MarshallingType.SDK_BYTES, TransferManagerJsonUnmarshaller.SDK_BYTES);
+        unmarshallers.put(MarshallingType.MAP, TransferManagerJsonUnmarshaller.MAP);
         UNMARSHALLERS = Collections.unmodifiableMap(unmarshallers);
 
-        GET_OBJECT_SDK_FIELDS = Collections.unmodifiableMap(
-            GetObjectRequest.builder().build()
-                            .sdkFields().stream()
-                            .collect(Collectors.toMap(SdkField::locationName, Function.identity())));
+        GET_OBJECT_SDK_FIELDS = sdkFieldsByLocationName(GetObjectRequest.builder().build());
+        PUT_OBJECT_SDK_FIELDS = sdkFieldsByLocationName(PutObjectRequest.builder().build());
+        COMPLETED_PART_SDK_FIELDS = sdkFieldsByLocationName(CompletedPart.builder().build());
+    }
+
+    private static Map<String, SdkField<?>> sdkFieldsByLocationName(SdkPojo pojo) {
+        return Collections.unmodifiableMap(pojo.sdkFields().stream()
+                                               .collect(Collectors.toMap(SdkField::locationName, Function.identity())));
     }
 
     private TransferManagerMarshallingUtils() {
@@ -131,4 +140,20 @@ public final class TransferManagerMarshallingUtils {
         throw new IllegalStateException("Could not match a field in GetObjectRequest");
     }
 
+    public static SdkField<?> putObjectSdkField(String key) {
+        SdkField<?> sdkField = PUT_OBJECT_SDK_FIELDS.get(key);
+        if (sdkField != null) {
+            return sdkField;
+        }
+        throw new IllegalStateException("Could not match a field in PutObjectRequest");
+    }
+
+    public static SdkField<?> completedPartSdkField(String key) {
+        SdkField<?> sdkField = COMPLETED_PART_SDK_FIELDS.get(key);
+        if (sdkField != null) {
+            return sdkField;
+        }
+        throw new IllegalStateException("Could not match a field in CompletedPart");
+    }
+
 }
@@ -17,14 +17,19 @@ package software.amazon.awssdk.transfer.s3.internal.utils;
 
 import java.io.File;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.transfer.s3.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
@@ -83,6 +88,46 @@ public final class ResumableRequestConverter {
                && resumableFileDownload.bytesTransferred() == destination.length();
     }
 
+    /**
+     * Whether the file to upload still has the length and last modified time it had when the upload was paused.
+     */
+    public static boolean fileNotModified(ResumableFileUpload resumableFileUpload) {
+        File source = resumableFileUpload.uploadFileRequest().source().toFile();
+        return resumableFileUpload.fileLastModified().equals(Instant.ofEpochMilli(source.lastModified()))
+               && resumableFileUpload.fileLength() == source.length();
+    }
+
+    /**
+     * Converts the parts listed for a multipart upload to resume into {@link CompletedPart}s, keeping only the parts that
+     * have the size expected from the part size and the length of the file. Other parts are uploaded again.
+     */
+    public static List<CompletedPart> toCompletedParts(ResumableFileUpload resumableFileUpload, List<Part> parts) {
+        long partSize = resumableFileUpload.partSizeInBytes().orElseThrow(
+            () -> new IllegalArgumentException("partSizeInBytes is required to resume a multipart upload"));
+        long fileLength = resumableFileUpload.fileLength();
+
+        return parts.stream()
+                    .filter(part -> part.partNumber() != null && part.size() != null
+                                    && part.size() == expectedPartSize(part.partNumber(), partSize, fileLength))
+                    .map(part -> CompletedPart.builder()
+                                              .partNumber(part.partNumber())
+                                              .eTag(part.eTag())
+                                              .checksumCRC32(part.checksumCRC32())
+                                              .checksumCRC32C(part.checksumCRC32C())
+                                              .checksumSHA1(part.checksumSHA1())
+                                              .checksumSHA256(part.checksumSHA256())
+                                              .build())
+                    .collect(Collectors.toList());
+    }
+
+    private static long expectedPartSize(int partNumber, long partSize, long fileLength) {
+        long start = (partNumber - 1) * partSize;
+        if (partNumber < 1 || start >= fileLength) {
+            return -1;
+        }
+        return Math.min(partSize, fileLength - start);
+    }
+
     private static AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> fileAsyncResponseTransformer(
         DownloadFileRequest newDownloadFileRequest,
         boolean shouldAppend) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.progress;
+
+import software.amazon.awssdk.annotations.Mutable;
+import software.amazon.awssdk.annotations.SdkPreviewApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.DirectoryUpload;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+/**
+ * {@link DirectoryTransferProgress} is a <b>stateful</b> representation of the progress of a directory transfer initiated by
+ * {@link S3TransferManager}. It counts the files of the directory as they are discovered and transferred. Invoking
+ * {@link #snapshot()} returns an immutable {@link DirectoryTransferProgressSnapshot} of the counts at that time.
+ *
+ * @see DirectoryUpload#progress()
+ * @see DirectoryTransferProgressSnapshot
+ */
+@Mutable
+@ThreadSafe
+@SdkPublicApi
+@SdkPreviewApi
+public interface DirectoryTransferProgress {
+
+    /**
+     * Take a snapshot of the current progress, represented by an immutable {@link DirectoryTransferProgressSnapshot}.
+     */
+    DirectoryTransferProgressSnapshot snapshot();
+}
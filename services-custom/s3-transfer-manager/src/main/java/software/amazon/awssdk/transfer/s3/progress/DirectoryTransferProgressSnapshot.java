@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.progress;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPreviewApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+/**
+ * {@link DirectoryTransferProgressSnapshot} is an <b>immutable</b>, point-in-time representation of the progress of a directory
+ * transfer initiated by {@link S3TransferManager}.
+ * <p>
+ * Files are transferred while the directory is still being traversed, so the number of files discovered keeps growing until
+ * {@link #discoveryComplete()} returns true.
+ *
+ * @see DirectoryTransferProgress
+ */
+@Immutable
+@ThreadSafe
+@SdkPublicApi
+@SdkPreviewApi
+public interface DirectoryTransferProgressSnapshot {
+
+    /**
+     * The number of files that have been discovered so far.
+     */
+    long filesDiscovered();
+
+    /**
+     * The number of files that have been transferred successfully so far.
+     */
+    long filesTransferred();
+
+    /**
+     * The number of files that have failed to transfer so far.
+     */
+    long filesFailed();
+
+    /**
+     * The number of files that have been skipped so far because they were unchanged since the last transfer. Files are only
+     * skipped by incremental transfers.
+     */
+    long filesSkipped();
+
+    /**
+     * Whether all the files to transfer have been discovered, in which case {@link #filesDiscovered()} is the total number of
+     * files of the transfer.
+     */
+    boolean discoveryComplete();
+}
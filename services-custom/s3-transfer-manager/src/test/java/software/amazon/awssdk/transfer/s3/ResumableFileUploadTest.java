@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.utils.DateUtils.parseIso8601Date;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.testutils.RandomTempFile;
+
+class ResumableFileUploadTest {
+
+    private static final Instant DATE1 = parseIso8601Date("2022-05-13T21:55:52.529Z");
+
+    private static FileSystem jimfs;
+    private static ResumableFileUpload standardUploadObject;
+
+    @BeforeAll
+    public static void setup() {
+        jimfs = Jimfs.newFileSystem();
+        standardUploadObject = resumableFileUpload();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        try {
+            jimfs.close();
+        } catch (IOException e) {
+            // no-op
+        }
+    }
+
+    @Test
+    void equalsHashcode() {
+        EqualsVerifier.forClass(ResumableFileUpload.class)
+                      .withNonnullFields("uploadFileRequest", "completedParts")
+                      .verify();
+    }
+
+    @Test
+    void uploadIdWithoutPartSize_shouldThrow() {
+        assertThatThrownBy(() -> resumableFileUpload().toBuilder().partSizeInBytes(null).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("partSizeInBytes");
+    }
+
+    @Test
+    void noCompletedParts_shouldDefaultToEmptyList() {
+        ResumableFileUpload upload = resumableFileUpload().toBuilder()
+                                                          .multipartUploadId(null)
+                                                          .partSizeInBytes(null)
+                                                          .completedParts(null)
+                                                          .build();
+        assertThat(upload.multipartUploadId()).isEmpty();
+        assertThat(upload.completedParts()).isEmpty();
+    }
+
+    @Test
+    void fileSerDeser() throws IOException {
+        String directoryName = "test";
+        Path directory = jimfs.getPath(directoryName);
+        Files.createDirectory(directory);
+
+        Path file = jimfs.getPath(directoryName, "serializedUpload");
+        standardUploadObject.writeToFile(file);
+
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromFile(file);
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void stringSerDeser() {
+        String serializedUpload = standardUploadObject.toUtf8String();
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromString(serializedUpload);
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void stringWithCharsetSerDeser() {
+        String serializedUpload = standardUploadObject.toString(StandardCharsets.ISO_8859_1);
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromString(serializedUpload, StandardCharsets.ISO_8859_1);
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void bytesSerDeser()  {
+        SdkBytes serializedUpload = standardUploadObject.toBytes();
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromBytes(serializedUpload.asByteArray());
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void inputStreamSerDeser() throws IOException {
+        InputStream serializedUpload = standardUploadObject.toInputStream();
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromInputStream(serializedUpload);
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void outputStreamSer() throws IOException {
+        ByteArrayOutputStream serializedUpload = new ByteArrayOutputStream();
+        standardUploadObject.writeToOutputStream(serializedUpload);
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromBytes(serializedUpload.toByteArray());
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    @Test
+    void byteBufferDeser()  {
+        SdkBytes serializedUpload = standardUploadObject.toBytes();
+        ResumableFileUpload deserializedUpload = ResumableFileUpload.fromByteBuffer(serializedUpload.asByteBuffer());
+        assertThat(deserializedUpload).isEqualTo(standardUploadObject);
+    }
+
+    private static ResumableFileUpload resumableFileUpload() {
+        Path path = RandomTempFile.randomUncreatedFile().toPath();
+
+        return ResumableFileUpload.builder()
+                                  .uploadFileRequest(r -> r.putObjectRequest(b -> b.bucket("BUCKET")
+                                                                                   .key("KEY")
+                                                                                   .contentType("text/plain"))
+                                                           .source(path))
+                                  .fileLength(2000L)
+                                  .fileLastModified(DATE1)
+                                  .multipartUploadId("uploadId")
+                                  .partSizeInBytes(1000L)
+                                  .completedParts(Arrays.asList(CompletedPart.builder().partNumber(1).eTag("etag1").build(),
+                                                                CompletedPart.builder().partNumber(2).eTag("etag2").build()))
+                                  .build();
+    }
+}
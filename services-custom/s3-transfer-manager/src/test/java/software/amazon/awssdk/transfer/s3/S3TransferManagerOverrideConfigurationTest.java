@@ -34,10 +34,24 @@ public class S3TransferManagerOverrideConfigurationTest {
             S3TransferManagerOverrideConfiguration.builder()
                                                   .uploadDirectoryConfiguration(directoryOverrideConfiguration)
                                                   .executor(executor)
+                                                  .partSizeInBytes(16 * SizeConstant.MB)
+                                                  .maxInFlightParts(4)
+                                                  .maxMemoryInBytes(SizeConstant.GB)
+                                                  .directoryTransferMaxConcurrency(50)
+                                                  .smallObjectThresholdInBytes(SizeConstant.MB)
+                                                  .smallObjectMaxConcurrency(200)
+                                                  .adaptiveConcurrencyEnabled(false)
                                                   .build();
 
         assertThat(configuration.executor()).contains(executor);
         assertThat(configuration.uploadDirectoryConfiguration()).contains(directoryOverrideConfiguration);
+        assertThat(configuration.partSizeInBytes()).contains(16 * SizeConstant.MB);
+        assertThat(configuration.maxInFlightParts()).contains(4);
+        assertThat(configuration.maxMemoryInBytes()).contains(SizeConstant.GB);
+        assertThat(configuration.directoryTransferMaxConcurrency()).contains(50);
+        assertThat(configuration.smallObjectThresholdInBytes()).contains(SizeConstant.MB);
+        assertThat(configuration.smallObjectMaxConcurrency()).contains(200);
+        assertThat(configuration.adaptiveConcurrencyEnabled()).contains(false);
     }
 
     @Test
@@ -47,6 +61,13 @@ public class S3TransferManagerOverrideConfigurationTest {
 
         assertThat(configuration.executor()).isEmpty();
         assertThat(configuration.uploadDirectoryConfiguration()).isEmpty();
+        assertThat(configuration.partSizeInBytes()).isEmpty();
+        assertThat(configuration.maxInFlightParts()).isEmpty();
+        assertThat(configuration.maxMemoryInBytes()).isEmpty();
+        assertThat(configuration.directoryTransferMaxConcurrency()).isEmpty();
+        assertThat(configuration.smallObjectThresholdInBytes()).isEmpty();
+        assertThat(configuration.smallObjectMaxConcurrency()).isEmpty();
+        assertThat(configuration.adaptiveConcurrencyEnabled()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+class AimdConcurrencyLimiterTest {
+    private static final Throwable SLOW_DOWN =
+        new CompletionException(AwsServiceException.builder()
+                                                   .statusCode(503)
+                                                   .awsErrorDetails(AwsErrorDetails.builder().errorCode("SlowDown").build())
+                                                   .build());
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+    }
+
+    @Test
+    void notAdaptive_shouldUseMaxLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 3, false, clock::get);
+
+        assertThat(acquire(limiter, 4)).isEqualTo(3);
+        limiter.release(1, SLOW_DOWN);
+
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void roundOfSuccesses_shouldRaiseLimitByOne() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 10, true, clock::get);
+
+        assertThat(acquire(limiter, 3)).isEqualTo(2);
+        clock.set(10);
+        limiter.release(100, null);
+        assertThat(limiter.limit()).isEqualTo(2);
+        limiter.release(100, null);
+
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(acquire(limiter, 4)).isEqualTo(3);
+    }
+
+    @Test
+    void roundWithLowerThroughput_shouldNotRaiseLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 10, true, clock::get);
+        acquire(limiter, 2);
+        clock.set(10);
+        limiter.release(100, null);
+        limiter.release(100, null);
+        assertThat(limiter.limit()).isEqualTo(3);
+
+        acquire(limiter, 3);
+        clock.set(20);
+        for (int i = 0; i < 3; i++) {
+            limiter.release(10, null);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void limit_shouldNotExceedMaxLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 2, true, clock::get);
+        acquire(limiter, 2);
+        clock.set(10);
+        limiter.release(100, null);
+        limiter.release(100, null);
+
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowDown_shouldHalveLimitOncePerInFlightRequests() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 10, true, clock::get);
+        acquire(limiter, 4);
+
+        limiter.release(-1, SLOW_DOWN);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        // Sent before the limit was lowered
+        limiter.release(-1, SLOW_DOWN);
+        limiter.release(1, null);
+        limiter.release(1, null);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        acquire(limiter, 1);
+        limiter.release(-1, SLOW_DOWN);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowDown_shouldNotLowerLimitUnderOne() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 10, true, clock::get);
+        acquire(limiter, 1);
+
+        limiter.release(-1, SLOW_DOWN);
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void otherFailure_shouldNotChangeLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 10, true, clock::get);
+        acquire(limiter, 1);
+
+        limiter.release(-1, SdkClientException.create("failed"));
+
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static int acquire(AimdConcurrencyLimiter limiter, int attempts) {
+        int acquired = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire()) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+}
@@ -23,7 +23,7 @@ class DefaultDirectoryUploadTest {
     @Test
     void equals_hashcode() {
         EqualsVerifier.forClass(DefaultDirectoryUpload.class)
-                      .withNonnullFields("completionFuture")
+                      .withNonnullFields("completionFuture", "progress")
                       .verify();
     }
 
@@ -13,17 +13,157 @@
  * permissions and limitations under the License.
  */
 
+
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.transfer.s3.CompletedFileUpload;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.UploadFileRequest;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgressSnapshot;
 
 public class DefaultFileUploadTest {
+    private static File file;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        file = File.createTempFile("test", UUID.randomUUID().toString());
+        Files.write(file.toPath(), RandomStringUtils.random(2000).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        file.delete();
+    }
 
     @Test
     public void equals_hashcode() {
         EqualsVerifier.forClass(DefaultFileUpload.class)
-                      .withNonnullFields("completionFuture", "progress")
+                      .withNonnullFields("completionFuture", "progress", "request", "fileLastModified")
+                      .withIgnoredFields("resumableFileUpload", "lock")
                       .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void pause_multipartUploadStarted_shouldRetainUploadAndCompletedParts() {
+        CompletableFuture<CompletedFileUpload> future = new CompletableFuture<>();
+        MultipartUploadState uploadState = new MultipartUploadState();
+        uploadState.multipartUploadCreated("uploadId", 1024L);
+        uploadState.partCompleted(CompletedPart.builder().partNumber(2).eTag("etag2").build());
+        uploadState.partCompleted(CompletedPart.builder().partNumber(1).eTag("etag1").build());
+
+        UploadFileRequest request = uploadFileRequest();
+        DefaultFileUpload fileUpload = newFileUpload(future, request, uploadState);
+
+        ResumableFileUpload pause = fileUpload.pause();
+
+        assertThat(future).isCancelled();
+        assertThat(uploadState.isRetained("uploadId")).isTrue();
+        assertThat(pause.uploadFileRequest()).isEqualTo(request);
+        assertThat(pause.fileLength()).isEqualTo(file.length());
+        assertThat(pause.fileLastModified()).isEqualTo(Instant.ofEpochMilli(file.lastModified()));
+        assertThat(pause.multipartUploadId()).hasValue("uploadId");
+        assertThat(pause.partSizeInBytes()).hasValue(1024L);
+        assertThat(pause.completedParts()).containsExactly(
+            CompletedPart.builder().partNumber(1).eTag("etag1").build(),
+            CompletedPart.builder().partNumber(2).eTag("etag2").build());
+    }
+
+    @Test
+    public void pause_multipartUploadNotStarted_shouldNotHaveUploadId() {
+        DefaultFileUpload fileUpload = newFileUpload(new CompletableFuture<>(), uploadFileRequest(), new MultipartUploadState());
+
+        ResumableFileUpload pause = fileUpload.pause();
+
+        assertThat(pause.multipartUploadId()).isEmpty();
+        assertThat(pause.partSizeInBytes()).isEmpty();
+        assertThat(pause.completedParts()).isEmpty();
+    }
+
+    @Test
+    public void pause_noUploadState_shouldNotHaveUploadId() {
+        DefaultFileUpload fileUpload = newFileUpload(new CompletableFuture<>(), uploadFileRequest(), null);
+
+        ResumableFileUpload pause = fileUpload.pause();
+
+        assertThat(pause.multipartUploadId()).isEmpty();
+        assertThat(pause.fileLength()).isEqualTo(file.length());
+    }
+
+    @Test
+    public void pauseTwice_shouldReturnTheSame() {
+        MultipartUploadState uploadState = new MultipartUploadState();
+        uploadState.multipartUploadCreated("uploadId", 1024L);
+        DefaultFileUpload fileUpload = newFileUpload(new CompletableFuture<>(), uploadFileRequest(), uploadState);
+
+        ResumableFileUpload resumableFileUpload = fileUpload.pause();
+        ResumableFileUpload resumableFileUpload2 = fileUpload.pause();
+
+        assertThat(resumableFileUpload).isEqualTo(resumableFileUpload2);
+    }
+
+    @Test
+    public void pause_fileModifiedDuringUpload_shouldDescribeFileAsItWasWhenUploadStarted() throws IOException {
+        File modifiedFile = File.createTempFile("test", UUID.randomUUID().toString());
+        try {
+            Files.write(modifiedFile.toPath(), RandomStringUtils.random(1000).getBytes(StandardCharsets.UTF_8));
+            long originalLength = modifiedFile.length();
+            Instant originalLastModified = Instant.ofEpochMilli(modifiedFile.lastModified());
+
+            MultipartUploadState uploadState = new MultipartUploadState();
+            uploadState.multipartUploadCreated("uploadId", 1024L);
+            uploadState.partCompleted(CompletedPart.builder().partNumber(1).eTag("etag1").build());
+            UploadFileRequest request = UploadFileRequest.builder()
+                                                         .source(modifiedFile)
+                                                         .putObjectRequest(p -> p.bucket("BUCKET").key("KEY"))
+                                                         .build();
+            DefaultFileUpload fileUpload = new DefaultFileUpload(new CompletableFuture<>(), progress(), request, uploadState,
+                                                                 originalLength, originalLastModified);
+
+            Files.write(modifiedFile.toPath(), RandomStringUtils.random(3000).getBytes(StandardCharsets.UTF_8));
+            modifiedFile.setLastModified(originalLastModified.plusSeconds(60).toEpochMilli());
+
+            ResumableFileUpload pause = fileUpload.pause();
+
+            assertThat(pause.fileLength()).isEqualTo(originalLength);
+            assertThat(pause.fileLastModified()).isEqualTo(originalLastModified);
+            assertThat(pause.fileLength()).isNotEqualTo(modifiedFile.length());
+            assertThat(pause.fileLastModified()).isNotEqualTo(Instant.ofEpochMilli(modifiedFile.lastModified()));
+        } finally {
+            modifiedFile.delete();
+        }
+    }
+
+    private static DefaultFileUpload newFileUpload(CompletableFuture<CompletedFileUpload> future,
+                                                   UploadFileRequest request,
+                                                   MultipartUploadState uploadState) {
+        return new DefaultFileUpload(future, progress(), request, uploadState, file.length(),
+                                     Instant.ofEpochMilli(file.lastModified()));
+    }
+
+    private static UploadFileRequest uploadFileRequest() {
+        return UploadFileRequest.builder()
+                                .source(file)
+                                .putObjectRequest(p -> p.bucket("BUCKET").key("KEY"))
+                                .build();
+    }
+
+    private static DefaultTransferProgress progress() {
+        return new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder().build());
+    }
+}
@@ -25,11 +25,14 @@ import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuccessfulListObjects;
 
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -42,11 +45,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.EncodingType;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.DirectoryDownload;
@@ -284,6 +289,54 @@ public class DownloadDirectoryHelperTest {
         });
     }
 
+    @Test
+    void downloadDirectory_withManifest_shouldSkipUnchangedFilesAndRecordThem() throws Exception {
+        Path destination = jimfs.getPath("incremental");
+        Path manifestFile = jimfs.getPath("download-manifest");
+        Files.createDirectory(destination);
+        Files.write(destination.resolve("key1"), new byte[3]);
+        Files.setLastModifiedTime(destination.resolve("key1"), FileTime.from(Instant.parse("2022-01-02T00:00:00Z")));
+        Files.write(destination.resolve("key2"), new byte[1]);
+
+        S3Object unchanged = S3Object.builder()
+                                     .key("key1")
+                                     .size(3L)
+                                     .lastModified(Instant.parse("2022-01-01T00:00:00Z"))
+                                     .eTag("unchanged")
+                                     .build();
+        S3Object changed = S3Object.builder()
+                                   .key("key2")
+                                   .size(3L)
+                                   .lastModified(Instant.parse("2022-01-01T00:00:00Z"))
+                                   .eTag("changed")
+                                   .build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(unchanged, changed)));
+
+        FileDownload fileDownload = newSuccessfulDownload();
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(fileDownload);
+
+        DirectoryDownload downloadDirectory =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destinationDirectory(destination)
+                                                                              .bucket("bucket")
+                                                                              .manifestFile(manifestFile)
+                                                                              .build());
+
+        CompletedDirectoryDownload completedDirectoryDownload = downloadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(1)).apply(argumentCaptor.capture());
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        assertThat(argumentCaptor.getValue().getObjectRequest().key()).isEqualTo("key2");
+
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "");
+        assertThat(manifest.previousEntry("key1")).isEqualTo(new TransferManifest.Entry(3, Instant.parse(
+            "2022-01-02T00:00:00Z").toEpochMilli(), "unchanged"));
+        assertThat(manifest.previousEntry("key2")).isNotNull();
+    }
+
     private FileDownload newSuccessfulDownload() {
         GetObjectResponse getObjectResponse = GetObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
         CompletedFileDownload completedFileDownload = CompletedFileDownload.builder().response(getObjectResponse).build();
@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+class MultipartDownloadHelperTest {
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+    private static final GetObjectRequest GET_OBJECT_REQUEST = GetObjectRequest.builder().bucket("bucket").key("key").build();
+
+    private S3AsyncClient s3AsyncClient;
+    private List<GetObjectRequest> requests;
+    private String content;
+
+    @BeforeEach
+    void setUp() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        requests = new CopyOnWriteArrayList<>();
+        content = "abcdefghij";
+
+        doAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            requests.add(request);
+            try {
+                return CompletableFuture.completedFuture(getObject(request));
+            } catch (S3Exception e) {
+                return failedFuture(e);
+            }
+        }).when(s3AsyncClient).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+
+    @Test
+    void downloadObject_multipleParts_shouldAssemblePartsInOrder() {
+        MultipartDownloadHelper helper = new MultipartDownloadHelper(s3AsyncClient, 4, 2);
+
+        ResponseBytes<GetObjectResponse> result =
+            helper.downloadObject(GET_OBJECT_REQUEST, AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asUtf8String()).isEqualTo(content);
+        assertThat(result.response().contentLength()).isEqualTo(10L);
+        assertThat(result.response().contentRange()).isNull();
+        assertThat(requests).extracting(GetObjectRequest::range)
+                            .containsExactly("bytes=0-3", "bytes=4-7", "bytes=8-11");
+        assertThat(requests).extracting(GetObjectRequest::ifMatch)
+                            .containsExactly(null, "etag", "etag");
+    }
+
+    @Test
+    void downloadObject_singlePart_shouldSendOneRequest() {
+        MultipartDownloadHelper helper = new MultipartDownloadHelper(s3AsyncClient, 100, 2);
+
+        ResponseBytes<GetObjectResponse> result =
+            helper.downloadObject(GET_OBJECT_REQUEST, AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asUtf8String()).isEqualTo(content);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void downloadObject_rangeProvided_shouldSendRequestAsIs() {
+        MultipartDownloadHelper helper = new MultipartDownloadHelper(s3AsyncClient, 4, 2);
+        GetObjectRequest request = GET_OBJECT_REQUEST.toBuilder().range("bytes=2-8").build();
+
+        ResponseBytes<GetObjectResponse> result = helper.downloadObject(request, AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asUtf8String()).isEqualTo("cdefghi");
+        assertThat(requests).containsExactly(request);
+    }
+
+    @Test
+    void downloadObject_emptyObject_shouldFallBackToGetObject() {
+        content = "";
+        MultipartDownloadHelper helper = new MultipartDownloadHelper(s3AsyncClient, 4, 2);
+
+        ResponseBytes<GetObjectResponse> result =
+            helper.downloadObject(GET_OBJECT_REQUEST, AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEmpty();
+        assertThat(requests).extracting(GetObjectRequest::range).containsExactly("bytes=0-3", null);
+    }
+
+    @Test
+    void downloadObject_partFails_shouldFailDownload() {
+        doAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            if (!"bytes=0-3".equals(request.range())) {
+                return failedFuture(SdkClientException.create("failed"));
+            }
+            return CompletableFuture.completedFuture(getObject(request));
+        }).when(s3AsyncClient).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+
+        MultipartDownloadHelper helper = new MultipartDownloadHelper(s3AsyncClient, 4, 2);
+
+        assertThatThrownBy(() -> helper.downloadObject(GET_OBJECT_REQUEST, AsyncResponseTransformer.toBytes()).join())
+            .hasRootCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    void objectSize_shouldPreferContentRange() {
+        GetObjectResponse ranged = GetObjectResponse.builder().contentLength(100L).contentRange("bytes 0-99/1000").build();
+        GetObjectResponse whole = GetObjectResponse.builder().contentLength(100L).build();
+        GetObjectResponse unknown = GetObjectResponse.builder().contentLength(100L).contentRange("bytes 0-99/*").build();
+
+        assertThat(MultipartDownloadHelper.objectSize(ranged)).isEqualTo(1000L);
+        assertThat(MultipartDownloadHelper.objectSize(whole)).isEqualTo(100L);
+        assertThatThrownBy(() -> MultipartDownloadHelper.objectSize(unknown)).isInstanceOf(SdkClientException.class);
+    }
+
+    private ResponseBytes<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        GetObjectResponse.Builder response = GetObjectResponse.builder().eTag("etag");
+        if (request.range() == null) {
+            return ResponseBytes.fromByteArray(response.contentLength((long) bytes.length).build(), bytes);
+        }
+
+        Matcher range = RANGE.matcher(request.range());
+        assertThat(range.matches()).isTrue();
+        int start = Integer.parseInt(range.group(1));
+        int end = Math.min(bytes.length - 1, Integer.parseInt(range.group(2)));
+        if (start >= bytes.length) {
+            throw (S3Exception) S3Exception.builder().statusCode(416).build();
+        }
+
+        byte[] part = new byte[end - start + 1];
+        System.arraycopy(bytes, start, part, 0, part.length);
+        response.contentLength((long) part.length)
+                .contentRange("bytes " + start + "-" + end + "/" + bytes.length);
+        return ResponseBytes.fromByteArray(response.build(), part);
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class MultipartMemoryLimiterTest {
+
+    @Test
+    void reserve_memoryAvailable_shouldGrantImmediately() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+
+        assertThat(limiter.reserve(4)).isCompletedWithValue(4L);
+        assertThat(limiter.availableBytes()).isEqualTo(6);
+    }
+
+    @Test
+    void reserve_moreThanLimit_shouldBeLoweredToLimit() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+
+        assertThat(limiter.reserve(100)).isCompletedWithValue(10L);
+        assertThat(limiter.availableBytes()).isZero();
+    }
+
+    @Test
+    void reserve_memoryInUse_shouldWaitUntilReleased() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+        limiter.reserve(8).join();
+
+        CompletableFuture<Long> waiting = limiter.reserve(4);
+        assertThat(waiting).isNotDone();
+
+        limiter.release(8);
+        assertThat(waiting).isCompletedWithValue(4L);
+        assertThat(limiter.availableBytes()).isEqualTo(6);
+    }
+
+    @Test
+    void reserve_earlierReservationWaiting_shouldBeGrantedInOrder() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+        limiter.reserve(8).join();
+
+        CompletableFuture<Long> first = limiter.reserve(10);
+        CompletableFuture<Long> second = limiter.reserve(1);
+        assertThat(second).isNotDone();
+
+        limiter.release(8);
+        assertThat(first).isCompletedWithValue(10L);
+        assertThat(second).isNotDone();
+
+        limiter.release(10);
+        assertThat(second).isCompletedWithValue(1L);
+    }
+
+    @Test
+    void release_waitingReservationCancelled_shouldSkipIt() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+        limiter.reserve(8).join();
+
+        CompletableFuture<Long> cancelled = limiter.reserve(10);
+        CompletableFuture<Long> waiting = limiter.reserve(4);
+        cancelled.cancel(true);
+
+        limiter.release(8);
+        assertThat(waiting).isCompletedWithValue(4L);
+        assertThat(limiter.availableBytes()).isEqualTo(6);
+    }
+
+    @Test
+    void reserve_nonPositiveBytes_shouldThrow() {
+        MultipartMemoryLimiter limiter = new MultipartMemoryLimiter(10);
+
+        assertThatThrownBy(() -> limiter.reserve(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class MultipartUploadHelperTest {
+    private static final String CONTENT = "abcdefghij";
+    private static final PutObjectRequest PUT_OBJECT_REQUEST = PutObjectRequest.builder()
+                                                                               .bucket("bucket")
+                                                                               .key("key")
+                                                                               .contentType("text/plain")
+                                                                               .build();
+
+    private S3AsyncClient s3AsyncClient;
+    private Map<Integer, String> uploadedParts;
+
+    @BeforeEach
+    void setUp() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        uploadedParts = new ConcurrentHashMap<>();
+
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("id").build()));
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            UploadPartRequest request = i.getArgument(0);
+            uploadedParts.put(request.partNumber(), read(i.getArgument(1)));
+            return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag" + request.partNumber()).build());
+        });
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+                                                                                         .eTag("etag")
+                                                                                         .versionId("version")
+                                                                                         .build()));
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+    }
+
+    @Test
+    void uploadObject_knownLengthWithinPartSize_shouldPutObject() {
+        PutObjectResponse response = PutObjectResponse.builder().eTag("etag").build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, CONTENT.length(), 2);
+
+        assertThat(helper.uploadObject(PUT_OBJECT_REQUEST, AsyncRequestBody.fromString(CONTENT)).join()).isEqualTo(response);
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_unknownLengthWithinPartSize_shouldPutBufferedObject() {
+        ArgumentCaptor<AsyncRequestBody> body = ArgumentCaptor.forClass(AsyncRequestBody.class);
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), body.capture()))
+            .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 100, 2);
+        helper.uploadObject(PUT_OBJECT_REQUEST, chunkedBody(3)).join();
+
+        assertThat(body.getValue().contentLength()).contains((long) CONTENT.length());
+        assertThat(read(body.getValue())).isEqualTo(CONTENT);
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_knownLengthLargerThanPartSize_shouldUploadParts() {
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 2);
+
+        PutObjectResponse response = helper.uploadObject(PUT_OBJECT_REQUEST, AsyncRequestBody.fromString(CONTENT)).join();
+
+        assertThat(response.eTag()).isEqualTo("etag");
+        assertThat(response.versionId()).isEqualTo("version");
+        assertThat(uploadedParts).containsOnlyKeys(1, 2, 3)
+                                 .containsEntry(1, "abcd")
+                                 .containsEntry(2, "efgh")
+                                 .containsEntry(3, "ij");
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createRequest =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3AsyncClient).createMultipartUpload(createRequest.capture());
+        assertThat(createRequest.getValue().contentType()).isEqualTo("text/plain");
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeRequest.capture());
+        assertThat(completeRequest.getValue().uploadId()).isEqualTo("id");
+        assertThat(completeRequest.getValue().multipartUpload().parts()).extracting(CompletedPart::partNumber,
+                                                                                    CompletedPart::eTag)
+                                                                        .containsExactly(tuple(1, "etag1"),
+                                                                                         tuple(2, "etag2"),
+                                                                                         tuple(3, "etag3"));
+    }
+
+    @Test
+    void uploadObject_unknownLengthChunkedBody_shouldSplitIntoParts() {
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 1);
+
+        helper.uploadObject(PUT_OBJECT_REQUEST, chunkedBody(3)).join();
+
+        assertThat(uploadedParts).containsOnlyKeys(1, 2, 3)
+                                 .containsEntry(1, "abcd")
+                                 .containsEntry(2, "efgh")
+                                 .containsEntry(3, "ij");
+    }
+
+    @Test
+    void uploadObject_slowParts_shouldNotExceedMaxInFlightParts() {
+        Map<Integer, CompletableFuture<UploadPartResponse>> pendingParts = new ConcurrentHashMap<>();
+        doAnswer(i -> {
+            UploadPartRequest request = i.getArgument(0);
+            CompletableFuture<UploadPartResponse> future = new CompletableFuture<>();
+            pendingParts.put(request.partNumber(), future);
+            return future;
+        }).when(s3AsyncClient).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 2, 2);
+        CompletableFuture<PutObjectResponse> future = helper.uploadObject(PUT_OBJECT_REQUEST, chunkedBody(1));
+
+        for (int partNumber = 1; partNumber <= 5; partNumber++) {
+            int maxPartNumber = Math.min(5, partNumber + 1);
+            assertThat(pendingParts.keySet()).allMatch(n -> n <= maxPartNumber).contains(maxPartNumber);
+            assertThat(future).isNotDone();
+            pendingParts.get(partNumber).complete(UploadPartResponse.builder().eTag("etag" + partNumber).build());
+        }
+
+        assertThat(future.join().eTag()).isEqualTo("etag");
+    }
+
+    @Test
+    void uploadObject_sharedMemoryInUse_shouldWaitForMemoryBeforeReadingBody() {
+        MultipartMemoryLimiter memoryLimiter = new MultipartMemoryLimiter(8);
+        long otherTransferBytes = memoryLimiter.reserve(8).join();
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 2, memoryLimiter);
+
+        AsyncRequestBody body = AsyncRequestBody.fromString(CONTENT);
+        CompletableFuture<PutObjectResponse> future = helper.uploadObject(PUT_OBJECT_REQUEST, body);
+
+        assertThat(future).isNotDone();
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        memoryLimiter.release(otherTransferBytes);
+
+        assertThat(future.join().eTag()).isEqualTo("etag");
+        assertThat(uploadedParts).containsOnlyKeys(1, 2, 3);
+        assertThat(memoryLimiter.availableBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void uploadObject_partFails_shouldAbortUpload() {
+        doReturn(CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag").build()))
+            .doReturn(failedFuture(SdkClientException.create("failed")))
+            .when(s3AsyncClient).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 2);
+
+        assertThatThrownBy(() -> helper.uploadObject(PUT_OBJECT_REQUEST, AsyncRequestBody.fromString(CONTENT)).join())
+            .isInstanceOf(CompletionException.class)
+            .hasRootCauseInstanceOf(SdkClientException.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortRequest = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3AsyncClient, times(1)).abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo("id");
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_resumedState_shouldOnlyUploadRemainingParts() {
+        CompletedPart firstPart = CompletedPart.builder().partNumber(1).eTag("existing").build();
+        MultipartUploadState uploadState = new MultipartUploadState("resumed", 4, Collections.singletonList(firstPart));
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 100, 2);
+
+        helper.uploadObject(PUT_OBJECT_REQUEST, AsyncRequestBody.fromString(CONTENT), uploadState).join();
+
+        assertThat(uploadedParts).containsOnlyKeys(2, 3)
+                                 .containsEntry(2, "efgh")
+                                 .containsEntry(3, "ij");
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeRequest.capture());
+        assertThat(completeRequest.getValue().uploadId()).isEqualTo("resumed");
+        assertThat(completeRequest.getValue().multipartUpload().parts()).extracting(CompletedPart::partNumber,
+                                                                                    CompletedPart::eTag)
+                                                                        .containsExactly(tuple(1, "existing"),
+                                                                                         tuple(2, "etag2"),
+                                                                                         tuple(3, "etag3"));
+    }
+
+    @Test
+    void uploadObject_paused_shouldNotAbortUpload() {
+        CompletableFuture<UploadPartResponse> pendingPart = new CompletableFuture<>();
+        doReturn(CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag1").build()))
+            .doReturn(pendingPart)
+            .when(s3AsyncClient).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        MultipartUploadState uploadState = new MultipartUploadState();
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 1);
+        CompletableFuture<PutObjectResponse> future = helper.uploadObject(PUT_OBJECT_REQUEST,
+                                                                          AsyncRequestBody.fromString(CONTENT),
+                                                                          uploadState);
+
+        uploadState.pause();
+        future.cancel(true);
+        pendingPart.completeExceptionally(SdkClientException.create("cancelled"));
+
+        assertThat(uploadState.uploadId()).hasValue("id");
+        assertThat(uploadState.partSizeInBytes()).hasValue(4L);
+        assertThat(uploadState.completedParts()).extracting(CompletedPart::partNumber).containsExactly(1);
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_objectChecksumProvided_shouldPutObject() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        MultipartUploadHelper helper = new MultipartUploadHelper(s3AsyncClient, 4, 2);
+        helper.uploadObject(PUT_OBJECT_REQUEST.toBuilder().contentMD5("md5").build(),
+                            AsyncRequestBody.fromString(CONTENT)).join();
+
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    private static AsyncRequestBody chunkedBody(int chunkSize) {
+        Flowable<ByteBuffer> chunks =
+            Flowable.range(0, (CONTENT.length() + chunkSize - 1) / chunkSize)
+                    .map(i -> CONTENT.substring(i * chunkSize, Math.min(CONTENT.length(), (i + 1) * chunkSize)))
+                    .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+        return AsyncRequestBody.fromPublisher(chunks);
+    }
+
+    private static String read(AsyncRequestBody body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body).blockingForEach(buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            outputStream.write(bytes);
+        });
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultDirectoryTransferProgress;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgressSnapshot;
+
+public class ParallelDirectoryWalkerTest {
+    private FileSystem jimfs;
+    private Path directory;
+    private DefaultDirectoryTransferProgress progress;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        jimfs = Jimfs.newFileSystem();
+        directory = jimfs.getPath("test");
+        Files.createDirectories(directory.resolve("a/b"));
+        Files.createDirectories(directory.resolve("skip"));
+        for (int i = 0; i < 5; i++) {
+            Files.createFile(directory.resolve("file" + i));
+            Files.createFile(directory.resolve("a/file" + i));
+            Files.createFile(directory.resolve("a/b/file" + i));
+            Files.createFile(directory.resolve("skip/file" + i));
+        }
+        progress = new DefaultDirectoryTransferProgress();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    public void walk_shouldPublishAllRegularFiles() throws Exception {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress,
+                                                            4, 2, 10));
+
+        try (Stream<Path> expected = Files.walk(directory)) {
+            assertThat(files).containsExactlyInAnyOrderElementsOf(expected.filter(Files::isRegularFile)
+                                                                          .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void walk_shouldPublishFilesOfADirectoryInListingOrder() throws Exception {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress,
+                                                            4, 2, 10));
+
+        Path subdirectory = directory.resolve("a/b");
+        try (Stream<Path> expected = Files.list(subdirectory)) {
+            assertThat(files.stream().filter(p -> p.getParent().equals(subdirectory)))
+                .containsExactlyElementsOf(expected.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void walk_shouldPublishFileSizes() throws Exception {
+        Files.write(directory.resolve("a/file1"), new byte[10]);
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress);
+        Queue<DiscoveredFile> files = new ConcurrentLinkedQueue<>();
+
+        walker.subscribe(files::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(files).extracting(DiscoveredFile::path, DiscoveredFile::size)
+                         .contains(tuple(directory.resolve("a/file1"), 10L),
+                                   tuple(directory.resolve("a/file2"), 0L));
+    }
+
+    @Test
+    public void walk_withMaxDepth_shouldNotTraverseDeeperDirectories() throws Exception {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, 2, false, p -> true, progress));
+
+        assertThat(files).hasSize(15)
+                         .allSatisfy(p -> assertThat(p.getNameCount()).isLessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void walk_withFilter_shouldSkipFilteredFilesAndDirectories() throws Exception {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false,
+                                                            p -> !p.endsWith("skip") && !p.endsWith("file0"), progress));
+
+        assertThat(files).hasSize(12)
+                         .noneMatch(p -> p.startsWith(directory.resolve("skip")))
+                         .noneMatch(p -> p.endsWith("file0"));
+    }
+
+    @Test
+    public void walk_shouldReportDiscoveredFiles() throws Exception {
+        walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress));
+
+        DirectoryTransferProgressSnapshot snapshot = progress.snapshot();
+        assertThat(snapshot.filesDiscovered()).isEqualTo(20);
+        assertThat(snapshot.discoveryComplete()).isTrue();
+    }
+
+    @Test
+    public void walk_withoutDemand_shouldStopListingOnceBufferIsFull() throws Exception {
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress,
+                                                                     1, 1, 3);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        walker.subscribe(subscriber);
+
+        Thread.sleep(100);
+        assertThat(progress.snapshot().filesDiscovered()).isLessThanOrEqualTo(3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completionFuture.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.files).hasSize(20);
+    }
+
+    @Test
+    public void walk_directoryDoesNotExist_shouldFail() {
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(jimfs.getPath("missing"), Integer.MAX_VALUE, false,
+                                                                     p -> true, progress);
+
+        assertThatThrownBy(() -> walk(walker)).hasCauseInstanceOf(SdkClientException.class)
+                                              .hasMessageContaining("Failed to list files within the provided directory");
+        assertThat(progress.snapshot().discoveryComplete()).isFalse();
+    }
+
+    @Test
+    public void subscribeTwice_shouldFail() throws Exception {
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, p -> true, progress);
+        walk(walker);
+
+        assertThatThrownBy(() -> walk(walker)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Path> walk(ParallelDirectoryWalker walker) throws Exception {
+        Queue<Path> files = new ConcurrentLinkedQueue<>();
+        walker.subscribe(file -> files.add(file.path())).get(5, TimeUnit.SECONDS);
+        return files.stream().collect(Collectors.toList());
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<DiscoveredFile> {
+        private final Queue<DiscoveredFile> files = new ConcurrentLinkedQueue<>();
+        private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+        private volatile Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(DiscoveredFile file) {
+            files.add(file);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completionFuture.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completionFuture.complete(null);
+        }
+    }
+}
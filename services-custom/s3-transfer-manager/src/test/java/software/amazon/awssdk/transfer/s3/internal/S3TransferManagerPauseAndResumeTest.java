@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,14 +36,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.transfer.s3.CompletedFileDownload;
+import software.amazon.awssdk.transfer.s3.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -121,6 +127,26 @@ class S3TransferManagerPauseAndResumeTest {
                                    .join()).hasRootCause(sdkClientException);
     }
 
+    @Test
+    void resumeUploadFile_notMultipartClient_shouldUploadFromBeginning() {
+        PutObjectResponse response = PutObjectResponse.builder().eTag("etag").build();
+        when(mockS3Crt.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletedFileUpload completedFileUpload =
+            tm.resumeUploadFile(r -> r.uploadFileRequest(u -> u.source(file)
+                                                               .putObjectRequest(p -> p.bucket("bucket").key("key")))
+                                      .fileLength(file.length())
+                                      .fileLastModified(Instant.ofEpochMilli(file.lastModified()))
+                                      .multipartUploadId("uploadId")
+                                      .partSizeInBytes(100L))
+              .completionFuture()
+              .join();
+
+        assertThat(completedFileUpload.response()).isEqualTo(response);
+        verify(mockS3Crt, never()).listPartsPaginator(any(ListPartsRequest.class));
+    }
+
     private void verifyActualGetObjectRequest(GetObjectRequest getObjectRequest, String range) {
         ArgumentCaptor<GetObjectRequest> getObjectRequestArgumentCaptor =
             ArgumentCaptor.forClass(GetObjectRequest.class);
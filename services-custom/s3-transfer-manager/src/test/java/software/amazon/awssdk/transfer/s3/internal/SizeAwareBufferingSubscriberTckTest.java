@@ -21,21 +21,26 @@ import org.reactivestreams.Subscription;
 import org.reactivestreams.tck.SubscriberWhiteboxVerification;
 import org.reactivestreams.tck.TestEnvironment;
 
+public class SizeAwareBufferingSubscriberTckTest extends SubscriberWhiteboxVerification<String> {
 
-public class AsyncBufferingSubscriberTckTest extends SubscriberWhiteboxVerification<String> {
-
-    protected AsyncBufferingSubscriberTckTest() {
+    protected SizeAwareBufferingSubscriberTckTest() {
         super(new TestEnvironment());
     }
 
     @Override
-    public Subscriber<String> createSubscriber(SubscriberWhiteboxVerification.WhiteboxSubscriberProbe<String> whiteboxSubscriberProbe) {
-        return new AsyncBufferingSubscriber<String>(s -> CompletableFuture.completedFuture("test"), new CompletableFuture<>(),
-                                                    1) {
+    public Subscriber<String> createSubscriber(
+        SubscriberWhiteboxVerification.WhiteboxSubscriberProbe<String> whiteboxSubscriberProbe) {
+        SizeAwareBufferingSubscriber<String> subscriber =
+            new SizeAwareBufferingSubscriber<>(s -> CompletableFuture.completedFuture("test"), s -> 1L, 10,
+                                               new AimdConcurrencyLimiter(1, 1, false),
+                                               new AimdConcurrencyLimiter(1, 1, false),
+                                               new CompletableFuture<>());
+
+        return new Subscriber<String>() {
 
             @Override
             public void onSubscribe(Subscription s) {
-                super.onSubscribe(s);
+                subscriber.onSubscribe(s);
                 whiteboxSubscriberProbe.registerOnSubscribe(new SubscriberWhiteboxVerification.SubscriberPuppet() {
 
                     @Override
@@ -52,19 +57,19 @@ public class AsyncBufferingSubscriberTckTest extends SubscriberWhiteboxVerificat
 
             @Override
             public void onNext(String item) {
-                super.onNext(item);
+                subscriber.onNext(item);
                 whiteboxSubscriberProbe.registerOnNext(item);
             }
 
             @Override
             public void onError(Throwable t) {
-                super.onError(t);
+                subscriber.onError(t);
                 whiteboxSubscriberProbe.registerOnError(t);
             }
 
             @Override
             public void onComplete() {
-                super.onComplete();
+                subscriber.onComplete();
                 whiteboxSubscriberProbe.registerOnComplete();
             }
         };
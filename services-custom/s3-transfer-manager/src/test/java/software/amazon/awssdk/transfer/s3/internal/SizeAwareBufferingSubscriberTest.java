@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SizeAwareBufferingSubscriberTest {
+    private static final long SMALL_OBJECT_THRESHOLD = 10;
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<Void>> futures = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> returnFuture;
+    private SizeAwareBufferingSubscriber<String> subscriber;
+
+    @BeforeEach
+    void setUp() {
+        returnFuture = new CompletableFuture<>();
+        subscriber = new SizeAwareBufferingSubscriber<>(item -> {
+            started.add(item);
+            return futures.computeIfAbsent(item, i -> new CompletableFuture<>());
+        }, SizeAwareBufferingSubscriberTest::size, SMALL_OBJECT_THRESHOLD,
+            new AimdConcurrencyLimiter(2, 2, false),
+            new AimdConcurrencyLimiter(1, 1, false),
+            returnFuture);
+    }
+
+    @Test
+    void smallObjects_shouldNotWaitForLargeObjects() throws Exception {
+        Flowable.fromIterable(Arrays.asList("large1", "large2", "small1", "small2", "small3")).subscribe(subscriber);
+
+        assertThat(started).containsExactlyInAnyOrder("large1", "small1", "small2");
+        assertThat(subscriber.numRequestsInFlight()).isEqualTo(3);
+
+        futures.get("small1").complete(null);
+        assertThat(started).contains("small3").doesNotContain("large2");
+
+        futures.get("large1").complete(null);
+        assertThat(started).contains("large2");
+
+        futures.values().forEach(f -> f.complete(null));
+        returnFuture.get(1, TimeUnit.SECONDS);
+        assertThat(started).hasSize(5);
+        assertThat(subscriber.numRequestsInFlight()).isZero();
+    }
+
+    @Test
+    void unknownSize_shouldUseLargeObjectLane() {
+        Flowable.fromIterable(Arrays.asList("unknown1", "unknown2", "small1")).subscribe(subscriber);
+
+        assertThat(started).containsExactlyInAnyOrder("unknown1", "small1");
+    }
+
+    @Test
+    void failedTransfers_shouldNotFailReturnFuture() throws Exception {
+        Flowable.fromIterable(Arrays.asList("small1", "small2")).subscribe(subscriber);
+
+        futures.get("small1").completeExceptionally(new RuntimeException("failed"));
+        futures.get("small2").complete(null);
+
+        returnFuture.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void consumerThrows_shouldFailReturnFuture() {
+        RuntimeException exception = new RuntimeException("failed");
+        SizeAwareBufferingSubscriber<String> failingSubscriber =
+            new SizeAwareBufferingSubscriber<>(item -> {
+                throw exception;
+            }, SizeAwareBufferingSubscriberTest::size, SMALL_OBJECT_THRESHOLD,
+                new AimdConcurrencyLimiter(2, 2, false),
+                new AimdConcurrencyLimiter(1, 1, false),
+                returnFuture);
+
+        Flowable.fromIterable(Arrays.asList("small1", "small2")).subscribe(failingSubscriber);
+
+        assertThatThrownBy(() -> returnFuture.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                      .hasCause(exception);
+    }
+
+    @Test
+    void upstreamError_shouldFailReturnFuture() {
+        RuntimeException exception = new RuntimeException("failed");
+
+        Flowable.<String>error(exception).subscribe(subscriber);
+
+        assertThatThrownBy(() -> returnFuture.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                      .hasCause(exception);
+    }
+
+    @Test
+    void returnFutureCompletedExternally_shouldCancelSubscriptionAndStartNoMoreItems() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flowable.range(0, 100)
+                .map(i -> "small" + i)
+                .doOnCancel(() -> cancelled.set(true))
+                .subscribe(subscriber);
+        assertThat(started).containsExactly("small0", "small1");
+
+        returnFuture.cancel(true);
+        futures.values().forEach(f -> f.complete(null));
+
+        assertThat(cancelled).isTrue();
+        assertThat(started).containsExactly("small0", "small1");
+    }
+
+    @Test
+    void emptyStream_shouldCompleteReturnFuture() throws Exception {
+        Flowable.<String>empty().subscribe(subscriber);
+
+        returnFuture.get(1, TimeUnit.SECONDS);
+    }
+
+    private static long size(String item) {
+        if (item.startsWith("small")) {
+            return 1;
+        }
+        return item.startsWith("large") ? 100 : -1;
+    }
+}
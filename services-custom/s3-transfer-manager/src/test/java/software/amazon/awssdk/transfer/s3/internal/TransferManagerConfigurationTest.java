@@ -18,7 +18,14 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.ADAPTIVE_CONCURRENCY_ENABLED;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_MAX_IN_FLIGHT_PARTS;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_MAX_MEMORY_IN_BYTES;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.MULTIPART_PART_SIZE_IN_BYTES;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.SMALL_OBJECT_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.SMALL_OBJECT_THRESHOLD_IN_BYTES;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_RECURSIVE;
@@ -27,6 +34,7 @@ import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import software.amazon.awssdk.transfer.s3.SizeConstant;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.UploadDirectoryRequest;
 
@@ -83,6 +91,39 @@ public class TransferManagerConfigurationTest {
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_MAX_DEPTH)).isEqualTo(Integer.MAX_VALUE);
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_RECURSIVE)).isTrue();
         assertThat(transferManagerConfiguration.option(EXECUTOR)).isNotNull();
+        assertThat(transferManagerConfiguration.option(MULTIPART_PART_SIZE_IN_BYTES)).isEqualTo(8 * SizeConstant.MB);
+        assertThat(transferManagerConfiguration.option(MULTIPART_MAX_IN_FLIGHT_PARTS)).isEqualTo(16);
+        assertThat(transferManagerConfiguration.option(MULTIPART_MAX_MEMORY_IN_BYTES)).isEqualTo(256 * SizeConstant.MB);
+        assertThat(transferManagerConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY)).isEqualTo(100);
+        assertThat(transferManagerConfiguration.option(SMALL_OBJECT_THRESHOLD_IN_BYTES)).isEqualTo(64 * SizeConstant.KB);
+        assertThat(transferManagerConfiguration.option(SMALL_OBJECT_MAX_CONCURRENCY)).isEqualTo(400);
+        assertThat(transferManagerConfiguration.option(ADAPTIVE_CONCURRENCY_ENABLED)).isTrue();
+    }
+
+    @Test
+    public void multipartOverride_shouldTakePrecedence() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .partSizeInBytes(SizeConstant.MB)
+                                                                   .maxInFlightParts(2)
+                                                                   .maxMemoryInBytes(4 * SizeConstant.MB)
+                                                                   .build();
+        assertThat(transferManagerConfiguration.option(MULTIPART_PART_SIZE_IN_BYTES)).isEqualTo(SizeConstant.MB);
+        assertThat(transferManagerConfiguration.option(MULTIPART_MAX_IN_FLIGHT_PARTS)).isEqualTo(2);
+        assertThat(transferManagerConfiguration.option(MULTIPART_MAX_MEMORY_IN_BYTES)).isEqualTo(4 * SizeConstant.MB);
+    }
+
+    @Test
+    public void directoryTransferConcurrencyOverride_shouldTakePrecedence() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .directoryTransferMaxConcurrency(10)
+                                                                   .smallObjectThresholdInBytes(SizeConstant.KB)
+                                                                   .smallObjectMaxConcurrency(20)
+                                                                   .adaptiveConcurrencyEnabled(false)
+                                                                   .build();
+        assertThat(transferManagerConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY)).isEqualTo(10);
+        assertThat(transferManagerConfiguration.option(SMALL_OBJECT_THRESHOLD_IN_BYTES)).isEqualTo(SizeConstant.KB);
+        assertThat(transferManagerConfiguration.option(SMALL_OBJECT_MAX_CONCURRENCY)).isEqualTo(20);
+        assertThat(transferManagerConfiguration.option(ADAPTIVE_CONCURRENCY_ENABLED)).isFalse();
     }
 
     @Test
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+class TransferManifestTest {
+    private FileSystem jimfs;
+    private Path manifestFile;
+
+    @BeforeEach
+    void setUp() {
+        jimfs = Jimfs.newFileSystem();
+        manifestFile = jimfs.getPath("manifests", "manifest");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    void load_missingFile_shouldBeEmpty() {
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "prefix/");
+
+        assertThat(manifest.previousEntry("key")).isNull();
+    }
+
+    @Test
+    void write_thenLoad_shouldRoundTripEntries() {
+        TransferManifest.Entry entry = new TransferManifest.Entry(10, 1000, "\"etag\"");
+        TransferManifest.Entry entryWithoutETag = new TransferManifest.Entry(0, 2000, null);
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "prefix/");
+        manifest.record("prefix/a b\tc\nd+\u00e9", entry);
+        manifest.record("prefix/empty", entryWithoutETag);
+        manifest.write();
+
+        TransferManifest loaded = TransferManifest.load(manifestFile, "bucket", "prefix/");
+
+        assertThat(loaded.previousEntry("prefix/a b\tc\nd+\u00e9")).isEqualTo(entry);
+        assertThat(loaded.previousEntry("prefix/empty")).isEqualTo(entryWithoutETag);
+    }
+
+    @Test
+    void write_shouldOnlyKeepEntriesRecordedByTheCurrentTransfer() {
+        TransferManifest first = TransferManifest.load(manifestFile, "bucket", "");
+        first.record("kept", new TransferManifest.Entry(1, 1, "etag1"));
+        first.record("failed", new TransferManifest.Entry(2, 2, "etag2"));
+        first.write();
+
+        TransferManifest second = TransferManifest.load(manifestFile, "bucket", "");
+        second.record("kept", second.previousEntry("kept"));
+        second.write();
+
+        TransferManifest third = TransferManifest.load(manifestFile, "bucket", "");
+        assertThat(third.previousEntry("kept")).isNotNull();
+        assertThat(third.previousEntry("failed")).isNull();
+    }
+
+    @Test
+    void writeAfterFailure_shouldKeepEntriesRecordedBeforeTheFailure() {
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "");
+        manifest.record("transferred", new TransferManifest.Entry(1, 1, "etag"));
+        RuntimeException failure = new RuntimeException("transfer failed");
+
+        manifest.writeAfterFailure(failure);
+
+        assertThat(failure.getSuppressed()).isEmpty();
+        assertThat(TransferManifest.load(manifestFile, "bucket", "").previousEntry("transferred")).isNotNull();
+    }
+
+    @Test
+    void writeAfterFailure_writeFails_shouldSuppressWriteFailure() throws IOException {
+        Files.createFile(manifestFile.getParent());
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "");
+        manifest.record("transferred", new TransferManifest.Entry(1, 1, "etag"));
+        RuntimeException failure = new RuntimeException("transfer failed");
+
+        manifest.writeAfterFailure(failure);
+
+        assertThat(failure.getSuppressed()).hasSize(1);
+        assertThat(failure.getSuppressed()[0]).isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    void load_otherBucketOrPrefix_shouldBeEmpty() {
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "prefix/");
+        manifest.record("prefix/key", new TransferManifest.Entry(1, 1, "etag"));
+        manifest.write();
+
+        assertThat(TransferManifest.load(manifestFile, "other-bucket", "prefix/").previousEntry("prefix/key")).isNull();
+        assertThat(TransferManifest.load(manifestFile, "bucket", "other/").previousEntry("prefix/key")).isNull();
+    }
+
+    @Test
+    void load_corruptFile_shouldBeEmpty() throws IOException {
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "");
+        manifest.record("key", new TransferManifest.Entry(1, 1, "etag"));
+        manifest.write();
+        Files.write(manifestFile, "key\tnot-a-number\n".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        assertThat(TransferManifest.load(manifestFile, "bucket", "").previousEntry("key")).isNull();
+    }
+
+    @Test
+    void entryMatches_shouldRequireSameSizeLastModifiedAndETag() {
+        TransferManifest.Entry entry = new TransferManifest.Entry(10, 1000, "etag");
+
+        assertThat(entry.matches(10, 1000, "etag")).isTrue();
+        assertThat(entry.matches(11, 1000, "etag")).isFalse();
+        assertThat(entry.matches(10, 1001, "etag")).isFalse();
+        assertThat(entry.matches(10, 1000, "other")).isFalse();
+        assertThat(new TransferManifest.Entry(10, 1000, null).matches(10, 1000, null)).isFalse();
+    }
+}
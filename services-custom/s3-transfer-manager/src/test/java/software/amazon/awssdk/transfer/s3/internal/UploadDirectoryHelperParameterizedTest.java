@@ -29,6 +29,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -83,9 +84,11 @@ public class UploadDirectoryHelperParameterizedTest {
 
         if (!configuration.equals(Configuration.forCurrentPlatform())) {
             jimfs = Jimfs.newFileSystem(configuration);
-            uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction, jimfs);
+            uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(),
+                                                              mock(ListObjectsHelper.class), singleUploadFunction, jimfs);
         } else {
-            uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction);
+            uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(),
+                                                              mock(ListObjectsHelper.class), singleUploadFunction);
         }
         directory = createTestDirectory();
     }
@@ -314,7 +317,14 @@ public class UploadDirectoryHelperParameterizedTest {
         return new DefaultFileUpload(CompletableFuture.completedFuture(CompletedFileUpload.builder()
                                                                                           .response(PutObjectResponse.builder().build())
                                                                                           .build()),
-                                     new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder().build()));
+                                     new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder().build()),
+                                     UploadFileRequest.builder()
+                                                      .source(Paths.get("test.txt"))
+                                                      .putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                                      .build(),
+                                     null,
+                                     0L,
+                                     Instant.EPOCH);
     }
 
     private Path createTestDirectory() throws IOException {
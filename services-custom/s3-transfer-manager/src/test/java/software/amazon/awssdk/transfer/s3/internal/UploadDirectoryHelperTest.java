@@ -22,24 +22,32 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.DirectoryUpload;
@@ -50,11 +58,13 @@ import software.amazon.awssdk.transfer.s3.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgressSnapshot;
+import software.amazon.awssdk.transfer.s3.progress.DirectoryTransferProgressSnapshot;
 
 public class UploadDirectoryHelperTest {
     private static FileSystem jimfs;
     private static Path directory;
     private Function<UploadFileRequest, FileUpload> singleUploadFunction;
+    private ListObjectsHelper listObjectsHelper;
     private UploadDirectoryHelper uploadDirectoryHelper;
 
     @BeforeAll
@@ -74,7 +84,9 @@ public class UploadDirectoryHelperTest {
     @BeforeEach
     public void methodSetup() {
         singleUploadFunction = mock(Function.class);
-        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction);
+        listObjectsHelper = mock(ListObjectsHelper.class);
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), listObjectsHelper,
+                                                          singleUploadFunction);
     }
 
     @Test
@@ -102,6 +114,42 @@ public class UploadDirectoryHelperTest {
             .isInstanceOf(CancellationException.class);
     }
 
+    @Test
+    public void uploadDirectory_cancelDuringWalk_shouldNotStartMoreUploads() throws Exception {
+        Path manyFiles = jimfs.getPath("many");
+        Files.createDirectory(manyFiles);
+        for (int i = 0; i < 1000; i++) {
+            Files.createFile(manyFiles.resolve(String.valueOf(i)));
+        }
+
+        AtomicInteger uploadsStarted = new AtomicInteger();
+        CountDownLatch firstUploadStarted = new CountDownLatch(1);
+        TransferManagerConfiguration configuration = TransferManagerConfiguration.builder()
+                                                                                 .directoryTransferMaxConcurrency(2)
+                                                                                 .smallObjectMaxConcurrency(2)
+                                                                                 .build();
+        UploadDirectoryHelper helper = new UploadDirectoryHelper(configuration, listObjectsHelper, request -> {
+            uploadsStarted.incrementAndGet();
+            firstUploadStarted.countDown();
+            return newUpload(new CompletableFuture<>());
+        });
+
+        DirectoryUpload uploadDirectory =
+            helper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                         .sourceDirectory(manyFiles)
+                                                         .bucket("bucket")
+                                                         .build());
+        assertThat(firstUploadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        uploadDirectory.completionFuture().cancel(true);
+        Thread.sleep(500);
+
+        // Only the uploads that the two-upload lanes allowed before the cancellation were started
+        assertThat(uploadsStarted.get()).isLessThanOrEqualTo(4);
+        assertThatThrownBy(() -> uploadDirectory.completionFuture().get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+    }
+
     @Test
     public void uploadDirectory_allUploadsSucceed_failedUploadsShouldBeEmpty() throws Exception {
         PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
@@ -212,9 +260,129 @@ public class UploadDirectoryHelperTest {
         });
     }
 
+    @Test
+    public void uploadDirectory_withFilter_shouldOnlyUploadAcceptedFiles() throws Exception {
+        PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
+        CompletedFileUpload completedFileUpload = CompletedFileUpload.builder().response(putObjectResponse).build();
+        CompletableFuture<CompletedFileUpload> successfulFuture = new CompletableFuture<>();
+        FileUpload fileUpload = newUpload(successfulFuture);
+        successfulFuture.complete(completedFileUpload);
+
+        ArgumentCaptor<UploadFileRequest> uploadRequestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(uploadRequestCaptor.capture())).thenReturn(fileUpload);
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .sourceDirectory(directory)
+                                                                        .bucket("bucket")
+                                                                        .filter(path -> !path.endsWith("1"))
+                                                                        .build());
+
+        CompletedDirectoryUpload completedDirectoryUpload = uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(uploadRequestCaptor.getAllValues()).hasSize(1);
+        assertThat(uploadRequestCaptor.getValue().putObjectRequest().key()).isEqualTo("2");
+    }
+
+    @Test
+    public void uploadDirectory_partialSuccess_shouldReportProgress() throws Exception {
+        PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
+        CompletedFileUpload completedFileUpload = CompletedFileUpload.builder().response(putObjectResponse).build();
+        CompletableFuture<CompletedFileUpload> successfulFuture = new CompletableFuture<>();
+        FileUpload fileUpload = newUpload(successfulFuture);
+        successfulFuture.complete(completedFileUpload);
+
+        CompletableFuture<CompletedFileUpload> failedFuture = new CompletableFuture<>();
+        FileUpload fileUpload2 = newUpload(failedFuture);
+        failedFuture.completeExceptionally(SdkClientException.create("failed"));
+
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(fileUpload, fileUpload2);
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .sourceDirectory(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        DirectoryTransferProgressSnapshot snapshot = uploadDirectory.progress().snapshot();
+        assertThat(snapshot.filesDiscovered()).isEqualTo(2);
+        assertThat(snapshot.filesTransferred()).isEqualTo(1);
+        assertThat(snapshot.filesFailed()).isEqualTo(1);
+        assertThat(snapshot.discoveryComplete()).isTrue();
+    }
+
+    @Test
+    public void uploadDirectory_withManifest_shouldSkipUnchangedFilesAndRecordThem() throws Exception {
+        Path manifestFile = jimfs.getPath("upload-manifest");
+        Files.setLastModifiedTime(directory.resolve("1"), FileTime.from(Instant.parse("2022-01-01T00:00:00Z")));
+        S3Object unchanged = S3Object.builder()
+                                     .key("1")
+                                     .size(0L)
+                                     .lastModified(Instant.parse("2022-01-02T00:00:00Z"))
+                                     .eTag("unchanged")
+                                     .build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(unchanged)));
+
+        PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("uploaded").build();
+        CompletableFuture<CompletedFileUpload> successfulFuture =
+            CompletableFuture.completedFuture(CompletedFileUpload.builder().response(putObjectResponse).build());
+        ArgumentCaptor<UploadFileRequest> uploadRequestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        when(singleUploadFunction.apply(uploadRequestCaptor.capture())).thenReturn(newUpload(successfulFuture));
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .sourceDirectory(directory)
+                                                                        .bucket("bucket")
+                                                                        .manifestFile(manifestFile)
+                                                                        .build());
+
+        CompletedDirectoryUpload completedDirectoryUpload = uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(uploadRequestCaptor.getAllValues()).hasSize(1);
+        assertThat(uploadRequestCaptor.getValue().putObjectRequest().key()).isEqualTo("2");
+
+        DirectoryTransferProgressSnapshot snapshot = uploadDirectory.progress().snapshot();
+        assertThat(snapshot.filesSkipped()).isEqualTo(1);
+        assertThat(snapshot.filesTransferred()).isEqualTo(1);
+
+        TransferManifest manifest = TransferManifest.load(manifestFile, "bucket", "");
+        assertThat(manifest.previousEntry("1").eTag()).isEqualTo("unchanged");
+        assertThat(manifest.previousEntry("2").eTag()).isEqualTo("uploaded");
+    }
+
+    @Test
+    public void uploadDirectory_withManifest_listingFails_shouldCompleteExceptionally() {
+        SdkClientException exception = SdkClientException.create("failed to list");
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.error(exception)));
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .sourceDirectory(directory)
+                                                                        .bucket("bucket")
+                                                                        .manifestFile(jimfs.getPath("failed-manifest"))
+                                                                        .build());
+
+        assertThatThrownBy(() -> uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS))
+            .hasRootCause(exception);
+        assertThat(Files.exists(jimfs.getPath("failed-manifest"))).isFalse();
+    }
+
     private FileUpload newUpload(CompletableFuture<CompletedFileUpload> future) {
         return new DefaultFileUpload(future,
-                                 new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder().build())
-        );
+                                     new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder().build()),
+                                     UploadFileRequest.builder()
+                                                      .source(Paths.get("test.txt"))
+                                                      .putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                                      .build(),
+                                     null,
+                                     0L,
+                                     Instant.EPOCH);
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.utils.DateUtils.parseIso8601Date;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.RequestPayer;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.TransferRequestOverrideConfiguration;
+import software.amazon.awssdk.transfer.s3.UploadFileRequest;
+import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
+
+class ResumableFileUploadSerializerTest {
+
+    private static final Path PATH = RandomTempFile.randomUncreatedFile().toPath();
+    private static final Instant DATE1 = parseIso8601Date("2022-05-13T21:55:52.529Z");
+    private static final Map<String, PutObjectRequest> PUT_OBJECT_REQUESTS;
+    private static final List<CompletedPart> COMPLETED_PARTS =
+        Arrays.asList(CompletedPart.builder().partNumber(1).eTag("etag1").build(),
+                      CompletedPart.builder().partNumber(2).eTag("etag2").checksumCRC32("crc32").build());
+
+    static {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("foo", "bar");
+        metadata.put("baz", "qux");
+
+        Map<String, PutObjectRequest> requests = new HashMap<>();
+        requests.put("EMPTY", PutObjectRequest.builder().build());
+        requests.put("STANDARD", PutObjectRequest.builder().bucket("BUCKET").key("KEY").build());
+        requests.put("ALL_TYPES", PutObjectRequest.builder()
+                                                  .bucket("BUCKET")
+                                                  .key("KEY")
+                                                  .contentType("text/plain")
+                                                  .metadata(metadata)
+                                                  .expires(parseIso8601Date("2020-01-01T12:10:30Z"))
+                                                  .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                                                  .storageClass(StorageClass.STANDARD_IA)
+                                                  .requestPayer(RequestPayer.REQUESTER)
+                                                  .bucketKeyEnabled(true)
+                                                  .build());
+        PUT_OBJECT_REQUESTS = Collections.unmodifiableMap(requests);
+    }
+
+    @ParameterizedTest
+    @MethodSource("uploadObjects")
+    void serializeDeserialize_ShouldWorkForAllUploads(ResumableFileUpload upload)  {
+        byte[] serializedUpload = ResumableFileUploadSerializer.toJson(upload);
+        ResumableFileUpload deserializedUpload = ResumableFileUploadSerializer.fromJson(serializedUpload);
+
+        assertThat(deserializedUpload).isEqualTo(upload);
+    }
+
+    @Test
+    void serializeDeserialize_DoesNotPersistConfiguration()  {
+        ResumableFileUpload upload =
+            ResumableFileUpload.builder()
+                               .uploadFileRequest(u -> u.source(PATH)
+                                                        .putObjectRequest(PUT_OBJECT_REQUESTS.get("STANDARD"))
+                                                        .overrideConfiguration(
+                                                            c -> c.addListener(LoggingTransferListener.create())))
+                               .fileLength(1000L)
+                               .fileLastModified(DATE1)
+                               .build();
+
+        byte[] serializedUpload = ResumableFileUploadSerializer.toJson(upload);
+        ResumableFileUpload deserializedUpload = ResumableFileUploadSerializer.fromJson(serializedUpload);
+
+        UploadFileRequest fileRequestWithoutConfig =
+            upload.uploadFileRequest().copy(r -> r.overrideConfiguration((TransferRequestOverrideConfiguration) null));
+        assertThat(deserializedUpload).isEqualTo(upload.copy(u -> u.uploadFileRequest(fileRequestWithoutConfig)));
+    }
+
+    @Test
+    void serializeDeserialize_DoesNotPersistRequestOverrideConfiguration()  {
+        PutObjectRequest requestWithOverride =
+            PutObjectRequest.builder()
+                            .bucket("BUCKET")
+                            .key("KEY")
+                            .overrideConfiguration(c -> c.apiCallAttemptTimeout(Duration.ofMillis(20)).build())
+                            .build();
+
+        UploadFileRequest uploadFileRequest = uploadRequest(PATH, requestWithOverride);
+
+        ResumableFileUpload upload = resumableFileUpload(null, null, Collections.emptyList(), uploadFileRequest);
+
+        byte[] serializedUpload = ResumableFileUploadSerializer.toJson(upload);
+        ResumableFileUpload deserializedUpload = ResumableFileUploadSerializer.fromJson(serializedUpload);
+
+        PutObjectRequest requestWithoutOverride =
+            requestWithOverride.copy(r -> r.overrideConfiguration((AwsRequestOverrideConfiguration) null));
+        UploadFileRequest fileRequestCopy = uploadFileRequest.copy(r -> r.putObjectRequest(requestWithoutOverride));
+        assertThat(deserializedUpload).isEqualTo(upload.copy(u -> u.uploadFileRequest(fileRequestCopy)));
+    }
+
+    public static Collection<ResumableFileUpload> uploadObjects() {
+        return Stream.of(differentUploadSettings(),
+                         differentPutObjects())
+                     .flatMap(Collection::stream).collect(Collectors.toList());
+    }
+
+    private static List<ResumableFileUpload> differentPutObjects() {
+        return PUT_OBJECT_REQUESTS.values()
+                                  .stream()
+                                  .map(request -> resumableFileUpload("uploadId", 1000L, COMPLETED_PARTS,
+                                                                      uploadRequest(PATH, request)))
+                                  .collect(Collectors.toList());
+    }
+
+    private static List<ResumableFileUpload> differentUploadSettings() {
+        UploadFileRequest request = uploadRequest(PATH, PUT_OBJECT_REQUESTS.get("STANDARD"));
+        return Arrays.asList(
+            resumableFileUpload(null, null, Collections.emptyList(), request),
+            resumableFileUpload("uploadId", 1000L, Collections.emptyList(), request),
+            resumableFileUpload("uploadId", 1000L, COMPLETED_PARTS, request),
+            resumableFileUpload("uploadId", Long.MAX_VALUE, COMPLETED_PARTS, request)
+        );
+    }
+
+    private static ResumableFileUpload resumableFileUpload(String multipartUploadId,
+                                                           Long partSizeInBytes,
+                                                           List<CompletedPart> completedParts,
+                                                           UploadFileRequest request) {
+        return ResumableFileUpload.builder()
+                                  .uploadFileRequest(request)
+                                  .fileLength(2000L)
+                                  .fileLastModified(DATE1)
+                                  .multipartUploadId(multipartUploadId)
+                                  .partSizeInBytes(partSizeInBytes)
+                                  .completedParts(completedParts)
+                                  .build();
+    }
+
+    private static UploadFileRequest uploadRequest(Path path, PutObjectRequest request) {
+        return UploadFileRequest.builder()
+                                .putObjectRequest(request)
+                                .source(path)
+                                .build();
+    }
+}
@@ -98,7 +98,8 @@ class TransferManagerMarshallerUtilsTest {
                          Arguments.of(MarshallingType.DOUBLE, TransferManagerJsonUnmarshaller.DOUBLE),
                          Arguments.of(MarshallingType.BIG_DECIMAL, TransferManagerJsonUnmarshaller.BIG_DECIMAL),
                          Arguments.of(MarshallingType.BOOLEAN, TransferManagerJsonUnmarshaller.BOOLEAN),
-                         Arguments.of(MarshallingType.SDK_BYTES, TransferManagerJsonUnmarshaller.SDK_BYTES)
+                         Arguments.of(MarshallingType.SDK_BYTES, TransferManagerJsonUnmarshaller.SDK_BYTES),
+                         Arguments.of(MarshallingType.MAP, TransferManagerJsonUnmarshaller.MAP)
         );
     }
 
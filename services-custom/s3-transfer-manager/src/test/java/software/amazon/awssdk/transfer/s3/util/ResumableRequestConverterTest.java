@@ -17,6 +17,8 @@ package software.amazon.awssdk.transfer.s3.util;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.fileNotModified;
+import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toCompletedParts;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
 import java.io.File;
@@ -24,18 +26,23 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.transfer.s3.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.ResumableFileUpload;
 import software.amazon.awssdk.utils.Pair;
 
 class ResumableRequestConverterTest {
@@ -137,6 +144,33 @@ class ResumableRequestConverterTest {
         verifyActualGetObjectRequest(getObjectRequest, actual.left().getObjectRequest(), null);
     }
 
+    @Test
+    void fileNotModified_sameLengthAndLastModified_shouldReturnTrue() {
+        assertThat(fileNotModified(resumableFileUpload(file.length(), Instant.ofEpochMilli(file.lastModified())))).isTrue();
+    }
+
+    @Test
+    void fileNotModified_fileChanged_shouldReturnFalse() {
+        Instant fileLastModified = Instant.ofEpochMilli(file.lastModified());
+        assertThat(fileNotModified(resumableFileUpload(file.length() + 1, fileLastModified))).isFalse();
+        assertThat(fileNotModified(resumableFileUpload(file.length(), fileLastModified.minusSeconds(10)))).isFalse();
+    }
+
+    @Test
+    void toCompletedParts_shouldOnlyKeepPartsOfTheExpectedSize() {
+        ResumableFileUpload resumableFileUpload = resumableFileUpload(1000L, Instant.ofEpochMilli(file.lastModified()));
+        List<Part> parts = Arrays.asList(Part.builder().partNumber(1).size(400L).eTag("etag1").build(),
+                                         Part.builder().partNumber(2).size(100L).eTag("etag2").build(),
+                                         Part.builder().partNumber(3).size(200L).eTag("etag3").checksumCRC32("crc").build(),
+                                         Part.builder().partNumber(4).size(400L).eTag("etag4").build());
+
+        List<CompletedPart> completedParts = toCompletedParts(resumableFileUpload, parts);
+
+        assertThat(completedParts).containsExactly(
+            CompletedPart.builder().partNumber(1).eTag("etag1").build(),
+            CompletedPart.builder().partNumber(3).eTag("etag3").checksumCRC32("crc").build());
+    }
+
     private static void verifyActualGetObjectRequest(GetObjectRequest originalRequest, GetObjectRequest actualRequest,
                                                      String range) {
         assertThat(actualRequest.bucket()).isEqualTo(originalRequest.bucket());
@@ -152,6 +186,16 @@ class ResumableRequestConverterTest {
             .build();
     }
 
+    private ResumableFileUpload resumableFileUpload(long fileLength, Instant fileLastModified) {
+        return ResumableFileUpload.builder()
+                                  .uploadFileRequest(r -> r.source(file).putObjectRequest(p -> p.bucket("bucket").key("key")))
+                                  .fileLength(fileLength)
+                                  .fileLastModified(fileLastModified)
+                                  .multipartUploadId("uploadId")
+                                  .partSizeInBytes(400L)
+                                  .build();
+    }
+
     private static GetObjectRequest getObjectRequest() {
         return GetObjectRequest.builder()
                                .key("key")
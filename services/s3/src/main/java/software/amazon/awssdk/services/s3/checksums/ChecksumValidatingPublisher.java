@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
@@ -46,9 +47,14 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         if (contentLength > 0) {
-            publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, contentLength));
+            publisher.subscribe(s instanceof ReleasableByteBufferSubscriber
+                                ? new ReleasableChecksumValidatingSubscriber((ReleasableByteBufferSubscriber) s, sdkChecksum,
+                                                                             contentLength)
+                                : new ChecksumValidatingSubscriber(s, sdkChecksum, contentLength));
         } else {
-            publisher.subscribe(new ChecksumSkippingSubscriber(s));
+            publisher.subscribe(s instanceof ReleasableByteBufferSubscriber
+                                ? new ReleasableChecksumSkippingSubscriber((ReleasableByteBufferSubscriber) s)
+                                : new ChecksumSkippingSubscriber(s));
         }
     }
 
@@ -78,50 +84,53 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-
-            if (lengthRead < strippedLength) {
-                int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
+            // If the buffer holds only checksum bytes, this forwards an empty buffer, to always satisfy the wrapped
+            // publisher's demand.
+            // TODO: The most efficient implementation would request more from the upstream publisher instead of relying
+            //  on the downstream publisher to do that, but that's much more complicated: it requires tracking
+            //  outstanding demand from the downstream publisher. Long-term we should migrate to an RxJava publisher
+            //  implementation to reduce how error-prone our publisher implementations are.
+            wrapped.onNext(stripChecksum(byteBuffer));
+        }
 
-                sdkChecksum.update(buf, 0, toUpdate);
+        /**
+         * Update the checksum with the data bytes of the given buffer and record the checksum bytes it contains, if any.
+         * The given buffer is not modified.
+         *
+         * @return A view of the data bytes of the given buffer.
+         */
+        ByteBuffer stripChecksum(ByteBuffer byteBuffer) {
+            ByteBuffer data = byteBuffer.duplicate();
+            int length = data.remaining();
+            int dataLength = toIntExact(Math.max(0, Math.min(strippedLength - lengthRead, length)));
+            data.limit(data.position() + dataLength);
+
+            if (dataLength > 0) {
+                sdkChecksum.update(data.duplicate());
             }
-            lengthRead += buf.length;
 
-            if (lengthRead >= strippedLength) {
+            if (dataLength < length) {
                 // Incoming buffer contains at least a bit of the checksum
                 // Code below covers both cases of the incoming buffer relative to checksum border
                 // a) buffer starts before checksum border and extends into checksum
                 //      |<------ data ------->|<--cksum-->|   <--- original data
                 //                       |<---buffer--->|     <--- incoming buffer
-                //                            |<------->|     <--- checksum bytes so far
-                //                       |<-->|               <--- bufChecksumOffset
+                //                       |<-->|               <--- dataLength
                 //                            |               <--- streamChecksumOffset
                 // b) buffer starts at or after checksum border
                 //      |<------ data ------->|<--cksum-->|   <--- original data
                 //                                |<-->|      <--- incoming buffer
-                //                            |<------>|      <--- checksum bytes so far
-                //                                |           <--- bufChecksumOffset
+                //                                |           <--- dataLength (0)
                 //                            |<->|           <--- streamChecksumOffset
-                int cksumBytesSoFar = toIntExact(lengthRead - strippedLength);
-                int bufChecksumOffset = (buf.length > cksumBytesSoFar) ? (buf.length - cksumBytesSoFar) : 0;
-                int streamChecksumOffset = (buf.length > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - buf.length);
-                int cksumBytes = Math.min(cksumBytesSoFar, buf.length);
-                System.arraycopy(buf, bufChecksumOffset, streamChecksum, streamChecksumOffset, cksumBytes);
-                if (buf.length > cksumBytesSoFar) {
-                    wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - cksumBytesSoFar)));
-                } else {
-                    // Always be sure to satisfy the wrapped publisher's demand.
-                    wrapped.onNext(ByteBuffer.allocate(0));
-
-                    // TODO: The most efficient implementation would request more from the upstream publisher instead of relying
-                    //  on the downstream publisher to do that, but that's much more complicated: it requires tracking
-                    //  outstanding demand from the downstream publisher. Long-term we should migrate to an RxJava publisher
-                    //  implementation to reduce how error-prone our publisher implementations are.
-                }
-            } else {
-                // Incoming buffer totally excludes the checksum
-                wrapped.onNext(byteBuffer);
+                ByteBuffer checksumBytes = byteBuffer.duplicate();
+                checksumBytes.position(checksumBytes.position() + dataLength);
+                int streamChecksumOffset = toIntExact(lengthRead + dataLength - strippedLength);
+                int checksumLength = Math.max(0, Math.min(checksumBytes.remaining(), CHECKSUM_SIZE - streamChecksumOffset));
+                checksumBytes.get(streamChecksum, Math.min(streamChecksumOffset, CHECKSUM_SIZE), checksumLength);
             }
+
+            lengthRead += length;
+            return data;
         }
 
         @Override
@@ -165,8 +174,16 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-            wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - CHECKSUM_SIZE)));
+            wrapped.onNext(stripChecksum(byteBuffer));
+        }
+
+        /**
+         * @return A view of the given buffer without its last {@value #CHECKSUM_SIZE} bytes.
+         */
+        static ByteBuffer stripChecksum(ByteBuffer byteBuffer) {
+            ByteBuffer data = byteBuffer.duplicate();
+            data.limit(data.position() + Math.max(0, data.remaining() - CHECKSUM_SIZE));
+            return data;
         }
 
         @Override
@@ -180,4 +197,42 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
         }
     }
 
+    private static final class ReleasableChecksumValidatingSubscriber extends ChecksumValidatingSubscriber
+        implements ReleasableByteBufferSubscriber {
+        private final ReleasableByteBufferSubscriber releasableWrapped;
+
+        ReleasableChecksumValidatingSubscriber(ReleasableByteBufferSubscriber wrapped,
+                                               SdkChecksum sdkChecksum,
+                                               long contentLength) {
+            super(wrapped, sdkChecksum, contentLength);
+            this.releasableWrapped = wrapped;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            ByteBuffer data;
+            try {
+                data = stripChecksum(byteBuffer);
+            } catch (RuntimeException e) {
+                release.run();
+                throw e;
+            }
+            releasableWrapped.onNext(data, release);
+        }
+    }
+
+    private static final class ReleasableChecksumSkippingSubscriber extends ChecksumSkippingSubscriber
+        implements ReleasableByteBufferSubscriber {
+        private final ReleasableByteBufferSubscriber releasableWrapped;
+
+        ReleasableChecksumSkippingSubscriber(ReleasableByteBufferSubscriber wrapped) {
+            super(wrapped);
+            this.releasableWrapped = wrapped;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
+            releasableWrapped.onNext(stripChecksum(byteBuffer), release);
+        }
+    }
 }
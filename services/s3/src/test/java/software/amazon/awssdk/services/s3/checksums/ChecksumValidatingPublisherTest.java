@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.checksums;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -27,12 +28,14 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.checksums.Md5Checksum;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -168,6 +171,59 @@ public class ChecksumValidatingPublisherTest {
     assertFalse(s.hasCompleted());
   }
 
+  @Test
+  public void releasableSubscriber_receivesViewsOfDataWithReleaseCallbacks() {
+    final TestPublisher driver = new TestPublisher();
+    final ReleasableTestSubscriber s = new ReleasableTestSubscriber();
+    final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), TEST_DATA_SIZE + CHECKSUM_SIZE);
+    p.subscribe(s);
+
+    AtomicInteger releases = new AtomicInteger();
+    // Data only, data and part of the checksum, and the rest of the checksum
+    driver.doOnNext(ByteBuffer.wrap(testData, 0, 20).asReadOnlyBuffer(), releases::incrementAndGet);
+    driver.doOnNext(ByteBuffer.wrap(testData, 20, 20).asReadOnlyBuffer(), releases::incrementAndGet);
+    driver.doOnNext(ByteBuffer.wrap(testData, 40, testData.length - 40).asReadOnlyBuffer(), releases::incrementAndGet);
+    driver.doOnComplete();
+
+    assertArrayEquals(testDataWithoutChecksum, s.receivedData());
+    assertEquals(3, s.releasableBuffers);
+    assertEquals(3, releases.get());
+    assertTrue(s.hasCompleted());
+    assertFalse(s.isOnErrorCalled());
+  }
+
+  @Test
+  public void releasableSubscriber_lastChecksumByteCorrupted_failsValidation() {
+    byte[] corruptedData = Arrays.copyOf(testData, testData.length);
+    corruptedData[corruptedData.length - 1]++;
+    final TestPublisher driver = new TestPublisher();
+    final ReleasableTestSubscriber s = new ReleasableTestSubscriber();
+    final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), TEST_DATA_SIZE + CHECKSUM_SIZE);
+    p.subscribe(s);
+
+    driver.doOnNext(ByteBuffer.wrap(corruptedData).asReadOnlyBuffer(), () -> { });
+    driver.doOnComplete();
+
+    assertEquals(1, s.releasableBuffers);
+    assertTrue(s.isOnErrorCalled());
+    assertFalse(s.hasCompleted());
+  }
+
+  @Test
+  public void releasableSubscriber_unknownLength_receivesViewWithoutChecksum() {
+    final TestPublisher driver = new TestPublisher();
+    final ReleasableTestSubscriber s = new ReleasableTestSubscriber();
+    final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), 0);
+    p.subscribe(s);
+
+    driver.doOnNext(ByteBuffer.wrap(testData).asReadOnlyBuffer(), () -> { });
+    driver.doOnComplete();
+
+    assertArrayEquals(testDataWithoutChecksum, s.receivedData());
+    assertEquals(1, s.releasableBuffers);
+    assertTrue(s.hasCompleted());
+  }
+
   private class TestSubscriber implements Subscriber<ByteBuffer> {
     final List<ByteBuffer> received;
     boolean completed;
@@ -221,6 +277,17 @@ public class ChecksumValidatingPublisherTest {
     }
   }
 
+  private class ReleasableTestSubscriber extends TestSubscriber implements ReleasableByteBufferSubscriber {
+    int releasableBuffers;
+
+    @Override
+    public void onNext(ByteBuffer buffer, Runnable release) {
+      releasableBuffers++;
+      onNext(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(buffer)));
+      release.run();
+    }
+  }
+
   private class TestPublisher implements Publisher<ByteBuffer> {
     Subscriber<? super ByteBuffer> s;
 
@@ -233,6 +300,10 @@ public class ChecksumValidatingPublisherTest {
       s.onNext(b);
     }
 
+    public void doOnNext(ByteBuffer b, Runnable release) {
+      ((ReleasableByteBufferSubscriber) s).onNext(b, release);
+    }
+
     public void doOnComplete() {
       s.onComplete();
     }
@@ -0,0 +1,218 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.functionaltests;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Verifies that GetObject responses whose trailing MD5 checksum is validated by the client are still published as pooled
+ * buffers when the Netty client is configured to publish them.
+ */
+@WireMockTest
+public class GetObjectPooledResponseBuffersTest {
+    private static final int BODY_SIZE = 256 * 1024;
+
+    private S3AsyncClient s3AsyncClient;
+    private byte[] body;
+    private byte[] bodyWithTrailingChecksum;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wm) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create(wm.getHttpBaseUrl()))
+                                     .credentialsProvider(
+                                         StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                                     .httpClientBuilder(NettyNioAsyncHttpClient.builder().publishPooledResponseBuffers(true))
+                                     .overrideConfiguration(o -> o.retryPolicy(RetryPolicy.none()))
+                                     .build();
+
+        body = new byte[BODY_SIZE];
+        new Random().nextBytes(body);
+        bodyWithTrailingChecksum = concat(body, Md5Utils.computeMD5Hash(body));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        s3AsyncClient.close();
+    }
+
+    @Test
+    public void getObject_checksumValidated_publishesPooledBuffers() {
+        stubGetObject(bodyWithTrailingChecksum);
+        PooledBufferCountingTransformer transformer = new PooledBufferCountingTransformer();
+
+        byte[] response = s3AsyncClient.getObject(r -> r.bucket("bucket").key("key"), transformer).join();
+
+        assertThat(response).isEqualTo(body);
+        assertThat(transformer.pooledBuffers()).isPositive();
+        assertThat(transformer.releasedBuffers()).isEqualTo(transformer.pooledBuffers());
+    }
+
+    @Test
+    public void getObject_checksumMismatch_failsAndReleasesPooledBuffers() {
+        byte[] corrupted = bodyWithTrailingChecksum.clone();
+        corrupted[corrupted.length - 1]++;
+        stubGetObject(corrupted);
+        PooledBufferCountingTransformer transformer = new PooledBufferCountingTransformer();
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket("bucket").key("key"), transformer).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(transformer.pooledBuffers()).isPositive();
+        assertThat(transformer.releasedBuffers()).isEqualTo(transformer.pooledBuffers());
+    }
+
+    @Test
+    public void getObjectToFile_checksumValidated_writesBodyWithoutChecksum(@TempDir Path tempDir) throws IOException {
+        stubGetObject(bodyWithTrailingChecksum);
+        Path destination = tempDir.resolve("object");
+
+        s3AsyncClient.getObject(r -> r.bucket("bucket").key("key"), AsyncResponseTransformer.toFile(destination)).join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(body);
+    }
+
+    private static void stubGetObject(byte[] responseBody) {
+        stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                    .withHeader("x-amz-transfer-encoding", "append-md5")
+                                                    .withHeader("content-length", Integer.toString(responseBody.length))
+                                                    .withBody(responseBody)));
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * Collects the body, counting the buffers received through {@link ReleasableByteBufferSubscriber#onNext(ByteBuffer,
+     * Runnable)}.
+     */
+    private static final class PooledBufferCountingTransformer implements AsyncResponseTransformer<GetObjectResponse, byte[]> {
+        private final AtomicInteger pooledBuffers = new AtomicInteger();
+        private final AtomicInteger releasedBuffers = new AtomicInteger();
+        private volatile CompletableFuture<byte[]> future;
+
+        @Override
+        public CompletableFuture<byte[]> prepare() {
+            future = new CompletableFuture<>();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            publisher.subscribe(new CollectingSubscriber(future));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            future.completeExceptionally(error);
+        }
+
+        int pooledBuffers() {
+            return pooledBuffers.get();
+        }
+
+        int releasedBuffers() {
+            return releasedBuffers.get();
+        }
+
+        private final class CollectingSubscriber implements ReleasableByteBufferSubscriber {
+            private final ByteArrayOutputStream collected = new ByteArrayOutputStream();
+            private final CompletableFuture<byte[]> future;
+
+            private CollectingSubscriber(CompletableFuture<byte[]> future) {
+                this.future = future;
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                byte[] bytes = BinaryUtils.copyBytesFrom(byteBuffer);
+                collected.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer, Runnable release) {
+                pooledBuffers.incrementAndGet();
+                try {
+                    onNext(byteBuffer);
+                } finally {
+                    release.run();
+                    releasedBuffers.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(collected.toByteArray());
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
 import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterScheduler;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.restjsonwithwaiters.RestJsonWithWaitersAsyncClient;
 import software.amazon.awssdk.services.restjsonwithwaiters.model.AllTypesRequest;
@@ -219,4 +220,30 @@ public class WaitersAsyncFunctionalTest {
         newWaiter.close();
         verify(executorService, never()).shutdown();
     }
+
+    @Test
+    public void waiterCreatedWithWaiterScheduler_pollsThroughScheduler() {
+        AllTypesResponse response = (AllTypesResponse) AllTypesResponse.builder()
+                                                                       .sdkHttpResponse(SdkHttpResponse.builder()
+                                                                                                       .statusCode(200)
+                                                                                                       .build())
+                                                                       .build();
+        when(asyncClient.allTypes(any(AllTypesRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(SdkServiceException.builder().statusCode(404).build()),
+                        CompletableFuture.completedFuture(response));
+
+        try (WaiterScheduler waiterScheduler = WaiterScheduler.create();
+             RestJsonWithWaitersAsyncWaiter newWaiter =
+                 RestJsonWithWaitersAsyncWaiter.builder()
+                                               .client(asyncClient)
+                                               .waiterScheduler(waiterScheduler)
+                                               .overrideConfiguration(o -> o.maxAttempts(3)
+                                                                            .backoffStrategy(BackoffStrategy.none()))
+                                               .build()) {
+            WaiterResponse<AllTypesResponse> waiterResponse = newWaiter.waitUntilAllTypesSuccess(SdkBuilder::build).join();
+
+            assertThat(waiterResponse.attemptsExecuted()).isEqualTo(2);
+            assertThat(waiterScheduler.completedPolls()).isEqualTo(2);
+        }
+    }
 }
@@ -26,7 +26,9 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
@@ -43,7 +45,7 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
     private static final String WARMUP_KEY = "warmupobject";
 
     protected final S3TransferManager transferManager;
-    protected final S3CrtAsyncClient s3;
+    protected final S3AsyncClient s3;
     protected final S3Client s3Sync;
     protected final String bucket;
     protected final String key;
@@ -53,16 +55,37 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
     BaseTransferManagerBenchmark(TransferManagerBenchmarkConfig config) {
         logger.info(() -> "Benchmark config: " + config);
         Long partSizeInMb = config.partSizeInMb() == null ? null : config.partSizeInMb() * 1024 * 1024L;
-        s3 = S3CrtAsyncClient.builder()
-                             .targetThroughputInGbps(config.targetThroughput())
-                             .minimumPartSizeInBytes(partSizeInMb)
-                             .build();
+        // A local S3 stand-in is usually only reachable with path-style requests
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                                                              .pathStyleAccessEnabled(config.endpoint() != null)
+                                                              .build();
         s3Sync = S3Client.builder()
+                         .endpointOverride(config.endpoint())
+                         .serviceConfiguration(serviceConfiguration)
                          .build();
-        transferManager = S3TransferManager.builder()
-                                           .s3ClientConfiguration(b -> b.targetThroughputInGbps(config.targetThroughput())
-                                           .minimumPartSizeInBytes(partSizeInMb))
-                                           .build();
+
+        if (config.engine() == TransferManagerEngine.JAVA) {
+            s3 = S3AsyncClient.builder()
+                              .endpointOverride(config.endpoint())
+                              .serviceConfiguration(serviceConfiguration)
+                              .build();
+            transferManager = S3TransferManager.builder()
+                                               .s3AsyncClient(s3)
+                                               .transferConfiguration(b -> b.partSizeInBytes(partSizeInMb)
+                                                                            .maxInFlightParts(config.maxInFlightParts()))
+                                               .build();
+        } else {
+            s3 = S3CrtAsyncClient.builder()
+                                 .targetThroughputInGbps(config.targetThroughput())
+                                 .minimumPartSizeInBytes(partSizeInMb)
+                                 .endpointOverride(config.endpoint())
+                                 .build();
+            transferManager = S3TransferManager.builder()
+                                               .s3ClientConfiguration(b -> b.targetThroughputInGbps(config.targetThroughput())
+                                                                            .minimumPartSizeInBytes(partSizeInMb)
+                                                                            .endpointOverride(config.endpoint()))
+                                               .build();
+        }
         bucket = config.bucket();
         key = config.key();
         path = config.filePath();
@@ -119,6 +142,8 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
     private void cleanup() {
         s3Sync.deleteObject(b -> b.bucket(bucket).key(WARMUP_KEY));
         transferManager.close();
+        s3.close();
+        s3Sync.close();
     }
 
     private void warmUp() throws InterruptedException {
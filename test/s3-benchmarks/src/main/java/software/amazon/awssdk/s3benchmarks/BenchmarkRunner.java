@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.s3benchmarks;
 
+import java.net.URI;
 import java.util.Locale;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -29,6 +30,9 @@ public class BenchmarkRunner {
     private static final String MAX_THROUGHPUT = "maxThroughput";
     private static final String KEY = "key";
     private static final String OPERATION = "operation";
+    private static final String ENDPOINT = "endpoint";
+    private static final String ENGINE = "engine";
+    private static final String MAX_IN_FLIGHT_PARTS = "maxInFlightParts";
 
     private BenchmarkRunner() {
     }
@@ -45,6 +49,10 @@ public class BenchmarkRunner {
         options.addRequiredOption(null, OPERATION, true, "The operation to benchmark against");
         options.addOption(null, PART_SIZE_IN_MB, true, "Part size in MB");
         options.addOption(null, MAX_THROUGHPUT, true, "The max throughput");
+        options.addOption(null, ENDPOINT, true, "The endpoint to send requests to, for example a local S3 stand-in");
+        options.addOption(null, ENGINE, true, "The transfer engine to benchmark, crt (default) or java");
+        options.addOption(null, MAX_IN_FLIGHT_PARTS, true, "The max number of in-flight parts per transfer, for the java "
+                                                           + "engine");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -72,12 +80,23 @@ public class BenchmarkRunner {
         Double maxThroughput = cmd.getOptionValue(MAX_THROUGHPUT) == null ? null :
                                Double.parseDouble(cmd.getOptionValue(MAX_THROUGHPUT));
 
+        URI endpoint = cmd.getOptionValue(ENDPOINT) == null ? null : URI.create(cmd.getOptionValue(ENDPOINT));
+
+        TransferManagerEngine engine = cmd.getOptionValue(ENGINE) == null ? null :
+                                       TransferManagerEngine.valueOf(cmd.getOptionValue(ENGINE).toUpperCase(Locale.ENGLISH));
+
+        Integer maxInFlightParts = cmd.getOptionValue(MAX_IN_FLIGHT_PARTS) == null ? null :
+                                   Integer.parseInt(cmd.getOptionValue(MAX_IN_FLIGHT_PARTS));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
                                              .partSizeInMb(partSize)
                                              .targetThroughput(maxThroughput)
                                              .filePath(filePath)
+                                             .endpoint(endpoint)
+                                             .engine(engine)
+                                             .maxInFlightParts(maxInFlightParts)
                                              .build();
     }
 
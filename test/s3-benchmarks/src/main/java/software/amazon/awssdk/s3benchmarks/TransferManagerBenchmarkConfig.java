@@ -15,12 +15,17 @@
 
 package software.amazon.awssdk.s3benchmarks;
 
+import java.net.URI;
+
 public class TransferManagerBenchmarkConfig {
     private final String filePath;
     private final String bucket;
     private final String key;
     private final Double targetThroughput;
     private final Long partSizeInMb;
+    private final URI endpoint;
+    private final TransferManagerEngine engine;
+    private final Integer maxInFlightParts;
 
     private TransferManagerBenchmarkConfig(Builder builder) {
         this.filePath = builder.filePath;
@@ -28,6 +33,9 @@ public class TransferManagerBenchmarkConfig {
         this.key = builder.key;
         this.targetThroughput = builder.targetThroughput;
         this.partSizeInMb = builder.partSizeInMb;
+        this.endpoint = builder.endpoint;
+        this.engine = builder.engine == null ? TransferManagerEngine.CRT : builder.engine;
+        this.maxInFlightParts = builder.maxInFlightParts;
     }
 
     public String filePath() {
@@ -50,6 +58,18 @@ public class TransferManagerBenchmarkConfig {
         return partSizeInMb;
     }
 
+    public URI endpoint() {
+        return endpoint;
+    }
+
+    public TransferManagerEngine engine() {
+        return engine;
+    }
+
+    public Integer maxInFlightParts() {
+        return maxInFlightParts;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -62,6 +82,9 @@ public class TransferManagerBenchmarkConfig {
                ", key: '" + key + '\'' +
                ", targetThroughput: " + targetThroughput +
                ", partSizeInMB: " + partSizeInMb +
+               ", endpoint: " + endpoint +
+               ", engine: " + engine +
+               ", maxInFlightParts: " + maxInFlightParts +
                '}';
     }
 
@@ -71,6 +94,9 @@ public class TransferManagerBenchmarkConfig {
         private String key;
         private Double targetThroughput;
         private Long partSizeInMb;
+        private URI endpoint;
+        private TransferManagerEngine engine;
+        private Integer maxInFlightParts;
 
         public Builder filePath(String filePath) {
             this.filePath = filePath;
@@ -97,6 +123,21 @@ public class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder endpoint(URI endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder engine(TransferManagerEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        public Builder maxInFlightParts(Integer maxInFlightParts) {
+            this.maxInFlightParts = maxInFlightParts;
+            return this;
+        }
+
         public TransferManagerBenchmarkConfig build() {
             return new TransferManagerBenchmarkConfig(this);
         }
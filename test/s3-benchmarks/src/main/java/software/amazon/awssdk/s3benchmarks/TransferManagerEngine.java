@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.s3benchmarks;
+
+/**
+ * The S3 client that the benchmarked transfer manager performs transfers with.
+ */
+public enum TransferManagerEngine {
+    /**
+     * The CRT-based S3 client.
+     */
+    CRT,
+
+    /**
+     * The Java multipart engine on top of an {@code S3AsyncClient} with the default HTTP client.
+     */
+    JAVA
+}
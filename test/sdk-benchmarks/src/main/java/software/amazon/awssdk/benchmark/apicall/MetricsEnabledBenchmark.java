@@ -30,6 +30,7 @@ import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
@@ -43,7 +44,8 @@ import software.amazon.awssdk.services.protocolrestjson.model.StreamingInputOper
 import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationRequest;
 
 /**
- * Benchmarking comparing metrics-enabled versus metrics-disabled performance.
+ * Benchmarking comparing metrics-enabled versus metrics-disabled performance, and the default metric collector versus the
+ * lock-free metric collector.
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
@@ -51,6 +53,8 @@ public class MetricsEnabledBenchmark {
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
+    private ProtocolRestJsonClient lockFreeMetricsSyncClient;
+    private ProtocolRestJsonAsyncClient lockFreeMetricsAsyncClient;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
@@ -58,12 +62,20 @@ public class MetricsEnabledBenchmark {
         mockServer.start();
         enabledMetricsSyncClient = enableMetrics(syncClientBuilder()).build();
         enabledMetricsAsyncClient = enableMetrics(asyncClientBuilder()).build();
+        lockFreeMetricsSyncClient = enableLockFreeMetrics(syncClientBuilder()).build();
+        lockFreeMetricsAsyncClient = enableLockFreeMetrics(asyncClientBuilder()).build();
     }
 
     private <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
         return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher()));
     }
 
+    private <T extends SdkClientBuilder<T, ?>> T enableLockFreeMetrics(T syncClientBuilder) {
+        return syncClientBuilder.overrideConfiguration(
+            c -> c.addMetricPublisher(new EnabledPublisher())
+                  .putAdvancedOption(SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR, true));
+    }
+
     private ProtocolRestJsonClientBuilder syncClientBuilder() {
         return ProtocolRestJsonClient.builder()
                                      .endpointOverride(mockServer.getHttpUri())
@@ -81,6 +93,8 @@ public class MetricsEnabledBenchmark {
         mockServer.stop();
         enabledMetricsSyncClient.close();
         enabledMetricsAsyncClient.close();
+        lockFreeMetricsSyncClient.close();
+        lockFreeMetricsAsyncClient.close();
     }
 
     @Benchmark
@@ -93,6 +107,16 @@ public class MetricsEnabledBenchmark {
         enabledMetricsAsyncClient.allTypes().join();
     }
 
+    @Benchmark
+    public void lockFreeMetricsEnabledSync() {
+        lockFreeMetricsSyncClient.allTypes();
+    }
+
+    @Benchmark
+    public void lockFreeMetricsEnabledAsync() {
+        lockFreeMetricsAsyncClient.allTypes().join();
+    }
+
     @Benchmark
     public void metricsEnabledSyncStreamingInput() {
         enabledMetricsSyncClient.streamingInputOperation(streamingInputRequest(), RequestBody.fromString(""));
@@ -20,6 +20,8 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_BODY;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -31,6 +33,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
@@ -48,13 +51,23 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 @BenchmarkMode(Mode.Throughput)
 public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final String LARGE_JSON_BODY =
+        IntStream.range(0, 2000)
+                 .mapToObj(i -> "{\"StringMember\":\"listOfStructs" + i + "\"}")
+                 .collect(Collectors.joining(",", "{\"ListOfStructs\":[", "]}"));
+
     private ProtocolRestJsonClient client;
 
+    private ProtocolRestJsonClient largeResponseClient;
+
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestJsonClient.builder()
                                        .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
                                        .build();
+        largeResponseClient = ProtocolRestJsonClient.builder()
+                                                    .httpClient(new MockHttpClient(LARGE_JSON_BODY, ERROR_JSON_BODY))
+                                                    .build();
     }
 
     @Override
@@ -63,10 +76,16 @@ public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
     }
 
+    @Benchmark
+    public void largeSuccessfulResponse(Blackhole blackhole) {
+        blackhole.consume(largeResponseClient.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(JsonProtocolBenchmark.class.getSimpleName())
             .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
             .build();
         new Runner(opt).run();
     }
@@ -20,6 +20,8 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_ALL_T
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_BODY;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -31,6 +33,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
@@ -48,13 +51,23 @@ import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 @BenchmarkMode(Mode.Throughput)
 public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final String LARGE_XML_BODY =
+        IntStream.range(0, 2000)
+                 .mapToObj(i -> "<member><StringMember>listOfStructs" + i + "</StringMember></member>")
+                 .collect(Collectors.joining("", "<AllTypesResponse><listOfStructs>", "</listOfStructs></AllTypesResponse>"));
+
     private ProtocolRestXmlClient client;
 
+    private ProtocolRestXmlClient largeResponseClient;
+
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestXmlClient.builder()
                                       .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
                                       .build();
+        largeResponseClient = ProtocolRestXmlClient.builder()
+                                                   .httpClient(new MockHttpClient(LARGE_XML_BODY, ERROR_XML_BODY))
+                                                   .build();
     }
 
     @Override
@@ -63,10 +76,16 @@ public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(XML_ALL_TYPES_REQUEST));
     }
 
+    @Benchmark
+    public void largeSuccessfulResponse(Blackhole blackhole) {
+        blackhole.consume(largeResponseClient.allTypes(XML_ALL_TYPES_REQUEST));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(XmlProtocolBenchmark.class.getSimpleName())
             .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
             .build();
         new Runner(opt).run();
     }
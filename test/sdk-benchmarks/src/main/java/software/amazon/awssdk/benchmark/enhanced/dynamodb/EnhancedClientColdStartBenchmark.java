@@ -0,0 +1,234 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaProcessor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Measures the time from the creation of the table schema to the completion of the first {@code getItem}, in a new JVM
+ * for every measurement. The bean classes of this benchmark are compiled with {@link BeanTableSchemaProcessor}, so
+ * {@link #generatedBeanTableSchema()} uses the table schema generated at build time, while
+ * {@link #introspectedBeanTableSchema()} loads the same bean classes without their generated schemas, so that they are
+ * scanned at runtime.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class EnhancedClientColdStartBenchmark {
+    private static final String GET_ITEM_RESPONSE =
+        "{\"Item\":{\"id\":{\"S\":\"id\"},\"sort\":{\"N\":\"1\"},\"name\":{\"S\":\"name\"},"
+        + "\"address\":{\"M\":{\"street\":{\"S\":\"street\"},\"city\":{\"S\":\"city\"}}}}}";
+
+    private final Key testKey = Key.builder().partitionValue("id").sortValue(1).build();
+
+    private DynamoDbClient dynamoDb;
+    private ClassLoader withoutGeneratedSchemas;
+
+    @Setup
+    public void setup() {
+        dynamoDb = DynamoDbClient.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("akid", "skid")))
+                .httpClient(new MockHttpClient(GET_ITEM_RESPONSE, "{}"))
+                .build();
+        withoutGeneratedSchemas = new WithoutGeneratedSchemasClassLoader();
+    }
+
+    @Benchmark
+    public Object generatedBeanTableSchema() {
+        return firstGetItem(TableSchema.fromBean(Customer.class));
+    }
+
+    @Benchmark
+    public Object introspectedBeanTableSchema() throws ClassNotFoundException {
+        Class<?> customerClass = withoutGeneratedSchemas.loadClass(Customer.class.getName());
+        return firstGetItem(TableSchema.fromBean(customerClass));
+    }
+
+    private <T> Object firstGetItem(TableSchema<T> tableSchema) {
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDb)
+                .build();
+        return enhancedClient.table("customers", tableSchema).getItem(testKey);
+    }
+
+    /**
+     * Loads the bean classes of this benchmark again, and hides the table schemas generated for them, so that
+     * {@link TableSchema#fromBean(Class)} scans them at runtime. All other classes come from the parent class loader.
+     */
+    private static final class WithoutGeneratedSchemasClassLoader extends ClassLoader {
+        private static final String BEAN_CLASS_PREFIX = EnhancedClientColdStartBenchmark.class.getName() + "$";
+        private static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+        private WithoutGeneratedSchemasClassLoader() {
+            super(EnhancedClientColdStartBenchmark.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.endsWith(GENERATED_CLASS_SUFFIX)) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(BEAN_CLASS_PREFIX)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    byte[] classBytes = readClass(name);
+                    loadedClass = defineClass(name, classBytes, 0, classBytes.length);
+                }
+                if (resolve) {
+                    resolveClass(loadedClass);
+                }
+                return loadedClass;
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return IoUtils.toByteArray(classFile);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    @DynamoDbBean
+    public static class Customer {
+        private String id;
+        private int sort;
+        private String name;
+        private Instant createdDate;
+        private List<String> tags;
+        private Map<String, String> metadata;
+        private Address address;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public int getSort() {
+            return sort;
+        }
+
+        public void setSort(int sort) {
+            this.sort = sort;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Instant getCreatedDate() {
+            return createdDate;
+        }
+
+        public void setCreatedDate(Instant createdDate) {
+            this.createdDate = createdDate;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, String> getMetadata() {
+            return metadata;
+        }
+
+        public void setMetadata(Map<String, String> metadata) {
+            this.metadata = metadata;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    @DynamoDbBean
+    public static class Address {
+        private String street;
+        private String city;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
@@ -31,7 +31,9 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
+import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
 import software.amazon.awssdk.protocols.json.JsonOperationMetadata;
@@ -134,6 +136,19 @@ public class V2DynamoDbAttributeValue {
     private static final PutItemRequestMarshaller PUT_ITEM_REQUEST_MARSHALLER
         = new PutItemRequestMarshaller(getJsonProtocolFactory());
 
+    /**
+     * Same operation binding as the generated {@link PutItemRequestMarshaller}, used to marshall the request by walking its
+     * SdkFields instead of with the generated shape marshaller.
+     */
+    private static final OperationInfo PUT_ITEM_OPERATION = OperationInfo.builder()
+                                                                         .requestUri("/")
+                                                                         .httpMethod(SdkHttpMethod.POST)
+                                                                         .hasExplicitPayloadMember(false)
+                                                                         .hasImplicitPayloadMembers(true)
+                                                                         .hasPayloadMembers(true)
+                                                                         .operationIdentifier("DynamoDB_20120810.PutItem")
+                                                                         .build();
+
     private static HttpResponseHandler<GetItemResponse> getItemResponseJsonResponseHandler() {
         return JSON_PROTOCOL_FACTORY.createResponseHandler(JsonOperationMetadata.builder()
                                                                                 .isPayloadJson(true)
@@ -147,6 +162,11 @@ public class V2DynamoDbAttributeValue {
         return putItemRequestMarshaller().marshall(s.getReq());
     }
 
+    @Benchmark
+    public Object putItemSdkFields(PutItemState s) {
+        return JSON_PROTOCOL_FACTORY.createProtocolMarshaller(PUT_ITEM_OPERATION).marshall(s.getReq());
+    }
+
     @Benchmark
     public Object getItem(GetItemState s) throws Exception {
         SdkHttpFullResponse resp = fullResponse(s.testItem);
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retry;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+
+/**
+ * Measures the throughput of the adaptive retry mode's client side rate limiter when it is shared by many threads, as it is
+ * by all requests of a client. {@link #main} runs the benchmarks with 1 to 64 threads to show how they scale, both before
+ * the bucket is enabled and after a throttling response has enabled it.
+ * <p>
+ * Capacity is acquired with {@link RateLimitingTokenBucket#acquireNonBlocking}, which returns the time to wait instead of
+ * sleeping, so that the benchmark measures the cost of the bucket itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class RateLimitingTokenBucketBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    @Param({"false", "true"})
+    private boolean throttled;
+
+    private RateLimitingTokenBucket tokenBucket;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        tokenBucket = new RateLimitingTokenBucket();
+        if (throttled) {
+            tokenBucket.updateClientSendingRate(true);
+        }
+    }
+
+    /**
+     * The work done by the rate limiter before each attempt.
+     */
+    @Benchmark
+    public OptionalDouble acquire() {
+        return tokenBucket.acquireNonBlocking(1.0, false);
+    }
+
+    /**
+     * The work done by the rate limiter for an attempt that succeeds.
+     */
+    @Benchmark
+    public OptionalDouble successfulAttempt() {
+        OptionalDouble waitTime = tokenBucket.acquireNonBlocking(1.0, false);
+        tokenBucket.updateClientSendingRate(false);
+        return waitTime;
+    }
+
+    public static void main(String... args) throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            Options opt = new OptionsBuilder()
+                .include(RateLimitingTokenBucketBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(opt).run();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures single-threaded SigV4 signing throughput and, when run with the GC profiler (as {@link #main} does), the bytes
+ * allocated per sign for small DynamoDB and SQS shaped requests. Run against two revisions of the SDK to compare signer
+ * implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class Aws4SignerAllocationBenchmark {
+
+    @Param({"DYNAMODB_GET_ITEM", "SQS_SEND_MESSAGE"})
+    private TestRequest testRequest;
+
+    private Aws4Signer signer;
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams signerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signer = Aws4Signer.create();
+        request = testRequest.create();
+        signerParams = Aws4SignerParams.builder()
+                                       .awsCredentials(AwsBasicCredentials.create("akid", "secret"))
+                                       .signingName(testRequest.signingName)
+                                       .signingRegion(Region.US_WEST_2)
+                                       .build();
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest sign() {
+        return signer.sign(request, signerParams);
+    }
+
+    public enum TestRequest {
+        DYNAMODB_GET_ITEM("dynamodb") {
+            @Override
+            SdkHttpFullRequest create() {
+                return post("https://dynamodb.us-west-2.amazonaws.com",
+                            "{\"TableName\":\"benchmark\",\"Key\":{\"id\":{\"S\":\"0123456789\"}}}")
+                    .putHeader("Content-Type", "application/x-amz-json-1.0")
+                    .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                    .build();
+            }
+        },
+        SQS_SEND_MESSAGE("sqs") {
+            @Override
+            SdkHttpFullRequest create() {
+                return post("https://sqs.us-west-2.amazonaws.com",
+                            "Action=SendMessage&Version=2012-11-05&QueueUrl=https%3A%2F%2Fsqs.us-west-2.amazonaws.com"
+                            + "%2F123456789012%2Fbenchmark&MessageBody=hello")
+                    .putHeader("Content-Type", "application/x-www-form-urlencoded; charset=utf-8")
+                    .build();
+            }
+        };
+
+        private final String signingName;
+
+        TestRequest(String signingName) {
+            this.signingName = signingName;
+        }
+
+        abstract SdkHttpFullRequest create();
+
+        private static SdkHttpFullRequest.Builder post(String endpoint, String body) {
+            byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+            return SdkHttpFullRequest.builder()
+                                     .method(SdkHttpMethod.POST)
+                                     .uri(URI.create(endpoint))
+                                     .encodedPath("/")
+                                     .putHeader("Content-Length", Integer.toString(payload.length))
+                                     .putHeader("User-Agent", "aws-sdk-java/2.x benchmark")
+                                     .putHeader("amz-sdk-invocation-id", "c4e1b9a2-7d3f-4f5e-9a61-1f0c2b8d9e10")
+                                     .putHeader("amz-sdk-request", "attempt=1; max=4")
+                                     .contentStreamProvider(() -> new ByteArrayInputStream(payload));
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
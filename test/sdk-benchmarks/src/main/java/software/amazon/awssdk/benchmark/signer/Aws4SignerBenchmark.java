@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures SigV4 signing throughput of small requests at different levels of concurrency, where the signing key is served
+ * from the shared signing key cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class Aws4SignerBenchmark {
+    private static final String PAYLOAD = "{\"TableName\":\"benchmark\",\"Key\":{\"id\":{\"S\":\"0123456789\"}}}";
+
+    @Param({"1", "4"})
+    private int numberOfCredentials;
+
+    private Aws4Signer signer;
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams[] signerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signer = Aws4Signer.create();
+        byte[] payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        request = SdkHttpFullRequest.builder()
+                                    .method(SdkHttpMethod.POST)
+                                    .uri(URI.create("https://dynamodb.us-west-2.amazonaws.com"))
+                                    .encodedPath("/")
+                                    .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                    .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                    .putHeader("Content-Length", Integer.toString(payload.length))
+                                    .contentStreamProvider(() -> new ByteArrayInputStream(payload))
+                                    .build();
+
+        signerParams = new Aws4SignerParams[numberOfCredentials];
+        for (int i = 0; i < numberOfCredentials; i++) {
+            signerParams[i] = Aws4SignerParams.builder()
+                                              .awsCredentials(AwsBasicCredentials.create("akid" + i, "secret" + i))
+                                              .signingName("dynamodb")
+                                              .signingRegion(Region.US_WEST_2)
+                                              .build();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SdkHttpFullRequest sign1Thread(ThreadState threadState) {
+        return sign(threadState);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SdkHttpFullRequest sign8Threads(ThreadState threadState) {
+        return sign(threadState);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public SdkHttpFullRequest sign64Threads(ThreadState threadState) {
+        return sign(threadState);
+    }
+
+    private SdkHttpFullRequest sign(ThreadState threadState) {
+        return signer.sign(request, signerParams[threadState.nextIndex(signerParams.length)]);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int index;
+
+        private int nextIndex(int bound) {
+            index = (index + 1) % bound;
+            return index;
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}